@@ -94,12 +94,23 @@ public class ModularityOptimizationFactory<T extends ModularityOptimizationConfi
         T configuration,
         NodeProperties seedProperty,
         ProgressTracker progressTracker
+    ) {
+        return build(graph, configuration, seedProperty, false, progressTracker);
+    }
+
+    public ModularityOptimization build(
+        Graph graph,
+        T configuration,
+        NodeProperties seedProperty,
+        boolean onlyActiveNodes,
+        ProgressTracker progressTracker
     ) {
         return new ModularityOptimization(
             graph,
             configuration.maxIterations(),
             configuration.tolerance(),
             seedProperty,
+            onlyActiveNodes,
             configuration.concurrency(),
             configuration.batchSize(),
             Pools.DEFAULT,
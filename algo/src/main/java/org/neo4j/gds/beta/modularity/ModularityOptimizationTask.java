@@ -23,7 +23,9 @@ import com.carrotsearch.hppc.LongDoubleHashMap;
 import com.carrotsearch.hppc.LongDoubleMap;
 import com.carrotsearch.hppc.cursors.LongDoubleCursor;
 import org.apache.commons.lang3.mutable.MutableDouble;
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
 import org.neo4j.gds.core.utils.paged.HugeAtomicDoubleArray;
 import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
 import org.neo4j.gds.core.utils.paged.HugeLongArray;
@@ -44,6 +46,8 @@ final class ModularityOptimizationTask implements Runnable {
     private final HugeDoubleArray nodeCommunityInfluences;
     private final HugeAtomicDoubleArray communityWeights;
     private final HugeAtomicDoubleArray communityWeightUpdates;
+    private final @Nullable HugeAtomicBitSet activeNodes;
+    private final @Nullable HugeAtomicBitSet nextActiveNodes;
 
     ModularityOptimizationTask(
         Graph graph,
@@ -57,6 +61,8 @@ final class ModularityOptimizationTask implements Runnable {
         HugeDoubleArray nodeCommunityInfluences,
         HugeAtomicDoubleArray communityWeights,
         HugeAtomicDoubleArray communityWeightUpdates,
+        @Nullable HugeAtomicBitSet activeNodes,
+        @Nullable HugeAtomicBitSet nextActiveNodes,
         ProgressTracker progressTracker
     ) {
         this.partition = partition;
@@ -66,6 +72,8 @@ final class ModularityOptimizationTask implements Runnable {
         this.nextCommunities = nextCommunities;
         this.communityWeights = communityWeights;
         this.communityWeightUpdates = communityWeightUpdates;
+        this.activeNodes = activeNodes;
+        this.nextActiveNodes = nextActiveNodes;
         this.totalNodeWeight = totalNodeWeight;
         this.cumulativeNodeWeights = cumulativeNodeWeights;
         this.nodeCommunityInfluences = nodeCommunityInfluences;
@@ -81,6 +89,10 @@ final class ModularityOptimizationTask implements Runnable {
                 return;
             }
 
+            if (activeNodes != null && !activeNodes.get(nodeId)) {
+                return;
+            }
+
             long currentCommunity = currentCommunities.get(nodeId);
             final int degree = localGraph.degree(nodeId);
 
@@ -136,6 +148,16 @@ final class ModularityOptimizationTask implements Runnable {
             nodeCommunityInfluences.set(nodeId, communityInfluences.get(nextCommunity));
 
             nextCommunities.set(nodeId, nextCommunity);
+
+            // a move changes the neighbourhood of all neighbours, so they need to be evaluated again
+            if (nextActiveNodes != null && nextCommunity != currentCommunity) {
+                nextActiveNodes.set(nodeId);
+                localGraph.forEachRelationship(nodeId, (s, t) -> {
+                    nextActiveNodes.set(t);
+                    return true;
+                });
+            }
+
             communityWeightUpdates.update(currentCommunity, agg -> agg - cumulativeNodeWeight);
             communityWeightUpdates.update(nextCommunity, agg -> agg + cumulativeNodeWeight);
             progressTracker.logProgress(degree);
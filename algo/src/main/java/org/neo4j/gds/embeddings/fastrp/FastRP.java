@@ -27,17 +27,17 @@ import org.neo4j.gds.core.concurrency.ParallelUtil;
 import org.neo4j.gds.core.concurrency.Pools;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
 import org.neo4j.gds.core.utils.mem.MemoryEstimations;
-import org.neo4j.gds.core.utils.paged.HugeObjectArray;
+import org.neo4j.gds.core.utils.paged.HugeFloatMatrix;
 import org.neo4j.gds.core.utils.partition.DegreePartition;
 import org.neo4j.gds.core.utils.partition.Partition;
 import org.neo4j.gds.core.utils.partition.PartitionUtils;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.core.utils.vector.VectorKernels;
 import org.neo4j.gds.mem.MemoryUsage;
 import org.neo4j.gds.ml.core.features.FeatureConsumer;
 import org.neo4j.gds.ml.core.features.FeatureExtraction;
 import org.neo4j.gds.ml.core.features.FeatureExtractor;
 
-import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.Random;
@@ -56,6 +56,7 @@ public class FastRP extends Algorithm<FastRP.FastRPResult> {
     private static final int SPARSITY = 3;
     private static final double ENTRY_PROBABILITY = 1.0 / (2 * SPARSITY);
     private static final float EPSILON = 10f / Float.MAX_VALUE;
+    private static final VectorKernels KERNELS = VectorKernels.instance();
 
     private final Graph graph;
     private final int concurrency;
@@ -65,9 +66,9 @@ public class FastRP extends Algorithm<FastRP.FastRPResult> {
     private final double relationshipWeightFallback;
     private final int inputDimension;
     private final float[][] propertyVectors;
-    private final HugeObjectArray<float[]> embeddings;
-    private final HugeObjectArray<float[]> embeddingA;
-    private final HugeObjectArray<float[]> embeddingB;
+    private final HugeFloatMatrix embeddings;
+    private final HugeFloatMatrix embeddingA;
+    private final HugeFloatMatrix embeddingB;
     private final EmbeddingCombiner embeddingCombiner;
     private final long randomSeed;
 
@@ -85,9 +86,9 @@ public class FastRP extends Algorithm<FastRP.FastRPResult> {
                 "propertyVectors",
                 MemoryUsage.sizeOfFloatArray(config.featureProperties().size() * config.propertyDimension())
             )
-            .add("embeddings", HugeObjectArray.memoryEstimation(MemoryUsage.sizeOfFloatArray(config.embeddingDimension())))
-            .add("embeddingA", HugeObjectArray.memoryEstimation(MemoryUsage.sizeOfFloatArray(config.embeddingDimension())))
-            .add("embeddingB", HugeObjectArray.memoryEstimation(MemoryUsage.sizeOfFloatArray(config.embeddingDimension())))
+            .add("embeddings", HugeFloatMatrix.memoryEstimation(config.embeddingDimension()))
+            .add("embeddingA", HugeFloatMatrix.memoryEstimation(config.embeddingDimension()))
+            .add("embeddingB", HugeFloatMatrix.memoryEstimation(config.embeddingDimension()))
             .build();
     }
 
@@ -117,9 +118,9 @@ public class FastRP extends Algorithm<FastRP.FastRPResult> {
         this.minBatchSize = config.minBatchSize();
 
         this.propertyVectors = new float[inputDimension][config.propertyDimension()];
-        this.embeddings = HugeObjectArray.newArray(float[].class, graph.nodeCount());
-        this.embeddingA = HugeObjectArray.newArray(float[].class, graph.nodeCount());
-        this.embeddingB = HugeObjectArray.newArray(float[].class, graph.nodeCount());
+        this.embeddings = HugeFloatMatrix.newMatrix(graph.nodeCount(), config.embeddingDimension());
+        this.embeddingA = HugeFloatMatrix.newMatrix(graph.nodeCount(), config.embeddingDimension());
+        this.embeddingB = HugeFloatMatrix.newMatrix(graph.nodeCount(), config.embeddingDimension());
 
         this.embeddingDimension = config.embeddingDimension();
         this.baseEmbeddingDimension = config.embeddingDimension() - config.propertyDimension();
@@ -129,8 +130,7 @@ public class FastRP extends Algorithm<FastRP.FastRPResult> {
         this.concurrency = config.concurrency();
         this.embeddingCombiner = graph.hasRelationshipProperty()
             ? this::addArrayValuesWeighted
-            : (lhs, rhs, ignoreWeight) -> addInPlace(lhs, rhs);
-        this.embeddings.setAll((i) -> new float[embeddingDimension]);
+            : (lhs, lhsOffset, rhs, rhsOffset, ignoreWeight) -> addInPlace(lhs, lhsOffset, rhs, rhsOffset, embeddingDimension);
     }
 
     @Override
@@ -207,8 +207,8 @@ public class FastRP extends Algorithm<FastRP.FastRPResult> {
         for (int i = 0; i < iterationWeights.size(); i++) {
             progressTracker.beginSubTask();
 
-            HugeObjectArray<float[]> currentEmbeddings = i % 2 == 0 ? embeddingA : embeddingB;
-            HugeObjectArray<float[]> previousEmbeddings = i % 2 == 0 ? embeddingB : embeddingA;
+            HugeFloatMatrix currentEmbeddings = i % 2 == 0 ? embeddingA : embeddingB;
+            HugeFloatMatrix previousEmbeddings = i % 2 == 0 ? embeddingB : embeddingA;
             var iterationWeight = iterationWeights.get(i).floatValue();
             boolean firstIteration = i == 0;
 
@@ -229,7 +229,7 @@ public class FastRP extends Algorithm<FastRP.FastRPResult> {
     }
 
     @TestOnly
-    HugeObjectArray<float[]> currentEmbedding(int iteration) {
+    HugeFloatMatrix currentEmbedding(int iteration) {
         return iteration % 2 == 0
             ? this.embeddingA
             : this.embeddingB;
@@ -241,14 +241,12 @@ public class FastRP extends Algorithm<FastRP.FastRPResult> {
     }
 
     @TestOnly
-    HugeObjectArray<float[]> embeddings() {
+    HugeFloatMatrix embeddings() {
         return embeddings;
     }
 
-    private void addArrayValuesWeighted(float[] lhs, float[] rhs, double weight) {
-        for (int i = 0; i < lhs.length; i++) {
-            lhs[i] = (float) Math.fma(rhs[i], weight, lhs[i]);
-        }
+    private void addArrayValuesWeighted(float[] lhs, int lhsOffset, float[] rhs, int rhsOffset, double weight) {
+        KERNELS.addScaled(lhs, lhsOffset, rhs, rhsOffset, embeddingDimension, weight);
     }
 
     private static float computeRandomEntry(Random random, float entryValue) {
@@ -307,7 +305,7 @@ public class FastRP extends Algorithm<FastRP.FastRPResult> {
     }
 
     private interface EmbeddingCombiner {
-        void combine(float[] into, float[] add, double weight);
+        void combine(float[] into, int intoOffset, float[] add, int addOffset, double weight);
     }
 
     private final class InitRandomVectorTask implements Runnable {
@@ -339,37 +337,36 @@ public class FastRP extends Algorithm<FastRP.FastRPResult> {
 
                 float entryValue = scaling * sqrtSparsity / sqrtEmbeddingDimension;
                 random.reseed(randomSeed ^ graph.toOriginalNodeId(nodeId));
-                var randomVector = computeRandomVector(nodeId, random, entryValue);
-                embeddingB.set(nodeId, randomVector);
-                embeddingA.set(nodeId, new float[embeddingDimension]);
+                computeRandomVector(nodeId, random, entryValue);
             });
             progressTracker.logProgress(partition.nodeCount());
         }
 
-        private float[] computeRandomVector(long nodeId, Random random, float entryValue) {
-            var randomVector = new float[embeddingDimension];
+        private void computeRandomVector(long nodeId, Random random, float entryValue) {
+            var randomVector = embeddingB.page(nodeId);
+            int offset = embeddingB.offset(nodeId);
             for (int i = 0; i < baseEmbeddingDimension; i++) {
-                randomVector[i] = computeRandomEntry(random, entryValue);
+                randomVector[offset + i] = computeRandomEntry(random, entryValue);
             }
 
-            propertyVectorAdder.setRandomVector(randomVector);
+            propertyVectorAdder.setRandomVector(randomVector, offset);
             FeatureExtraction.extract(nodeId, -1, featureExtractors, propertyVectorAdder);
-
-            return randomVector;
         }
 
         private class PropertyVectorAdder implements FeatureConsumer {
             private float[] randomVector;
+            private int randomVectorOffset;
 
-            void setRandomVector(float[] randomVector) {
+            void setRandomVector(float[] randomVector, int randomVectorOffset) {
                 this.randomVector = randomVector;
+                this.randomVectorOffset = randomVectorOffset;
             }
 
             @Override
             public void acceptScalar(long ignored, int offset, double value) {
                 float floatValue = (float) value;
                 for (int i = baseEmbeddingDimension; i < embeddingDimension; i++) {
-                    randomVector[i] += floatValue * propertyVectors[offset][i - baseEmbeddingDimension];
+                    randomVector[randomVectorOffset + i] += floatValue * propertyVectors[offset][i - baseEmbeddingDimension];
                 }
             }
 
@@ -379,7 +376,7 @@ public class FastRP extends Algorithm<FastRP.FastRPResult> {
                     var value = (float) values[j];
                     float[] propertyVector = propertyVectors[offset + j];
                     for (int i = baseEmbeddingDimension; i < embeddingDimension; i++) {
-                        randomVector[i] += value * propertyVector[i - baseEmbeddingDimension];
+                        randomVector[randomVectorOffset + i] += value * propertyVector[i - baseEmbeddingDimension];
                     }
                 }
             }
@@ -394,10 +391,18 @@ public class FastRP extends Algorithm<FastRP.FastRPResult> {
         @Override
         public void run() {
             partition.consume( nodeId -> {
-                var initialVector = embeddingB.get(nodeId);
-                var l2Norm= l2Norm( initialVector);
+                var initialVector = embeddingB.page(nodeId);
+                int initialOffset = embeddingB.offset(nodeId);
+                var l2Norm = l2Norm(initialVector, initialOffset, embeddingDimension);
                 float adjustedL2Norm = l2Norm < EPSILON ? 1f : l2Norm;
-                addWeightedInPlace(embeddings.get(nodeId), initialVector, nodeSelfInfluence.floatValue() / adjustedL2Norm);
+                addWeightedInPlace(
+                    embeddings.page(nodeId),
+                    embeddings.offset(nodeId),
+                    initialVector,
+                    initialOffset,
+                    embeddingDimension,
+                    nodeSelfInfluence.floatValue() / adjustedL2Norm
+                );
             });
             progressTracker.logProgress(partition.nodeCount());
         }
@@ -405,16 +410,16 @@ public class FastRP extends Algorithm<FastRP.FastRPResult> {
     private final class PropagateEmbeddingsTask implements Runnable {
 
         private final Partition partition;
-        private final HugeObjectArray<float[]> currentEmbeddings;
-        private final HugeObjectArray<float[]> previousEmbeddings;
+        private final HugeFloatMatrix currentEmbeddings;
+        private final HugeFloatMatrix previousEmbeddings;
         private final float iterationWeight;
         private final Graph concurrentGraph;
         private final boolean firstIteration;
 
         private PropagateEmbeddingsTask(
             Partition partition,
-            HugeObjectArray<float[]> currentEmbeddings,
-            HugeObjectArray<float[]> previousEmbeddings,
+            HugeFloatMatrix currentEmbeddings,
+            HugeFloatMatrix previousEmbeddings,
             float iterationWeight,
             boolean firstIteration
         ) {
@@ -430,9 +435,9 @@ public class FastRP extends Algorithm<FastRP.FastRPResult> {
         public void run() {
             MutableLong degrees = new MutableLong(0);
             partition.consume(nodeId -> {
-                var embedding = embeddings.get(nodeId);
-                var currentEmbedding = currentEmbeddings.get(nodeId);
-                Arrays.fill(currentEmbedding, 0.0f);
+                var currentEmbedding = currentEmbeddings.page(nodeId);
+                int currentOffset = currentEmbeddings.offset(nodeId);
+                currentEmbeddings.fillRow(nodeId, 0.0f);
 
                 // Collect and combine the neighbour embeddings
                 concurrentGraph.forEachRelationship(nodeId, relationshipWeightFallback, (source, target, weight) -> {
@@ -443,7 +448,13 @@ public class FastRP extends Algorithm<FastRP.FastRPResult> {
                             graph.toOriginalNodeId(source), graph.toOriginalNodeId(target)
                         ));
                     }
-                    embeddingCombiner.combine(currentEmbedding, previousEmbeddings.get(target), weight);
+                    embeddingCombiner.combine(
+                        currentEmbedding,
+                        currentOffset,
+                        previousEmbeddings.page(target),
+                        previousEmbeddings.offset(target),
+                        weight
+                    );
                     return true;
                 });
 
@@ -451,11 +462,18 @@ public class FastRP extends Algorithm<FastRP.FastRPResult> {
                 var degree = graph.degree(nodeId);
                 int adjustedDegree = degree == 0 ? 1 : degree;
                 float degreeScale = 1.0f / adjustedDegree;
-                scale(currentEmbedding, degreeScale);
-                l2Normalize(currentEmbedding);
+                scale(currentEmbedding, currentOffset, embeddingDimension, degreeScale);
+                l2Normalize(currentEmbedding, currentOffset, embeddingDimension);
 
                 // Update the result embedding
-                addWeightedInPlace(embedding, currentEmbedding, iterationWeight);
+                addWeightedInPlace(
+                    embeddings.page(nodeId),
+                    embeddings.offset(nodeId),
+                    currentEmbedding,
+                    currentOffset,
+                    embeddingDimension,
+                    iterationWeight
+                );
                 degrees.add(degree);
             });
             progressTracker.logProgress(degrees.longValue());
@@ -463,13 +481,13 @@ public class FastRP extends Algorithm<FastRP.FastRPResult> {
     }
 
     public static class FastRPResult {
-        private final HugeObjectArray<float[]> embeddings;
+        private final HugeFloatMatrix embeddings;
 
-        public FastRPResult(HugeObjectArray<float[]> embeddings) {
+        public FastRPResult(HugeFloatMatrix embeddings) {
             this.embeddings = embeddings;
         }
 
-        public HugeObjectArray<float[]> embeddings() {
+        public HugeFloatMatrix embeddings() {
             return embeddings;
         }
     }
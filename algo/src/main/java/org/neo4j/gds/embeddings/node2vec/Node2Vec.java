@@ -23,13 +23,13 @@ import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
 import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.paged.HugeFloatMatrix;
 import org.neo4j.gds.core.utils.paged.HugeObjectArray;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.mem.MemoryUsage;
-import org.neo4j.gds.ml.core.tensor.FloatVector;
 import org.neo4j.gds.traversal.RandomWalk;
 
-public class Node2Vec extends Algorithm<HugeObjectArray<FloatVector>> {
+public class Node2Vec extends Algorithm<HugeFloatMatrix> {
 
     private final Graph graph;
     private final Node2VecBaseConfig config;
@@ -53,7 +53,7 @@ public class Node2Vec extends Algorithm<HugeObjectArray<FloatVector>> {
     }
 
     @Override
-    public HugeObjectArray<FloatVector> compute() {
+    public HugeFloatMatrix compute() {
         progressTracker.beginSubTask("Node2Vec");
 
         RandomWalk randomWalk = RandomWalk.create(
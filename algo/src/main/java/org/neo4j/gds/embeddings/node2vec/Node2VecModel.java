@@ -24,40 +24,37 @@ import org.neo4j.gds.core.concurrency.Pools;
 import org.neo4j.gds.core.utils.collection.primitive.PrimitiveLongCollections;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
 import org.neo4j.gds.core.utils.mem.MemoryEstimations;
-import org.neo4j.gds.core.utils.paged.HugeObjectArray;
+import org.neo4j.gds.core.utils.paged.HugeFloatMatrix;
 import org.neo4j.gds.core.utils.partition.PartitionUtils;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.mem.BitUtil;
-import org.neo4j.gds.mem.MemoryUsage;
-import org.neo4j.gds.ml.core.tensor.FloatVector;
 
 import java.util.SplittableRandom;
 
 import static org.neo4j.gds.ml.core.tensor.operations.FloatVectorOperations.addInPlace;
+import static org.neo4j.gds.ml.core.tensor.operations.FloatVectorOperations.innerProduct;
 import static org.neo4j.gds.ml.core.tensor.operations.FloatVectorOperations.scale;
 
 public class Node2VecModel {
 
     private final NegativeSampleProducer negativeSamples;
 
-    private final HugeObjectArray<FloatVector> centerEmbeddings;
-    private final HugeObjectArray<FloatVector> contextEmbeddings;
+    private final HugeFloatMatrix centerEmbeddings;
+    private final HugeFloatMatrix contextEmbeddings;
     private final Node2VecBaseConfig config;
     private final CompressedRandomWalks walks;
     private final RandomWalkProbabilities randomWalkProbabilities;
     private final ProgressTracker progressTracker;
 
     public static MemoryEstimation memoryEstimation(Node2VecBaseConfig config) {
-        var vectorMemoryEstimation = MemoryUsage.sizeOfFloatArray(config.embeddingDimension());
-
         return MemoryEstimations.builder(Node2Vec.class)
             .perNode(
                 "center embeddings",
-                (nodeCount) -> HugeObjectArray.memoryEstimation(nodeCount, vectorMemoryEstimation)
+                (nodeCount) -> HugeFloatMatrix.memoryEstimation(nodeCount, config.embeddingDimension())
             )
             .perNode(
                 "context embeddings",
-                (nodeCount) -> HugeObjectArray.memoryEstimation(nodeCount, vectorMemoryEstimation)
+                (nodeCount) -> HugeFloatMatrix.memoryEstimation(nodeCount, config.embeddingDimension())
             )
             .build();
     }
@@ -124,43 +121,37 @@ public class Node2VecModel {
         progressTracker.endSubTask();
     }
 
-    public HugeObjectArray<FloatVector> getEmbeddings() {
+    public HugeFloatMatrix getEmbeddings() {
         return centerEmbeddings;
     }
 
-    private HugeObjectArray<FloatVector> initializeEmbeddings(long nodeCount, int embeddingDimensions, SplittableRandom random) {
-        HugeObjectArray<FloatVector> embeddings = HugeObjectArray.newArray(
-            FloatVector.class,
-            nodeCount
-        );
+    private HugeFloatMatrix initializeEmbeddings(long nodeCount, int embeddingDimensions, SplittableRandom random) {
+        var embeddings = HugeFloatMatrix.newMatrix(nodeCount, embeddingDimensions);
 
         for (var i = 0L; i < nodeCount; i++) {
-            var data = random
-                .doubles(embeddingDimensions, -1, 1)
-                .collect(
-                    () -> new FloatConsumer(embeddingDimensions),
-                    FloatConsumer::add,
-                    FloatConsumer::addAll
-                ).values;
-            embeddings.set(i, new FloatVector(data));
+            var page = embeddings.page(i);
+            int offset = embeddings.offset(i);
+            for (int d = 0; d < embeddingDimensions; d++) {
+                page[offset + d] = (float) random.nextDouble(-1, 1);
+            }
         }
         return embeddings;
     }
 
     private static final class TrainingTask implements Runnable {
-        private final HugeObjectArray<FloatVector> centerEmbeddings;
-        private final HugeObjectArray<FloatVector> contextEmbeddings;
+        private final HugeFloatMatrix centerEmbeddings;
+        private final HugeFloatMatrix contextEmbeddings;
 
         private final PositiveSampleProducer positiveSampleProducer;
         private final NegativeSampleProducer negativeSampleProducer;
-        private final FloatVector centerGradientBuffer;
-        private final FloatVector contextGradientBuffer;
+        private final float[] centerGradientBuffer;
+        private final float[] contextGradientBuffer;
         private final int negativeSamplingRate;
         private final float learningRate;
 
         private TrainingTask(
-            HugeObjectArray<FloatVector> centerEmbeddings,
-            HugeObjectArray<FloatVector> contextEmbeddings,
+            HugeFloatMatrix centerEmbeddings,
+            HugeFloatMatrix contextEmbeddings,
             PositiveSampleProducer positiveSampleProducer,
             NegativeSampleProducer negativeSampleProducer,
             float learningRate,
@@ -174,8 +165,8 @@ public class Node2VecModel {
             this.learningRate = learningRate;
             this.negativeSamplingRate = negativeSamplingRate;
 
-            this.centerGradientBuffer = new FloatVector(embeddingDimensions);
-            this.contextGradientBuffer = new FloatVector(embeddingDimensions);
+            this.centerGradientBuffer = new float[embeddingDimensions];
+            this.contextGradientBuffer = new float[embeddingDimensions];
         }
 
         @Override
@@ -193,40 +184,24 @@ public class Node2VecModel {
         }
 
         private void trainSample(long center, long context, boolean positive) {
-            var centerEmbedding = centerEmbeddings.get(center);
-            var contextEmbedding = contextEmbeddings.get(context);
+            var centerEmbedding = centerEmbeddings.page(center);
+            int centerOffset = centerEmbeddings.offset(center);
+            var contextEmbedding = contextEmbeddings.page(context);
+            int contextOffset = contextEmbeddings.offset(context);
+            int dimension = centerGradientBuffer.length;
 
-            float affinity = positive
-                ? centerEmbedding.innerProduct(contextEmbedding)
-                : -centerEmbedding.innerProduct(contextEmbedding);
+            float innerProduct = innerProduct(centerEmbedding, centerOffset, contextEmbedding, contextOffset, dimension);
+            float affinity = positive ? innerProduct : -innerProduct;
 
             float scalar = (float) (positive
                 ? 1 / (Math.exp(affinity) + 1)
                 : -1 / (Math.exp(affinity) + 1));
 
-            scale(contextEmbedding.data(), scalar * learningRate, centerGradientBuffer.data());
-            scale(centerEmbedding.data(), scalar * learningRate, contextGradientBuffer.data());
-
-            addInPlace(centerEmbedding.data(), centerGradientBuffer.data());
-            addInPlace(contextEmbedding.data(), contextGradientBuffer.data());
-        }
-    }
-
-    static class FloatConsumer {
-        float[] values;
-        int index;
-
-        FloatConsumer(int length) {
-            this.values = new float[length];
-        }
-
-        void add(double value) {
-            values[index++] = (float) value;
-        }
+            scale(contextEmbedding, contextOffset, dimension, scalar * learningRate, centerGradientBuffer);
+            scale(centerEmbedding, centerOffset, dimension, scalar * learningRate, contextGradientBuffer);
 
-        void addAll(FloatConsumer other) {
-            System.arraycopy(other.values, 0, values, index, other.index);
-            index += other.index;
+            addInPlace(centerEmbedding, centerOffset, centerGradientBuffer, 0, dimension);
+            addInPlace(contextEmbedding, contextOffset, contextGradientBuffer, 0, dimension);
         }
     }
 }
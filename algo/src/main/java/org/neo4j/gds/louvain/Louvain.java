@@ -27,6 +27,7 @@ import org.neo4j.gds.api.IdMap;
 import org.neo4j.gds.api.NodeProperties;
 import org.neo4j.gds.api.RelationshipIterator;
 import org.neo4j.gds.api.nodeproperties.LongNodeProperties;
+import org.neo4j.gds.api.nodeproperties.ValueType;
 import org.neo4j.gds.beta.modularity.ImmutableModularityOptimizationStreamConfig;
 import org.neo4j.gds.beta.modularity.ModularityOptimization;
 import org.neo4j.gds.beta.modularity.ModularityOptimizationFactory;
@@ -69,7 +70,11 @@ public final class Louvain extends Algorithm<Louvain> {
         super(progressTracker);
         this.config = config;
         this.rootGraph = graph;
-        this.seedingValues = Optional.ofNullable(config.seedProperty()).map(graph::nodeProperties).orElse(null);
+        this.seedingValues = Optional
+            .ofNullable(config.seedProperty())
+            .map(graph::nodeProperties)
+            .map(Louvain::finalCommunities)
+            .orElse(null);
         this.executorService = executorService;
         this.dendrograms = new HugeLongArray[config.maxLevels()];
         this.modularities = new double[config.maxLevels()];
@@ -169,6 +174,7 @@ public final class Louvain extends Algorithm<Louvain> {
                 louvainGraph,
                 modularityOptimizationConfig,
                 seed,
+                config.incrementalRefinement(),
                 progressTracker
             );
         modularityOptimization.setTerminationFlag(terminationFlag);
@@ -270,6 +276,30 @@ public final class Louvain extends Algorithm<Louvain> {
         this.rootGraph.releaseTopology();
     }
 
+    /**
+     * A seed written with `includeIntermediateCommunities` contains the communities of all levels.
+     * Seeding with the final level lets the first level start from the previous result.
+     */
+    private static NodeProperties finalCommunities(NodeProperties seedProperty) {
+        if (seedProperty.valueType() != ValueType.LONG_ARRAY) {
+            return seedProperty;
+        }
+        return new LongNodeProperties() {
+            @Override
+            public long longValue(long nodeId) {
+                var communities = seedProperty.longArrayValue(nodeId);
+                return communities == null || communities.length == 0
+                    ? -1
+                    : communities[communities.length - 1];
+            }
+
+            @Override
+            public long size() {
+                return seedProperty.size();
+            }
+        };
+    }
+
     static class OriginalIdNodeProperties implements LongNodeProperties {
         private final Graph graph;
 
@@ -60,10 +60,22 @@ public interface LouvainBaseConfig extends
         return false;
     }
 
+    /**
+     * Only re-evaluate nodes whose neighbourhood changed, starting from the seeded communities.
+     * Meant for re-running Louvain on a slightly changed graph, seeded with the previous result.
+     */
+    @Value.Default
+    default boolean incrementalRefinement() {
+        return false;
+    }
+
     @Value.Check
     default void validate() {
         if (includeIntermediateCommunities() && consecutiveIds()) {
             throw new IllegalArgumentException("`includeIntermediateResults` and the `consecutiveIds` option cannot be used at the same time.");
         }
+        if (incrementalRefinement() && seedProperty() == null) {
+            throw new IllegalArgumentException("The `incrementalRefinement` option requires a `seedProperty`.");
+        }
     }
 }
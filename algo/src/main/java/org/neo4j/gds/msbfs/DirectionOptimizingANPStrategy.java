@@ -0,0 +1,228 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.msbfs;
+
+import org.neo4j.gds.api.Degrees;
+import org.neo4j.gds.api.RelationshipConsumer;
+import org.neo4j.gds.api.RelationshipIterator;
+import org.neo4j.gds.core.utils.paged.HugeCursor;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+
+/**
+ * Direction-optimizing variant of the {@link ANPStrategy} as described in
+ * Direction-Optimizing Breadth-First Search
+ * https://parlab.eecs.berkeley.edu/sites/all/parlab/files/main.pdf
+ * <p>
+ * While the frontier is small, the traversal expands top-down by pushing the
+ * visit bits of every frontier node to its neighbours.
+ * Once the frontier becomes large compared to the unexplored part of the graph,
+ * the traversal switches to bottom-up: every node that has not yet been seen by
+ * all sources pulls the visit bits from its incoming neighbours and stops scanning
+ * as soon as all missing sources have been found.
+ * The bottom-up step requires the inverse relationships, i.e. for every node
+ * the relationships pointing to it, see {@link org.neo4j.gds.api.Graph#isInverseIndexed()}.
+ * <p>
+ * The strategy switches from top-down to bottom-up when the number of relationships
+ * of the frontier exceeds the relationships of the unexplored nodes divided by {@code alpha}.
+ * It switches back to top-down when the number of frontier nodes falls below
+ * the node count divided by {@code beta}.
+ * <p>
+ * The strategy traverses the same {@code (nodeId, depth, sources)} combinations
+ * as the {@link ANPStrategy} and provides the same invariants.
+ */
+public class DirectionOptimizingANPStrategy implements MultiSourceBFS.ExecutionStrategy {
+
+    public static final double DEFAULT_ALPHA = 14.0;
+    public static final double DEFAULT_BETA = 24.0;
+
+    private final BfsConsumer perNodeAction;
+    private final Degrees degrees;
+    private final double alpha;
+    private final double beta;
+
+    public DirectionOptimizingANPStrategy(
+        BfsConsumer perNodeAction,
+        Degrees degrees,
+        double alpha,
+        double beta
+    ) {
+        if (alpha <= 0.0 || beta <= 0.0) {
+            throw new IllegalArgumentException("The direction switch parameters alpha and beta must be positive.");
+        }
+        this.perNodeAction = perNodeAction;
+        this.degrees = degrees;
+        this.alpha = alpha;
+        this.beta = beta;
+    }
+
+    @Override
+    public void run(
+        RelationshipIterator relationships,
+        long totalNodeCount,
+        MultiSourceBFS.SourceNodes sourceNodes,
+        HugeLongArray visitSet,
+        HugeLongArray visitNextSet,
+        HugeLongArray seenSet,
+        HugeLongArray seenNextSet
+    ) {
+        HugeCursor<long[]> visitCursor = visitSet.newCursor();
+        HugeCursor<long[]> nextCursor = visitNextSet.newCursor();
+        HugeCursor<long[]> seenCursor = seenSet.newCursor();
+
+        var parentScan = new ParentScan(relationships, visitSet);
+        long allSources = sourceNodes.allSourcesMask();
+
+        long frontierNodes = 0L;
+        long frontierRelationships = 0L;
+        long unexploredRelationships = 0L;
+        for (long nodeId = 0; nodeId < totalNodeCount; nodeId++) {
+            int degree = degrees.degree(nodeId);
+            if (visitSet.get(nodeId) != 0L) {
+                frontierNodes++;
+                frontierRelationships += degree;
+            }
+            if ((~seenSet.get(nodeId) & allSources) != 0L) {
+                unexploredRelationships += degree;
+            }
+        }
+
+        var depth = 0;
+        var bottomUp = false;
+
+        while (true) {
+            bottomUp = bottomUp
+                ? frontierNodes >= totalNodeCount / beta
+                : frontierRelationships > unexploredRelationships / alpha;
+
+            if (bottomUp) {
+                seenSet.initCursor(seenCursor);
+                while (seenCursor.next()) {
+                    long[] array = seenCursor.array;
+                    int offset = seenCursor.offset;
+                    int limit = seenCursor.limit;
+                    long base = seenCursor.base;
+                    for (int i = offset; i < limit; ++i) {
+                        long unseen = ~array[i] & allSources;
+                        if (unseen != 0L) {
+                            long reached = parentScan.reachedSources(base + i, unseen);
+                            if (reached != 0L) {
+                                visitNextSet.set(base + i, reached);
+                            }
+                        }
+                    }
+                }
+            } else {
+                visitSet.initCursor(visitCursor);
+                while (visitCursor.next()) {
+                    long[] array = visitCursor.array;
+                    int offset = visitCursor.offset;
+                    int limit = visitCursor.limit;
+                    long base = visitCursor.base;
+                    for (int i = offset; i < limit; ++i) {
+                        if (array[i] != 0L) {
+                            prepareNextVisit(relationships, array[i], base + i, visitNextSet);
+                        }
+                    }
+                }
+            }
+
+            ++depth;
+
+            frontierNodes = 0L;
+            frontierRelationships = 0L;
+
+            visitNextSet.initCursor(nextCursor);
+            while (nextCursor.next()) {
+                long[] array = nextCursor.array;
+                int offset = nextCursor.offset;
+                int limit = nextCursor.limit;
+                long base = nextCursor.base;
+                for (int i = offset; i < limit; ++i) {
+                    if (array[i] != 0L) {
+                        long nodeId = base + i;
+                        long seen = seenSet.get(nodeId);
+                        long next = visitNextSet.and(nodeId, ~seen);
+                        if (next != 0L) {
+                            seenSet.set(nodeId, seen | next);
+
+                            int degree = degrees.degree(nodeId);
+                            frontierNodes++;
+                            frontierRelationships += degree;
+                            if ((~(seen | next) & allSources) == 0L) {
+                                unexploredRelationships -= degree;
+                            }
+
+                            sourceNodes.reset(next);
+                            perNodeAction.accept(nodeId, depth, sourceNodes);
+                        }
+                    }
+                }
+            }
+
+            if (frontierNodes == 0L) {
+                return;
+            }
+
+            visitNextSet.copyTo(visitSet, totalNodeCount);
+            visitNextSet.fill(0L);
+        }
+    }
+
+    private static void prepareNextVisit(
+        RelationshipIterator relationships,
+        long nodeVisit,
+        long nodeId,
+        HugeLongArray nextSet
+    ) {
+        relationships.forEachRelationship(
+            nodeId,
+            (src, tgt) -> {
+                nextSet.or(tgt, nodeVisit);
+                return true;
+            }
+        );
+    }
+
+    private static final class ParentScan implements RelationshipConsumer {
+        private final RelationshipIterator relationships;
+        private final HugeLongArray visitSet;
+        private long unseen;
+        private long reached;
+
+        private ParentScan(RelationshipIterator relationships, HugeLongArray visitSet) {
+            this.relationships = relationships;
+            this.visitSet = visitSet;
+        }
+
+        long reachedSources(long nodeId, long unseen) {
+            this.unseen = unseen;
+            this.reached = 0L;
+            relationships.forEachInverseRelationship(nodeId, this);
+            return reached;
+        }
+
+        @Override
+        public boolean accept(long nodeId, long parentId) {
+            reached |= visitSet.get(parentId) & unseen;
+            // all missing sources have been found, no need to look at further parents
+            return reached != unseen;
+        }
+    }
+}
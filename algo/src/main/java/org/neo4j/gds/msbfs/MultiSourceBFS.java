@@ -110,6 +110,49 @@ public final class MultiSourceBFS implements Runnable {
         );
     }
 
+    /**
+     * Runs the aggregated neighbor processing direction-optimizing if the
+     * incoming relationships of every node are available, see {@link Graph#isInverseIndexed()}.
+     */
+    public static MultiSourceBFS aggregatedNeighborProcessing(
+        Graph graph,
+        BfsConsumer perNodeAction,
+        long... sourceNodes
+    ) {
+        if (graph.isInverseIndexed()) {
+            return directionOptimizingAggregatedNeighborProcessing(
+                graph,
+                DirectionOptimizingANPStrategy.DEFAULT_ALPHA,
+                DirectionOptimizingANPStrategy.DEFAULT_BETA,
+                perNodeAction,
+                sourceNodes
+            );
+        }
+        return aggregatedNeighborProcessing(graph.nodeCount(), graph, perNodeAction, sourceNodes);
+    }
+
+    public static MultiSourceBFS directionOptimizingAggregatedNeighborProcessing(
+        Graph graph,
+        double alpha,
+        double beta,
+        BfsConsumer perNodeAction,
+        long... sourceNodes
+    ) {
+        if (!graph.isInverseIndexed()) {
+            throw new IllegalArgumentException(
+                "Direction-optimizing traversal requires the incoming relationships, project them with `indexInverse`."
+            );
+        }
+        return new MultiSourceBFS(
+            graph.nodeCount(),
+            graph,
+            new DirectionOptimizingANPStrategy(perNodeAction, graph, alpha, beta),
+            false,
+            false,
+            sourceNodes
+        );
+    }
+
     public static MultiSourceBFS predecessorProcessing(
         Graph graph,
         BfsConsumer perNodeAction,
@@ -371,6 +414,10 @@ public final class MultiSourceBFS implements Runnable {
             fetchNext();
         }
 
+        long allSourcesMask() {
+            return maxPos == OMEGA ? -1L : (1L << maxPos) - 1L;
+        }
+
         void reset(long sourceMask) {
             assert sourceMask != 0;
             this.sourceMask = sourceMask;
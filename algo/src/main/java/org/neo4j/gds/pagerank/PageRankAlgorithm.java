@@ -19,6 +19,7 @@
  */
 package org.neo4j.gds.pagerank;
 
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.beta.pregel.Pregel;
@@ -28,6 +29,7 @@ import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
 import org.neo4j.gds.core.utils.partition.PartitionUtils;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 
+import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ExecutorService;
 
@@ -36,7 +38,8 @@ import static org.neo4j.gds.scaling.ScalarScaler.Variant.NONE;
 
 public class PageRankAlgorithm extends Algorithm<PageRankResult> {
 
-    private final Pregel<PageRankConfig> pregelJob;
+    private final @Nullable Pregel<PageRankConfig> pregelJob;
+    private final @Nullable PullBasedPageRank pullBasedPageRank;
     private final Graph graph;
     private final PageRankAlgorithmFactory.Mode mode;
     private final PageRankConfig config;
@@ -52,6 +55,24 @@ public class PageRankAlgorithm extends Algorithm<PageRankResult> {
     ) {
         super(progressTracker);
         this.pregelJob = Pregel.create(graph, config, pregelComputation, executorService, progressTracker);
+        this.pullBasedPageRank = null;
+        this.mode = mode;
+        this.executorService = executorService;
+        this.config = config;
+        this.graph = graph;
+    }
+
+    PageRankAlgorithm(
+        Graph graph,
+        PageRankConfig config,
+        PullBasedPageRank pullBasedPageRank,
+        PageRankAlgorithmFactory.Mode mode,
+        ExecutorService executorService,
+        ProgressTracker progressTracker
+    ) {
+        super(progressTracker);
+        this.pregelJob = null;
+        this.pullBasedPageRank = pullBasedPageRank;
         this.mode = mode;
         this.executorService = executorService;
         this.config = config;
@@ -60,7 +81,13 @@ public class PageRankAlgorithm extends Algorithm<PageRankResult> {
 
     @Override
     public PageRankResult compute() {
-        var pregelResult = pregelJob.run();
+        if (pullBasedPageRank != null) {
+            var result = pullBasedPageRank.compute();
+            scaleScores(result.scores());
+            return result;
+        }
+
+        var pregelResult = Objects.requireNonNull(pregelJob).run();
 
         var scores = pregelResult.nodeValues().doubleProperties(PageRankComputation.PAGE_RANK);
 
@@ -98,6 +125,10 @@ public class PageRankAlgorithm extends Algorithm<PageRankResult> {
 
     @Override
     public void release() {
-        this.pregelJob.release();
+        if (pregelJob != null) {
+            pregelJob.release();
+        } else {
+            progressTracker.release();
+        }
     }
 }
@@ -30,6 +30,8 @@ import org.neo4j.gds.beta.pregel.PregelSchema;
 import org.neo4j.gds.core.concurrency.ParallelUtil;
 import org.neo4j.gds.core.concurrency.Pools;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.core.utils.progress.tasks.Task;
 import org.neo4j.gds.degree.DegreeCentrality;
@@ -96,8 +98,10 @@ public class PageRankAlgorithmFactory<CONFIG extends PageRankConfig> extends Gra
             .mapToLong(graph::toMappedNodeId)
             .forEach(mappedSourceNodes::add);
 
+        double avgDegree = 0;
+
         if (mode == ARTICLE_RANK) {
-            double avgDegree = averageDegree(graph, configuration.concurrency());
+            avgDegree = averageDegree(graph, configuration.concurrency());
             computation = new ArticleRankComputation(configuration, mappedSourceNodes, degreeFunction, avgDegree);
         } else if (mode == EIGENVECTOR) {
             // Degrees are generally not respected in eigenvector centrality.
@@ -114,6 +118,20 @@ public class PageRankAlgorithmFactory<CONFIG extends PageRankConfig> extends Gra
             computation = new PageRankComputation(configuration, mappedSourceNodes, degreeFunction);
         }
 
+        if (configuration.pullBased()) {
+            var pullBasedPageRank = new PullBasedPageRank(
+                graph,
+                configuration,
+                mode,
+                mappedSourceNodes,
+                degreeFunction,
+                avgDegree,
+                Pools.DEFAULT,
+                progressTracker
+            );
+            return new PageRankAlgorithm(graph, configuration, pullBasedPageRank, mode, Pools.DEFAULT, progressTracker);
+        }
+
         return new PageRankAlgorithm(
             graph,
             configuration,
@@ -152,6 +170,13 @@ public class PageRankAlgorithmFactory<CONFIG extends PageRankConfig> extends Gra
 
     @Override
     public MemoryEstimation memoryEstimation(PageRankConfig configuration) {
+        if (configuration.pullBased()) {
+            return MemoryEstimations.builder(PullBasedPageRank.class)
+                .perNode("scores", HugeDoubleArray::memoryEstimation)
+                .perNode("updates", HugeDoubleArray::memoryEstimation)
+                .perNode("contributions", HugeDoubleArray::memoryEstimation)
+                .build();
+        }
         return Pregel.memoryEstimation(new PregelSchema.Builder()
             .add(PageRankComputation.PAGE_RANK, ValueType.DOUBLE)
             .build(), false, false);
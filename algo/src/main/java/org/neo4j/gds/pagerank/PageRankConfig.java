@@ -63,6 +63,16 @@ public interface PageRankConfig extends
         return ScalarScaler.Variant.NONE;
     }
     
+    /**
+     * Lets every node pull the contributions of its incoming relationships instead of
+     * sending messages along its outgoing relationships, which avoids atomic updates.
+     * Requires undirected relationships or relationships projected with `indexInverse`.
+     */
+    @Value.Default
+    default boolean pullBased() {
+        return false;
+    }
+
     @Override
     @Value.Default
     @Configuration.Ignore
@@ -0,0 +1,308 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.pagerank;
+
+import com.carrotsearch.hppc.LongSet;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.RelationshipConsumer;
+import org.neo4j.gds.api.RelationshipWithPropertyConsumer;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
+import org.neo4j.gds.core.utils.partition.Partition;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.scaling.ScalarScaler;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.function.LongToDoubleFunction;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Computes PageRank, ArticleRank and Eigenvector centrality by letting every node
+ * pull the contributions of its incoming relationships from the previous iteration.
+ * <p>
+ * In contrast to the Pregel based computation, which sends a message along every relationship
+ * and reduces them with an atomic update of the target, every score is only written
+ * by the thread that owns the node. An iteration consists of two phases:
+ * first, every node sums the contributions of its in-neighbours,
+ * second, every node computes the contribution it offers for the next iteration.
+ * <p>
+ * PageRank and ArticleRank propagate deltas: a node only offers the change of its score,
+ * and only if that change is above the tolerance. The computation has converged
+ * once no node changes by more than the tolerance, which matches the Pregel based variant.
+ */
+final class PullBasedPageRank {
+
+    private final Graph graph;
+    private final PageRankConfig config;
+    private final PageRankAlgorithmFactory.Mode mode;
+    private final LongSet sourceNodes;
+    private final LongToDoubleFunction degreeFunction;
+    private final double averageDegree;
+    private final boolean weighted;
+    private final ExecutorService executorService;
+    private final ProgressTracker progressTracker;
+
+    private final HugeDoubleArray scores;
+    // the delta of the current iteration for PageRank and ArticleRank,
+    // the not yet normalized next score for Eigenvector
+    private final HugeDoubleArray updates;
+    private final HugeDoubleArray contributions;
+
+    private int iteration;
+
+    PullBasedPageRank(
+        Graph graph,
+        PageRankConfig config,
+        PageRankAlgorithmFactory.Mode mode,
+        LongSet sourceNodes,
+        LongToDoubleFunction degreeFunction,
+        double averageDegree,
+        ExecutorService executorService,
+        ProgressTracker progressTracker
+    ) {
+        if (!graph.isInverseIndexed()) {
+            throw new IllegalArgumentException(
+                "The pull-based computation requires the incoming relationships, project them with `indexInverse`."
+            );
+        }
+        this.weighted = config.hasRelationshipWeightProperty();
+        if (weighted && !graph.isUndirected()) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The pull-based computation does not support the relationship weight property `%s` on directed relationships.",
+                config.relationshipWeightProperty()
+            ));
+        }
+        this.graph = graph;
+        this.config = config;
+        this.mode = mode;
+        this.sourceNodes = sourceNodes;
+        this.degreeFunction = degreeFunction;
+        this.averageDegree = averageDegree;
+        this.executorService = executorService;
+        this.progressTracker = progressTracker;
+
+        this.scores = HugeDoubleArray.newArray(graph.nodeCount());
+        this.updates = HugeDoubleArray.newArray(graph.nodeCount());
+        this.contributions = HugeDoubleArray.newArray(graph.nodeCount());
+    }
+
+    PageRankResult compute() {
+        var concurrency = config.concurrency();
+        var nodeCount = graph.nodeCount();
+
+        // Every node pulls from its incoming relationships, which are balanced across the tasks.
+        var pullTasks = PartitionUtils.inverseDegreePartition(
+            graph,
+            concurrency,
+            partition -> new PullTask(graph.concurrentCopy(), partition),
+            Optional.empty()
+        );
+        var contributionTasks = PartitionUtils.rangePartition(
+            concurrency,
+            nodeCount,
+            ContributionTask::new,
+            Optional.empty()
+        );
+
+        boolean didConverge = false;
+
+        progressTracker.beginSubTask();
+        for (iteration = 0; iteration < config.maxIterations(); iteration++) {
+            progressTracker.beginSubTask();
+            if (iteration == 0) {
+                ParallelUtil.parallelForEachNode(graph, concurrency, this::initNode);
+                progressTracker.logProgress(nodeCount);
+            } else {
+                ParallelUtil.runWithConcurrency(concurrency, pullTasks, executorService);
+            }
+            progressTracker.endSubTask();
+
+            progressTracker.beginSubTask();
+            ParallelUtil.runWithConcurrency(concurrency, contributionTasks, executorService);
+            didConverge = mode == PageRankAlgorithmFactory.Mode.EIGENVECTOR
+                ? normalizeScores()
+                : iteration > 0 && pullTasks.stream().allMatch(PullTask::converged);
+            progressTracker.endSubTask();
+
+            if (didConverge) {
+                break;
+            }
+        }
+        progressTracker.endSubTask();
+
+        return ImmutablePageRankResult.builder()
+            .scores(scores)
+            .iterations(iteration)
+            .didConverge(didConverge)
+            .build();
+    }
+
+    private void initNode(long nodeId) {
+        double initialValue = initialValue(nodeId);
+        scores.set(nodeId, initialValue);
+        updates.set(nodeId, initialValue);
+    }
+
+    private double initialValue(long nodeId) {
+        boolean isSource = sourceNodes.isEmpty() || sourceNodes.contains(nodeId);
+        if (mode == PageRankAlgorithmFactory.Mode.EIGENVECTOR) {
+            if (!isSource) {
+                return 0;
+            }
+            return sourceNodes.isEmpty() ? 1.0 / graph.nodeCount() : 1.0 / sourceNodes.size();
+        }
+        return isSource ? 1 - config.dampingFactor() : 0;
+    }
+
+    private double contribution(long nodeId) {
+        double update = updates.get(nodeId);
+        if (mode == PageRankAlgorithmFactory.Mode.EIGENVECTOR) {
+            return update / degreeFunction.applyAsDouble(nodeId);
+        }
+        // like in the initial Pregel superstep, every node offers its initial score
+        if (iteration > 0 && update <= config.tolerance()) {
+            return 0;
+        }
+        double degree = degreeFunction.applyAsDouble(nodeId);
+        if (degree <= 0) {
+            return 0;
+        }
+        return mode == PageRankAlgorithmFactory.Mode.ARTICLE_RANK
+            // see ArticleRankComputation for the choice of the denominator
+            ? update / (degree + averageDegree)
+            : update / degree;
+    }
+
+    private boolean normalizeScores() {
+        var scaler = ScalarScaler.Variant.L2NORM.create(
+            updates.asNodeProperties(),
+            graph.nodeCount(),
+            config.concurrency(),
+            executorService
+        );
+
+        var tasks = PartitionUtils.rangePartition(
+            config.concurrency(),
+            graph.nodeCount(),
+            NormalizeTask::new,
+            Optional.empty()
+        );
+        for (var task : tasks) {
+            task.scaler = scaler;
+        }
+        ParallelUtil.runWithConcurrency(config.concurrency(), tasks, executorService);
+
+        return iteration > 0 && tasks.stream().allMatch(task -> task.converged);
+    }
+
+    private final class PullTask implements Runnable, RelationshipConsumer, RelationshipWithPropertyConsumer {
+        private final Graph graph;
+        private final Partition partition;
+        private double sum;
+        private boolean converged;
+
+        private PullTask(Graph graph, Partition partition) {
+            this.graph = graph;
+            this.partition = partition;
+        }
+
+        @Override
+        public void run() {
+            converged = true;
+            partition.consume(this::pull);
+            progressTracker.logProgress(partition.nodeCount());
+        }
+
+        private void pull(long nodeId) {
+            sum = 0;
+            if (weighted) {
+                // undirected relationships carry the same weight in both directions
+                graph.forEachRelationship(nodeId, 1.0, this);
+            } else {
+                graph.forEachInverseRelationship(nodeId, this);
+            }
+
+            if (mode == PageRankAlgorithmFactory.Mode.EIGENVECTOR) {
+                // see EigenvectorComputation for adding the previous score
+                updates.set(nodeId, scores.get(nodeId) + sum);
+            } else {
+                double delta = config.dampingFactor() * sum;
+                updates.set(nodeId, delta);
+                scores.addTo(nodeId, delta);
+                if (delta > config.tolerance()) {
+                    converged = false;
+                }
+            }
+        }
+
+        @Override
+        public boolean accept(long nodeId, long neighbourId) {
+            sum += contributions.get(neighbourId);
+            return true;
+        }
+
+        @Override
+        public boolean accept(long nodeId, long neighbourId, double weight) {
+            sum += contributions.get(neighbourId) * weight;
+            return true;
+        }
+
+        boolean converged() {
+            return converged;
+        }
+    }
+
+    private final class ContributionTask implements Runnable {
+        private final Partition partition;
+
+        private ContributionTask(Partition partition) {
+            this.partition = partition;
+        }
+
+        @Override
+        public void run() {
+            partition.consume(nodeId -> contributions.set(nodeId, contribution(nodeId)));
+        }
+    }
+
+    private final class NormalizeTask implements Runnable {
+        private final Partition partition;
+        private ScalarScaler scaler;
+        private boolean converged = true;
+
+        private NormalizeTask(Partition partition) {
+            this.partition = partition;
+        }
+
+        @Override
+        public void run() {
+            partition.consume(nodeId -> {
+                double normalizedScore = scaler.scaleProperty(nodeId);
+                if (Math.abs(normalizedScore - scores.get(nodeId)) > config.tolerance()) {
+                    converged = false;
+                }
+                scores.set(nodeId, normalizedScore);
+            });
+        }
+    }
+}
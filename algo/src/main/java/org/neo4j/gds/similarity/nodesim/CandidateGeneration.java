@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.nodesim;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+/**
+ * Selects which pairs of nodes are compared.
+ */
+public enum CandidateGeneration {
+    /**
+     * Compares every pair of nodes.
+     */
+    ALL,
+    /**
+     * Compares only pairs of nodes that share at least one neighbour.
+     * All other pairs have a similarity of zero, so the results are exact for any positive similarity cutoff.
+     */
+    INVERTED_INDEX,
+    /**
+     * Compares only pairs of nodes that share a bucket in any band of their MinHash signatures.
+     * Similar pairs are likely, but not guaranteed to be found.
+     */
+    MIN_HASH;
+
+    private static final List<String> VALUES = Arrays
+        .stream(CandidateGeneration.values())
+        .map(CandidateGeneration::name)
+        .collect(Collectors.toList());
+
+    public static CandidateGeneration parse(Object input) {
+        if (input instanceof String) {
+            var inputString = ((String) input).toUpperCase(Locale.ENGLISH);
+            if (VALUES.contains(inputString)) {
+                return CandidateGeneration.valueOf(inputString);
+            }
+
+            throw new IllegalArgumentException(String.format(
+                Locale.ENGLISH,
+                "Candidate generation `%s` is not supported. Must be one of: %s.",
+                inputString,
+                VALUES
+            ));
+        } else if (input instanceof CandidateGeneration) {
+            return (CandidateGeneration) input;
+        }
+
+        throw new IllegalArgumentException(String.format(
+            Locale.ENGLISH,
+            "Expected CandidateGeneration or String. Got %s.",
+            input.getClass().getSimpleName()
+        ));
+    }
+
+    public static String toString(CandidateGeneration candidateGeneration) {
+        return candidateGeneration.toString();
+    }
+}
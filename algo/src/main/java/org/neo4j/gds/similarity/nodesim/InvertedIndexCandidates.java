@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.nodesim;
+
+import com.carrotsearch.hppc.BitSet;
+import com.carrotsearch.hppc.LongHashSet;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.mem.MemoryRange;
+import org.neo4j.gds.core.utils.paged.HugeIntArray;
+import org.neo4j.gds.core.utils.paged.HugeObjectArray;
+
+import java.util.Arrays;
+
+import static org.neo4j.gds.mem.MemoryUsage.sizeOfLongArray;
+
+/**
+ * An inverted index from each neighbour to the nodes that have it in their vector.
+ * The candidates of a node are all nodes that share at least one neighbour with it.
+ */
+final class InvertedIndexCandidates implements SimilarityCandidates {
+
+    private final HugeObjectArray<long[]> vectors;
+    private final HugeObjectArray<long[]> nodesByNeighbour;
+
+    static MemoryEstimation memoryEstimation() {
+        return MemoryEstimations.builder(InvertedIndexCandidates.class)
+            .perNode("counts", HugeIntArray::memoryEstimation)
+            .perGraphDimension("nodes by neighbour", (dimensions, concurrency) -> {
+                long nodeCount = dimensions.nodeCount();
+                long references = HugeObjectArray.memoryEstimation(nodeCount, 0);
+                // every relationship puts its source node into the entry of its target node
+                long entries = dimensions.relCountUpperBound() * Long.BYTES;
+                // at most every node is the neighbour of some node and gets an array of its own
+                long arrays = nodeCount * sizeOfLongArray(0);
+                return MemoryRange.of(references + entries, references + entries + arrays);
+            })
+            .build();
+    }
+
+    static InvertedIndexCandidates of(HugeObjectArray<long[]> vectors, BitSet nodeFilter) {
+        long nodeCount = vectors.size();
+
+        var counts = HugeIntArray.newArray(nodeCount);
+        for (long node = nodeFilter.nextSetBit(0); node >= 0; node = nodeFilter.nextSetBit(node + 1)) {
+            for (long neighbour : vectors.get(node)) {
+                counts.addTo(neighbour, 1);
+            }
+        }
+
+        var nodesByNeighbour = HugeObjectArray.newArray(long[].class, nodeCount);
+        for (long neighbour = 0; neighbour < nodeCount; neighbour++) {
+            int count = counts.get(neighbour);
+            if (count > 0) {
+                nodesByNeighbour.set(neighbour, new long[count]);
+                counts.set(neighbour, 0);
+            }
+        }
+
+        // nodes are visited in ascending order, so every entry of the index is sorted
+        for (long node = nodeFilter.nextSetBit(0); node >= 0; node = nodeFilter.nextSetBit(node + 1)) {
+            for (long neighbour : vectors.get(node)) {
+                int position = counts.get(neighbour);
+                nodesByNeighbour.get(neighbour)[position] = node;
+                counts.set(neighbour, position + 1);
+            }
+        }
+
+        return new InvertedIndexCandidates(vectors, nodesByNeighbour);
+    }
+
+    private InvertedIndexCandidates(HugeObjectArray<long[]> vectors, HugeObjectArray<long[]> nodesByNeighbour) {
+        this.vectors = vectors;
+        this.nodesByNeighbour = nodesByNeighbour;
+    }
+
+    @Override
+    public long[] candidates(long node) {
+        var candidates = new LongHashSet();
+        for (long neighbour : vectors.get(node)) {
+            for (long candidate : nodesByNeighbour.get(neighbour)) {
+                if (candidate != node) {
+                    candidates.add(candidate);
+                }
+            }
+        }
+        var result = candidates.toArray();
+        Arrays.sort(result);
+        return result;
+    }
+}
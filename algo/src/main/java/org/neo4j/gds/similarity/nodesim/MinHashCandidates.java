@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.nodesim;
+
+import com.carrotsearch.hppc.BitSet;
+import com.carrotsearch.hppc.LongArrayList;
+import com.carrotsearch.hppc.LongHashSet;
+import com.carrotsearch.hppc.LongObjectHashMap;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.mem.MemoryRange;
+import org.neo4j.gds.core.utils.paged.HugeObjectArray;
+
+import java.util.Arrays;
+
+import static org.neo4j.gds.mem.MemoryUsage.sizeOfInstance;
+import static org.neo4j.gds.mem.MemoryUsage.sizeOfLongArray;
+import static org.neo4j.gds.mem.MemoryUsage.sizeOfLongArrayList;
+import static org.neo4j.gds.mem.MemoryUsage.sizeOfObjectArray;
+
+/**
+ * Locality sensitive hashing of the node vectors based on MinHash signatures.
+ *
+ * Every node gets a signature of {@code bands * rows} MinHash values, which is split into {@code bands} bands.
+ * The candidates of a node are all nodes that agree with it on every value of at least one band.
+ * Two nodes with a jaccard similarity of {@code s} become candidates with a probability of
+ * {@code 1 - (1 - s^rows)^bands}.
+ */
+final class MinHashCandidates implements SimilarityCandidates {
+
+    private final HugeObjectArray<long[]> bandKeys;
+    private final LongObjectHashMap<LongArrayList>[] buckets;
+
+    static MemoryEstimation memoryEstimation(int bands) {
+        return MemoryEstimations.builder(MinHashCandidates.class)
+            .perNode("band keys", nodeCount -> HugeObjectArray.memoryEstimation(nodeCount, sizeOfLongArray(bands)))
+            .rangePerNode("buckets", nodeCount -> {
+                // at best all nodes share a single bucket per band, at worst every node has a bucket of its own
+                long sharedBucket = sizeOfBucketMap(1) + sizeOfLongArrayList(nodeCount);
+                long ownBuckets = sizeOfBucketMap(nodeCount) + nodeCount * sizeOfLongArrayList(1);
+                return MemoryRange.of(sharedBucket, ownBuckets)
+                    .times(bands)
+                    .add(sizeOfObjectArray(bands));
+            })
+            .build();
+    }
+
+    private static long sizeOfBucketMap(long buckets) {
+        long length = (long) Math.ceil(buckets * 1.25);
+        return sizeOfInstance(LongObjectHashMap.class) + sizeOfLongArray(length) + sizeOfObjectArray(length);
+    }
+
+    static MinHashCandidates of(HugeObjectArray<long[]> vectors, BitSet nodeFilter, int bands, int rows) {
+        var bandKeys = HugeObjectArray.newArray(long[].class, vectors.size());
+        @SuppressWarnings("unchecked")
+        LongObjectHashMap<LongArrayList>[] buckets = new LongObjectHashMap[bands];
+        Arrays.setAll(buckets, band -> new LongObjectHashMap<>());
+
+        var signature = new long[bands * rows];
+        for (long node = nodeFilter.nextSetBit(0); node >= 0; node = nodeFilter.nextSetBit(node + 1)) {
+            Arrays.fill(signature, Long.MAX_VALUE);
+            for (long neighbour : vectors.get(node)) {
+                for (int i = 0; i < signature.length; i++) {
+                    signature[i] = Math.min(signature[i], hash(neighbour, i));
+                }
+            }
+
+            var keys = new long[bands];
+            for (int band = 0; band < bands; band++) {
+                long key = band;
+                for (int row = 0; row < rows; row++) {
+                    key = hash(key * 31 + signature[band * rows + row], band);
+                }
+                keys[band] = key;
+
+                var bucket = buckets[band].get(key);
+                if (bucket == null) {
+                    bucket = new LongArrayList();
+                    buckets[band].put(key, bucket);
+                }
+                bucket.add(node);
+            }
+            bandKeys.set(node, keys);
+        }
+
+        return new MinHashCandidates(bandKeys, buckets);
+    }
+
+    private MinHashCandidates(HugeObjectArray<long[]> bandKeys, LongObjectHashMap<LongArrayList>[] buckets) {
+        this.bandKeys = bandKeys;
+        this.buckets = buckets;
+    }
+
+    @Override
+    public long[] candidates(long node) {
+        var candidates = new LongHashSet();
+        var keys = bandKeys.get(node);
+        for (int band = 0; band < keys.length; band++) {
+            var bucket = buckets[band].get(keys[band]);
+            for (int i = 0; i < bucket.elementsCount; i++) {
+                long candidate = bucket.buffer[i];
+                if (candidate != node) {
+                    candidates.add(candidate);
+                }
+            }
+        }
+        var result = candidates.toArray();
+        Arrays.sort(result);
+        return result;
+    }
+
+    // the finalizer of MurmurHash3, seeded differently for every value of the signature
+    private static long hash(long value, int seed) {
+        long h = value ^ (0x9E3779B97F4A7C15L * (seed + 1));
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -53,6 +53,7 @@ public class NodeSimilarity extends Algorithm<NodeSimilarityResult> {
 
     private HugeObjectArray<long[]> vectors;
     private HugeObjectArray<double[]> weights;
+    private SimilarityCandidates candidates;
     private long nodesToCompare;
 
     private final boolean weighted;
@@ -175,6 +176,17 @@ public class NodeSimilarity extends Algorithm<NodeSimilarityResult> {
             progressTracker.logProgress(graph.degree(node));
             return null;
         });
+
+        switch (config.candidateGeneration()) {
+            case INVERTED_INDEX:
+                candidates = InvertedIndexCandidates.of(vectors, nodeFilter);
+                break;
+            case MIN_HASH:
+                candidates = MinHashCandidates.of(vectors, nodeFilter, config.minHashBands(), config.minHashRows());
+                break;
+            default:
+                candidates = null;
+        }
         progressTracker.endSubTask();
     }
 
@@ -221,7 +233,7 @@ public class NodeSimilarity extends Algorithm<NodeSimilarityResult> {
         loggableAndTerminatableNodeStream()
             .forEach(node1 -> {
                 long[] vector1 = vectors.get(node1);
-                nodeStream(node1 + 1)
+                comparedNodes(node1, node1 + 1)
                     .forEach(node2 -> {
                         double similarity = weighted
                             ? weightedJaccard(vector1, vectors.get(node2), weights.get(node1), weights.get(node2))
@@ -254,7 +266,7 @@ public class NodeSimilarity extends Algorithm<NodeSimilarityResult> {
                     // into these queues is not considered to be thread-safe.
                     // Hence, we need to ensure that down the stream, exactly one queue
                     // within the TopKMap processes all pairs for a single node.
-                    nodeStream()
+                    comparedNodes(node1, 0)
                         .filter(node2 -> node1 != node2)
                         .forEach(node2 -> {
                             double similarity = weighted
@@ -279,7 +291,7 @@ public class NodeSimilarity extends Algorithm<NodeSimilarityResult> {
             .forEach(node1 -> {
                 long[] vector1 = vectors.get(node1);
 
-                nodeStream(node1 + 1)
+                comparedNodes(node1, node1 + 1)
                     .forEach(node2 -> {
                         double similarity = weighted
                             ? weightedJaccard(vector1, vectors.get(node2), weights.get(node1), weights.get(node2))
@@ -373,6 +385,17 @@ public class NodeSimilarity extends Algorithm<NodeSimilarityResult> {
         return new SetBitsIterable(nodeFilter, offset).stream();
     }
 
+    /**
+     * The nodes from {@code offset} on that {@code node} is compared to.
+     * Without candidate generation, these are all nodes that passed the degree filter.
+     */
+    private LongStream comparedNodes(long node, long offset) {
+        if (candidates == null) {
+            return nodeStream(offset);
+        }
+        return Arrays.stream(candidates.candidates(node)).filter(candidate -> candidate >= offset);
+    }
+
     private long calculateWorkload() {
         long workload = nodesToCompare * nodesToCompare;
         if (config.concurrency() == 1) {
@@ -383,7 +406,7 @@ public class NodeSimilarity extends Algorithm<NodeSimilarityResult> {
 
     private Stream<SimilarityResult> computeSimilaritiesForNode(long node1) {
         long[] vector1 = vectors.get(node1);
-        return nodeStream(node1 + 1)
+        return comparedNodes(node1, node1 + 1)
             .mapToObj(node2 -> {
                 double similarity = weighted
                     ? weightedJaccard(vector1, vectors.get(node2), weights.get(node1), weights.get(node2))
@@ -80,6 +80,25 @@ public interface NodeSimilarityBaseConfig extends AlgoBaseConfig, RelationshipWe
         return BOTTOM_N_DEFAULT;
     }
 
+    @Value.Default
+    @Configuration.ConvertWith("org.neo4j.gds.similarity.nodesim.CandidateGeneration#parse")
+    @Configuration.ToMapValue("org.neo4j.gds.similarity.nodesim.CandidateGeneration#toString")
+    default CandidateGeneration candidateGeneration() {
+        return CandidateGeneration.ALL;
+    }
+
+    @Value.Default
+    @Configuration.IntegerRange(min = 1)
+    default int minHashBands() {
+        return 16;
+    }
+
+    @Value.Default
+    @Configuration.IntegerRange(min = 1)
+    default int minHashRows() {
+        return 2;
+    }
+
     @Configuration.Ignore
     @Value.Derived
     default int normalizedK() {
@@ -141,5 +160,22 @@ public interface NodeSimilarityBaseConfig extends AlgoBaseConfig, RelationshipWe
                 BOTTOM_N_KEY
             ));
         }
+        // pairs that are not candidates are never compared, so they must not be part of the result
+        if (candidateGeneration() != CandidateGeneration.ALL) {
+            if (similarityCutoff() == 0) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Candidate generation `%s` requires a positive `similarityCutoff`.",
+                    candidateGeneration()
+                ));
+            }
+            if (normalizedK() < 0 || normalizedN() < 0) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Candidate generation `%s` cannot be combined with %s or %s.",
+                    candidateGeneration(),
+                    BOTTOM_K_KEY,
+                    BOTTOM_N_KEY
+                ));
+            }
+        }
     }
 }
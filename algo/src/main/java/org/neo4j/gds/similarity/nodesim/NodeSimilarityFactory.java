@@ -79,6 +79,16 @@ public class NodeSimilarityFactory<CONFIG extends NodeSimilarityBaseConfig> exte
                     .rangePerNode("array", nodeCount -> MemoryRange.of(0, nodeCount * averageVectorSize))
                     .build();
             }));
+        switch (config.candidateGeneration()) {
+            case INVERTED_INDEX:
+                builder.add("inverted index", InvertedIndexCandidates.memoryEstimation());
+                break;
+            case MIN_HASH:
+                builder.add("min hash", MinHashCandidates.memoryEstimation(config.minHashBands()));
+                break;
+            default:
+                break;
+        }
         if (config.computeToGraph() && !config.hasTopK()) {
             builder.add(
                 "similarity graph",
@@ -21,6 +21,7 @@ package org.neo4j.gds.wcc;
 
 import com.carrotsearch.hppc.LongIntHashMap;
 import com.carrotsearch.hppc.cursors.LongIntCursor;
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.api.NodeProperties;
@@ -78,6 +79,7 @@ public class Wcc extends Algorithm<DisjointSetStruct> {
     private static final int SAMPLING_SIZE = 1024;
 
     private final WccBaseConfig config;
+    private final @Nullable DisjointSetStruct components;
     private final NodeProperties initialComponents;
     private final ExecutorService executor;
     private final long nodeCount;
@@ -99,11 +101,34 @@ public class Wcc extends Algorithm<DisjointSetStruct> {
         int minBatchSize,
         WccBaseConfig config,
         ProgressTracker progressTracker
+    ) {
+        this(graph, null, executor, minBatchSize, config, progressTracker);
+    }
+
+    /**
+     * Continues the union-find on the given components instead of starting from singleton sets.
+     * The components are updated in place and the seed property of the config is not used.
+     */
+    public Wcc(
+        Graph graph,
+        @Nullable DisjointSetStruct components,
+        ExecutorService executor,
+        int minBatchSize,
+        WccBaseConfig config,
+        ProgressTracker progressTracker
     ) {
         super(progressTracker);
+        if (components != null && components.size() != graph.nodeCount()) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The components of %d nodes cannot be used for a graph with %d nodes",
+                components.size(),
+                graph.nodeCount()
+            ));
+        }
         this.graph = graph;
         this.config = config;
-        this.initialComponents = config.isIncremental()
+        this.components = components;
+        this.initialComponents = components == null && config.isIncremental()
             ? graph.nodeProperties(config.seedProperty())
             : null;
         this.executor = executor;
@@ -133,9 +158,14 @@ public class Wcc extends Algorithm<DisjointSetStruct> {
 
         long nodeCount = graph.nodeCount();
 
-        DisjointSetStruct dss = config.isIncremental()
-            ? new HugeAtomicDisjointSetStruct(nodeCount, initialComponents, config.concurrency())
-            : new HugeAtomicDisjointSetStruct(nodeCount, config.concurrency());
+        DisjointSetStruct dss;
+        if (components != null) {
+            dss = components;
+        } else if (initialComponents != null) {
+            dss = new HugeAtomicDisjointSetStruct(nodeCount, initialComponents, config.concurrency());
+        } else {
+            dss = new HugeAtomicDisjointSetStruct(nodeCount, config.concurrency());
+        }
 
         if (graph.isUndirected() && !config.hasThreshold()) {
             computeUndirected(dss);
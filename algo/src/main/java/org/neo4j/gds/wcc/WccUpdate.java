@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.wcc;
+
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.Algorithm;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.utils.paged.dss.DisjointSetStruct;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Updates the components of a previous WCC run with relationships that have been added to the graph since.
+ *
+ * As relationships are only ever added, components can only be merged. The update therefore continues
+ * the union-find on the previous components and only iterates the added relationships,
+ * instead of recomputing the components from all relationships.
+ * Without previous components, all relationships are considered to be added.
+ */
+public class WccUpdate extends Algorithm<DisjointSetStruct> {
+
+    private final @Nullable DisjointSetStruct previousComponents;
+    private final ExecutorService executor;
+    private final int minBatchSize;
+    private final WccBaseConfig config;
+
+    private Optional<Graph> addedRelationships;
+
+    public WccUpdate(
+        Optional<Graph> addedRelationships,
+        @Nullable DisjointSetStruct previousComponents,
+        ExecutorService executor,
+        int minBatchSize,
+        WccBaseConfig config,
+        ProgressTracker progressTracker
+    ) {
+        super(progressTracker);
+        if (addedRelationships.isEmpty() && previousComponents == null) {
+            throw new IllegalArgumentException("Either added relationships or previous components must be given.");
+        }
+        this.addedRelationships = addedRelationships;
+        this.previousComponents = previousComponents;
+        this.executor = executor;
+        this.minBatchSize = minBatchSize;
+        this.config = config;
+    }
+
+    @Override
+    public DisjointSetStruct compute() {
+        if (addedRelationships.isEmpty()) {
+            progressTracker.beginSubTask();
+            progressTracker.endSubTask();
+            return previousComponents;
+        }
+
+        var wcc = new Wcc(
+            addedRelationships.get(),
+            previousComponents,
+            executor,
+            minBatchSize,
+            config,
+            progressTracker
+        );
+        wcc.setTerminationFlag(terminationFlag);
+        return wcc.compute();
+    }
+
+    @Override
+    public void release() {
+        addedRelationships = Optional.empty();
+    }
+}
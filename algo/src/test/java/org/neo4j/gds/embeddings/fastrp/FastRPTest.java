@@ -36,7 +36,7 @@ import org.neo4j.gds.compat.TestLog;
 import org.neo4j.gds.core.Aggregation;
 import org.neo4j.gds.core.GraphLoader;
 import org.neo4j.gds.core.ImmutableGraphDimensions;
-import org.neo4j.gds.core.utils.paged.HugeObjectArray;
+import org.neo4j.gds.core.utils.paged.HugeFloatMatrix;
 import org.neo4j.gds.core.utils.progress.EmptyTaskRegistryFactory;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.core.utils.progress.tasks.TaskProgressTracker;
@@ -107,15 +107,14 @@ class FastRPTest extends AlgoTestBase {
         fastRP.initDegreePartition();
         fastRP.initPropertyVectors();
         fastRP.initRandomVectors();
-        HugeObjectArray<float[]> randomVectors = HugeObjectArray.newArray(float[].class, 2);
-        fastRP.currentEmbedding(-1).copyTo(randomVectors, 2);
+        float[][] randomVectors = copyRows(fastRP.currentEmbedding(-1), 2);
         fastRP.propagateEmbeddings();
-        HugeObjectArray<float[]> embeddings = fastRP.embeddings();
+        HugeFloatMatrix embeddings = fastRP.embeddings();
 
-        float[] expected = randomVectors.get(1);
+        float[] expected = randomVectors[1];
         l2Normalize(expected);
 
-        assertThat(embeddings.get(0)).isEqualTo(expected);
+        assertThat(embeddings.row(0)).isEqualTo(expected);
     }
 
     @Test
@@ -139,18 +138,17 @@ class FastRPTest extends AlgoTestBase {
         fastRP.initDegreePartition();
         fastRP.initPropertyVectors();
         fastRP.initRandomVectors();
-        HugeObjectArray<float[]> randomVectors = HugeObjectArray.newArray(float[].class, 3);
-        fastRP.currentEmbedding(-1).copyTo(randomVectors, 3);
+        float[][] randomVectors = copyRows(fastRP.currentEmbedding(-1), 3);
         fastRP.propagateEmbeddings();
-        HugeObjectArray<float[]> embeddings = fastRP.embeddings();
+        HugeFloatMatrix embeddings = fastRP.embeddings();
 
         float[] expected = new float[DEFAULT_EMBEDDING_DIMENSION];
         for (int i = 0; i < DEFAULT_EMBEDDING_DIMENSION; i++) {
-            expected[i] = (randomVectors.get(1)[i] + randomVectors.get(2)[i]) / 2.0f;
+            expected[i] = (randomVectors[1][i] + randomVectors[2][i]) / 2.0f;
         }
         l2Normalize(expected);
 
-        assertThat(embeddings.get(0)).containsExactly(expected);
+        assertThat(embeddings.row(0)).containsExactly(expected);
     }
 
     @Test
@@ -195,13 +193,13 @@ class FastRPTest extends AlgoTestBase {
         initial1[2] = -0.5f;
         initial2[5] = -3.0f;
         initial2[4] = -0.5f;
-        initialRandomVectors.set(0, initial0);
-        initialRandomVectors.set(1, initial1);
-        initialRandomVectors.set(2, initial2);
+        initialRandomVectors.setRow(0, initial0);
+        initialRandomVectors.setRow(1, initial1);
+        initialRandomVectors.setRow(2, initial2);
 
         fastRP.addInitialVectorsToEmbedding();
         fastRP.propagateEmbeddings();
-        HugeObjectArray<float[]> embeddings = fastRP.embeddings();
+        HugeFloatMatrix embeddings = fastRP.embeddings();
 
 
         var expected0 = new float[embeddingDimension];
@@ -217,9 +215,9 @@ class FastRPTest extends AlgoTestBase {
         expected2[5] = -3.0f * scale2;
         expected2[4] = -0.5f * scale2;
 
-        assertThat(embeddings.get(0)).containsExactly(expected0, Offset.offset(1e-6f));
-        assertThat(embeddings.get(1)).containsExactly(expected1, Offset.offset(1e-6f));
-        assertThat(embeddings.get(2)).containsExactly(expected2, Offset.offset(1e-6f));
+        assertThat(embeddings.row(0)).containsExactly(expected0, Offset.offset(1e-6f));
+        assertThat(embeddings.row(1)).containsExactly(expected1, Offset.offset(1e-6f));
+        assertThat(embeddings.row(2)).containsExactly(expected2, Offset.offset(1e-6f));
     }
 
     @Test
@@ -262,17 +260,17 @@ class FastRPTest extends AlgoTestBase {
 
         assertThat(initialPropComponentOfNodeVector1)
             .contains(
-                takeLastElements(fastRP.currentEmbedding(-1).get(0), DEFAULT_CONFIG.propertyDimension()),
+                takeLastElements(fastRP.currentEmbedding(-1).row(0), DEFAULT_CONFIG.propertyDimension()),
                 Offset.offset(1e-6f)
             );
         assertThat(initialPropComponentOfNodeVector2)
             .contains(
-                takeLastElements(fastRP.currentEmbedding(-1).get(1), DEFAULT_CONFIG.propertyDimension()),
+                takeLastElements(fastRP.currentEmbedding(-1).row(1), DEFAULT_CONFIG.propertyDimension()),
                 Offset.offset(1e-6f)
             );
         assertThat(initialPropComponentOfNodeVector3)
             .contains(
-                takeLastElements(fastRP.currentEmbedding(-1).get(2), DEFAULT_CONFIG.propertyDimension()),
+                takeLastElements(fastRP.currentEmbedding(-1).row(2), DEFAULT_CONFIG.propertyDimension()),
                 Offset.offset(1e-6f)
             );
     }
@@ -304,7 +302,7 @@ class FastRPTest extends AlgoTestBase {
         );
 
         concurrentFastRP.compute();
-        HugeObjectArray<float[]> concurrentEmbeddings = concurrentFastRP.embeddings();
+        HugeFloatMatrix concurrentEmbeddings = concurrentFastRP.embeddings();
 
         FastRP sequentialFastRP = new FastRP(
             graph,
@@ -314,10 +312,10 @@ class FastRPTest extends AlgoTestBase {
         );
 
         sequentialFastRP.compute();
-        HugeObjectArray<float[]> sequentialEmbeddings = sequentialFastRP.embeddings();
+        HugeFloatMatrix sequentialEmbeddings = sequentialFastRP.embeddings();
 
         graph.forEachNode(nodeId -> {
-            assertThat(concurrentEmbeddings.get(nodeId)).containsExactly(sequentialEmbeddings.get(nodeId));
+            assertThat(concurrentEmbeddings.row(nodeId)).containsExactly(sequentialEmbeddings.row(nodeId));
             return true;
         });
     }
@@ -351,18 +349,17 @@ class FastRPTest extends AlgoTestBase {
         fastRP.initDegreePartition();
         fastRP.initPropertyVectors();
         fastRP.initRandomVectors();
-        HugeObjectArray<float[]> randomVectors = HugeObjectArray.newArray(float[].class, 3);
-        fastRP.currentEmbedding(-1).copyTo(randomVectors, 3);
+        float[][] randomVectors = copyRows(fastRP.currentEmbedding(-1), 3);
         fastRP.propagateEmbeddings();
-        HugeObjectArray<float[]> embeddings = fastRP.embeddings();
+        HugeFloatMatrix embeddings = fastRP.embeddings();
 
         float[] expected = new float[DEFAULT_EMBEDDING_DIMENSION];
         for (int i = 0; i < DEFAULT_EMBEDDING_DIMENSION; i++) {
-            expected[i] = (2.0f * randomVectors.get(1)[i] + 1.0f * randomVectors.get(2)[i]) / 2.0f;
+            expected[i] = (2.0f * randomVectors[1][i] + 1.0f * randomVectors[2][i]) / 2.0f;
         }
         l2Normalize(expected);
 
-        assertThat(embeddings.get(0)).containsExactly(expected);
+        assertThat(embeddings.row(0)).containsExactly(expected);
     }
 
     @Test
@@ -388,10 +385,10 @@ class FastRPTest extends AlgoTestBase {
 
         fastRP.initPropertyVectors();
         fastRP.initRandomVectors();
-        HugeObjectArray<float[]> randomVectors = fastRP.currentEmbedding(-1);
+        HugeFloatMatrix randomVectors = fastRP.currentEmbedding(-1);
 
         for (int i = 0; i < graph.nodeCount(); i++) {
-            float[] embedding = randomVectors.get(i);
+            float[] embedding = randomVectors.row(i);
             int numZeros = 0;
             int numPositive = 0;
             for (int j = 0; j < 512; j++) {
@@ -442,7 +439,7 @@ class FastRPTest extends AlgoTestBase {
         var embeddings = fastRP.embeddings();
 
         for (int i = 0; i < embeddings.size(); i++) {
-            assertThat(embeddings.get(i)).containsOnly(0f);
+            assertThat(embeddings.row(i)).containsOnly(0f);
         }
     }
 
@@ -459,7 +456,7 @@ class FastRPTest extends AlgoTestBase {
         var estimate = FastRP.memoryEstimation(config).estimate(dimensions, 1).memoryUsage();
         assertThat(estimate.min)
             .isEqualTo(estimate.max)
-            .isEqualTo(159_840);
+            .isEqualTo(153_960);
     }
 
     @Test
@@ -475,7 +472,7 @@ class FastRPTest extends AlgoTestBase {
         var estimate = FastRP.memoryEstimation(config).estimate(dimensions, 1).memoryUsage();
         assertThat(estimate.min)
             .isEqualTo(estimate.max)
-            .isEqualTo(159_840);
+            .isEqualTo(153_960);
     }
 
     @Test
@@ -603,6 +600,14 @@ class FastRPTest extends AlgoTestBase {
         }
     }
 
+    private static float[][] copyRows(HugeFloatMatrix matrix, int rows) {
+        var copy = new float[rows][];
+        for (int row = 0; row < rows; row++) {
+            copy[row] = matrix.row(row);
+        }
+        return copy;
+    }
+
     private float[] takeLastElements(float[] input, int numLast) {
         var numdrop = input.length - numLast;
         var extractedResult = new float[numLast];
@@ -85,11 +85,10 @@ class Node2VecModelTest {
                     .flatMap(nodeId ->
                         LongStream.range(0, clusterSize)
                             .mapToObj(ignore -> {
-                                var e1 = node2VecModel.getEmbeddings().get(nodeId).data();
+                                var e1 = node2VecModel.getEmbeddings().row(nodeId);
                                 var e2 = node2VecModel
                                     .getEmbeddings()
-                                    .get(random.nextInt(clusterSize) + (clusterId * clusterSize))
-                                    .data();
+                                    .row(random.nextInt(clusterSize) + (clusterId * clusterSize));
                                 return Intersections.cosine(e1, e2, e1.length);
                             })
                     )
@@ -112,11 +111,10 @@ class Node2VecModelTest {
                         LongStream.range(0, clusterSize)
                             .mapToObj(ignore -> {
                                 long otherClusterId = (clusterId + random.nextInt(numberOfClusters - 1) + 1) % numberOfClusters;
-                                var e1 = node2VecModel.getEmbeddings().get(nodeId).data();
+                                var e1 = node2VecModel.getEmbeddings().row(nodeId);
                                 var e2 = node2VecModel
                                     .getEmbeddings()
-                                    .get(random.nextInt(clusterSize) + (otherClusterId * clusterSize))
-                                    .data();
+                                    .row(random.nextInt(clusterSize) + (otherClusterId * clusterSize));
                                 return Intersections.cosine(e1, e2, e1.length);
                             })
                     )
@@ -185,7 +183,7 @@ class Node2VecModelTest {
         var otherEmbeddings = otherNode2VecModel.getEmbeddings();
 
         for (int nodeId = 0; nodeId < nodeCount; nodeId++) {
-            assertThat(embeddings.get(nodeId)).isEqualTo(otherEmbeddings.get(nodeId));
+            assertThat(embeddings.row(nodeId)).isEqualTo(otherEmbeddings.row(nodeId));
         }
     }
 
@@ -38,11 +38,10 @@ import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.compat.Neo4jProxy;
 import org.neo4j.gds.compat.TestLog;
 import org.neo4j.gds.core.GraphDimensions;
-import org.neo4j.gds.core.utils.paged.HugeObjectArray;
+import org.neo4j.gds.core.utils.paged.HugeFloatMatrix;
 import org.neo4j.gds.core.utils.progress.EmptyTaskRegistryFactory;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.gdl.GdlFactory;
-import org.neo4j.gds.ml.core.tensor.FloatVector;
 
 import java.util.List;
 import java.util.stream.Stream;
@@ -84,14 +83,14 @@ class Node2VecTest extends AlgoTestBase {
             .graph();
 
         int embeddingDimension = 128;
-        HugeObjectArray<FloatVector> node2Vec = new Node2Vec(
+        HugeFloatMatrix node2Vec = new Node2Vec(
             graph,
             ImmutableNode2VecStreamConfig.builder().embeddingDimension(embeddingDimension).build(),
             ProgressTracker.NULL_TRACKER
         ).compute();
 
         graph.forEachNode(node -> {
-                assertEquals(embeddingDimension, node2Vec.get(node).data().length);
+                assertEquals(embeddingDimension, node2Vec.row(node).length);
                 return true;
             }
         );
@@ -209,7 +208,7 @@ class Node2VecTest extends AlgoTestBase {
         ).compute();
 
         for (long node = 0; node < graph.nodeCount(); node++) {
-            softly.assertThat(otherEmbeddings.get(node)).isEqualTo(embeddings.get(node));
+            softly.assertThat(otherEmbeddings.row(node)).isEqualTo(embeddings.row(node));
         }
     }
 
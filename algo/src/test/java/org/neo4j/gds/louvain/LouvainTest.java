@@ -48,6 +48,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Stream;
 
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
@@ -267,6 +268,46 @@ class LouvainTest {
         assertEquals(0.38, modularities[modularities.length - 1], 0.01);
     }
 
+    @Test
+    void testIncrementalRefinement() {
+        var graph = graphStore.getGraph(
+            NodeLabel.listOf("Node"),
+            RelationshipType.listOf("TYPE_OUT", "TYPE_IN"),
+            Optional.of("weight")
+        );
+
+        Louvain algorithm = new Louvain(
+            graph,
+            defaultConfigBuilder().seedProperty("seed").incrementalRefinement(true).build(),
+            Pools.DEFAULT,
+            ProgressTracker.NULL_TRACKER
+        );
+        algorithm.setTerminationFlag(TerminationFlag.RUNNING_TRUE);
+
+        algorithm.compute();
+
+        var expectedCommunitiesWithLabels = Map.of(
+            1L, ids(idFunction, "a", "b", "c", "d", "e", "f", "x"),
+            2L, ids(idFunction, "g", "h", "i"),
+            42L, ids(idFunction, "j", "k", "l", "m", "n")
+        );
+
+        assertCommunitiesWithLabels(
+            algorithm.dendrograms()[0],
+            expectedCommunitiesWithLabels
+        );
+
+        assertEquals(1, algorithm.levels());
+        assertEquals(0.38, algorithm.modularities()[0], 0.01);
+    }
+
+    @Test
+    void shouldRequireSeedPropertyForIncrementalRefinement() {
+        assertThatThrownBy(() -> defaultConfigBuilder().incrementalRefinement(true).build())
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("`incrementalRefinement` option requires a `seedProperty`");
+    }
+
     @Test
     void testTolerance() {
         var graph = graphStore.getGraph(
@@ -22,8 +22,13 @@ package org.neo4j.gds.msbfs;
 import org.eclipse.collections.api.tuple.Pair;
 import org.eclipse.collections.impl.tuple.Tuples;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
 import org.neo4j.gds.AlgoTestBase;
+import org.neo4j.gds.ElementProjection;
 import org.neo4j.gds.Orientation;
+import org.neo4j.gds.RelationshipProjection;
 import org.neo4j.gds.StoreLoaderBuilder;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.api.RelationshipConsumer;
@@ -41,6 +46,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 import java.util.function.LongUnaryOperator;
 import java.util.stream.Stream;
@@ -227,6 +233,53 @@ final class MultiSourceBFSTest extends AlgoTestBase {
         });
     }
 
+    @ParameterizedTest
+    @MethodSource("directionOptimizingParameters")
+    void testDirectionOptimizingANPMatchesANP(double alphaAndBeta, RelationshipProjection relationshipProjection) {
+        // a large alpha and beta forces the traversal to stay bottom-up
+        withGrid(
+            gb -> gb.newGridBuilder().createGrid(16, 8),
+            directedGraph -> {
+                Graph graph = new StoreLoaderBuilder()
+                    .api(db)
+                    .addRelationshipProjection(relationshipProjection)
+                    .build()
+                    .graph();
+
+                Set<List<Long>> expected = ConcurrentHashMap.newKeySet();
+                MultiSourceBFS.aggregatedNeighborProcessing(
+                    graph.nodeCount(),
+                    graph,
+                    (i, d, s) -> collect(expected, i, d, s)
+                ).run(ConcurrencyConfig.DEFAULT_CONCURRENCY, Pools.DEFAULT);
+
+                Set<List<Long>> actual = ConcurrentHashMap.newKeySet();
+                MultiSourceBFS.directionOptimizingAggregatedNeighborProcessing(
+                    graph,
+                    alphaAndBeta,
+                    alphaAndBeta,
+                    (i, d, s) -> collect(actual, i, d, s)
+                ).run(ConcurrencyConfig.DEFAULT_CONCURRENCY, Pools.DEFAULT);
+
+                assertEquals(expected, actual);
+            }
+        );
+    }
+
+    static Stream<Arguments> directionOptimizingParameters() {
+        var undirected = RelationshipProjection.ALL_UNDIRECTED;
+        // a directed graph, where the incoming relationships are only available through the inverse index
+        var inverseIndexed = RelationshipProjection.builder()
+            .type(ElementProjection.PROJECT_ALL)
+            .orientation(Orientation.NATURAL)
+            .indexInverse(true)
+            .build();
+        return Stream.of(DirectionOptimizingANPStrategy.DEFAULT_ALPHA, 1E9).flatMap(alphaAndBeta -> Stream.of(
+            Arguments.of(alphaAndBeta, undirected),
+            Arguments.of(alphaAndBeta, inverseIndexed)
+        ));
+    }
+
     @Test
     void testSequentialInvariant() {
         // for a single run with < ω nodes, the same node may only be traversed once at a given depth
@@ -403,6 +456,12 @@ final class MultiSourceBFSTest extends AlgoTestBase {
         block.accept(graph);
     }
 
+    private static void collect(Set<List<Long>> traversals, long nodeId, int depth, BfsSources sources) {
+        while (sources.hasNext()) {
+            assertTrue(traversals.add(List.of(nodeId, (long) depth, sources.next())));
+        }
+    }
+
     private static BfsSources toList(BfsSources sources, LongUnaryOperator modify) {
         List<Long> longs = new ArrayList<>();
         while (sources.hasNext()) {
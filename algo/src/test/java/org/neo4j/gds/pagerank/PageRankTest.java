@@ -22,6 +22,7 @@ package org.neo4j.gds.pagerank;
 import org.assertj.core.api.SoftAssertions;
 import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
 import org.assertj.core.data.Offset;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -31,8 +32,14 @@ import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.BaseTest;
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.PropertyMapping;
+import org.neo4j.gds.RelationshipProjection;
+import org.neo4j.gds.StoreLoaderBuilder;
 import org.neo4j.gds.TestProgressTracker;
 import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.beta.generator.PropertyProducer;
 import org.neo4j.gds.beta.generator.RandomGraphGenerator;
 import org.neo4j.gds.beta.generator.RelationshipDistribution;
 import org.neo4j.gds.compat.Neo4jProxy;
@@ -54,6 +61,7 @@ import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.within;
 import static org.neo4j.gds.TestSupport.assertMemoryEstimation;
 import static org.neo4j.gds.assertj.Extractors.removingThreadId;
@@ -593,9 +601,9 @@ class PageRankTest {
 
     static Stream<Arguments> expectedMemoryEstimation() {
         return Stream.of(
-            Arguments.of(1, 2412832L, 2412832L),
-            Arguments.of(4, 2413000L, 2413000L),
-            Arguments.of(42, 2415128L, 2415128L)
+            Arguments.of(1, 2466968L, 2466968L),
+            Arguments.of(4, 2516384L, 2516384L),
+            Arguments.of(42, 3142320L, 3142320L)
         );
     }
 
@@ -639,6 +647,99 @@ class PageRankTest {
         }
     }
 
+    @ParameterizedTest
+    @MethodSource("pullBasedParameters")
+    void pullBasedMatchesPregel(Mode mode, boolean weighted) {
+        var graph = RandomGraphGenerator.builder()
+            .nodeCount(10_000)
+            .averageDegree(5)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .orientation(Orientation.UNDIRECTED)
+            .relationshipPropertyProducer(PropertyProducer.randomDouble("weight", 0.1, 1.0))
+            .seed(42L)
+            .build()
+            .generate();
+
+        var configBuilder = ImmutablePageRankConfig.builder()
+            .concurrency(4)
+            .relationshipWeightProperty(weighted ? "weight" : null);
+
+        var pregel = runOnPregel(graph, configBuilder.build(), mode);
+        var pullBased = runOnPregel(graph, configBuilder.pullBased(true).build(), mode);
+
+        assertThat(pullBased.iterations()).isEqualTo(pregel.iterations());
+        assertThat(pullBased.didConverge()).isEqualTo(pregel.didConverge());
+        for (long nodeId = 0; nodeId < graph.nodeCount(); nodeId++) {
+            assertThat(pullBased.scores().get(nodeId)).isEqualTo(pregel.scores().get(nodeId), Offset.offset(1e-9));
+        }
+    }
+
+    static Stream<Arguments> pullBasedParameters() {
+        return Arrays.stream(Mode.values())
+            .flatMap(mode -> Stream.of(Arguments.of(mode, false), Arguments.of(mode, true)));
+    }
+
+    @Nested
+    class InverseIndexedGraph extends BaseTest {
+
+        // a directed graph with a few nodes that receive a lot of relationships
+        private static final String DB_CYPHER =
+            "UNWIND range(0, 499) AS id CREATE (:Node {id: id})";
+        private static final String RELATIONSHIPS_CYPHER =
+            "MATCH (a:Node), (b:Node) " +
+            "WHERE (a.id * 7 + b.id * 13) % 211 = 0 OR (b.id % 100 = 0 AND a.id % 3 = 0) " +
+            "CREATE (a)-[:REL {weight: 0.1 + (a.id + b.id) % 10 / 10.0}]->(b)";
+
+        @BeforeEach
+        void setupGraph() {
+            runQuery(DB_CYPHER);
+            runQuery(RELATIONSHIPS_CYPHER);
+        }
+
+        @ParameterizedTest
+        @MethodSource("org.neo4j.gds.pagerank.PageRankTest#pullBasedParameters")
+        void pullBasedMatchesPregel(Mode mode, boolean weighted) {
+            var graph = new StoreLoaderBuilder()
+                .api(db)
+                .addRelationshipProjection(RelationshipProjection.builder().type("REL").indexInverse(true).build())
+                .addRelationshipProperty(PropertyMapping.of("weight"))
+                .build()
+                .graph();
+
+            assertThat(graph.isUndirected()).isFalse();
+            assertThat(graph.isInverseIndexed()).isTrue();
+
+            var configBuilder = ImmutablePageRankConfig.builder()
+                .concurrency(4)
+                .relationshipWeightProperty(weighted ? "weight" : null);
+
+            var pregel = runOnPregel(graph, configBuilder.build(), mode);
+            var pullBased = runOnPregel(graph, configBuilder.pullBased(true).build(), mode);
+
+            assertThat(pullBased.iterations()).isEqualTo(pregel.iterations());
+            assertThat(pullBased.didConverge()).isEqualTo(pregel.didConverge());
+            for (long nodeId = 0; nodeId < graph.nodeCount(); nodeId++) {
+                assertThat(pullBased.scores().get(nodeId)).isEqualTo(pregel.scores().get(nodeId), Offset.offset(1e-9));
+            }
+        }
+    }
+
+    @Test
+    void pullBasedRequiresInverseIndex() {
+        var graph = RandomGraphGenerator.builder()
+            .nodeCount(100)
+            .averageDegree(5)
+            .relationshipDistribution(RelationshipDistribution.RANDOM)
+            .build()
+            .generate();
+
+        var config = ImmutablePageRankConfig.builder().pullBased(true).build();
+
+        assertThatThrownBy(() -> runOnPregel(graph, config))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("indexInverse");
+    }
+
     @Test
     void shouldComputeMemoryEstimationFor10BElements() {
         var config = ImmutablePageRankConfig
@@ -652,8 +753,8 @@ class PageRankTest {
             nodeCount,
             relationshipCount,
             4,
-            241_286_621_640L,
-            241_286_621_640L
+            245_036_687_520L,
+            245_036_687_520L
         );
     }
 
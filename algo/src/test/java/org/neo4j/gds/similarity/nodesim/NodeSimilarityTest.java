@@ -24,6 +24,7 @@ import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.neo4j.gds.Orientation;
@@ -57,6 +58,7 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
@@ -647,6 +649,75 @@ final class NodeSimilarityTest {
         assertEquals(orientation == REVERSE ? EXPECTED_INCOMING : EXPECTED_OUTGOING, result);
     }
 
+    @ParameterizedTest(name = "orientation: {0}, concurrency: {1}")
+    @MethodSource("supportedLoadAndComputeDirections")
+    void shouldComputeExactResultsWithInvertedIndex(Orientation orientation, int concurrency) {
+        Graph graph = orientation == NATURAL ? naturalGraph : reverseGraph;
+
+        for (var config : List.of(
+            configBuilder().similarityCutoff(0.1).concurrency(concurrency),
+            configBuilder().similarityCutoff(0.1).concurrency(concurrency).topK(1),
+            configBuilder().similarityCutoff(0.1).concurrency(concurrency).topN(1),
+            configBuilder().similarityCutoff(0.1).concurrency(concurrency).relationshipWeightProperty("prop")
+        )) {
+            var expected = computeResultStrings(graph, config.candidateGeneration(CandidateGeneration.ALL).build());
+            var actual = computeResultStrings(graph, config.candidateGeneration(CandidateGeneration.INVERTED_INDEX).build());
+
+            assertThat(actual).isNotEmpty().isEqualTo(expected);
+        }
+    }
+
+    @ParameterizedTest(name = "orientation: {0}, concurrency: {1}")
+    @MethodSource("supportedLoadAndComputeDirections")
+    void shouldComputeExactSimilaritiesForMinHashCandidates(Orientation orientation, int concurrency) {
+        Graph graph = orientation == NATURAL ? naturalGraph : reverseGraph;
+        var config = configBuilder().similarityCutoff(0.1).concurrency(concurrency).topK(100);
+
+        var exact = computeResultStrings(graph, config.build());
+        var approximate = computeResultStrings(
+            graph,
+            config.candidateGeneration(CandidateGeneration.MIN_HASH).minHashBands(4).minHashRows(1).build()
+        );
+
+        assertThat(exact).containsAll(approximate);
+    }
+
+    @Test
+    void shouldRejectCandidateGenerationWithoutSimilarityCutoff() {
+        var config = configBuilder().candidateGeneration(CandidateGeneration.INVERTED_INDEX);
+
+        assertThatThrownBy(config::build)
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("requires a positive `similarityCutoff`");
+    }
+
+    @Test
+    void shouldRejectCandidateGenerationWithBottomK() {
+        var config = configBuilder()
+            .similarityCutoff(0.1)
+            .bottomK(1)
+            .candidateGeneration(CandidateGeneration.INVERTED_INDEX);
+
+        assertThatThrownBy(config::build)
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("cannot be combined with bottomK or bottomN");
+    }
+
+    private static Set<String> computeResultStrings(Graph graph, NodeSimilarityBaseConfig config) {
+        NodeSimilarity nodeSimilarity = new NodeSimilarity(
+            graph,
+            config,
+            Pools.DEFAULT,
+            ProgressTracker.NULL_TRACKER
+        );
+
+        // the graph is shared between the runs of a test, so it is not released
+        return nodeSimilarity
+            .computeToStream()
+            .map(NodeSimilarityTest::resultString)
+            .collect(Collectors.toSet());
+    }
+
     @Disabled("Unsure how to proceed with direction BOTH")
     @ParameterizedTest(name = "concurrency = {0}")
     @MethodSource("concurrencies")
@@ -777,6 +848,37 @@ final class NodeSimilarityTest {
         assertEquals(expected.memoryUsage(), actual.memoryUsage());
     }
 
+    @ParameterizedTest
+    @EnumSource(value = CandidateGeneration.class, names = {"INVERTED_INDEX", "MIN_HASH"})
+    void shouldComputeMemrecWithCandidateGeneration(CandidateGeneration candidateGeneration) {
+        long nodeCount = 1_000_000;
+        long relationshipCount = 5_000_000;
+        GraphDimensions dimensions = ImmutableGraphDimensions.builder()
+            .nodeCount(nodeCount)
+            .relCountUpperBound(relationshipCount)
+            .build();
+
+        var configBuilder = ImmutableNodeSimilarityWriteConfig
+            .builder()
+            .similarityCutoff(0.1)
+            .writeProperty("writeProperty")
+            .writeRelationshipType("writeRelationshipType");
+
+        var factory = new NodeSimilarityFactory<>();
+        MemoryRange withoutCandidates = factory.memoryEstimation(configBuilder.build()).estimate(dimensions, 1).memoryUsage();
+        MemoryRange withCandidates = factory
+            .memoryEstimation(configBuilder.candidateGeneration(candidateGeneration).build())
+            .estimate(dimensions, 1)
+            .memoryUsage();
+
+        // the inverted index holds an entry per relationship, the signatures hold a key per node and band
+        long expectedMinimum = candidateGeneration == CandidateGeneration.INVERTED_INDEX
+            ? relationshipCount * Long.BYTES
+            : nodeCount * 16 * Long.BYTES;
+        assertThat(withCandidates.min - withoutCandidates.min).isGreaterThanOrEqualTo(expectedMinimum);
+        assertThat(withCandidates.max - withoutCandidates.max).isGreaterThanOrEqualTo(withCandidates.min - withoutCandidates.min);
+    }
+
     @ParameterizedTest(name = "topK = {0}, concurrency = {1}")
     @MethodSource("topKAndConcurrencies")
     void shouldLogMessages(int topK, int concurrency) {
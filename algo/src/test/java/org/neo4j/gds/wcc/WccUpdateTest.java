@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.wcc;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.utils.paged.dss.DisjointSetStruct;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.IdFunction;
+import org.neo4j.gds.extension.Inject;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@GdlExtension
+class WccUpdateTest {
+
+    @GdlGraph
+    private static final String DB_CYPHER =
+        "CREATE" +
+        "  (a), (b), (c), (d), (e), (f)" +
+        ", (a)-[:INITIAL]->(b)" +
+        ", (c)-[:INITIAL]->(d)" +
+        ", (e)-[:INITIAL]->(e)" +
+        ", (b)-[:ADDED]->(c)" +
+        ", (f)-[:ADDED]->(e)";
+
+    @Inject
+    private GraphStore graphStore;
+
+    @Inject
+    private IdFunction idFunction;
+
+    private final WccStreamConfig config = ImmutableWccStreamConfig.builder().concurrency(1).build();
+
+    @Test
+    void shouldMergePreviousComponentsAlongAddedRelationships() {
+        var initial = update(Optional.empty(), RelationshipType.of("INITIAL"));
+        assertThat(initial.setIdOf(idFunction.of("a"))).isEqualTo(initial.setIdOf(idFunction.of("b")));
+        assertThat(initial.setIdOf(idFunction.of("b"))).isNotEqualTo(initial.setIdOf(idFunction.of("c")));
+        assertThat(initial.setIdOf(idFunction.of("e"))).isNotEqualTo(initial.setIdOf(idFunction.of("f")));
+
+        var updated = update(Optional.of(initial), RelationshipType.of("ADDED"));
+        assertThat(updated).isSameAs(initial);
+
+        var expected = new Wcc(
+            graphStore.getUnion(),
+            Pools.DEFAULT,
+            1,
+            config,
+            ProgressTracker.NULL_TRACKER
+        ).compute();
+
+        for (var node : new String[]{"a", "b", "c", "d", "e", "f"}) {
+            for (var other : new String[]{"a", "b", "c", "d", "e", "f"}) {
+                assertThat(updated.setIdOf(idFunction.of(node)) == updated.setIdOf(idFunction.of(other)))
+                    .as("%s and %s are in the same component", node, other)
+                    .isEqualTo(expected.setIdOf(idFunction.of(node)) == expected.setIdOf(idFunction.of(other)));
+            }
+        }
+    }
+
+    @Test
+    void shouldReturnPreviousComponentsWithoutAddedRelationships() {
+        var initial = update(Optional.empty(), RelationshipType.of("INITIAL"));
+
+        var updated = new WccUpdate(
+            Optional.empty(),
+            initial,
+            Pools.DEFAULT,
+            1,
+            config,
+            ProgressTracker.NULL_TRACKER
+        ).compute();
+
+        assertThat(updated).isSameAs(initial);
+    }
+
+    @Test
+    void shouldRequireAddedRelationshipsOrPreviousComponents() {
+        assertThatThrownBy(() -> new WccUpdate(
+            Optional.empty(),
+            null,
+            Pools.DEFAULT,
+            1,
+            config,
+            ProgressTracker.NULL_TRACKER
+        ))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Either added relationships or previous components must be given");
+    }
+
+    private DisjointSetStruct update(Optional<DisjointSetStruct> previousComponents, RelationshipType addedType) {
+        return new WccUpdate(
+            Optional.of(graphStore.getGraph(addedType)),
+            previousComponents.orElse(null),
+            Pools.DEFAULT,
+            1,
+            config,
+            ProgressTracker.NULL_TRACKER
+        ).compute();
+    }
+}
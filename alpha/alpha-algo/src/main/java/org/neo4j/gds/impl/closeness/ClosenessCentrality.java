@@ -109,7 +109,7 @@ public class ClosenessCentrality extends Algorithm<ClosenessCentrality> {
         };
 
         MultiSourceBFS
-            .aggregatedNeighborProcessing(graph.nodeCount(), graph, consumer)
+            .aggregatedNeighborProcessing(graph, consumer)
             .run(concurrency, executorService);
 
         progressTracker.endSubTask();
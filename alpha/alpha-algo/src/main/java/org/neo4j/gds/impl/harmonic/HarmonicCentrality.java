@@ -61,7 +61,6 @@ public class HarmonicCentrality extends Algorithm<HarmonicCentrality> {
         };
 
         MultiSourceBFS.aggregatedNeighborProcessing(
-            graph.nodeCount(),
             graph,
             consumer
         ).run(concurrency, executorService);
@@ -0,0 +1,371 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.impl.scc;
+
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.utils.TerminationFlag;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
+import org.neo4j.gds.core.utils.paged.HugeAtomicLongArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.core.utils.paged.PagedLongStack;
+import org.neo4j.gds.core.utils.partition.Partition;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.LongConsumer;
+
+/**
+ * Parallel strongly connected components based on trimming and coloring.
+ *
+ * Nodes without incoming or outgoing relationships to unassigned nodes are trimmed, as they form a
+ * component on their own. Trimming a node continues with its neighbours, so chains are trimmed in a single pass.
+ * The remaining nodes are assigned in rounds: every unassigned node gets the largest
+ * node id that reaches it by propagating ids along the relationships. A node that keeps its own id is the root
+ * of a component, which consists of all nodes with the same color that reach the root. These are found by a
+ * traversal of the incoming relationships. Every round assigns at least one component and is followed by
+ * trimming the neighbours of the assigned nodes.
+ *
+ * The incoming relationships are taken from the inverse index of the graph if it has one,
+ * and are otherwise collected into a temporary adjacency list.
+ *
+ * The id of a component is the largest node id it contains.
+ */
+final class ParallelScc {
+
+    private static final long UNASSIGNED = -1L;
+
+    private final Graph graph;
+    private final long nodeCount;
+    private final int concurrency;
+    private final ProgressTracker progressTracker;
+    private final TerminationFlag terminationFlag;
+    private final List<Partition> partitions;
+
+    private final HugeAtomicLongArray components;
+    private final HugeAtomicLongArray colors;
+    private final LongAdder assignedNodes;
+
+    // The nodes that might have lost their last unassigned incoming or outgoing neighbour.
+    private final HugeAtomicBitSet trimCandidates;
+
+    // The nodes whose color or component changed in the previous and in the current step.
+    private HugeAtomicBitSet frontier;
+    private HugeAtomicBitSet nextFrontier;
+
+    private HugeLongArray incomingOffsets;
+    private HugeLongArray incomingSources;
+
+    private long componentCount;
+    private long minComponentSize;
+    private long maxComponentSize;
+
+    ParallelScc(Graph graph, int concurrency, ProgressTracker progressTracker, TerminationFlag terminationFlag) {
+        this.graph = graph;
+        this.nodeCount = graph.nodeCount();
+        this.concurrency = concurrency;
+        this.progressTracker = progressTracker;
+        this.terminationFlag = terminationFlag;
+        this.partitions = PartitionUtils.rangePartition(concurrency, nodeCount, Function.identity(), Optional.empty());
+        this.components = HugeAtomicLongArray.newArray(nodeCount);
+        this.colors = HugeAtomicLongArray.newArray(nodeCount);
+        this.assignedNodes = new LongAdder();
+        this.trimCandidates = HugeAtomicBitSet.create(nodeCount);
+        this.frontier = HugeAtomicBitSet.create(nodeCount);
+        this.nextFrontier = HugeAtomicBitSet.create(nodeCount);
+    }
+
+    HugeLongArray compute() {
+        components.setAll(UNASSIGNED);
+
+        if (!graph.isInverseIndexed()) {
+            collectIncomingRelationships();
+        }
+
+        trimCandidates.set(0, nodeCount);
+        trim();
+
+        while (assignedNodes.sum() < nodeCount) {
+            terminationFlag.assertRunning();
+            propagateColors();
+            assignComponents();
+            trim();
+        }
+
+        incomingOffsets = null;
+        incomingSources = null;
+
+        return result();
+    }
+
+    long componentCount() {
+        return componentCount;
+    }
+
+    long minComponentSize() {
+        return minComponentSize;
+    }
+
+    long maxComponentSize() {
+        return maxComponentSize;
+    }
+
+    private void trim() {
+        var trimmedNodes = new LongAdder();
+        runOnSetBits(trimCandidates, localGraph -> {
+            var stack = new PagedLongStack(1L);
+            return candidate -> {
+                stack.push(candidate);
+                while (!stack.isEmpty()) {
+                    long nodeId = stack.pop();
+                    if (components.get(nodeId) == UNASSIGNED
+                        && (!hasUnassignedOutgoing(localGraph, nodeId) || !hasUnassignedIncoming(localGraph, nodeId))
+                        && components.compareAndSet(nodeId, UNASSIGNED, nodeId)) {
+                        trimmedNodes.increment();
+                        // The neighbours are checked after the node is assigned, a concurrent check
+                        // that still saw the node as unassigned is repeated here.
+                        forEachUnassignedNeighbour(localGraph, nodeId, stack::push);
+                    }
+                }
+            };
+        });
+        trimCandidates.clear();
+        assign(trimmedNodes.sum());
+    }
+
+    private void propagateColors() {
+        frontier.clear();
+        runOnPartitions(localGraph -> nodeId -> {
+            if (components.get(nodeId) == UNASSIGNED) {
+                colors.set(nodeId, nodeId);
+                frontier.set(nodeId);
+            }
+        });
+
+        while (!frontier.isEmpty()) {
+            terminationFlag.assertRunning();
+            var next = nextFrontier;
+            next.clear();
+            runOnSetBits(frontier, localGraph -> nodeId -> {
+                long color = colors.get(nodeId);
+                localGraph.forEachRelationship(nodeId, (sourceNodeId, targetNodeId) -> {
+                    if (components.get(targetNodeId) == UNASSIGNED && increaseColor(targetNodeId, color)) {
+                        next.set(targetNodeId);
+                    }
+                    return true;
+                });
+            });
+            swapFrontiers();
+        }
+    }
+
+    private void assignComponents() {
+        var claimedNodes = new LongAdder();
+
+        frontier.clear();
+        runOnPartitions(localGraph -> nodeId -> {
+            if (components.get(nodeId) == UNASSIGNED && colors.get(nodeId) == nodeId) {
+                components.set(nodeId, nodeId);
+                frontier.set(nodeId);
+                claimedNodes.increment();
+            }
+        });
+
+        while (!frontier.isEmpty()) {
+            terminationFlag.assertRunning();
+            var next = nextFrontier;
+            next.clear();
+            runOnSetBits(frontier, localGraph -> nodeId -> {
+                // Every claimed node passes through the frontier once, its neighbours might become trimmable.
+                forEachUnassignedNeighbour(localGraph, nodeId, trimCandidates::set);
+                long color = colors.get(nodeId);
+                forEachIncoming(localGraph, nodeId, sourceNodeId -> {
+                    if (colors.get(sourceNodeId) == color && components.compareAndSet(sourceNodeId, UNASSIGNED, color)) {
+                        next.set(sourceNodeId);
+                        claimedNodes.increment();
+                    }
+                });
+            });
+            swapFrontiers();
+        }
+
+        assign(claimedNodes.sum());
+    }
+
+    private HugeLongArray result() {
+        var result = HugeLongArray.newArray(nodeCount);
+
+        // The colors are not needed anymore and are reused to count the component sizes.
+        colors.setAll(0L);
+        runOnPartitions(localGraph -> nodeId -> {
+            long component = components.get(nodeId);
+            result.set(nodeId, component);
+            colors.getAndAdd(component, 1L);
+        });
+
+        componentCount = 0;
+        minComponentSize = Long.MAX_VALUE;
+        maxComponentSize = 0;
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            long size = colors.get(nodeId);
+            if (size > 0) {
+                componentCount++;
+                minComponentSize = Math.min(minComponentSize, size);
+                maxComponentSize = Math.max(maxComponentSize, size);
+            }
+        }
+
+        return result;
+    }
+
+    private boolean increaseColor(long nodeId, long color) {
+        long currentColor = colors.get(nodeId);
+        while (currentColor < color) {
+            long witness = colors.compareAndExchange(nodeId, currentColor, color);
+            if (witness == currentColor) {
+                return true;
+            }
+            currentColor = witness;
+        }
+        return false;
+    }
+
+    private boolean hasUnassignedOutgoing(Graph localGraph, long nodeId) {
+        var found = new boolean[]{false};
+        localGraph.forEachRelationship(nodeId, (sourceNodeId, targetNodeId) -> {
+            found[0] = targetNodeId != nodeId && components.get(targetNodeId) == UNASSIGNED;
+            return !found[0];
+        });
+        return found[0];
+    }
+
+    private boolean hasUnassignedIncoming(Graph localGraph, long nodeId) {
+        if (graph.isInverseIndexed()) {
+            var found = new boolean[]{false};
+            localGraph.forEachInverseRelationship(nodeId, (targetNodeId, sourceNodeId) -> {
+                found[0] = sourceNodeId != nodeId && components.get(sourceNodeId) == UNASSIGNED;
+                return !found[0];
+            });
+            return found[0];
+        }
+
+        for (long i = incomingOffsets.get(nodeId); i < incomingOffsets.get(nodeId + 1); i++) {
+            long sourceNodeId = incomingSources.get(i);
+            if (sourceNodeId != nodeId && components.get(sourceNodeId) == UNASSIGNED) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void forEachIncoming(Graph localGraph, long nodeId, LongConsumer consumer) {
+        if (graph.isInverseIndexed()) {
+            localGraph.forEachInverseRelationship(nodeId, (targetNodeId, sourceNodeId) -> {
+                consumer.accept(sourceNodeId);
+                return true;
+            });
+            return;
+        }
+
+        for (long i = incomingOffsets.get(nodeId); i < incomingOffsets.get(nodeId + 1); i++) {
+            consumer.accept(incomingSources.get(i));
+        }
+    }
+
+    private void forEachUnassignedNeighbour(Graph localGraph, long nodeId, LongConsumer consumer) {
+        localGraph.forEachRelationship(nodeId, (sourceNodeId, targetNodeId) -> {
+            if (components.get(targetNodeId) == UNASSIGNED) {
+                consumer.accept(targetNodeId);
+            }
+            return true;
+        });
+        forEachIncoming(localGraph, nodeId, sourceNodeId -> {
+            if (components.get(sourceNodeId) == UNASSIGNED) {
+                consumer.accept(sourceNodeId);
+            }
+        });
+    }
+
+    private void collectIncomingRelationships() {
+        // Count the incoming relationships, the counts are turned into insert positions afterwards.
+        var positions = HugeAtomicLongArray.newArray(nodeCount);
+        runOnPartitions(localGraph -> nodeId -> localGraph.forEachRelationship(
+            nodeId,
+            (sourceNodeId, targetNodeId) -> {
+                positions.getAndAdd(targetNodeId, 1L);
+                return true;
+            }
+        ));
+
+        incomingOffsets = HugeLongArray.newArray(nodeCount + 1);
+        long offset = 0L;
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            incomingOffsets.set(nodeId, offset);
+            offset += positions.get(nodeId);
+            positions.set(nodeId, incomingOffsets.get(nodeId));
+        }
+        incomingOffsets.set(nodeCount, offset);
+
+        incomingSources = HugeLongArray.newArray(offset);
+        runOnPartitions(localGraph -> nodeId -> localGraph.forEachRelationship(
+            nodeId,
+            (sourceNodeId, targetNodeId) -> {
+                incomingSources.set(positions.getAndAdd(targetNodeId, 1L), sourceNodeId);
+                return true;
+            }
+        ));
+    }
+
+    private void assign(long nodes) {
+        assignedNodes.add(nodes);
+        progressTracker.logProgress(nodes);
+    }
+
+    private void runOnPartitions(Function<Graph, LongConsumer> taskFactory) {
+        var tasks = ParallelUtil.tasks(partitions.size(), index -> () -> {
+            var partition = partitions.get(index);
+            partition.consume(taskFactory.apply(graph.concurrentCopy()));
+        });
+        ParallelUtil.runWithConcurrency(concurrency, tasks, terminationFlag, Pools.DEFAULT);
+    }
+
+    private void runOnSetBits(HugeAtomicBitSet bitSet, Function<Graph, LongConsumer> taskFactory) {
+        var tasks = ParallelUtil.tasks(partitions.size(), index -> () -> {
+            var partition = partitions.get(index);
+            bitSet.forEachSetBit(
+                partition.startNode(),
+                partition.startNode() + partition.nodeCount(),
+                taskFactory.apply(graph.concurrentCopy())
+            );
+        });
+        ParallelUtil.runWithConcurrency(concurrency, tasks, terminationFlag, Pools.DEFAULT);
+    }
+
+    private void swapFrontiers() {
+        var previousFrontier = frontier;
+        frontier = nextFrontier;
+        nextFrontier = previousFrontier;
+    }
+}
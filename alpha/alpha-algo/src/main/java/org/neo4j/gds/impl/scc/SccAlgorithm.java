@@ -30,9 +30,14 @@ import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
  * huge iterative (non recursive) sequential strongly connected components algorithm.
  *
  * specified in:  http://code.activestate.com/recipes/578507-strongly-connected-components-of-a-directed-graph/
+ *
+ * Graphs with at least {@link #MIN_PARALLEL_NODE_COUNT} nodes are computed by {@link ParallelScc}
+ * if a concurrency greater than one is given.
  */
 public class SccAlgorithm extends Algorithm<HugeLongArray> {
 
+    static final long MIN_PARALLEL_NODE_COUNT = 100_000;
+
     private enum Action {
         VISIT(0L),
         VISITEDGE(1L),
@@ -49,30 +54,34 @@ public class SccAlgorithm extends Algorithm<HugeLongArray> {
     private Graph graph;
 
     private final long nodeCount;
+    private final int concurrency;
     private HugeLongArray index;
     private BitSet visited;
     private HugeLongArray connectedComponents;
     private PagedLongStack stack;
     private PagedLongStack boundaries;
     private PagedLongStack todo; // stores pairs of (node-Id, TODO-Id)
-    private int setCount;
+    private long setCount;
 
-    private int minSetSize;
-    private int maxSetSize;
+    private long minSetSize;
+    private long maxSetSize;
+
+    public SccAlgorithm(
+        Graph graph,
+        ProgressTracker progressTracker
+    ) {
+        this(graph, 1, progressTracker);
+    }
 
     public SccAlgorithm(
         Graph graph,
+        int concurrency,
         ProgressTracker progressTracker
     ) {
         super(progressTracker);
         this.graph = graph;
         this.nodeCount = graph.nodeCount();
-        this.index = HugeLongArray.newArray(nodeCount);
-        this.stack = new PagedLongStack(nodeCount);
-        this.boundaries = new PagedLongStack(nodeCount);
-        this.connectedComponents = HugeLongArray.newArray(nodeCount);
-        this.visited = new BitSet(nodeCount);
-        this.todo = new PagedLongStack(nodeCount);
+        this.concurrency = concurrency;
     }
 
     /**
@@ -80,6 +89,32 @@ public class SccAlgorithm extends Algorithm<HugeLongArray> {
      */
     public HugeLongArray compute() {
         progressTracker.beginSubTask(graph.nodeCount());
+        if (concurrency > 1 && nodeCount >= MIN_PARALLEL_NODE_COUNT) {
+            connectedComponents = computeParallel();
+        } else {
+            computeSequential();
+        }
+        progressTracker.endSubTask();
+        return connectedComponents;
+    }
+
+    private HugeLongArray computeParallel() {
+        var parallelScc = new ParallelScc(graph, concurrency, progressTracker, terminationFlag);
+        var components = parallelScc.compute();
+        setCount = parallelScc.componentCount();
+        minSetSize = parallelScc.minComponentSize();
+        maxSetSize = parallelScc.maxComponentSize();
+        return components;
+    }
+
+    private void computeSequential() {
+        this.index = HugeLongArray.newArray(nodeCount);
+        this.stack = new PagedLongStack(nodeCount);
+        this.boundaries = new PagedLongStack(nodeCount);
+        this.connectedComponents = HugeLongArray.newArray(nodeCount);
+        this.visited = new BitSet(nodeCount);
+        this.todo = new PagedLongStack(nodeCount);
+
         setCount = 0;
         minSetSize = Integer.MAX_VALUE;
         maxSetSize = 0;
@@ -89,8 +124,6 @@ public class SccAlgorithm extends Algorithm<HugeLongArray> {
         boundaries.clear();
         stack.clear();
         graph.forEachNode(this::compute);
-        progressTracker.endSubTask();
-        return connectedComponents;
     }
 
     /**
@@ -0,0 +1,315 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.impl.spanningTrees;
+
+import org.neo4j.gds.Algorithm;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.utils.paged.HugeAtomicLongArray;
+import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.core.utils.paged.PagedLongStack;
+import org.neo4j.gds.core.utils.paged.dss.HugeAtomicDisjointSetStruct;
+import org.neo4j.gds.core.utils.partition.Partition;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.Function;
+import java.util.function.LongConsumer;
+
+/**
+ * Parallel minimum weight spanning forest algorithm (Borůvka).
+ * <p>
+ * In every round each node selects its lightest relationship to another component
+ * and each component selects the lightest relationship of its nodes.
+ * All selected relationships are part of the spanning forest and their components are merged.
+ * Ties are broken by the node ids of the relationship, which keeps the selected relationships free of cycles.
+ * The number of components at least halves in each round.
+ * <p>
+ * The graph must be undirected, otherwise the selected relationships can form cycles. The result contains a tree for every connected component,
+ * the tree of the start node is rooted at the start node. The effective node count is the size of that tree.
+ */
+public class Boruvka extends Algorithm<SpanningTree> {
+
+    private static final long NO_NODE = -1L;
+
+    private final Graph graph;
+    private final long nodeCount;
+    private final DoubleUnaryOperator minMax;
+    private final long startNodeId;
+    private final int concurrency;
+    private final List<Partition> partitions;
+
+    private HugeAtomicDisjointSetStruct components;
+    private HugeLongArray componentOf;
+    private HugeLongArray lightestTarget;
+    private HugeDoubleArray lightestWeight;
+    private HugeAtomicLongArray componentLightestSource;
+
+    private HugeLongArray forestSources;
+    private HugeLongArray forestTargets;
+    private AtomicLong forestSize;
+
+    private SpanningTree spanningTree;
+
+    public Boruvka(
+        Graph graph,
+        DoubleUnaryOperator minMax,
+        long startNodeId,
+        int concurrency,
+        ProgressTracker progressTracker
+    ) {
+        super(progressTracker);
+        if (!graph.isUndirected()) {
+            throw new IllegalArgumentException(
+                "The spanning forest computation requires an undirected graph, project the relationships with `UNDIRECTED` orientation."
+            );
+        }
+        this.graph = graph;
+        this.nodeCount = graph.nodeCount();
+        this.minMax = minMax;
+        this.startNodeId = graph.toMappedNodeId(startNodeId);
+        this.concurrency = concurrency;
+        this.partitions = PartitionUtils.rangePartition(concurrency, nodeCount, Function.identity(), Optional.empty());
+    }
+
+    @Override
+    public SpanningTree compute() {
+        progressTracker.beginSubTask(nodeCount);
+
+        components = new HugeAtomicDisjointSetStruct(nodeCount, concurrency);
+        componentOf = HugeLongArray.newArray(nodeCount);
+        lightestTarget = HugeLongArray.newArray(nodeCount);
+        lightestWeight = HugeDoubleArray.newArray(nodeCount);
+        componentLightestSource = HugeAtomicLongArray.newArray(nodeCount);
+        forestSources = HugeLongArray.newArray(Math.max(nodeCount - 1, 0));
+        forestTargets = HugeLongArray.newArray(Math.max(nodeCount - 1, 0));
+        forestSize = new AtomicLong();
+
+        long addedRelationships;
+        do {
+            assertRunning();
+            selectLightestRelationships();
+            addedRelationships = mergeComponents();
+            progressTracker.logProgress(addedRelationships);
+        } while (addedRelationships > 0);
+
+        componentOf = null;
+        lightestTarget = null;
+        lightestWeight = null;
+        componentLightestSource = null;
+
+        this.spanningTree = orientForest();
+        progressTracker.endSubTask();
+        return this.spanningTree;
+    }
+
+    public SpanningTree getSpanningTree() {
+        return spanningTree;
+    }
+
+    @Override
+    public void release() {
+        components = null;
+        forestSources = null;
+        forestTargets = null;
+        spanningTree = null;
+    }
+
+    private void selectLightestRelationships() {
+        runOnPartitions(localGraph -> nodeId -> {
+            componentOf.set(nodeId, components.setIdOf(nodeId));
+            componentLightestSource.set(nodeId, NO_NODE);
+        });
+
+        runOnPartitions(localGraph -> nodeId -> {
+            long component = componentOf.get(nodeId);
+            var lightest = new long[]{NO_NODE};
+            var lightestCost = new double[]{Double.MAX_VALUE};
+            localGraph.forEachRelationship(nodeId, 0.0D, (sourceNodeId, targetNodeId, weight) -> {
+                if (componentOf.get(targetNodeId) != component) {
+                    // invert weight to calculate maximum
+                    double cost = minMax.applyAsDouble(weight);
+                    if (lightest[0] == NO_NODE || isLighter(cost, nodeId, targetNodeId, lightestCost[0], nodeId, lightest[0])) {
+                        lightest[0] = targetNodeId;
+                        lightestCost[0] = cost;
+                    }
+                }
+                return true;
+            });
+
+            lightestTarget.set(nodeId, lightest[0]);
+            lightestWeight.set(nodeId, lightestCost[0]);
+            if (lightest[0] != NO_NODE) {
+                offerToComponent(component, nodeId);
+            }
+        });
+    }
+
+    private void offerToComponent(long component, long sourceNodeId) {
+        long current = componentLightestSource.get(component);
+        while (current == NO_NODE || isLighter(sourceNodeId, current)) {
+            long witness = componentLightestSource.compareAndExchange(component, current, sourceNodeId);
+            if (witness == current) {
+                return;
+            }
+            current = witness;
+        }
+    }
+
+    private long mergeComponents() {
+        var addedRelationships = new LongAdder();
+        runOnPartitions(localGraph -> component -> {
+            long source = componentLightestSource.get(component);
+            if (source == NO_NODE) {
+                return;
+            }
+            long target = lightestTarget.get(source);
+
+            // Both components might have selected the same relationship, only the one with the larger id adds it.
+            long otherSource = componentLightestSource.get(componentOf.get(target));
+            if (otherSource == target && lightestTarget.get(otherSource) == source && componentOf.get(target) > component) {
+                return;
+            }
+
+            // Only a relationship that joins two different trees may enter the forest, otherwise it would close a cycle.
+            if (!components.tryUnion(source, target)) {
+                return;
+            }
+            long index = forestSize.getAndIncrement();
+            forestSources.set(index, source);
+            forestTargets.set(index, target);
+            addedRelationships.increment();
+        });
+        return addedRelationships.sum();
+    }
+
+    private SpanningTree orientForest() {
+        long relationshipCount = forestSize.get();
+
+        // Build an undirected adjacency list of the forest, the degrees are turned into offsets afterwards.
+        var offsets = HugeLongArray.newArray(nodeCount + 1);
+        for (long i = 0; i < relationshipCount; i++) {
+            offsets.addTo(forestSources.get(i), 1L);
+            offsets.addTo(forestTargets.get(i), 1L);
+        }
+        long offset = 0L;
+        for (long nodeId = 0; nodeId <= nodeCount; nodeId++) {
+            long degree = offsets.get(nodeId);
+            offsets.set(nodeId, offset);
+            offset += degree;
+        }
+        var positions = HugeLongArray.newArray(nodeCount);
+        positions.setAll(offsets::get);
+        var adjacency = HugeLongArray.newArray(2 * relationshipCount);
+        for (long i = 0; i < relationshipCount; i++) {
+            long source = forestSources.get(i);
+            long target = forestTargets.get(i);
+            adjacency.set(positions.get(source), target);
+            positions.addTo(source, 1L);
+            adjacency.set(positions.get(target), source);
+            positions.addTo(target, 1L);
+        }
+
+        var parent = HugeLongArray.newArray(nodeCount);
+        long startComponent = nodeCount > 0 ? components.setIdOf(startNodeId) : NO_NODE;
+        var effectiveNodeCount = new LongAdder();
+        runOnPartitions(localGraph -> nodeId -> {
+            if (components.setIdOf(nodeId) != nodeId) {
+                return;
+            }
+            long root = nodeId == startComponent ? startNodeId : nodeId;
+            long treeSize = orientTree(root, parent, offsets, adjacency);
+            if (nodeId == startComponent) {
+                effectiveNodeCount.add(treeSize);
+            }
+        });
+
+        return new SpanningTree(startNodeId, nodeCount, effectiveNodeCount.sum(), parent);
+    }
+
+    private static long orientTree(long root, HugeLongArray parent, HugeLongArray offsets, HugeLongArray adjacency) {
+        var stack = new PagedLongStack(1L);
+        parent.set(root, NO_NODE);
+        stack.push(root);
+        long treeSize = 0L;
+        while (!stack.isEmpty()) {
+            long nodeId = stack.pop();
+            treeSize++;
+            long nodeParent = parent.get(nodeId);
+            for (long i = offsets.get(nodeId); i < offsets.get(nodeId + 1); i++) {
+                long neighbour = adjacency.get(i);
+                if (neighbour != nodeParent) {
+                    parent.set(neighbour, nodeId);
+                    stack.push(neighbour);
+                }
+            }
+        }
+        return treeSize;
+    }
+
+    private boolean isLighter(long sourceNodeId, long otherSourceNodeId) {
+        return isLighter(
+            lightestWeight.get(sourceNodeId),
+            sourceNodeId,
+            lightestTarget.get(sourceNodeId),
+            lightestWeight.get(otherSourceNodeId),
+            otherSourceNodeId,
+            lightestTarget.get(otherSourceNodeId)
+        );
+    }
+
+    /**
+     * Compares relationships by their weight and then by their node ids, independent of their direction.
+     */
+    private static boolean isLighter(
+        double cost,
+        long source,
+        long target,
+        double otherCost,
+        long otherSource,
+        long otherTarget
+    ) {
+        int costComparison = Double.compare(cost, otherCost);
+        if (costComparison != 0) {
+            return costComparison < 0;
+        }
+        long min = Math.min(source, target);
+        long otherMin = Math.min(otherSource, otherTarget);
+        if (min != otherMin) {
+            return min < otherMin;
+        }
+        return Math.max(source, target) < Math.max(otherSource, otherTarget);
+    }
+
+    private void runOnPartitions(Function<Graph, LongConsumer> taskFactory) {
+        var tasks = ParallelUtil.tasks(partitions.size(), index -> () -> {
+            var partition = partitions.get(index);
+            partition.consume(taskFactory.apply(graph.concurrentCopy()));
+        });
+        ParallelUtil.runWithConcurrency(concurrency, tasks, terminationFlag, Pools.DEFAULT);
+    }
+}
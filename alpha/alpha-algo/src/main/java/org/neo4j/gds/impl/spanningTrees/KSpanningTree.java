@@ -23,8 +23,9 @@ import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.api.IdMap;
 import org.neo4j.gds.api.RelationshipProperties;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
-import org.neo4j.gds.core.utils.queue.IntPriorityQueue;
+import org.neo4j.gds.core.utils.queue.HugeLongPriorityQueue;
 
 import java.util.function.DoubleUnaryOperator;
 
@@ -36,6 +37,9 @@ import java.util.function.DoubleUnaryOperator;
  * <p>
  * After calculating the MST the algorithm cuts the tree at its k weakest
  * relationships to form k spanning trees
+ * <p>
+ * With a concurrency greater than one the spanning forest of the whole graph
+ * is computed by {@link Boruvka} instead, and the cut is applied to the forest.
  */
 public class KSpanningTree extends Algorithm<SpanningTree> {
 
@@ -43,8 +47,9 @@ public class KSpanningTree extends Algorithm<SpanningTree> {
     private Graph graph;
     private RelationshipProperties weights;
     private final DoubleUnaryOperator minMax;
-    private final int startNodeId;
+    private final long startNodeId;
     private final long k;
+    private final int concurrency;
 
     private SpanningTree spanningTree;
 
@@ -57,34 +62,47 @@ public class KSpanningTree extends Algorithm<SpanningTree> {
         long k,
         ProgressTracker progressTracker
 ) {
+        this(idMap, graph, weights, minMax, startNodeId, k, 1, progressTracker);
+    }
+
+    public KSpanningTree(
+        IdMap idMap,
+        Graph graph,
+        RelationshipProperties weights,
+        DoubleUnaryOperator minMax,
+        long startNodeId,
+        long k,
+        int concurrency,
+        ProgressTracker progressTracker
+    ) {
         super(progressTracker);
         this.idMap = idMap;
         this.graph = graph;
         this.weights = weights;
         this.minMax = minMax;
-        this.startNodeId = (int) graph.toMappedNodeId(startNodeId);
+        this.startNodeId = graph.toMappedNodeId(startNodeId);
 
         this.k = k;
+        this.concurrency = concurrency;
     }
 
     @Override
     public SpanningTree compute() {
         progressTracker.beginSubTask();
-        Prim prim = new Prim(
-            idMap,
-            graph,
-            minMax,
-            graph.toOriginalNodeId(startNodeId),
-            progressTracker
-        );
-        prim.setTerminationFlag(getTerminationFlag());
+        Algorithm<SpanningTree> spanningTreeAlgorithm = concurrency > 1
+            ? new Boruvka(graph, minMax, graph.toOriginalNodeId(startNodeId), concurrency, progressTracker)
+            : new Prim(idMap, graph, minMax, graph.toOriginalNodeId(startNodeId), progressTracker);
+        spanningTreeAlgorithm.setTerminationFlag(getTerminationFlag());
 
-        IntPriorityQueue priorityQueue = minMax == Prim.MAX_OPERATOR ? IntPriorityQueue.min() : IntPriorityQueue.max();
-        SpanningTree spanningTree = prim.compute();
-        int[] parent = spanningTree.parent;
-        progressTracker.beginSubTask(parent.length);
-        for (int i = 0; i < parent.length && running(); i++) {
-            int p = parent[i];
+        SpanningTree spanningTree = spanningTreeAlgorithm.compute();
+        HugeLongArray parent = spanningTree.parent;
+        long nodeCount = spanningTree.nodeCount;
+        HugeLongPriorityQueue priorityQueue = minMax == Prim.MAX_OPERATOR
+            ? HugeLongPriorityQueue.min(nodeCount)
+            : HugeLongPriorityQueue.max(nodeCount);
+        progressTracker.beginSubTask(nodeCount);
+        for (long i = 0; i < nodeCount && running(); i++) {
+            long p = parent.get(i);
             if (p == -1) {
                 continue;
             }
@@ -94,13 +112,13 @@ public class KSpanningTree extends Algorithm<SpanningTree> {
         progressTracker.endSubTask();
         progressTracker.beginSubTask(k - 1);
         // remove k-1 relationships
-        for (int i = 0; i < k - 1 && running(); i++) {
-            int cutNode = priorityQueue.pop();
-            parent[cutNode] = -1;
+        for (long i = 0; i < k - 1 && !priorityQueue.isEmpty() && running(); i++) {
+            long cutNode = priorityQueue.pop();
+            parent.set(cutNode, -1);
             progressTracker.logProgress();
         }
         progressTracker.endSubTask();
-        this.spanningTree = prim.getSpanningTree();
+        this.spanningTree = spanningTree;
         progressTracker.endSubTask();
         return this.spanningTree;
     }
@@ -25,11 +25,11 @@ import com.carrotsearch.hppc.IntDoubleScatterMap;
 import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.api.IdMap;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.core.utils.queue.SharedIntPriorityQueue;
 import org.neo4j.gds.result.AbstractResultBuilder;
 
-import java.util.Arrays;
 import java.util.function.DoubleUnaryOperator;
 
 import static org.neo4j.gds.impl.Converters.longToIntConsumer;
@@ -73,14 +73,14 @@ public class Prim extends Algorithm<SpanningTree> {
     @Override
     public SpanningTree compute() {
         progressTracker.beginSubTask(graph.nodeCount());
-        int[] parent = new int[nodeCount];
+        HugeLongArray parent = HugeLongArray.newArray(nodeCount);
         IntDoubleMap cost = new IntDoubleScatterMap(nodeCount);
         SharedIntPriorityQueue queue = SharedIntPriorityQueue.min(
                 nodeCount,
                 cost,
                 Double.MAX_VALUE);
         BitSet visited = new BitSet(nodeCount);
-        Arrays.fill(parent, -1);
+        parent.fill(-1L);
         cost.put(startNodeId, 0.0);
         queue.add(startNodeId, -1.0);
         int effectiveNodeCount = 0;
@@ -105,7 +105,7 @@ public class Prim extends Algorithm<SpanningTree> {
                         cost.put(t, weight);
                         queue.add(t, -1.0);
                     }
-                    parent[t] = s;
+                    parent.set(t, s);
                 }
                 return true;
             }));
@@ -135,7 +135,7 @@ public class Prim extends Algorithm<SpanningTree> {
         public Result(long preProcessingMillis,
                       long computeMillis,
                       long writeMillis,
-                      int effectiveNodeCount) {
+                      long effectiveNodeCount) {
             this.preProcessingMillis = preProcessingMillis;
             this.computeMillis = computeMillis;
             this.writeMillis = writeMillis;
@@ -145,9 +145,9 @@ public class Prim extends Algorithm<SpanningTree> {
 
     public static class Builder extends AbstractResultBuilder<Result> {
 
-        protected int effectiveNodeCount;
+        protected long effectiveNodeCount;
 
-        public Builder withEffectiveNodeCount(int effectiveNodeCount) {
+        public Builder withEffectiveNodeCount(long effectiveNodeCount) {
             this.effectiveNodeCount = effectiveNodeCount;
             return this;
         }
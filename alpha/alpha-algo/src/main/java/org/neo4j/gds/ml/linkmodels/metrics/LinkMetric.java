@@ -24,6 +24,20 @@ import org.neo4j.gds.ml.linkmodels.SignedProbabilities;
 public enum LinkMetric {
     AUCPR;
 
+    /**
+     * The smallest value the metric can take.
+     */
+    public double minValue() {
+        return 0.0;
+    }
+
+    /**
+     * The largest value the metric can take, reached by a perfect model.
+     */
+    public double maxValue() {
+        return 1.0;
+    }
+
     public double compute(SignedProbabilities signedProbabilities, double negativeClassWeight) {
         var positiveCount = signedProbabilities.positiveCount();
         var negativeCount = signedProbabilities.negativeCount();
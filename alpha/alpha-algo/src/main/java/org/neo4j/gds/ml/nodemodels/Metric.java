@@ -21,4 +21,18 @@ package org.neo4j.gds.ml.nodemodels;
 
 public interface Metric {
     String name();
+
+    /**
+     * The smallest value the metric can take.
+     */
+    default double minValue() {
+        return 0.0;
+    }
+
+    /**
+     * The largest value the metric can take, reached by a perfect model.
+     */
+    default double maxValue() {
+        return 1.0;
+    }
 }
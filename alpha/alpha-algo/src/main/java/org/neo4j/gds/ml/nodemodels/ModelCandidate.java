@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.ml.nodemodels;
+
+import org.neo4j.gds.models.logisticregression.LogisticRegressionTrainConfig;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * The train and validation metrics of a model candidate, collected over the folds it is evaluated on.
+ * The folds are evaluated in rounds, every candidate which is not abandoned is evaluated on one fold per round.
+ *
+ * Between the rounds, a candidate is abandoned once its validation score cannot exceed the score of another
+ * candidate anymore, even if it reached the maximum score and the other one the minimum score on all remaining folds.
+ * Since this only depends on the completed rounds, the abandoned candidates do not depend on the task scheduling.
+ * The stats of an abandoned candidate only cover the folds evaluated until then.
+ */
+class ModelCandidate {
+    private final LogisticRegressionTrainConfig params;
+    private final int numberOfFolds;
+    private final Metric mainMetric;
+    private final ModelStatsBuilder trainStatsBuilder;
+    private final ModelStatsBuilder validationStatsBuilder;
+
+    private int evaluatedFolds;
+    private double validationScoreSum;
+    private boolean abandoned;
+
+    ModelCandidate(LogisticRegressionTrainConfig params, int numberOfFolds, Metric mainMetric) {
+        this.params = params;
+        this.numberOfFolds = numberOfFolds;
+        this.mainMetric = mainMetric;
+        this.trainStatsBuilder = new ModelStatsBuilder(params);
+        this.validationStatsBuilder = new ModelStatsBuilder(params);
+    }
+
+    /**
+     * Abandons the candidates which cannot win anymore, after all remaining candidates completed the same round.
+     *
+     * @return the newly abandoned candidates
+     */
+    static List<ModelCandidate> abandonHopelessCandidates(List<ModelCandidate> candidates) {
+        var remainingCandidates = candidates.stream()
+            .filter(candidate -> !candidate.abandoned)
+            .collect(Collectors.toList());
+
+        var bestMinValidationScore = remainingCandidates.stream()
+            .mapToDouble(ModelCandidate::minValidationScore)
+            .max()
+            .orElse(Double.NEGATIVE_INFINITY);
+
+        var abandonedCandidates = remainingCandidates.stream()
+            .filter(candidate -> candidate.maxValidationScore() < bestMinValidationScore)
+            .collect(Collectors.toList());
+        abandonedCandidates.forEach(candidate -> candidate.abandoned = true);
+
+        return abandonedCandidates;
+    }
+
+    LogisticRegressionTrainConfig params() {
+        return params;
+    }
+
+    boolean isAbandoned() {
+        return abandoned;
+    }
+
+    int evaluatedFolds() {
+        return evaluatedFolds;
+    }
+
+    int remainingFolds() {
+        return numberOfFolds - evaluatedFolds;
+    }
+
+    void update(Map<Metric, Double> trainMetrics, Map<Metric, Double> validationMetrics) {
+        trainMetrics.forEach(trainStatsBuilder::update);
+        validationMetrics.forEach(validationStatsBuilder::update);
+
+        validationScoreSum += validationMetrics.get(mainMetric);
+        evaluatedFolds++;
+    }
+
+    ModelStats<LogisticRegressionTrainConfig> trainStats(Metric metric) {
+        return trainStatsBuilder.build(metric, evaluatedFolds);
+    }
+
+    ModelStats<LogisticRegressionTrainConfig> validationStats(Metric metric) {
+        return validationStatsBuilder.build(metric, evaluatedFolds);
+    }
+
+    private double minValidationScore() {
+        return (validationScoreSum + remainingFolds() * mainMetric.minValue()) / numberOfFolds;
+    }
+
+    private double maxValidationScore() {
+        return (validationScoreSum + remainingFolds() * mainMetric.maxValue()) / numberOfFolds;
+    }
+
+    private static class ModelStatsBuilder {
+        private final Map<Metric, Double> min;
+        private final Map<Metric, Double> max;
+        private final Map<Metric, Double> sum;
+        private final LogisticRegressionTrainConfig modelParams;
+
+        ModelStatsBuilder(LogisticRegressionTrainConfig modelParams) {
+            this.modelParams = modelParams;
+            this.min = new HashMap<>();
+            this.max = new HashMap<>();
+            this.sum = new HashMap<>();
+        }
+
+        void update(Metric metric, double value) {
+            min.merge(metric, value, Math::min);
+            max.merge(metric, value, Math::max);
+            sum.merge(metric, value, Double::sum);
+        }
+
+        ModelStats<LogisticRegressionTrainConfig> build(Metric metric, int evaluatedSplits) {
+            return ImmutableModelStats.of(
+                modelParams,
+                sum.get(metric) / evaluatedSplits,
+                min.get(metric),
+                max.get(metric)
+            );
+        }
+    }
+}
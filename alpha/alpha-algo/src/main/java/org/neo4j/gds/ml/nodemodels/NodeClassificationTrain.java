@@ -27,6 +27,8 @@ import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.annotation.ValueClass;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.api.NodeProperties;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.concurrency.Pools;
 import org.neo4j.gds.core.model.Model;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
 import org.neo4j.gds.core.utils.mem.MemoryEstimations;
@@ -53,7 +55,7 @@ import org.neo4j.gds.ml.splitting.TrainingExamplesSplit;
 import org.neo4j.gds.ml.util.ShuffleUtil;
 import org.openjdk.jol.util.Multiset;
 
-import java.util.HashMap;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeSet;
@@ -66,6 +68,7 @@ import static org.neo4j.gds.core.utils.mem.MemoryEstimations.maxEstimation;
 import static org.neo4j.gds.mem.MemoryUsage.sizeOfDoubleArray;
 import static org.neo4j.gds.ml.util.ShuffleUtil.createRandomDataGenerator;
 import static org.neo4j.gds.ml.util.TrainingSetWarnings.warnForSmallNodeSets;
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
 
 public final class NodeClassificationTrain extends Algorithm<Model<LogisticRegressionData, NodeClassificationTrainConfig, NodeClassificationModelInfo>> {
 
@@ -78,6 +81,7 @@ public final class NodeClassificationTrain extends Algorithm<Model<LogisticRegre
     private final LocalIdMap classIdMap;
     private final HugeLongArray nodeIds;
     private final List<Metric> metrics;
+    private final Multiset<Long> classCounts;
     private final StatsMap trainStats;
     private final StatsMap validationStats;
     private final MetricComputer metricComputer;
@@ -267,6 +271,7 @@ public final class NodeClassificationTrain extends Algorithm<Model<LogisticRegre
         this.targets = targets;
         this.classIdMap = classIdMap;
         this.metrics = metrics;
+        this.classCounts = classCounts;
         this.nodeIds = nodeIds;
         this.trainStats = trainStats;
         this.validationStats = validationStats;
@@ -318,43 +323,108 @@ public final class NodeClassificationTrain extends Algorithm<Model<LogisticRegre
     }
 
     private ModelSelectResult selectBestModel(List<TrainingExamplesSplit> nodeSplits) {
-        progressTracker.beginSubTask();
-        for (LogisticRegressionTrainConfig modelParams : config.paramsConfig()) {
-            progressTracker.beginSubTask();
-            var validationStatsBuilder = new ModelStatsBuilder(modelParams, nodeSplits.size());
-            var trainStatsBuilder = new ModelStatsBuilder(modelParams, nodeSplits.size());
-
-            for (TrainingExamplesSplit nodeSplit : nodeSplits) {
-                progressTracker.beginSubTask();
-
-                var trainSet = nodeSplit.trainSet();
-                var validationSet = nodeSplit.testSet();
+        int numberOfFolds = nodeSplits.size();
+        var mainMetric = metrics.get(0);
+        var candidates = config.paramsConfig().stream()
+            .map(modelParams -> new ModelCandidate(modelParams, numberOfFolds, mainMetric))
+            .collect(Collectors.toList());
 
-                progressTracker.beginSubTask("Training");
-                var classifier = trainModel(trainSet, modelParams);
+        // the folds are evaluated in rounds, in which the remaining candidates are trained and evaluated independently,
+        // splitting the concurrency between the models trained at the same time
+        int modelConcurrency = Math.min(config.concurrency(), candidates.size());
+        int concurrencyPerModel = Math.max(1, config.concurrency() / modelConcurrency);
+
+        progressTracker.beginSubTask("SelectBestModel");
+        // every candidate tracks the progress of its own subtask, as they are trained at the same time
+        var candidateProgressTrackers = progressTracker.subTaskTrackers(candidates.size());
+
+        // the models train on the default pool, so we run them from a separate one to not wait on ourselves
+        var modelPool = Pools.createForkJoinPool(modelConcurrency);
+        try {
+            for (int fold = 0; fold < numberOfFolds; fold++) {
+                var nodeSplit = nodeSplits.get(fold);
+                var tasks = new ArrayList<Runnable>();
+                for (int candidateIndex = 0; candidateIndex < candidates.size(); candidateIndex++) {
+                    var candidate = candidates.get(candidateIndex);
+                    if (!candidate.isAbandoned()) {
+                        var candidateProgressTracker = candidateProgressTrackers.get(candidateIndex);
+                        tasks.add(() -> evaluateCandidate(
+                            candidate,
+                            nodeSplit,
+                            concurrencyPerModel,
+                            candidateProgressTracker
+                        ));
+                    }
+                }
+
+                ParallelUtil.runWithConcurrency(modelConcurrency, tasks, terminationFlag, modelPool);
+
+                boolean hasRemainingFolds = fold < numberOfFolds - 1;
+                if (hasRemainingFolds) {
+                    for (var candidate : ModelCandidate.abandonHopelessCandidates(candidates)) {
+                        var candidateProgressTracker = candidateProgressTrackers.get(candidates.indexOf(candidate));
+                        candidateProgressTracker.logMessage(formatWithLocale(
+                            "Abandoned after %d of %d splits, as it cannot score best on %s anymore",
+                            candidate.evaluatedFolds(),
+                            numberOfFolds,
+                            mainMetric.name()
+                        ));
+                        candidateProgressTracker.endSubTask("Model Candidate");
+                    }
+                }
+            }
+        } finally {
+            modelPool.shutdown();
+        }
+        progressTracker.endSubTask("SelectBestModel");
 
-                progressTracker.endSubTask("Training");
+        candidates.forEach(candidate -> metrics.forEach(metric -> {
+            validationStats.add(metric, candidate.validationStats(metric));
+            trainStats.add(metric, candidate.trainStats(metric));
+        }));
 
-                progressTracker.beginSubTask(validationSet.size() + trainSet.size());
-                metricComputer.computeMetrics(validationSet, classifier).forEach(validationStatsBuilder::update);
-                metricComputer.computeMetrics(trainSet, classifier).forEach(trainStatsBuilder::update);
-                progressTracker.endSubTask();
+        var bestModelStats = validationStats.pickBestModelStats(mainMetric);
 
-                progressTracker.endSubTask();
-            }
-            progressTracker.endSubTask();
+        return ModelSelectResult.of(bestModelStats.params(), trainStats, validationStats);
+    }
 
-            metrics.forEach(metric -> {
-                validationStats.add(metric, validationStatsBuilder.build(metric));
-                trainStats.add(metric, trainStatsBuilder.build(metric));
-            });
+    private void evaluateCandidate(
+        ModelCandidate candidate,
+        TrainingExamplesSplit nodeSplit,
+        int concurrency,
+        ProgressTracker candidateProgressTracker
+    ) {
+        if (candidate.evaluatedFolds() == 0) {
+            candidateProgressTracker.beginSubTask("Model Candidate");
         }
-        progressTracker.endSubTask();
+        candidateProgressTracker.beginSubTask("Split");
 
-        var mainMetric = metrics.get(0);
-        var bestModelStats = validationStats.pickBestModelStats(mainMetric);
+        var trainSet = nodeSplit.trainSet();
+        var validationSet = nodeSplit.testSet();
 
-        return ModelSelectResult.of(bestModelStats.params(), trainStats, validationStats);
+        candidateProgressTracker.beginSubTask("Training");
+        var classifier = trainModel(trainSet, candidate.params(), concurrency, candidateProgressTracker);
+        candidateProgressTracker.endSubTask("Training");
+
+        candidateProgressTracker.beginSubTask(validationSet.size() + trainSet.size());
+        var candidateMetricComputer = new ClassificationMetricComputer(
+            metrics,
+            classCounts,
+            features,
+            targets,
+            concurrency,
+            candidateProgressTracker,
+            terminationFlag
+        );
+        var validationMetrics = candidateMetricComputer.computeMetrics(validationSet, classifier);
+        var trainMetrics = candidateMetricComputer.computeMetrics(trainSet, classifier);
+        candidate.update(trainMetrics, validationMetrics);
+        candidateProgressTracker.endSubTask();
+
+        candidateProgressTracker.endSubTask("Split");
+        if (candidate.remainingFolds() == 0) {
+            candidateProgressTracker.endSubTask("Model Candidate");
+        }
     }
 
     private Map<Metric, MetricData<LogisticRegressionTrainConfig>> evaluateBestModel(
@@ -423,10 +493,19 @@ public final class NodeClassificationTrain extends Algorithm<Model<LogisticRegre
     private LogisticRegressionClassifier trainModel(
         HugeLongArray trainSet,
         LogisticRegressionTrainConfig lrConfig
+    ) {
+        return trainModel(trainSet, lrConfig, config.concurrency(), progressTracker);
+    }
+
+    private LogisticRegressionClassifier trainModel(
+        HugeLongArray trainSet,
+        LogisticRegressionTrainConfig lrConfig,
+        int concurrency,
+        ProgressTracker progressTracker
     ) {
         var trainer = new LogisticRegressionTrainer(
             ReadOnlyHugeLongArray.of(trainSet),
-            config.concurrency(),
+            concurrency,
             lrConfig,
             classIdMap,
             false,
@@ -466,35 +545,4 @@ public final class NodeClassificationTrain extends Algorithm<Model<LogisticRegre
         }
 
     }
-
-    private static class ModelStatsBuilder {
-        private final Map<Metric, Double> min;
-        private final Map<Metric, Double> max;
-        private final Map<Metric, Double> sum;
-        private final LogisticRegressionTrainConfig modelParams;
-        private final int numberOfSplits;
-
-        ModelStatsBuilder(LogisticRegressionTrainConfig modelParams, int numberOfSplits) {
-            this.modelParams = modelParams;
-            this.numberOfSplits = numberOfSplits;
-            this.min = new HashMap<>();
-            this.max = new HashMap<>();
-            this.sum = new HashMap<>();
-        }
-
-        void update(Metric metric, double value) {
-            min.merge(metric, value, Math::min);
-            max.merge(metric, value, Math::max);
-            sum.merge(metric, value, Double::sum);
-        }
-
-        ModelStats<LogisticRegressionTrainConfig> build(Metric metric) {
-            return ImmutableModelStats.of(
-                modelParams,
-                sum.get(metric) / numberOfSplits,
-                min.get(metric),
-                max.get(metric)
-            );
-        }
-    }
 }
@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.impl.scc;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.beta.generator.RandomGraphGenerator;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.neo4j.gds.core.loading.construction.GraphFactory;
+import org.neo4j.gds.core.utils.TerminationFlag;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.IdFunction;
+import org.neo4j.gds.extension.Inject;
+
+import java.util.HashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@GdlExtension
+class ParallelSccTest {
+
+    @GdlGraph
+    private static final String DB_CYPHER =
+        "CREATE" +
+        "  (a:Node)" +
+        ", (b:Node)" +
+        ", (c:Node)" +
+        ", (d:Node)" +
+        ", (e:Node)" +
+        ", (f:Node)" +
+        ", (g:Node)" +
+        ", (h:Node)" +
+        ", (i:Node)" +
+        ", (j:Node)" +
+
+        ", (a)-[:TYPE]->(b)" +
+        ", (b)-[:TYPE]->(c)" +
+        ", (c)-[:TYPE]->(a)" +
+
+        ", (d)-[:TYPE]->(e)" +
+        ", (e)-[:TYPE]->(f)" +
+        ", (f)-[:TYPE]->(d)" +
+
+        ", (a)-[:TYPE]->(d)" +
+
+        ", (g)-[:TYPE]->(h)" +
+        ", (h)-[:TYPE]->(i)" +
+        ", (i)-[:TYPE]->(g)" +
+
+        ", (j)-[:TYPE]->(a)";
+
+    @Inject
+    private Graph graph;
+
+    @Inject
+    private IdFunction idFunction;
+
+    @Test
+    void shouldComputeComponents() {
+        var parallelScc = new ParallelScc(graph, 4, ProgressTracker.NULL_TRACKER, TerminationFlag.RUNNING_TRUE);
+        var components = parallelScc.compute();
+
+        assertThat(components.get(idFunction.of("a")))
+            .isEqualTo(components.get(idFunction.of("b")))
+            .isEqualTo(components.get(idFunction.of("c")))
+            .isNotEqualTo(components.get(idFunction.of("d")))
+            .isNotEqualTo(components.get(idFunction.of("g")));
+        assertThat(components.get(idFunction.of("d")))
+            .isEqualTo(components.get(idFunction.of("e")))
+            .isEqualTo(components.get(idFunction.of("f")))
+            .isNotEqualTo(components.get(idFunction.of("g")));
+        assertThat(components.get(idFunction.of("g")))
+            .isEqualTo(components.get(idFunction.of("h")))
+            .isEqualTo(components.get(idFunction.of("i")));
+        assertThat(components.get(idFunction.of("j"))).isEqualTo(idFunction.of("j"));
+
+        assertThat(parallelScc.componentCount()).isEqualTo(4);
+        assertThat(parallelScc.minComponentSize()).isEqualTo(1);
+        assertThat(parallelScc.maxComponentSize()).isEqualTo(3);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void shouldMatchSequentialComputation(int concurrency) {
+        var randomGraph = RandomGraphGenerator.builder()
+            .nodeCount(10_000)
+            .averageDegree(2)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .seed(42L)
+            .build()
+            .generate();
+
+        var sequential = new SccAlgorithm(randomGraph, ProgressTracker.NULL_TRACKER);
+        var expected = sequential.compute();
+
+        var parallelScc = new ParallelScc(
+            randomGraph,
+            concurrency,
+            ProgressTracker.NULL_TRACKER,
+            TerminationFlag.RUNNING_TRUE
+        );
+        var actual = parallelScc.compute();
+
+        assertSamePartition(expected, actual);
+        assertThat(parallelScc.componentCount()).isEqualTo(sequential.getSetCount());
+        assertThat(parallelScc.minComponentSize()).isEqualTo(sequential.getMinSetSize());
+        assertThat(parallelScc.maxComponentSize()).isEqualTo(sequential.getMaxSetSize());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void shouldComputeComponentsOfLongChains(int concurrency) {
+        // A chain with decreasing ids along the path that ends in a cycle over the lower half of the nodes.
+        int nodeCount = 100_000;
+        long cycleEnd = nodeCount / 2;
+
+        var nodesBuilder = GraphFactory.initNodesBuilder()
+            .nodeCount(nodeCount)
+            .maxOriginalId(nodeCount)
+            .hasLabelInformation(false)
+            .build();
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            nodesBuilder.addNode(nodeId);
+        }
+        var idMap = nodesBuilder.build().idMap();
+
+        var relationshipsBuilder = GraphFactory.initRelationshipsBuilder().nodes(idMap).build();
+        for (long nodeId = 1; nodeId < nodeCount; nodeId++) {
+            relationshipsBuilder.add(nodeId, nodeId - 1);
+        }
+        relationshipsBuilder.add(0, cycleEnd);
+        var chain = GraphFactory.create(idMap, relationshipsBuilder.build());
+
+        var parallelScc = new ParallelScc(chain, concurrency, ProgressTracker.NULL_TRACKER, TerminationFlag.RUNNING_TRUE);
+        var components = parallelScc.compute();
+
+        long cycleComponent = components.get(chain.toMappedNodeId(0));
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            long mappedNodeId = chain.toMappedNodeId(nodeId);
+            if (nodeId <= cycleEnd) {
+                assertThat(components.get(mappedNodeId)).isEqualTo(cycleComponent);
+            } else {
+                assertThat(components.get(mappedNodeId)).isEqualTo(mappedNodeId);
+            }
+        }
+
+        assertThat(parallelScc.componentCount()).isEqualTo(nodeCount - cycleEnd);
+        assertThat(parallelScc.minComponentSize()).isEqualTo(1);
+        assertThat(parallelScc.maxComponentSize()).isEqualTo(cycleEnd + 1);
+    }
+
+    private static void assertSamePartition(HugeLongArray expected, HugeLongArray actual) {
+        var expectedToActual = new HashMap<Long, Long>();
+        var actualToExpected = new HashMap<Long, Long>();
+        for (long nodeId = 0; nodeId < expected.size(); nodeId++) {
+            long expectedComponent = expected.get(nodeId);
+            long actualComponent = actual.get(nodeId);
+            assertThat(expectedToActual.computeIfAbsent(expectedComponent, ignore -> actualComponent))
+                .isEqualTo(actualComponent);
+            assertThat(actualToExpected.computeIfAbsent(actualComponent, ignore -> expectedComponent))
+                .isEqualTo(expectedComponent);
+        }
+    }
+}
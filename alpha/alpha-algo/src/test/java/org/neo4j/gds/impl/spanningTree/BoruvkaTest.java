@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.impl.spanningTree;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.TestSupport;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.beta.generator.PropertyProducer;
+import org.neo4j.gds.beta.generator.RandomGraphGenerator;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.neo4j.gds.core.Aggregation;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.IdFunction;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.impl.spanningTrees.Boruvka;
+import org.neo4j.gds.impl.spanningTrees.Prim;
+import org.neo4j.gds.impl.spanningTrees.SpanningTree;
+
+import java.util.function.DoubleUnaryOperator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Same graph as in {@link PrimTest}, y and z form trees on their own.
+ */
+@GdlExtension
+class BoruvkaTest {
+
+    @GdlGraph(orientation = Orientation.UNDIRECTED)
+    private static final String DB_CYPHER =
+        "CREATE" +
+        "  (a:Node)" +
+        ", (b:Node)" +
+        ", (c:Node)" +
+        ", (d:Node)" +
+        ", (e:Node)" +
+        ", (y:Node)" +
+        ", (z:Node)" +
+
+        ", (a)-[:TYPE {cost: 1.0}]->(b)" +
+        ", (a)-[:TYPE {cost: 2.0}]->(c)" +
+        ", (b)-[:TYPE {cost: 3.0}]->(c)" +
+        ", (b)-[:TYPE {cost: 4.0}]->(d)" +
+        ", (c)-[:TYPE {cost: 5.0}]->(e)" +
+        ", (d)-[:TYPE {cost: 6.0}]->(e)";
+
+    @Inject
+    private Graph graph;
+
+    @Inject
+    private IdFunction idFunction;
+
+    private long a, b, c, d, e, y, z;
+
+    @BeforeEach
+    void setUp() {
+        a = idFunction.of("a");
+        b = idFunction.of("b");
+        c = idFunction.of("c");
+        d = idFunction.of("d");
+        e = idFunction.of("e");
+        y = idFunction.of("y");
+        z = idFunction.of("z");
+    }
+
+    @Test
+    void testMinimum() {
+        var mst = new Boruvka(graph, Prim.MIN_OPERATOR, c, 4, ProgressTracker.NULL_TRACKER).compute();
+
+        assertThat(mst.head).isEqualTo(c);
+        assertThat(mst.effectiveNodeCount).isEqualTo(5);
+        assertThat(mst.parent.get(c)).isEqualTo(-1);
+        assertThat(mst.parent.get(a)).isEqualTo(c);
+        assertThat(mst.parent.get(b)).isEqualTo(a);
+        assertThat(mst.parent.get(d)).isEqualTo(b);
+        assertThat(mst.parent.get(e)).isEqualTo(c);
+        assertThat(mst.parent.get(y)).isEqualTo(-1);
+        assertThat(mst.parent.get(z)).isEqualTo(-1);
+    }
+
+    @Test
+    void testMaximum() {
+        var mst = new Boruvka(graph, Prim.MAX_OPERATOR, a, 4, ProgressTracker.NULL_TRACKER).compute();
+
+        assertThat(mst.head).isEqualTo(a);
+        assertThat(mst.effectiveNodeCount).isEqualTo(5);
+        assertThat(mst.parent.get(a)).isEqualTo(-1);
+        assertThat(mst.parent.get(c)).isEqualTo(a);
+        assertThat(mst.parent.get(e)).isEqualTo(c);
+        assertThat(mst.parent.get(d)).isEqualTo(e);
+        assertThat(mst.parent.get(b)).isEqualTo(d);
+        assertThat(mst.parent.get(y)).isEqualTo(-1);
+        assertThat(mst.parent.get(z)).isEqualTo(-1);
+    }
+
+    @Test
+    void shouldRejectDirectedGraphs() {
+        var directedGraph = TestSupport.fromGdl(
+            "(a)-[:TYPE {cost: 1.0}]->(b), (b)-[:TYPE {cost: 1.0}]->(c), (c)-[:TYPE {cost: 1.0}]->(a)",
+            Orientation.NATURAL
+        );
+
+        assertThatThrownBy(() -> new Boruvka(directedGraph, Prim.MIN_OPERATOR, 0, 4, ProgressTracker.NULL_TRACKER))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("undirected");
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void shouldMatchPrimOnRandomGraph(int concurrency) {
+        var randomGraph = RandomGraphGenerator.builder()
+            .nodeCount(1_000)
+            .averageDegree(3)
+            .relationshipDistribution(RelationshipDistribution.UNIFORM)
+            .relationshipPropertyProducer(PropertyProducer.randomDouble("weight", 0.0, 10.0))
+            .orientation(Orientation.UNDIRECTED)
+            .aggregation(Aggregation.MIN)
+            .seed(42L)
+            .build()
+            .generate();
+
+        for (DoubleUnaryOperator minMax : new DoubleUnaryOperator[]{Prim.MIN_OPERATOR, Prim.MAX_OPERATOR}) {
+            var prim = new Prim(randomGraph, randomGraph, minMax, 0, ProgressTracker.NULL_TRACKER).compute();
+            var boruvka = new Boruvka(randomGraph, minMax, 0, concurrency, ProgressTracker.NULL_TRACKER).compute();
+
+            assertThat(boruvka.effectiveNodeCount).isEqualTo(prim.effectiveNodeCount);
+            assertThat(totalWeight(randomGraph, boruvka, 0)).isCloseTo(totalWeight(randomGraph, prim, 0), within(1E-9));
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void shouldBuildForestOnTiedAndNaNWeights(int concurrency) {
+        var randomGraph = RandomGraphGenerator.builder()
+            .nodeCount(1_000)
+            .averageDegree(3)
+            .relationshipDistribution(RelationshipDistribution.UNIFORM)
+            .relationshipPropertyProducer(PropertyProducer.randomDouble("weight", 0.0, 10.0))
+            .orientation(Orientation.UNDIRECTED)
+            .aggregation(Aggregation.MIN)
+            .seed(42L)
+            .build()
+            .generate();
+
+        var prim = new Prim(randomGraph, randomGraph, Prim.MIN_OPERATOR, 0, ProgressTracker.NULL_TRACKER).compute();
+
+        DoubleUnaryOperator tied = weight -> 1.0;
+        DoubleUnaryOperator partiallyNaN = weight -> weight < 5.0 ? Double.NaN : weight;
+        for (DoubleUnaryOperator minMax : new DoubleUnaryOperator[]{tied, partiallyNaN}) {
+            var boruvka = new Boruvka(randomGraph, minMax, 0, concurrency, ProgressTracker.NULL_TRACKER).compute();
+
+            assertThat(boruvka.effectiveNodeCount).isEqualTo(prim.effectiveNodeCount);
+            var treeSize = new long[]{1L};
+            boruvka.forEach((parent, child) -> {
+                if (boruvka.head(child) == 0) {
+                    treeSize[0]++;
+                }
+                return true;
+            });
+            assertThat(treeSize[0]).isEqualTo(prim.effectiveNodeCount);
+        }
+    }
+
+    private static double totalWeight(Graph graph, SpanningTree spanningTree, long head) {
+        var weight = new double[]{0.0};
+        spanningTree.forEach((parent, child) -> {
+            if (spanningTree.head(child) == head) {
+                weight[0] += graph.relationshipProperty(parent, child, 0.0D);
+            }
+            return true;
+        });
+        return weight[0];
+    }
+}
@@ -102,6 +102,30 @@ class KSpanningTreeTest {
         assertNotEquals(spanningTree.head(b), spanningTree.head(x));
     }
 
+    @Test
+    void testConcurrentMaximumKSpanningTree() {
+        final SpanningTree spanningTree = new KSpanningTree(graph, graph, graph, Prim.MAX_OPERATOR, a, 2, 4, ProgressTracker.NULL_TRACKER)
+                .compute();
+
+        assertEquals(spanningTree.head(a), spanningTree.head(b));
+        assertEquals(spanningTree.head(c), spanningTree.head(d));
+        assertNotEquals(spanningTree.head(a), spanningTree.head(c));
+        assertNotEquals(spanningTree.head(a), spanningTree.head(x));
+        assertNotEquals(spanningTree.head(c), spanningTree.head(x));
+    }
+
+    @Test
+    void testConcurrentMinimumKSpanningTree() {
+        final SpanningTree spanningTree = new KSpanningTree(graph, graph, graph, Prim.MIN_OPERATOR, a, 2, 4, ProgressTracker.NULL_TRACKER)
+                .compute();
+
+        assertEquals(spanningTree.head(a), spanningTree.head(d));
+        assertEquals(spanningTree.head(b), spanningTree.head(c));
+        assertNotEquals(spanningTree.head(a), spanningTree.head(b));
+        assertNotEquals(spanningTree.head(a), spanningTree.head(x));
+        assertNotEquals(spanningTree.head(b), spanningTree.head(x));
+    }
+
     @Test
     @Disabled("Need to extend GdlGraph to generate offset node IDs and fix the test")
     void testNeoIdsWithOffset() {
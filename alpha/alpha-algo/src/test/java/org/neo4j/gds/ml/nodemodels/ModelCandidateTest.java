@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.ml.nodemodels;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.ml.nodemodels.metrics.AllClassMetric;
+import org.neo4j.gds.models.logisticregression.LogisticRegressionTrainConfig;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ModelCandidateTest {
+
+    private static final Metric ACCURACY = AllClassMetric.ACCURACY;
+
+    @Test
+    void shouldAverageOverTheEvaluatedFolds() {
+        var candidate = new ModelCandidate(LogisticRegressionTrainConfig.defaultConfig(), 2, ACCURACY);
+
+        candidate.update(Map.of(ACCURACY, 0.75), Map.of(ACCURACY, 0.6));
+        candidate.update(Map.of(ACCURACY, 0.25), Map.of(ACCURACY, 0.4));
+
+        assertThat(candidate.remainingFolds()).isEqualTo(0);
+        var validationStats = candidate.validationStats(ACCURACY);
+        assertThat(validationStats.avg()).isEqualTo(0.5);
+        assertThat(validationStats.min()).isEqualTo(0.4);
+        assertThat(validationStats.max()).isEqualTo(0.6);
+        assertThat(candidate.trainStats(ACCURACY).avg()).isEqualTo(0.5);
+    }
+
+    @Test
+    void shouldAbandonCandidatesWhichCannotWin() {
+        var bestCandidate = new ModelCandidate(LogisticRegressionTrainConfig.defaultConfig(), 3, ACCURACY);
+        var hopelessCandidate = new ModelCandidate(LogisticRegressionTrainConfig.defaultConfig(), 3, ACCURACY);
+        var candidates = List.of(bestCandidate, hopelessCandidate);
+
+        bestCandidate.update(Map.of(ACCURACY, 1.0), Map.of(ACCURACY, 0.9));
+        hopelessCandidate.update(Map.of(ACCURACY, 1.0), Map.of(ACCURACY, 0.1));
+
+        // after one fold, the hopeless candidate could still score up to 2.1 / 3
+        assertThat(ModelCandidate.abandonHopelessCandidates(candidates)).isEmpty();
+
+        bestCandidate.update(Map.of(ACCURACY, 1.0), Map.of(ACCURACY, 0.9));
+        hopelessCandidate.update(Map.of(ACCURACY, 1.0), Map.of(ACCURACY, 0.1));
+
+        // the best candidate scores at least 1.8 / 3, the hopeless one at most 1.2 / 3
+        assertThat(ModelCandidate.abandonHopelessCandidates(candidates)).containsExactly(hopelessCandidate);
+        assertThat(bestCandidate.isAbandoned()).isFalse();
+        assertThat(hopelessCandidate.isAbandoned()).isTrue();
+
+        // the stats of the abandoned candidate cover only the evaluated folds
+        assertThat(hopelessCandidate.evaluatedFolds()).isEqualTo(2);
+        assertThat(hopelessCandidate.validationStats(ACCURACY).avg()).isEqualTo(0.1);
+    }
+}
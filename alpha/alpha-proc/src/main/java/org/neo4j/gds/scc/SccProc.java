@@ -55,6 +55,7 @@ public abstract class SccProc<PROC_RESULT> extends NodePropertiesWriter<SccAlgor
             ) {
                 return new SccAlgorithm(
                     graph,
+                    configuration.concurrency(),
                     progressTracker
                 );
             }
@@ -119,7 +119,7 @@ public abstract class KSpanningTreeProc extends NodePropertiesWriter<KSpanningTr
 
                     @Override
                     public double doubleValue(long nodeId) {
-                        return spanningTree.head((int) nodeId);
+                        return spanningTree.head(nodeId);
                     }
                 };
 
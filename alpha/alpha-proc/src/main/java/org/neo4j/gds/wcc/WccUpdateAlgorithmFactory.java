@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.wcc;
+
+import org.neo4j.gds.GraphStoreAlgorithmFactory;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.core.utils.progress.tasks.Task;
+import org.neo4j.gds.core.utils.progress.tasks.Tasks;
+
+import java.util.Collection;
+import java.util.Optional;
+
+public class WccUpdateAlgorithmFactory<CONFIG extends WccBaseConfig> extends GraphStoreAlgorithmFactory<WccUpdate, CONFIG> {
+
+    @Override
+    public String taskName() {
+        return "WccUpdate";
+    }
+
+    @Override
+    public WccUpdate build(
+        GraphStore graphStore,
+        CONFIG configuration,
+        ProgressTracker progressTracker
+    ) {
+        var previousState = WccUpdateState.load(graphStore, configuration);
+        var addedRelationshipTypes = addedRelationshipTypes(graphStore, configuration, previousState);
+
+        Optional<Graph> addedRelationships = addedRelationshipTypes.isEmpty()
+            ? Optional.empty()
+            : Optional.of(graphStore.getGraph(
+                configuration.nodeLabelIdentifiers(graphStore),
+                addedRelationshipTypes,
+                Optional.ofNullable(configuration.relationshipWeightProperty())
+            ));
+
+        return new WccUpdate(
+            addedRelationships,
+            previousState.map(WccUpdateState::components).orElse(null),
+            Pools.DEFAULT,
+            ParallelUtil.DEFAULT_BATCH_SIZE,
+            configuration,
+            progressTracker
+        );
+    }
+
+    @Override
+    public Task progressTask(GraphStore graphStore, CONFIG config) {
+        var addedRelationshipCount = addedRelationshipTypes(graphStore, config, WccUpdateState.load(graphStore, config))
+            .stream()
+            .mapToLong(graphStore::relationshipCount)
+            .sum();
+        return Tasks.leaf(taskName(), addedRelationshipCount);
+    }
+
+    @Override
+    public MemoryEstimation memoryEstimation(CONFIG configuration) {
+        return Wcc.memoryEstimation(configuration.isIncremental());
+    }
+
+    private static Collection<RelationshipType> addedRelationshipTypes(
+        GraphStore graphStore,
+        WccBaseConfig config,
+        Optional<WccUpdateState> previousState
+    ) {
+        var relationshipTypes = config.internalRelationshipTypes(graphStore);
+        return previousState
+            .map(state -> state.addedRelationshipTypes(relationshipTypes))
+            .orElse(relationshipTypes);
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.wcc;
+
+import org.neo4j.gds.GraphStoreAlgorithmFactory;
+import org.neo4j.gds.MutatePropertyProc;
+import org.neo4j.gds.api.NodeProperties;
+import org.neo4j.gds.core.CypherMapWrapper;
+import org.neo4j.gds.core.utils.paged.dss.DisjointSetStruct;
+import org.neo4j.gds.executor.ComputationResult;
+import org.neo4j.gds.executor.ExecutionContext;
+import org.neo4j.gds.result.AbstractCommunityResultBuilder;
+import org.neo4j.gds.result.AbstractResultBuilder;
+import org.neo4j.gds.results.StandardMutateResult;
+import org.neo4j.internal.kernel.api.procs.ProcedureCallContext;
+import org.neo4j.procedure.Description;
+import org.neo4j.procedure.Name;
+import org.neo4j.procedure.Procedure;
+
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.neo4j.procedure.Mode.READ;
+
+public class WccUpdateMutateProc extends MutatePropertyProc<WccUpdate, DisjointSetStruct, WccUpdateMutateProc.MutateResult, WccMutateConfig> {
+
+    @Procedure(value = "gds.alpha.wcc.update.mutate", mode = READ)
+    @Description(WccUpdateProc.DESCRIPTION)
+    public Stream<MutateResult> mutate(
+        @Name(value = "graphName") String graphName,
+        @Name(value = "configuration", defaultValue = "{}") Map<String, Object> configuration
+    ) {
+        var computationResult = compute(graphName, configuration);
+        WccUpdateProc.storeState(computationResult);
+        return mutate(computationResult);
+    }
+
+    @Override
+    protected WccMutateConfig newConfig(String username, CypherMapWrapper config) {
+        return WccMutateConfig.of(config);
+    }
+
+    @Override
+    public GraphStoreAlgorithmFactory<WccUpdate, WccMutateConfig> algorithmFactory() {
+        return WccUpdateProc.algorithmFactory();
+    }
+
+    @Override
+    protected NodeProperties nodeProperties(ComputationResult<WccUpdate, DisjointSetStruct, WccMutateConfig> computationResult) {
+        return WccUpdateProc.nodeProperties(computationResult);
+    }
+
+    @Override
+    protected AbstractResultBuilder<MutateResult> resultBuilder(
+        ComputationResult<WccUpdate, DisjointSetStruct, WccMutateConfig> computeResult,
+        ExecutionContext executionContext
+    ) {
+        return WccUpdateProc.resultBuilder(
+            new MutateResult.Builder(executionContext.callContext(), computeResult.config().concurrency()),
+            computeResult
+        );
+    }
+
+    @SuppressWarnings("unused")
+    public static final class MutateResult extends StandardMutateResult {
+
+        public final long componentCount;
+        public final Map<String, Object> componentDistribution;
+        public final long nodePropertiesWritten;
+
+        MutateResult(
+            long componentCount,
+            Map<String, Object> componentDistribution,
+            long preProcessingMillis,
+            long computeMillis,
+            long postProcessingMillis,
+            long mutateMillis,
+            long nodePropertiesWritten,
+            Map<String, Object> configuration
+        ) {
+            super(preProcessingMillis, computeMillis, postProcessingMillis, mutateMillis, configuration);
+            this.componentCount = componentCount;
+            this.componentDistribution = componentDistribution;
+            this.nodePropertiesWritten = nodePropertiesWritten;
+        }
+
+        static class Builder extends AbstractCommunityResultBuilder<MutateResult> {
+
+            Builder(ProcedureCallContext context, int concurrency) {
+                super(context, concurrency);
+            }
+
+            @Override
+            protected MutateResult buildResult() {
+                return new MutateResult(
+                    maybeCommunityCount.orElse(0L),
+                    communityHistogramOrNull(),
+                    preProcessingMillis,
+                    computeMillis,
+                    postProcessingDuration,
+                    mutateMillis,
+                    nodePropertiesWritten,
+                    config.toMap()
+                );
+            }
+        }
+    }
+}
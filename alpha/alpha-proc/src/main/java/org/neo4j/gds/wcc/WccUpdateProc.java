@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.wcc;
+
+import org.neo4j.gds.api.NodeProperties;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.core.utils.paged.dss.DisjointSetStruct;
+import org.neo4j.gds.executor.ComputationResult;
+import org.neo4j.gds.nodeproperties.ConsecutiveLongNodeProperties;
+import org.neo4j.gds.result.AbstractCommunityResultBuilder;
+
+final class WccUpdateProc {
+
+    static final String DESCRIPTION =
+        "The WCC update applies relationship types that have been added to the graph since the previous run " +
+        "to the components of that run, without recomputing them from all relationships.";
+
+    private WccUpdateProc() {}
+
+    static <CONFIG extends WccBaseConfig> WccUpdateAlgorithmFactory<CONFIG> algorithmFactory() {
+        return new WccUpdateAlgorithmFactory<>();
+    }
+
+    /**
+     * Keeps the updated components in the graph catalog for the next run.
+     */
+    static <CONFIG extends WccBaseConfig> void storeState(ComputationResult<WccUpdate, DisjointSetStruct, CONFIG> computationResult) {
+        if (!computationResult.isGraphEmpty()) {
+            WccUpdateState.store(
+                computationResult.graphStore(),
+                computationResult.config(),
+                computationResult.result()
+            );
+        }
+    }
+
+    static <PROC_RESULT, CONFIG extends WccBaseConfig> AbstractCommunityResultBuilder<PROC_RESULT> resultBuilder(
+        AbstractCommunityResultBuilder<PROC_RESULT> procResultBuilder,
+        ComputationResult<WccUpdate, DisjointSetStruct, CONFIG> computationResult
+    ) {
+        return procResultBuilder.withCommunityFunction(!computationResult.isGraphEmpty() ? computationResult.result()::setIdOf : null);
+    }
+
+    static <CONFIG extends WccBaseConfig> NodeProperties nodeProperties(ComputationResult<WccUpdate, DisjointSetStruct, CONFIG> computationResult) {
+        var components = computationResult.result();
+        var config = computationResult.config();
+        var nodeCount = components.size();
+
+        // The components are updated in place by later runs, hence we return a snapshot of the current set ids.
+        var setIds = HugeLongArray.newArray(nodeCount);
+        ParallelUtil.parallelForEachNode(nodeCount, config.concurrency(), nodeId -> setIds.set(nodeId, components.setIdOf(nodeId)));
+
+        return config.consecutiveIds()
+            ? new ConsecutiveLongNodeProperties(setIds.asNodeProperties(), nodeCount)
+            : setIds.asNodeProperties();
+    }
+}
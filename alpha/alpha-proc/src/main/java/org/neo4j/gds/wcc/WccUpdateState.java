@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.wcc;
+
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.core.loading.GraphStoreCatalog;
+import org.neo4j.gds.core.utils.paged.dss.DisjointSetStruct;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * The components of the last WCC update on a graph store together with the relationships they were computed from.
+ * The state is kept in the graph catalog next to the graph store, one per selection of node labels.
+ * Relationship types are expected to be append-only: a type is considered unchanged as long as its
+ * relationship count did not change.
+ */
+final class WccUpdateState {
+
+    private static final String STATE_KEY = "wcc.update";
+
+    private final DisjointSetStruct components;
+    private final Map<RelationshipType, Long> relationshipCounts;
+    private final @Nullable String relationshipWeightProperty;
+    private final double threshold;
+
+    private WccUpdateState(
+        DisjointSetStruct components,
+        Map<RelationshipType, Long> relationshipCounts,
+        @Nullable String relationshipWeightProperty,
+        double threshold
+    ) {
+        this.components = components;
+        this.relationshipCounts = relationshipCounts;
+        this.relationshipWeightProperty = relationshipWeightProperty;
+        this.threshold = threshold;
+    }
+
+    /**
+     * Returns the previous state if its components can be updated for the given configuration,
+     * i.e. they have been computed from a subset of the selected relationship types with the same threshold.
+     */
+    static Optional<WccUpdateState> load(GraphStore graphStore, WccBaseConfig config) {
+        var relationshipTypes = config.internalRelationshipTypes(graphStore);
+        return GraphStoreCatalog
+            .getAlgorithmState(graphStore, stateKey(config.nodeLabelIdentifiers(graphStore)), WccUpdateState.class)
+            .filter(state -> Objects.equals(state.relationshipWeightProperty, config.relationshipWeightProperty()))
+            .filter(state -> Double.compare(state.threshold, config.threshold()) == 0)
+            .filter(state -> relationshipTypes.containsAll(state.relationshipCounts.keySet()))
+            .filter(state -> state.relationshipCounts
+                .entrySet()
+                .stream()
+                .allMatch(entry -> graphStore.relationshipCount(entry.getKey()) == entry.getValue()));
+    }
+
+    static void store(GraphStore graphStore, WccBaseConfig config, DisjointSetStruct components) {
+        var relationshipCounts = config
+            .internalRelationshipTypes(graphStore)
+            .stream()
+            .collect(Collectors.toMap(type -> type, graphStore::relationshipCount));
+
+        GraphStoreCatalog.setAlgorithmState(
+            graphStore,
+            stateKey(config.nodeLabelIdentifiers(graphStore)),
+            new WccUpdateState(components, relationshipCounts, config.relationshipWeightProperty(), config.threshold())
+        );
+    }
+
+    DisjointSetStruct components() {
+        return components;
+    }
+
+    /**
+     * The selected relationship types which have not been applied to the components yet.
+     */
+    Collection<RelationshipType> addedRelationshipTypes(Collection<RelationshipType> relationshipTypes) {
+        return relationshipTypes
+            .stream()
+            .filter(type -> !relationshipCounts.containsKey(type))
+            .collect(Collectors.toList());
+    }
+
+    private static String stateKey(Collection<NodeLabel> nodeLabels) {
+        return nodeLabels
+            .stream()
+            .map(NodeLabel::name)
+            .sorted()
+            .collect(Collectors.joining(",", STATE_KEY + "[", "]"));
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.wcc;
+
+import org.neo4j.gds.GraphStoreAlgorithmFactory;
+import org.neo4j.gds.StreamProc;
+import org.neo4j.gds.api.NodeProperties;
+import org.neo4j.gds.core.CypherMapWrapper;
+import org.neo4j.gds.core.utils.paged.dss.DisjointSetStruct;
+import org.neo4j.gds.executor.ComputationResult;
+import org.neo4j.procedure.Description;
+import org.neo4j.procedure.Name;
+import org.neo4j.procedure.Procedure;
+
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.neo4j.procedure.Mode.READ;
+
+public class WccUpdateStreamProc extends StreamProc<WccUpdate, DisjointSetStruct, WccUpdateStreamProc.StreamResult, WccStreamConfig> {
+
+    @Procedure(value = "gds.alpha.wcc.update.stream", mode = READ)
+    @Description(WccUpdateProc.DESCRIPTION)
+    public Stream<StreamResult> stream(
+        @Name(value = "graphName") String graphName,
+        @Name(value = "configuration", defaultValue = "{}") Map<String, Object> configuration
+    ) {
+        var computationResult = compute(graphName, configuration);
+        WccUpdateProc.storeState(computationResult);
+        return stream(computationResult);
+    }
+
+    @Override
+    protected WccStreamConfig newConfig(String username, CypherMapWrapper config) {
+        return WccStreamConfig.of(config);
+    }
+
+    @Override
+    public GraphStoreAlgorithmFactory<WccUpdate, WccStreamConfig> algorithmFactory() {
+        return WccUpdateProc.algorithmFactory();
+    }
+
+    @Override
+    protected StreamResult streamResult(long originalNodeId, long internalNodeId, NodeProperties nodeProperties) {
+        return new StreamResult(originalNodeId, nodeProperties.longValue(internalNodeId));
+    }
+
+    @Override
+    protected NodeProperties nodeProperties(ComputationResult<WccUpdate, DisjointSetStruct, WccStreamConfig> computationResult) {
+        return WccUpdateProc.nodeProperties(computationResult);
+    }
+
+    @SuppressWarnings("unused")
+    public static class StreamResult {
+
+        public final long nodeId;
+
+        public final long componentId;
+
+        StreamResult(long nodeId, long componentId) {
+            this.nodeId = nodeId;
+            this.componentId = componentId;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.wcc;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.BaseProcTest;
+import org.neo4j.gds.catalog.GraphProjectProc;
+import org.neo4j.gds.core.CypherMapWrapper;
+import org.neo4j.gds.core.loading.GraphStoreCatalog;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WccUpdateProcTest extends BaseProcTest {
+
+    private static final String DB_CYPHER =
+        "CREATE" +
+        "  (a:Node {name: 'a'})" +
+        ", (b:Node {name: 'b'})" +
+        ", (c:Node {name: 'c'})" +
+        ", (d:Node {name: 'd'})" +
+        ", (e:Node {name: 'e'})" +
+        ", (a)-[:INITIAL]->(b)" +
+        ", (c)-[:INITIAL]->(d)" +
+        ", (b)-[:ADDED]->(c)";
+
+    @BeforeEach
+    void setup() throws Exception {
+        runQuery(DB_CYPHER);
+        registerProcedures(WccUpdateStreamProc.class, WccUpdateMutateProc.class, GraphProjectProc.class);
+        runQuery("CALL gds.graph.project('graph', 'Node', ['INITIAL', 'ADDED'])");
+    }
+
+    @Test
+    void shouldApplyAddedRelationshipTypesToPreviousComponents() {
+        var initial = streamComponents(List.of("INITIAL"));
+        assertThat(initial.get("a")).isEqualTo(initial.get("b"));
+        assertThat(initial.get("c")).isEqualTo(initial.get("d"));
+        assertThat(initial.get("a")).isNotEqualTo(initial.get("c"));
+
+        var previousComponents = storedComponents(List.of("INITIAL"));
+
+        var updated = streamComponents(List.of("INITIAL", "ADDED"));
+        assertThat(updated.get("a"))
+            .isEqualTo(updated.get("b"))
+            .isEqualTo(updated.get("c"))
+            .isEqualTo(updated.get("d"))
+            .isNotEqualTo(updated.get("e"));
+
+        assertThat(storedComponents(List.of("INITIAL", "ADDED"))).isSameAs(previousComponents);
+    }
+
+    @Test
+    void shouldRecomputeWhenRelationshipTypesAreRemovedFromTheSelection() {
+        streamComponents(List.of("INITIAL", "ADDED"));
+
+        var components = streamComponents(List.of("INITIAL"));
+        assertThat(components.get("a")).isEqualTo(components.get("b"));
+        assertThat(components.get("a")).isNotEqualTo(components.get("c"));
+    }
+
+    @Test
+    void shouldMutateUpdatedComponents() {
+        streamComponents(List.of("INITIAL"));
+
+        var query = "CALL gds.alpha.wcc.update.mutate('graph', {mutateProperty: 'component'}) " +
+                    "YIELD componentCount, nodePropertiesWritten";
+        assertCypherResult(query, List.of(Map.of(
+            "componentCount", 2L,
+            "nodePropertiesWritten", 5L
+        )));
+
+        var graphStore = GraphStoreCatalog.get(getUsername(), db.databaseId(), "graph").graphStore();
+        assertThat(graphStore.hasNodeProperty(graphStore.nodeLabels(), "component")).isTrue();
+    }
+
+    private Map<String, Long> streamComponents(List<String> relationshipTypes) {
+        var components = new HashMap<String, Long>();
+        runQueryWithRowConsumer(
+            "CALL gds.alpha.wcc.update.stream('graph', {relationshipTypes: $types}) YIELD nodeId, componentId " +
+            "MATCH (n) WHERE id(n) = nodeId " +
+            "RETURN n.name AS name, componentId",
+            Map.of("types", relationshipTypes),
+            row -> components.put(row.getString("name"), row.getNumber("componentId").longValue())
+        );
+        return components;
+    }
+
+    private Object storedComponents(List<String> relationshipTypes) {
+        var graphStore = GraphStoreCatalog.get(getUsername(), db.databaseId(), "graph").graphStore();
+        var config = WccStreamConfig.of(CypherMapWrapper.create(Map.of("relationshipTypes", relationshipTypes)));
+        return WccUpdateState.load(graphStore, config).map(WccUpdateState::components).orElseThrow();
+    }
+}
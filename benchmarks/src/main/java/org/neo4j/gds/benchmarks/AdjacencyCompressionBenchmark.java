@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.benchmarks;
+
+import org.neo4j.gds.core.Aggregation;
+import org.neo4j.gds.core.compress.LongArrayBuffer;
+import org.neo4j.gds.core.loading.AdjacencyCompression;
+import org.neo4j.gds.core.loading.VarLongEncoding;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Delta encodes and compresses a single unsorted adjacency list of {@code degree} targets,
+ * which is the per-node work of {@code DeltaVarLongCompressor}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class AdjacencyCompressionBenchmark {
+
+    @Param({"16", "1024", "65536"})
+    public int degree;
+
+    @Param({"1000000", "1000000000"})
+    public long nodeCount;
+
+    private long[] targets;
+    private LongArrayBuffer buffer;
+    private byte[] out;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        var random = new SplittableRandom(BenchmarkGraphs.SEED);
+        targets = new long[degree];
+        for (int i = 0; i < degree; i++) {
+            targets[i] = random.nextLong(nodeCount);
+        }
+        buffer = new LongArrayBuffer();
+        buffer.ensureCapacity(degree);
+        // upper bound, each target compresses into at most 10 bytes
+        out = new byte[degree * VarLongEncoding.encodedVLongSize(Long.MAX_VALUE)];
+    }
+
+    @Setup(Level.Invocation)
+    public void resetBuffer() {
+        System.arraycopy(targets, 0, buffer.buffer, 0, degree);
+        buffer.length = degree;
+    }
+
+    @Benchmark
+    public int deltaEncodeAndCompress() {
+        AdjacencyCompression.applyDeltaEncoding(buffer, Aggregation.NONE);
+        return AdjacencyCompression.compress(buffer, out);
+    }
+
+    @Benchmark
+    public int deltaEncodeAndCompressAggregated() {
+        AdjacencyCompression.applyDeltaEncoding(buffer, Aggregation.SINGLE);
+        return AdjacencyCompression.compress(buffer, out);
+    }
+}
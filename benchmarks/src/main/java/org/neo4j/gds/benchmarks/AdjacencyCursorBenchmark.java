@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.benchmarks;
+
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.api.AdjacencyCursor;
+import org.neo4j.gds.api.AdjacencyList;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.neo4j.gds.core.huge.HugeGraph;
+import org.neo4j.gds.utils.GdsFeatureToggles;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures a full scan over all adjacency lists of a generated graph
+ * using the different access methods of the {@link org.neo4j.gds.api.AdjacencyCursor}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class AdjacencyCursorBenchmark {
+
+    @Param({"1000000"})
+    public long nodeCount;
+
+    @Param({"10", "100"})
+    public long averageDegree;
+
+    @Param({"UNIFORM", "POWER_LAW"})
+    public RelationshipDistribution relationshipDistribution;
+
+    @Param({"false", "true"})
+    public boolean packedAdjacencyList;
+
+    private HugeGraph graph;
+    private AdjacencyList adjacencyList;
+    private AdjacencyCursor cursor;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        GdsFeatureToggles.USE_PACKED_ADJACENCY_LIST.toggle(packedAdjacencyList);
+        graph = BenchmarkGraphs.generate(nodeCount, averageDegree, relationshipDistribution, Orientation.NATURAL);
+        adjacencyList = graph.relationshipTopology().adjacencyList();
+        cursor = adjacencyList.rawAdjacencyCursor();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        graph.release();
+        GdsFeatureToggles.USE_PACKED_ADJACENCY_LIST.reset();
+    }
+
+    @Benchmark
+    public long next() {
+        long sum = 0L;
+        for (long node = 0; node < nodeCount; node++) {
+            var current = adjacencyList.adjacencyCursor(cursor, node, Double.NaN);
+            while (current.hasNextVLong()) {
+                sum += current.nextVLong();
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long peekAndNext() {
+        long sum = 0L;
+        for (long node = 0; node < nodeCount; node++) {
+            var current = adjacencyList.adjacencyCursor(cursor, node, Double.NaN);
+            while (current.hasNextVLong()) {
+                sum += current.peekVLong();
+                current.nextVLong();
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public void advanceToMiddle(Blackhole blackhole) {
+        long middle = nodeCount / 2;
+        for (long node = 0; node < nodeCount; node++) {
+            var current = adjacencyList.adjacencyCursor(cursor, node, Double.NaN);
+            blackhole.consume(current.advance(middle));
+        }
+    }
+
+    @Benchmark
+    public void skipUntilMiddle(Blackhole blackhole) {
+        long middle = nodeCount / 2;
+        for (long node = 0; node < nodeCount; node++) {
+            var current = adjacencyList.adjacencyCursor(cursor, node, Double.NaN);
+            blackhole.consume(current.skipUntil(middle));
+        }
+    }
+
+    @Benchmark
+    public long degree() {
+        long sum = 0L;
+        for (long node = 0; node < nodeCount; node++) {
+            sum += adjacencyList.degree(node);
+        }
+        return sum;
+    }
+}
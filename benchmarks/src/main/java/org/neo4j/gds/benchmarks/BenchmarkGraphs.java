@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.benchmarks;
+
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.beta.generator.PropertyProducer;
+import org.neo4j.gds.beta.generator.RandomGraphGenerator;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.neo4j.gds.config.RandomGraphGeneratorConfig.AllowSelfLoops;
+import org.neo4j.gds.core.Aggregation;
+import org.neo4j.gds.core.huge.HugeGraph;
+
+final class BenchmarkGraphs {
+
+    static final long SEED = 42L;
+
+    static final String EMBEDDING_PROPERTY = "embedding";
+
+    private BenchmarkGraphs() {}
+
+    static HugeGraph generate(
+        long nodeCount,
+        long averageDegree,
+        RelationshipDistribution relationshipDistribution,
+        Orientation orientation
+    ) {
+        return RandomGraphGenerator.builder()
+            .nodeCount(nodeCount)
+            .averageDegree(averageDegree)
+            .relationshipDistribution(relationshipDistribution)
+            .orientation(orientation)
+            .aggregation(Aggregation.SINGLE)
+            .allowSelfLoops(AllowSelfLoops.NO)
+            .seed(SEED)
+            .build()
+            .generate();
+    }
+
+    static HugeGraph generateWithEmbeddings(
+        long nodeCount,
+        long averageDegree,
+        RelationshipDistribution relationshipDistribution,
+        int embeddingDimension
+    ) {
+        return RandomGraphGenerator.builder()
+            .nodeCount(nodeCount)
+            .averageDegree(averageDegree)
+            .relationshipDistribution(relationshipDistribution)
+            .orientation(Orientation.NATURAL)
+            .aggregation(Aggregation.SINGLE)
+            .allowSelfLoops(AllowSelfLoops.NO)
+            .nodePropertyProducer(PropertyProducer.randomEmbedding(EMBEDDING_PROPERTY, embeddingDimension, -1.0F, 1.0F))
+            .seed(SEED)
+            .build()
+            .generate();
+    }
+}
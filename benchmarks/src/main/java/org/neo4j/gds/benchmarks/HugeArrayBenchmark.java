@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.benchmarks;
+
+import org.neo4j.gds.core.utils.paged.HugeAtomicLongArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.core.utils.paged.LongPageCreator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sequential and random access on {@link org.neo4j.gds.core.utils.paged.HugeLongArray}
+ * and {@link org.neo4j.gds.core.utils.paged.HugeAtomicLongArray}.
+ * Sizes above {@code 2^28} elements are backed by the paged implementations,
+ * unless {@code offHeap} selects the implementations that are backed by native memory.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g", "-XX:MaxDirectMemorySize=8g"})
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class HugeArrayBenchmark {
+
+    @Param({"10000000", "300000000"})
+    public long size;
+
+    @Param({"false", "true"})
+    public boolean offHeap;
+
+    private HugeLongArray array;
+    private HugeAtomicLongArray atomicArray;
+    private long[] randomIndices;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        array = offHeap ? HugeLongArray.newOffHeapArray(size) : HugeLongArray.newArray(size);
+        array.setAll(index -> index);
+        atomicArray = offHeap
+            ? HugeAtomicLongArray.newOffHeapArray(size, LongPageCreator.passThrough(1))
+            : HugeAtomicLongArray.newArray(size);
+        for (long i = 0; i < size; i++) {
+            atomicArray.set(i, i);
+        }
+
+        var random = new SplittableRandom(BenchmarkGraphs.SEED);
+        randomIndices = new long[1 << 20];
+        for (int i = 0; i < randomIndices.length; i++) {
+            randomIndices[i] = random.nextLong(size);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        array.release();
+        atomicArray.release();
+    }
+
+    @Benchmark
+    public long get() {
+        long sum = 0L;
+        for (long i = 0; i < size; i++) {
+            sum += array.get(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long getRandom() {
+        long sum = 0L;
+        for (long index : randomIndices) {
+            sum += array.get(index);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public HugeLongArray set() {
+        for (long i = 0; i < size; i++) {
+            array.set(i, i);
+        }
+        return array;
+    }
+
+    @Benchmark
+    public long cursor() {
+        long sum = 0L;
+        try (var cursor = array.initCursor(array.newCursor())) {
+            while (cursor.next()) {
+                long[] page = cursor.array;
+                int limit = cursor.limit;
+                for (int i = cursor.offset; i < limit; i++) {
+                    sum += page[i];
+                }
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long atomicGet() {
+        long sum = 0L;
+        for (long i = 0; i < size; i++) {
+            sum += atomicArray.get(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public HugeAtomicLongArray atomicSet() {
+        for (long i = 0; i < size; i++) {
+            atomicArray.set(i, i);
+        }
+        return atomicArray;
+    }
+
+    @Benchmark
+    public HugeAtomicLongArray atomicGetAndAddRandom() {
+        for (long index : randomIndices) {
+            atomicArray.getAndAdd(index, 1L);
+        }
+        return atomicArray;
+    }
+
+    @Benchmark
+    public long atomicCursor() {
+        long sum = 0L;
+        try (var cursor = atomicArray.initCursor(atomicArray.newCursor())) {
+            while (cursor.next()) {
+                long[] page = cursor.array;
+                int limit = cursor.limit;
+                for (int i = cursor.offset; i < limit; i++) {
+                    sum += page[i];
+                }
+            }
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.benchmarks;
+
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.neo4j.gds.core.huge.HugeGraph;
+import org.neo4j.gds.similarity.knn.ImmutableKnnBaseConfig;
+import org.neo4j.gds.similarity.knn.ImmutableKnnContext;
+import org.neo4j.gds.similarity.knn.Knn;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end run of Knn using cosine similarity over random {@code float[]} embeddings.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xms16g", "-Xmx16g"})
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class KnnBenchmark {
+
+    @Param({"100000"})
+    public long nodeCount;
+
+    @Param({"64", "256"})
+    public int embeddingDimension;
+
+    @Param({"10"})
+    public int topK;
+
+    @Param({"4"})
+    public int concurrency;
+
+    private HugeGraph graph;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        graph = BenchmarkGraphs.generateWithEmbeddings(
+            nodeCount,
+            1,
+            RelationshipDistribution.UNIFORM,
+            embeddingDimension
+        );
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        graph.release();
+    }
+
+    @Benchmark
+    public Knn.Result knn() {
+        var config = ImmutableKnnBaseConfig.builder()
+            .nodeProperties(List.of(BenchmarkGraphs.EMBEDDING_PROPERTY))
+            .topK(topK)
+            .concurrency(concurrency)
+            .build();
+
+        return new Knn(graph, config, ImmutableKnnContext.builder().build()).compute();
+    }
+}
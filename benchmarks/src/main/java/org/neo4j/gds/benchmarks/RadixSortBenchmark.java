@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.benchmarks;
+
+import org.neo4j.gds.core.loading.RadixSort;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sorts a relationship batch buffer the same way {@code RelationshipsBatchBuffer} does during import.
+ * The buffer holds {@code batchSize} (source, target) pairs with random ids below {@code nodeCount}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class RadixSortBenchmark {
+
+    @Param({"10000", "100000"})
+    public int batchSize;
+
+    @Param({"1000000", "1000000000"})
+    public long nodeCount;
+
+    private long[] input;
+    private long[] data;
+    private long[] dataCopy;
+    private long[] relationshipReferences;
+    private long[] relationshipReferencesCopy;
+    private long[][] propertyReferences;
+    private long[][] propertyReferencesCopy;
+    private int[] histogram;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        int length = 2 * batchSize;
+        var random = new SplittableRandom(BenchmarkGraphs.SEED);
+        input = new long[length];
+        for (int i = 0; i < length; i++) {
+            input[i] = random.nextLong(nodeCount);
+        }
+        data = new long[length];
+        dataCopy = RadixSort.newCopy(data);
+        relationshipReferences = new long[batchSize];
+        relationshipReferencesCopy = RadixSort.newCopy(relationshipReferences);
+        propertyReferences = new long[batchSize][];
+        propertyReferencesCopy = RadixSort.newCopy(propertyReferences);
+        histogram = RadixSort.newHistogram(length);
+    }
+
+    @Setup(Level.Invocation)
+    public void resetBuffer() {
+        System.arraycopy(input, 0, data, 0, input.length);
+    }
+
+    @Benchmark
+    public long[] sortBySource() {
+        RadixSort.radixSort(
+            data,
+            dataCopy,
+            relationshipReferences,
+            relationshipReferencesCopy,
+            propertyReferences,
+            propertyReferencesCopy,
+            histogram,
+            data.length
+        );
+        return data;
+    }
+
+    @Benchmark
+    public long[] sortByTarget() {
+        RadixSort.radixSort2(
+            data,
+            dataCopy,
+            relationshipReferences,
+            relationshipReferencesCopy,
+            propertyReferences,
+            propertyReferencesCopy,
+            histogram,
+            data.length
+        );
+        return data;
+    }
+}
@@ -82,6 +82,24 @@ public interface AdjacencyProperties extends AutoCloseable {
      */
     PropertyCursor rawPropertyCursor();
 
+    /**
+     * Read the property of the relationship at position {@code index} within the relationships of a given {@code node}.
+     * The value is encoded the same way as the values produced by {@link PropertyCursor#nextLong()}.
+     *
+     * Implementations that store the properties at fixed positions should override this to avoid the cursor.
+     *
+     * Undefined behavior if the node does not exist.
+     * Undefined behavior if the node has not more than {@code index} relationships.
+     */
+    default long propertyValue(long node, int index) {
+        try (var cursor = propertyCursor(node)) {
+            for (int i = 0; i < index; i++) {
+                cursor.nextLong();
+            }
+            return cursor.nextLong();
+        }
+    }
+
     @Override
     void close();
 }
@@ -19,6 +19,7 @@
  */
 package org.neo4j.gds.api;
 
+import org.apache.commons.lang3.mutable.MutableInt;
 import org.neo4j.gds.RelationshipType;
 import org.neo4j.gds.api.schema.GraphSchema;
 import org.neo4j.gds.core.huge.NodeFilteredGraph;
@@ -59,6 +60,28 @@ public interface Graph extends IdMap, NodePropertyContainer, Degrees, Relationsh
 
     boolean isUndirected();
 
+    /**
+     * Whether the incoming relationships of every node can be traversed using
+     * {@link #forEachInverseRelationship(long, RelationshipConsumer)}.
+     * This is the case for undirected graphs and for relationships projected with {@code indexInverse}.
+     */
+    default boolean isInverseIndexed() {
+        return false;
+    }
+
+    /**
+     * The number of incoming relationships of the given node.
+     * Only supported if the incoming relationships have been indexed, see {@link #isInverseIndexed()}.
+     */
+    default int degreeInverse(long nodeId) {
+        var degree = new MutableInt();
+        forEachInverseRelationship(nodeId, (sourceNodeId, targetNodeId) -> {
+            degree.increment();
+            return true;
+        });
+        return degree.intValue();
+    }
+
     /**
      * Whether the graph is guaranteed to have no parallel relationships.
      * If this returns {@code false} it still may be parallel-free, but we do not know.
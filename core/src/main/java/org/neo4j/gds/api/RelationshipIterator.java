@@ -45,6 +45,20 @@ public interface RelationshipIterator extends RelationshipPredicate {
 
     Stream<RelationshipCursor> streamRelationships(long nodeId, double fallbackValue);
 
+    /**
+     * Calls the given consumer function for every relationship pointing to the given node.
+     * The consumer receives the given node as first and the source node of the relationship as second argument.
+     * Only supported if the incoming relationships have been indexed, see {@link Graph#isInverseIndexed()}.
+     *
+     * @param nodeId id of the node for which to iterate the incoming relationships
+     * @param consumer relationship consumer function
+     */
+    default void forEachInverseRelationship(long nodeId, RelationshipConsumer consumer) {
+        throw new UnsupportedOperationException(
+            "Iterating incoming relationships requires a projection with an inverse index."
+        );
+    }
+
     /**
      * @return a copy of this iterator that reuses new cursors internally,
      *         so that iterations happen independent from other iterations.
@@ -55,12 +55,33 @@ public interface Relationships {
         AdjacencyList adjacencyList,
         @Nullable AdjacencyProperties adjacencyProperties,
         double defaultPropertyValue
+    ) {
+        return of(
+            relationshipCount,
+            orientation,
+            isMultiGraph,
+            adjacencyList,
+            null,
+            adjacencyProperties,
+            defaultPropertyValue
+        );
+    }
+
+    static Relationships of(
+        long relationshipCount,
+        Orientation orientation,
+        boolean isMultiGraph,
+        AdjacencyList adjacencyList,
+        @Nullable AdjacencyList inverseAdjacencyList,
+        @Nullable AdjacencyProperties adjacencyProperties,
+        double defaultPropertyValue
     ) {
         Topology topology = ImmutableTopology.of(
             adjacencyList,
             relationshipCount,
             orientation,
-            isMultiGraph
+            isMultiGraph,
+            Optional.ofNullable(inverseAdjacencyList)
         );
 
         Optional<Properties> maybePropertyCSR = adjacencyProperties != null
@@ -84,6 +105,11 @@ public interface Relationships {
         Orientation orientation();
 
         boolean isMultiGraph();
+
+        /**
+         * The incoming relationships of every node, if the projection was built with an inverse index.
+         */
+        Optional<AdjacencyList> inverseAdjacencyList();
     }
 
     @ValueClass
@@ -53,6 +53,12 @@ public interface GraphProjectFromGraphConfig extends GraphProjectConfig {
         return ConcurrencyConfig.DEFAULT_CONCURRENCY;
     }
 
+    @Value.Default
+    @Value.Parameter(false)
+    default boolean view() {
+        return false;
+    }
+
     @Value.Check
     default void validateReadConcurrency() {
         ConcurrencyValidatorService.validator().validate(concurrency(), "concurrency", ConcurrencyConfig.CONCURRENCY_LIMITATION);
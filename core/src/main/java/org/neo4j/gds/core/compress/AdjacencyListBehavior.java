@@ -23,20 +23,26 @@ import org.neo4j.gds.PropertyMappings;
 import org.neo4j.gds.RelationshipType;
 import org.neo4j.gds.core.Aggregation;
 import org.neo4j.gds.core.huge.CompressedAdjacencyList;
+import org.neo4j.gds.core.huge.MappedAdjacencyList;
+import org.neo4j.gds.core.huge.PackedAdjacencyList;
 import org.neo4j.gds.core.huge.UncompressedAdjacencyList;
 import org.neo4j.gds.core.loading.CompressedAdjacencyListBuilderFactory;
+import org.neo4j.gds.core.loading.DeltaBitPackCompressor;
 import org.neo4j.gds.core.loading.DeltaVarLongCompressor;
+import org.neo4j.gds.core.loading.MappedAdjacencyListBuilderFactory;
+import org.neo4j.gds.core.loading.PackedAdjacencyListBuilderFactory;
 import org.neo4j.gds.core.loading.RawCompressor;
 import org.neo4j.gds.core.loading.UncompressedAdjacencyListBuilderFactory;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
 import org.neo4j.gds.utils.GdsFeatureToggles;
 
+import java.nio.file.Path;
 import java.util.function.LongSupplier;
 import java.util.stream.Stream;
 
 /**
  * Manages different configurations of adjacency list building,
- * i.e., compressed or uncompressed.
+ * i.e., compressed, bit-packed, memory-mapped or uncompressed.
  */
 public interface AdjacencyListBehavior {
 
@@ -47,9 +53,16 @@ public interface AdjacencyListBehavior {
     ) {
         var noAggregation = Stream.of(aggregations).allMatch(aggregation -> aggregation == Aggregation.NONE);
 
-        return GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST.isEnabled()
-            ? uncompressed(nodeCountSupplier, propertyMappings, aggregations, noAggregation)
-            : compressed(nodeCountSupplier, propertyMappings, aggregations, noAggregation);
+        if (GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST.isEnabled()) {
+            return uncompressed(nodeCountSupplier, propertyMappings, aggregations, noAggregation);
+        }
+        if (GdsFeatureToggles.USE_PACKED_ADJACENCY_LIST.isEnabled()) {
+            return packed(nodeCountSupplier, propertyMappings, aggregations, noAggregation);
+        }
+        if (GdsFeatureToggles.USE_MAPPED_ADJACENCY_LIST.isEnabled()) {
+            return mapped(nodeCountSupplier, propertyMappings, aggregations, noAggregation);
+        }
+        return compressed(nodeCountSupplier, propertyMappings, aggregations, noAggregation);
     }
 
     static AdjacencyCompressorFactory compressed(
@@ -67,6 +80,36 @@ public interface AdjacencyListBehavior {
         );
     }
 
+    static AdjacencyCompressorFactory packed(
+        LongSupplier nodeCountSupplier,
+        PropertyMappings propertyMappings,
+        Aggregation[] aggregations,
+        boolean noAggregation
+    ) {
+        return DeltaBitPackCompressor.factory(
+            nodeCountSupplier,
+            PackedAdjacencyListBuilderFactory.of(),
+            propertyMappings,
+            aggregations,
+            noAggregation
+        );
+    }
+
+    static AdjacencyCompressorFactory mapped(
+        LongSupplier nodeCountSupplier,
+        PropertyMappings propertyMappings,
+        Aggregation[] aggregations,
+        boolean noAggregation
+    ) {
+        return DeltaVarLongCompressor.factory(
+            nodeCountSupplier,
+            MappedAdjacencyListBuilderFactory.of(Path.of(GdsFeatureToggles.MAPPED_ADJACENCY_LIST_DIRECTORY.get())),
+            propertyMappings,
+            aggregations,
+            noAggregation
+        );
+    }
+
     static AdjacencyCompressorFactory uncompressed(
         LongSupplier nodeCountSupplier,
         PropertyMappings propertyMappings,
@@ -83,15 +126,29 @@ public interface AdjacencyListBehavior {
     }
 
     static MemoryEstimation adjacencyListEstimation(long avgDegree, long nodeCount) {
-        return GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST.isEnabled()
-            ? UncompressedAdjacencyList.adjacencyListEstimation(avgDegree, nodeCount)
-            : CompressedAdjacencyList.adjacencyListEstimation(avgDegree, nodeCount);
+        if (GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST.isEnabled()) {
+            return UncompressedAdjacencyList.adjacencyListEstimation(avgDegree, nodeCount);
+        }
+        if (GdsFeatureToggles.USE_PACKED_ADJACENCY_LIST.isEnabled()) {
+            return PackedAdjacencyList.adjacencyListEstimation(avgDegree, nodeCount);
+        }
+        if (GdsFeatureToggles.USE_MAPPED_ADJACENCY_LIST.isEnabled()) {
+            return MappedAdjacencyList.adjacencyListEstimation(avgDegree, nodeCount);
+        }
+        return CompressedAdjacencyList.adjacencyListEstimation(avgDegree, nodeCount);
     }
 
     static MemoryEstimation adjacencyListEstimation(RelationshipType relationshipType, boolean undirected) {
-        return GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST.isEnabled()
-            ? UncompressedAdjacencyList.adjacencyListEstimation(relationshipType, undirected)
-            : CompressedAdjacencyList.adjacencyListEstimation(relationshipType, undirected);
+        if (GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST.isEnabled()) {
+            return UncompressedAdjacencyList.adjacencyListEstimation(relationshipType, undirected);
+        }
+        if (GdsFeatureToggles.USE_PACKED_ADJACENCY_LIST.isEnabled()) {
+            return PackedAdjacencyList.adjacencyListEstimation(relationshipType, undirected);
+        }
+        if (GdsFeatureToggles.USE_MAPPED_ADJACENCY_LIST.isEnabled()) {
+            return MappedAdjacencyList.adjacencyListEstimation(relationshipType, undirected);
+        }
+        return CompressedAdjacencyList.adjacencyListEstimation(relationshipType, undirected);
     }
 
     static MemoryEstimation adjacencyPropertiesEstimation(RelationshipType relationshipType, boolean undirected) {
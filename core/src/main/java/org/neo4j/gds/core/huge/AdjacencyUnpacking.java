@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.huge;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+/**
+ * Decodes blocks written by {@link org.neo4j.gds.core.loading.AdjacencyPacking}.
+ */
+final class AdjacencyUnpacking {
+
+    private static final VarHandle LONGS = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    /**
+     * Unpacks a single block of {@code limit} deltas starting at {@code offset},
+     * adds them up starting from {@code startValue} and writes the resulting target ids into {@code out}.
+     * The {@code words} buffer needs to hold at least {@code 1 + limit} values.
+     *
+     * @return the offset of the next block
+     */
+    static int unpackDeltaBlock(
+        long startValue,
+        byte[] adjacencyPage,
+        int offset,
+        int limit,
+        long[] out,
+        long[] words
+    ) {
+        int bits = adjacencyPage[offset++];
+        if (bits == 0) {
+            Arrays.fill(out, 0, limit, startValue);
+            return offset;
+        }
+
+        int wordCount = (int) (((long) limit * bits + Long.SIZE - 1) >>> 6);
+        for (int i = 0; i < wordCount; i++) {
+            words[i] = (long) LONGS.get(adjacencyPage, offset);
+            offset += Long.BYTES;
+        }
+
+        long mask = -1L >>> (Long.SIZE - bits);
+        long value = startValue;
+        int bitPosition = 0;
+        for (int i = 0; i < limit; i++) {
+            int index = bitPosition >>> 6;
+            int shift = bitPosition & 63;
+            // the second word is shifted in two steps, since a shift by 64 is a no-op in Java;
+            // if the value does not span two words, the bits of the second word are masked away
+            long delta = ((words[index] >>> shift) | ((words[index + 1] << 1) << (63 - shift))) & mask;
+            value += delta;
+            out[i] = value;
+            bitPosition += bits;
+        }
+
+        return offset;
+    }
+
+    private AdjacencyUnpacking() {
+        throw new UnsupportedOperationException("No instances");
+    }
+}
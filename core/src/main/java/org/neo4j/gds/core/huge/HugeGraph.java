@@ -102,11 +102,15 @@ public class HugeGraph implements CSRGraph {
 
     protected AdjacencyList adjacency;
 
+    protected @Nullable AdjacencyList inverseAdjacency;
+
     private final double defaultPropertyValue;
     protected @Nullable AdjacencyProperties properties;
 
     private AdjacencyCursor adjacencyCursorCache;
 
+    private @Nullable AdjacencyCursor inverseAdjacencyCursorCache;
+
     private PropertyCursor propertyCursorCache;
 
     private boolean canRelease = true;
@@ -127,6 +131,7 @@ public class HugeGraph implements CSRGraph {
             nodeProperties,
             topology.elementCount(),
             topology.adjacencyList(),
+            topology.inverseAdjacencyList().orElse(null),
             maybeRelationshipProperty.isPresent(),
             maybeRelationshipProperty.map(Relationships.Properties::defaultPropertyValue).orElse(Double.NaN),
             maybeRelationshipProperty.map(Relationships.Properties::propertiesList).orElse(null),
@@ -141,6 +146,7 @@ public class HugeGraph implements CSRGraph {
         Map<String, NodeProperties> nodeProperties,
         long relationshipCount,
         @NotNull AdjacencyList adjacency,
+        @Nullable AdjacencyList inverseAdjacency,
         boolean hasRelationshipProperty,
         double defaultRelationshipPropertyValue,
         @Nullable AdjacencyProperties relationshipProperty,
@@ -153,11 +159,13 @@ public class HugeGraph implements CSRGraph {
         this.nodeProperties = nodeProperties;
         this.relationshipCount = relationshipCount;
         this.adjacency = adjacency;
+        this.inverseAdjacency = inverseAdjacency;
         this.defaultPropertyValue = defaultRelationshipPropertyValue;
         this.properties = relationshipProperty;
         this.orientation = orientation;
         this.hasRelationshipProperty = hasRelationshipProperty;
         this.adjacencyCursorCache = adjacency.rawAdjacencyCursor();
+        this.inverseAdjacencyCursorCache = inverseAdjacency != null ? inverseAdjacency.rawAdjacencyCursor() : null;
         this.propertyCursorCache = relationshipProperty != null ? relationshipProperty.rawPropertyCursor() : null;
     }
 
@@ -277,6 +285,21 @@ public class HugeGraph implements CSRGraph {
         runForEach(nodeId, fallbackValue, consumer);
     }
 
+    @Override
+    public void forEachInverseRelationship(long nodeId, RelationshipConsumer consumer) {
+        if (isUndirected()) {
+            runForEach(nodeId, consumer);
+            return;
+        }
+        if (inverseAdjacency == null) {
+            throw new UnsupportedOperationException(
+                "Iterating incoming relationships requires a projection with an inverse index."
+            );
+        }
+        var adjacencyCursor = inverseAdjacency.adjacencyCursor(inverseAdjacencyCursorCache, nodeId);
+        consumeAdjacentNodes(nodeId, adjacencyCursor, consumer);
+    }
+
     @Override
     public Stream<RelationshipCursor> streamRelationships(long nodeId, double fallbackValue) {
         var adjacencyCursor = adjacencyCursorForIteration(nodeId);
@@ -321,6 +344,19 @@ public class HugeGraph implements CSRGraph {
         return adjacency.degree(node);
     }
 
+    @Override
+    public int degreeInverse(long nodeId) {
+        if (isUndirected()) {
+            return degree(nodeId);
+        }
+        if (inverseAdjacency == null) {
+            throw new UnsupportedOperationException(
+                "Counting incoming relationships requires a projection with an inverse index."
+            );
+        }
+        return inverseAdjacency.degree(nodeId);
+    }
+
     @Override
     public int degreeWithoutParallelRelationships(long nodeId) {
         if (!isMultiGraph()) {
@@ -359,6 +395,7 @@ public class HugeGraph implements CSRGraph {
             nodeProperties,
             relationshipCount,
             adjacency,
+            inverseAdjacency,
             hasRelationshipProperty,
             defaultPropertyValue,
             properties,
@@ -422,6 +459,10 @@ public class HugeGraph implements CSRGraph {
             adjacency.close();
             adjacency = null;
         }
+        if (inverseAdjacency != null) {
+            inverseAdjacency.close();
+            inverseAdjacency = null;
+        }
         if (properties != null) {
             properties.close();
             properties = null;
@@ -430,6 +471,10 @@ public class HugeGraph implements CSRGraph {
             adjacencyCursorCache.close();
             adjacencyCursorCache = null;
         }
+        if (inverseAdjacencyCursorCache != null) {
+            inverseAdjacencyCursorCache.close();
+            inverseAdjacencyCursorCache = null;
+        }
         if (propertyCursorCache != null) {
             propertyCursorCache.close();
             propertyCursorCache = null;
@@ -450,6 +495,11 @@ public class HugeGraph implements CSRGraph {
         return orientation == Orientation.UNDIRECTED;
     }
 
+    @Override
+    public boolean isInverseIndexed() {
+        return isUndirected() || inverseAdjacency != null;
+    }
+
     @Override
     public boolean isMultiGraph() {
         return isMultiGraph;
@@ -461,6 +511,7 @@ public class HugeGraph implements CSRGraph {
             orientation,
             isMultiGraph(),
             adjacency,
+            inverseAdjacency,
             properties,
             defaultPropertyValue
         );
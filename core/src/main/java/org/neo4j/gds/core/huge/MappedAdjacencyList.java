@@ -0,0 +1,439 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.huge;
+
+import com.carrotsearch.hppc.sorting.IndirectSort;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.AdjacencyCursor;
+import org.neo4j.gds.api.AdjacencyList;
+import org.neo4j.gds.collections.PageUtil;
+import org.neo4j.gds.core.loading.BumpAllocator;
+import org.neo4j.gds.core.loading.MutableIntValue;
+import org.neo4j.gds.core.utils.AscendingLongComparator;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.mem.MemoryRange;
+import org.neo4j.gds.core.utils.paged.HugeArrays;
+import org.neo4j.gds.core.utils.paged.HugeIntArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.mem.MemoryUsage;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.neo4j.gds.collections.PageUtil.indexInPage;
+import static org.neo4j.gds.collections.PageUtil.pageIndex;
+import static org.neo4j.gds.mem.BitUtil.ceilDiv;
+
+/**
+ * A compressed adjacency list whose pages are not stored on the heap, but in a file that is mapped into memory.
+ * The layout of the pages is identical to the layout of the {@link CompressedAdjacencyList}.
+ *
+ * The backing file is removed from the directory as soon as it is mapped, the disk space is
+ * reclaimed by the operating system once the mappings are garbage collected.
+ * File systems that do not allow removing mapped files remove it when the JVM exits.
+ */
+public final class MappedAdjacencyList implements AdjacencyList {
+
+    // Consecutive pages are mapped together in regions of at most this size
+    // in order to keep the number of mappings per process low.
+    private static final long MAX_REGION_SIZE = 1L << 30;
+
+    // Every mapped page is the slice of a mapped region, i.e. a direct byte buffer of roughly this size.
+    private static final long MAPPED_PAGE_SIZE = 64L;
+
+    public static MemoryEstimation adjacencyListEstimation(RelationshipType relationshipType, boolean undirected) {
+        return MemoryEstimations.setup("", dimensions -> {
+            long nodeCount = dimensions.nodeCount();
+            long relCountForType = dimensions
+                .relationshipCounts()
+                .getOrDefault(relationshipType, dimensions.relCountUpperBound());
+            long relCount = undirected ? relCountForType * 2 : relCountForType;
+            long avgDegree = (nodeCount > 0) ? ceilDiv(relCount, nodeCount) : 0L;
+            return MappedAdjacencyList.adjacencyListEstimation(avgDegree, nodeCount);
+        });
+    }
+
+    /**
+     * The pages live outside of the heap, apart from the page each loading thread is currently writing to.
+     * Every page is referenced from the page arrays of the builder and the mapped adjacency list.
+     */
+    public static MemoryEstimation adjacencyListEstimation(long avgDegree, long nodeCount) {
+        // Same bounds on the adjacency size as for the on-heap compressed adjacency list.
+        long deltaWorstCase = (avgDegree > 0) ? ceilDiv(nodeCount, avgDegree) : 0L;
+        long bestCaseAdjacencySize = CompressedAdjacencyList.computeAdjacencyByteSize(avgDegree, nodeCount, 1);
+        long worstCaseAdjacencySize = CompressedAdjacencyList.computeAdjacencyByteSize(avgDegree, nodeCount, deltaWorstCase);
+
+        int minPages = PageUtil.numPagesFor(bestCaseAdjacencySize, BumpAllocator.PAGE_SHIFT, BumpAllocator.PAGE_MASK);
+        int maxPages = PageUtil.numPagesFor(worstCaseAdjacencySize, BumpAllocator.PAGE_SHIFT, BumpAllocator.PAGE_MASK);
+
+        var pageReferencesMemoryRange = MemoryRange.of(
+            pageReferencesMemoryUsage(minPages),
+            pageReferencesMemoryUsage(maxPages)
+        );
+
+        return MemoryEstimations
+            .builder(MappedAdjacencyList.class)
+            .fixed("page references", pageReferencesMemoryRange)
+            .perThread("pages in flight", MemoryUsage.sizeOfByteArray(BumpAllocator.PAGE_SIZE))
+            .perNode("degrees", HugeIntArray::memoryEstimation)
+            .perNode("offsets", HugeLongArray::memoryEstimation)
+            .build();
+    }
+
+    // the page array of the builder, the file positions of the pages and the mapped pages
+    private static long pageReferencesMemoryUsage(int pageCount) {
+        return MemoryUsage.sizeOfObjectArray(pageCount)
+               + MemoryUsage.sizeOfLongArray(pageCount)
+               + MemoryUsage.sizeOfIntArray(pageCount)
+               + MemoryUsage.sizeOfObjectArray(pageCount)
+               + pageCount * MAPPED_PAGE_SIZE;
+    }
+
+    /**
+     * Writes the given {@code pages} into a new file within {@code directory} and maps that file into memory.
+     * The entries of {@code pages} are cleared while they are being written, so that they can be garbage collected early.
+     */
+    public static MappedAdjacencyList spill(
+        Path directory,
+        byte[][] pages,
+        HugeIntArray degrees,
+        HugeLongArray offsets
+    ) {
+        return new MappedAdjacencyList(new PageWriter(directory).map(pages), degrees, offsets);
+    }
+
+    /**
+     * Maps compressed adjacency pages that have been written to {@code channel} into memory.
+     * Page {@code i} spans the bytes from {@code pageStarts[i]} (inclusive) to {@code pageStarts[i + 1]} (exclusive),
+     * hence {@code pageStarts} contains one more entry than there are pages.
+     * The mappings stay valid after the channel has been closed.
+     */
+    public static MappedAdjacencyList map(
+        FileChannel channel,
+        long[] pageStarts,
+        HugeIntArray degrees,
+        HugeLongArray offsets
+    ) {
+        int pageCount = Math.max(pageStarts.length - 1, 0);
+        var pageLengths = new int[pageCount];
+        for (int page = 0; page < pageCount; page++) {
+            pageLengths[page] = Math.toIntExact(pageStarts[page + 1] - pageStarts[page]);
+        }
+        try {
+            return new MappedAdjacencyList(mapPages(channel, pageStarts, pageLengths, pageCount), degrees, offsets);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void deleteMappedFile(Path file) {
+        try {
+            // existing mappings stay valid after the file has been removed
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            // Windows refuses to remove mapped files and mappings are only released by the garbage collector.
+            file.toFile().deleteOnExit();
+        }
+    }
+
+    /**
+     * Maps the first {@code pageCount} pages, page {@code i} spans {@code pageLengths[i]} bytes from {@code pageStarts[i]}.
+     * Pages do not need to be stored in the order of their index.
+     */
+    private static ByteBuffer[] mapPages(
+        FileChannel channel,
+        long[] pageStarts,
+        int[] pageLengths,
+        int pageCount
+    ) throws IOException {
+        var mappedPages = new ByteBuffer[pageCount];
+        // pages in the order in which they are stored in the file
+        var order = IndirectSort.mergesort(0, pageCount, new AscendingLongComparator(pageStarts));
+
+        int regionStart = 0;
+        while (regionStart < pageCount) {
+            long regionStartPosition = pageStarts[order[regionStart]];
+            // every region contains at least one page
+            int regionEnd = regionStart + 1;
+            long regionEndPosition = regionStartPosition + pageLengths[order[regionStart]];
+            while (regionEnd < pageCount) {
+                long pageEndPosition = pageStarts[order[regionEnd]] + pageLengths[order[regionEnd]];
+                if (pageEndPosition - regionStartPosition > MAX_REGION_SIZE) {
+                    break;
+                }
+                regionEndPosition = pageEndPosition;
+                regionEnd++;
+            }
+
+            var region = channel.map(
+                FileChannel.MapMode.READ_ONLY,
+                regionStartPosition,
+                regionEndPosition - regionStartPosition
+            );
+            for (int i = regionStart; i < regionEnd; i++) {
+                int page = order[i];
+                int from = (int) (pageStarts[page] - regionStartPosition);
+                mappedPages[page] = region.duplicate().position(from).limit(from + pageLengths[page]).slice();
+            }
+            regionStart = regionEnd;
+        }
+
+        return mappedPages;
+    }
+
+    /**
+     * Appends pages to a temporary file within {@code directory} as soon as they are complete.
+     * Pages can be written concurrently and in any order, {@link #map(byte[][])} maps all of them at once.
+     */
+    public static final class PageWriter implements BumpAllocator.PageConsumer<byte[]> {
+
+        private final Path directory;
+        private final AtomicLong filePosition;
+
+        private @Nullable Path file;
+        private @Nullable FileChannel channel;
+        private long[] pageStarts;
+        private int[] pageLengths;
+
+        public PageWriter(Path directory) {
+            this.directory = directory;
+            this.filePosition = new AtomicLong();
+            this.pageStarts = new long[0];
+            this.pageLengths = new int[0];
+        }
+
+        @Override
+        public void accept(int pageIndex, byte[] page) {
+            long position = filePosition.getAndAdd(page.length);
+            try {
+                var channel = channel();
+                var buffer = ByteBuffer.wrap(page);
+                long writePosition = position;
+                while (buffer.hasRemaining()) {
+                    writePosition += channel.write(buffer, writePosition);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            recordPage(pageIndex, position, page.length);
+        }
+
+        /**
+         * Writes the remaining {@code pages}, maps all pages and removes the file.
+         * The length of {@code pages} determines the number of pages, entries of pages that have already been
+         * written are expected to be {@code null}. All entries are cleared once they have been written.
+         */
+        public ByteBuffer[] map(byte[][] pages) {
+            for (int page = 0; page < pages.length; page++) {
+                if (pages[page] != null) {
+                    accept(page, pages[page]);
+                    pages[page] = null;
+                }
+            }
+
+            synchronized (this) {
+                if (channel == null) {
+                    return new ByteBuffer[pages.length];
+                }
+                try (var channel = this.channel) {
+                    // pages that have never been written are mapped as empty pages
+                    pageStarts = Arrays.copyOf(pageStarts, Math.max(pageStarts.length, pages.length));
+                    pageLengths = Arrays.copyOf(pageLengths, pageStarts.length);
+                    return mapPages(channel, pageStarts, pageLengths, pages.length);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                } finally {
+                    deleteMappedFile(file);
+                    this.channel = null;
+                    this.file = null;
+                }
+            }
+        }
+
+        private synchronized FileChannel channel() throws IOException {
+            if (channel == null) {
+                Files.createDirectories(directory);
+                file = Files.createTempFile(directory, "gds-adjacency-", ".bin");
+                channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            }
+            return channel;
+        }
+
+        private synchronized void recordPage(int pageIndex, long position, int length) {
+            if (pageIndex >= pageStarts.length) {
+                int newLength = HugeArrays.oversizeInt(pageIndex + 1, Long.BYTES);
+                pageStarts = Arrays.copyOf(pageStarts, newLength);
+                pageLengths = Arrays.copyOf(pageLengths, newLength);
+            }
+            pageStarts[pageIndex] = position;
+            pageLengths[pageIndex] = length;
+        }
+    }
+
+    private ByteBuffer[] pages;
+    private HugeIntArray degrees;
+    private HugeLongArray offsets;
+
+    public MappedAdjacencyList(ByteBuffer[] pages, HugeIntArray degrees, HugeLongArray offsets) {
+        this.pages = pages;
+        this.degrees = degrees;
+        this.offsets = offsets;
+    }
+
+    @Override
+    public void close() {
+        pages = null;
+        degrees = null;
+        offsets = null;
+    }
+
+    @Override
+    public int degree(long node) {
+        return degrees.get(node);
+    }
+
+    // Cursors
+
+    @Override
+    public AdjacencyCursor adjacencyCursor(long node, double fallbackValue) {
+        var degree = degrees.get(node);
+        if (degree == 0) {
+            return AdjacencyCursor.empty();
+        }
+        var cursor = new MappedDecompressingCursor(pages);
+        var offset = offsets.get(node);
+        cursor.init(offset, degree);
+        return cursor;
+    }
+
+    @Override
+    public AdjacencyCursor adjacencyCursor(@Nullable AdjacencyCursor reuse, long node, double fallbackValue) {
+        var degree = degrees.get(node);
+        if (degree == 0) {
+            return AdjacencyCursor.empty();
+        }
+        if (reuse instanceof MappedDecompressingCursor) {
+            reuse.init(offsets.get(node), degree);
+            return reuse;
+        }
+        return adjacencyCursor(node, fallbackValue);
+    }
+
+    @Override
+    public AdjacencyCursor rawAdjacencyCursor() {
+        return new MappedDecompressingCursor(pages);
+    }
+
+    public static final class MappedDecompressingCursor extends MutableIntValue implements AdjacencyCursor {
+
+        private ByteBuffer[] pages;
+        private final MappedAdjacencyDecompressingReader decompress;
+
+        private int maxTargets;
+        private int currentPosition;
+
+        private MappedDecompressingCursor(ByteBuffer[] pages) {
+            this.pages = pages;
+            this.decompress = new MappedAdjacencyDecompressingReader();
+        }
+
+        @Override
+        public void init(long fromIndex, int degree) {
+            maxTargets = decompress.reset(
+                pages[pageIndex(fromIndex, BumpAllocator.PAGE_SHIFT)],
+                indexInPage(fromIndex, BumpAllocator.PAGE_MASK),
+                degree
+            );
+            currentPosition = 0;
+        }
+
+        @Override
+        public @NotNull AdjacencyCursor shallowCopy(@Nullable AdjacencyCursor destination) {
+            var dest = destination instanceof MappedDecompressingCursor
+                ? (MappedDecompressingCursor) destination
+                : new MappedDecompressingCursor(pages);
+            dest.decompress.copyFrom(this.decompress);
+            dest.currentPosition = this.currentPosition;
+            dest.maxTargets = this.maxTargets;
+            return dest;
+        }
+
+        @Override
+        public int size() {
+            return maxTargets;
+        }
+
+        @Override
+        public int remaining() {
+            return maxTargets - currentPosition;
+        }
+
+        @Override
+        public boolean hasNextVLong() {
+            return currentPosition < maxTargets;
+        }
+
+        @Override
+        public long nextVLong() {
+            int current = currentPosition++;
+            int remaining = maxTargets - current;
+            return decompress.next(remaining);
+        }
+
+        @Override
+        public long peekVLong() {
+            int remaining = maxTargets - currentPosition;
+            return decompress.peek(remaining);
+        }
+
+        @Override
+        public long skipUntil(long target) {
+            long value = decompress.skipUntil(target, remaining(), this);
+            this.currentPosition += this.value;
+            return value;
+        }
+
+        @Override
+        public long advance(long target) {
+            int targetsLeftToBeDecoded = remaining();
+            if (targetsLeftToBeDecoded <= 0) {
+                return AdjacencyCursor.NOT_FOUND;
+            }
+            long value = decompress.advance(target, targetsLeftToBeDecoded, this);
+            this.currentPosition += this.value;
+            return value;
+        }
+
+        @Override
+        public void close() {
+            pages = null;
+        }
+    }
+}
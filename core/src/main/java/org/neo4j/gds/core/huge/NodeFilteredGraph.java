@@ -188,6 +188,16 @@ public class NodeFilteredGraph extends CSRGraphAdapter {
         super.forEachRelationship(filteredIdMap.toOriginalNodeId(nodeId), fallbackValue, (s, t, p) -> filterAndConsume(s, t, p, consumer));
     }
 
+    @Override
+    public boolean isInverseIndexed() {
+        return graph.isInverseIndexed();
+    }
+
+    @Override
+    public void forEachInverseRelationship(long nodeId, RelationshipConsumer consumer) {
+        graph.forEachInverseRelationship(filteredIdMap.toOriginalNodeId(nodeId), (s, t) -> filterAndConsume(s, t, consumer));
+    }
+
     @Override
     public Stream<RelationshipCursor> streamRelationships(long nodeId, double fallbackValue) {
         return super.streamRelationships(filteredIdMap.toOriginalNodeId(nodeId), fallbackValue)
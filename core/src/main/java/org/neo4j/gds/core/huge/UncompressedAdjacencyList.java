@@ -191,6 +191,12 @@ public final class UncompressedAdjacencyList implements AdjacencyList, Adjacency
         return new Cursor(pages);
     }
 
+    @Override
+    public long propertyValue(long node, int index) {
+        var position = offsets.get(node) + index;
+        return pages[pageIndex(position, BumpAllocator.PAGE_SHIFT)][indexInPage(position, BumpAllocator.PAGE_MASK)];
+    }
+
     public static final class Cursor extends MutableIntValue implements AdjacencyCursor, PropertyCursor {
 
         private long[][] pages;
@@ -193,6 +193,13 @@ public final class UnionGraph implements CSRGraph {
         }
     }
 
+    @Override
+    public void forEachInverseRelationship(long nodeId, RelationshipConsumer consumer) {
+        for (Graph graph : graphs) {
+            graph.forEachInverseRelationship(nodeId, consumer);
+        }
+    }
+
     @Override
     public Stream<RelationshipCursor> streamRelationships(long nodeId, double fallbackValue) {
         return graphs
@@ -222,6 +229,17 @@ public final class UnionGraph implements CSRGraph {
         return Math.toIntExact(degree);
     }
 
+    @Override
+    public int degreeInverse(long nodeId) {
+        long degree = 0;
+
+        for (CSRGraph graph : graphs) {
+            degree += graph.degreeInverse(nodeId);
+        }
+
+        return Math.toIntExact(degree);
+    }
+
     @Override
     public int degreeWithoutParallelRelationships(long nodeId) {
         if (!isMultiGraph()) {
@@ -281,6 +299,11 @@ public final class UnionGraph implements CSRGraph {
         return graphs.stream().allMatch(Graph::isUndirected);
     }
 
+    @Override
+    public boolean isInverseIndexed() {
+        return graphs.stream().allMatch(Graph::isInverseIndexed);
+    }
+
     @Override
     public boolean isMultiGraph() {
         // we need to run a check across all relationships between the sub-graphs of the union
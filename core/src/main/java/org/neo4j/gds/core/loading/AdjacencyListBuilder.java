@@ -38,7 +38,7 @@ public interface AdjacencyListBuilder<PAGE, T> {
         void close();
     }
 
-    default void reorder(PAGE[] pages, HugeLongArray offsets, HugeIntArray degrees) {
+    default <P> void reorder(P[] pages, HugeLongArray offsets, HugeIntArray degrees) {
         if (GdsFeatureToggles.USE_REORDERED_ADJACENCY_LIST.isEnabled() && pages.length > 0) {
             PageReordering.reorder(pages, offsets, degrees);
         }
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+
+import static org.neo4j.gds.core.loading.VarLongEncoding.encodedVLongSize;
+import static org.neo4j.gds.mem.BitUtil.ceilDiv;
+
+/**
+ * Encodes delta-encoded adjacency lists into blocks of bit-packed values.
+ *
+ * The first target id of an adjacency list is written as a var-long (see {@link VarLongEncoding}),
+ * followed by one block per {@link #BLOCK_SIZE} deltas. Every block starts with a single byte
+ * holding the number of bits that are required to represent the largest delta in that block,
+ * followed by the deltas, packed with that bit width into little-endian 64-bit words.
+ * The first delta of the first block is always {@code 0}, since the first target is stored separately.
+ *
+ * Blocks are aligned to the block boundaries of the adjacency cursor, so that decoding a block
+ * unpacks full words without having to branch on individual bytes.
+ */
+public final class AdjacencyPacking {
+
+    public static final int BLOCK_SIZE = 64;
+
+    private static final VarHandle LONGS = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    /**
+     * Number of bytes required to pack the given delta-encoded {@code values}.
+     */
+    public static int packedSize(long[] values, int length) {
+        if (length == 0) {
+            return 0;
+        }
+        int size = encodedVLongSize(values[0]);
+        for (int offset = 0; offset < length; offset += BLOCK_SIZE) {
+            int blockLength = Math.min(BLOCK_SIZE, length - offset);
+            size += blockSize(blockLength, blockBits(values, offset, blockLength));
+        }
+        return size;
+    }
+
+    /**
+     * Packs the given delta-encoded {@code values}, where {@code values[0]} is the absolute first target,
+     * into {@code out} starting at {@code into}.
+     *
+     * @return the position in {@code out} after the last written byte
+     */
+    public static int pack(long[] values, int length, byte[] out, int into) {
+        if (length == 0) {
+            return into;
+        }
+        into = VarLongEncoding.encodeVLongs(values, 0, 1, out, into);
+
+        long first = values[0];
+        values[0] = 0L;
+        try {
+            for (int offset = 0; offset < length; offset += BLOCK_SIZE) {
+                int blockLength = Math.min(BLOCK_SIZE, length - offset);
+                int bits = blockBits(values, offset, blockLength);
+                out[into++] = (byte) bits;
+                into = packBlock(values, offset, blockLength, bits, out, into);
+            }
+        } finally {
+            values[0] = first;
+        }
+        return into;
+    }
+
+    /**
+     * Number of bytes used for a block of {@code length} values with {@code bits} bits each, including the header.
+     */
+    public static int blockSize(int length, int bits) {
+        return 1 + Long.BYTES * wordsNeeded(length, bits);
+    }
+
+    static int wordsNeeded(int length, int bits) {
+        return (int) ceilDiv((long) length * bits, Long.SIZE);
+    }
+
+    private static int blockBits(long[] values, int offset, int length) {
+        // the first value of the first block is stored separately and packed as 0
+        return offset == 0
+            ? bitsNeeded(values, 1, length - 1)
+            : bitsNeeded(values, offset, length);
+    }
+
+    static int bitsNeeded(long[] values, int offset, int length) {
+        long union = 0L;
+        for (int i = offset; i < offset + length; i++) {
+            union |= values[i];
+        }
+        return Long.SIZE - Long.numberOfLeadingZeros(union);
+    }
+
+    private static int packBlock(long[] values, int offset, int length, int bits, byte[] out, int into) {
+        if (bits == 0) {
+            return into;
+        }
+        long word = 0L;
+        int used = 0;
+        for (int i = offset; i < offset + length; i++) {
+            long value = values[i];
+            word |= value << used;
+            used += bits;
+            if (used >= Long.SIZE) {
+                LONGS.set(out, into, word);
+                into += Long.BYTES;
+                used -= Long.SIZE;
+                // carry over the bits that did not fit into the previous word
+                word = used == 0 ? 0L : value >>> (bits - used);
+            }
+        }
+        if (used > 0) {
+            LONGS.set(out, into, word);
+            into += Long.BYTES;
+        }
+        return into;
+    }
+
+    private AdjacencyPacking() {
+        throw new UnsupportedOperationException("No instances");
+    }
+}
@@ -19,6 +19,7 @@
  */
 package org.neo4j.gds.core.loading;
 
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.collections.PageUtil;
 
 import java.lang.invoke.MethodHandles;
@@ -48,10 +49,20 @@ public final class BumpAllocator<PAGE> {
     private volatile PAGE[] pages;
 
     private final Factory<PAGE> pageFactory;
+    private final @Nullable PageConsumer<PAGE> pageConsumer;
     private final ReentrantLock growLock;
 
     BumpAllocator(Factory<PAGE> pageFactory) {
+        this(pageFactory, null);
+    }
+
+    /**
+     * Every page that is completely written is handed to the {@code pageConsumer}
+     * and removed from this allocator afterwards, the respective entries in {@link #intoPages()} are {@code null}.
+     */
+    BumpAllocator(Factory<PAGE> pageFactory, @Nullable PageConsumer<PAGE> pageConsumer) {
         this.pageFactory = pageFactory;
+        this.pageConsumer = pageConsumer;
         this.growLock = new ReentrantLock(true);
         this.pages = pageFactory.newEmptyPages();
     }
@@ -94,9 +105,25 @@ public final class BumpAllocator<PAGE> {
         } finally {
             growLock.unlock();
         }
+        // an oversize page is never written to again
+        completePage(pageIndex, page);
         return PageUtil.capacityFor(pageIndex, PAGE_SHIFT);
     }
 
+    private void completePage(int pageIndex, PAGE page) {
+        if (pageConsumer == null) {
+            return;
+        }
+        pageConsumer.accept(pageIndex, page);
+        // Same as for inserting, this must not race with `grow()` copying the `pages`.
+        growLock.lock();
+        try {
+            this.pages[pageIndex] = null;
+        } finally {
+            growLock.unlock();
+        }
+    }
+
     private void grow(int newNumPages, int skipPage) {
         if (capacityLeft(newNumPages)) {
             return;
@@ -146,6 +173,14 @@ public final class BumpAllocator<PAGE> {
         int lengthOfPage(PAGE page);
     }
 
+    public interface PageConsumer<PAGE> {
+        /**
+         * Called once per page as soon as no local allocator writes to the page anymore.
+         * Might be called concurrently for different pages.
+         */
+        void accept(int pageIndex, PAGE page);
+    }
+
     public static final class LocalAllocator<PAGE> {
 
         private final BumpAllocator<PAGE> globalAllocator;
@@ -153,6 +188,7 @@ public final class BumpAllocator<PAGE> {
         private long top;
 
         private PAGE page;
+        private int pageIndex;
         private int offset;
 
         private LocalAllocator(BumpAllocator<PAGE> globalAllocator) {
@@ -207,14 +243,32 @@ public final class BumpAllocator<PAGE> {
         }
 
         private long prefetchAllocate() {
+            completeCurrentPage();
             long address = top = globalAllocator.insertDefaultSizedPage();
             assert PageUtil.indexInPage(address, PAGE_MASK) == 0;
             var currentPageIndex = PageUtil.pageIndex(address, PAGE_SHIFT);
             this.page = globalAllocator.pages[currentPageIndex];
+            this.pageIndex = currentPageIndex;
             this.offset = 0;
             return address;
         }
 
+        /**
+         * Hands the current page over to the page consumer of the global allocator, if there is one.
+         * Subsequent inserts allocate into a new page.
+         */
+        public void close() {
+            completeCurrentPage();
+            this.offset = PAGE_SIZE;
+        }
+
+        private void completeCurrentPage() {
+            if (page != null) {
+                globalAllocator.completePage(pageIndex, page);
+                this.page = null;
+            }
+        }
+
         @SuppressWarnings("SuspiciousSystemArraycopy")
         private void doAllocate(PAGE targets, int length) {
             System.arraycopy(targets, 0, page, offset, length);
@@ -491,7 +491,10 @@ public class CSRGraphStore implements GraphStore {
         if (this.nodes instanceof AutoCloseable) {
             closeables.accept((AutoCloseable) this.nodes);
         }
-        this.relationships.values().forEach(rel -> closeables.add(rel.adjacencyList()));
+        this.relationships.values().forEach(rel -> {
+            closeables.add(rel.adjacencyList());
+            rel.inverseAdjacencyList().ifPresent(closeables::add);
+        });
         this.relationshipProperties.forEach((propertyName, properties) ->
             properties.values().forEach(prop -> closeables.add(prop.values().propertiesList()))
         );
@@ -45,7 +45,7 @@ public final class CompressedAdjacencyListBuilder implements AdjacencyListBuilde
         return new CompressedAdjacencyList(intoPages, degrees, offsets);
     }
 
-    private enum Factory implements BumpAllocator.Factory<byte[]> {
+    enum Factory implements BumpAllocator.Factory<byte[]> {
         INSTANCE;
 
         @Override
@@ -73,7 +73,7 @@ public final class CompressedAdjacencyListBuilder implements AdjacencyListBuilde
 
         private final BumpAllocator.LocalAllocator<byte[]> allocator;
 
-        private Allocator(BumpAllocator.LocalAllocator<byte[]> allocator) {
+        Allocator(BumpAllocator.LocalAllocator<byte[]> allocator) {
             this.allocator = allocator;
         }
 
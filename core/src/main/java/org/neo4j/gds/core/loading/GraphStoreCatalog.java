@@ -27,9 +27,12 @@ import org.neo4j.gds.config.GraphProjectConfig;
 import org.neo4j.gds.utils.StringJoining;
 import org.neo4j.kernel.database.NamedDatabaseId;
 
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
@@ -41,6 +44,16 @@ public final class GraphStoreCatalog {
 
     private static final ConcurrentHashMap<String, UserCatalog> userCatalogs = new ConcurrentHashMap<>();
 
+    // Views share their data with a parent graph store, which therefore
+    // must not be released before all of its views have been removed.
+    private static final Map<GraphStore, GraphStore> parentsByView = new IdentityHashMap<>();
+    private static final Map<GraphStore, Integer> viewCounts = new IdentityHashMap<>();
+    private static final Set<GraphStore> detachedGraphStores = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    // Algorithms that update their results across runs keep their state next to the
+    // graph store it was computed on, so that it is discarded together with the graph store.
+    private static final Map<GraphStore, Map<String, Object>> algorithmStatesByGraphStore = new IdentityHashMap<>();
+
     private GraphStoreCatalog() { }
 
     public static GraphStoreWithConfig get(CatalogRequest request, String graphName) {
@@ -142,6 +155,47 @@ public final class GraphStoreCatalog {
         set(config, graphStore, true);
     }
 
+    /**
+     * Stores a graph store that shares data with the given parent graph store.
+     * Removing the parent from the catalog defers its release until the last of its views is removed.
+     */
+    public static void setView(GraphProjectConfig config, GraphStore view, GraphStore parent) {
+        synchronized (parentsByView) {
+            set(config, view, false);
+            parentsByView.put(view, parent);
+            viewCounts.merge(parent, 1, Integer::sum);
+        }
+    }
+
+    public static int viewCount(GraphStore graphStore) {
+        synchronized (parentsByView) {
+            return viewCounts.getOrDefault(graphStore, 0);
+        }
+    }
+
+    private static void release(GraphStore graphStore) {
+        synchronized (algorithmStatesByGraphStore) {
+            algorithmStatesByGraphStore.remove(graphStore);
+        }
+        synchronized (parentsByView) {
+            if (viewCounts.getOrDefault(graphStore, 0) > 0) {
+                detachedGraphStores.add(graphStore);
+                return;
+            }
+
+            graphStore.canRelease(true);
+            graphStore.release();
+
+            var parent = parentsByView.remove(graphStore);
+            if (parent != null && viewCounts.merge(parent, -1, Integer::sum) == 0) {
+                viewCounts.remove(parent);
+                if (detachedGraphStores.remove(parent)) {
+                    release(parent);
+                }
+            }
+        }
+    }
+
     private static void set(GraphProjectConfig config, GraphStore graphStore, boolean overwrite) {
         graphStore.canRelease(false);
         userCatalogs.compute(config.username(), (user, userCatalog) -> {
@@ -202,12 +256,60 @@ public final class GraphStoreCatalog {
         );
     }
 
+    /**
+     * Returns the state an algorithm stored for the given graph store under the given key, if any.
+     */
+    public static <T> Optional<T> getAlgorithmState(GraphStore graphStore, String stateKey, Class<T> stateType) {
+        synchronized (algorithmStatesByGraphStore) {
+            return Optional
+                .ofNullable(algorithmStatesByGraphStore.get(graphStore))
+                .map(states -> states.get(stateKey))
+                .filter(stateType::isInstance)
+                .map(stateType::cast);
+        }
+    }
+
+    /**
+     * Stores algorithm state for the given graph store, replacing any previous state with the same key.
+     * The state is removed when the graph store is removed from the catalog.
+     * Graph stores that are not part of the catalog do not retain any state.
+     */
+    public static void setAlgorithmState(GraphStore graphStore, String stateKey, Object state) {
+        // Removing a graph store takes the same lock, so the state cannot outlive the graph store.
+        synchronized (algorithmStatesByGraphStore) {
+            var isCatalogued = getAllGraphStores().anyMatch(catalogEntry -> catalogEntry.graphStore() == graphStore);
+            if (!isCatalogued) {
+                return;
+            }
+
+            algorithmStatesByGraphStore
+                .computeIfAbsent(graphStore, ignored -> new ConcurrentHashMap<>())
+                .put(stateKey, state);
+        }
+    }
+
     public static void removeAllLoadedGraphs() {
         userCatalogs.clear();
+        synchronized (algorithmStatesByGraphStore) {
+            algorithmStatesByGraphStore.clear();
+        }
+        synchronized (parentsByView) {
+            parentsByView.clear();
+            viewCounts.clear();
+            detachedGraphStores.clear();
+        }
     }
 
     public static void removeAllLoadedGraphs(NamedDatabaseId databaseId) {
         userCatalogs.forEach((user, userCatalog) -> userCatalog.remove(databaseId.name()));
+        synchronized (algorithmStatesByGraphStore) {
+            algorithmStatesByGraphStore.keySet().removeIf(graphStore -> graphStore.databaseId().equals(databaseId));
+        }
+        synchronized (parentsByView) {
+            parentsByView.keySet().removeIf(graphStore -> graphStore.databaseId().equals(databaseId));
+            viewCounts.keySet().removeIf(graphStore -> graphStore.databaseId().equals(databaseId));
+            detachedGraphStores.removeIf(graphStore -> graphStore.databaseId().equals(databaseId));
+        }
     }
 
     public static Map<GraphProjectConfig, GraphStore> getGraphStores(String username) {
@@ -348,10 +450,11 @@ public final class GraphStoreCatalog {
             return Optional.ofNullable(get(userCatalogKey, failOnMissing))
                 .map(graphStoreWithConfig -> {
                     removedGraphConsumer.accept(graphStoreWithConfig);
-                    graphStoreWithConfig.graphStore().canRelease(true);
-                    graphStoreWithConfig.graphStore().release();
-                    removeDegreeDistribution(userCatalogKey);
-                    graphsByName.remove(userCatalogKey);
+                    synchronized (algorithmStatesByGraphStore) {
+                        GraphStoreCatalog.release(graphStoreWithConfig.graphStore());
+                        removeDegreeDistribution(userCatalogKey);
+                        graphsByName.remove(userCatalogKey);
+                    }
                     return Boolean.TRUE;
                 })
                 .orElse(Boolean.FALSE);
@@ -62,6 +62,33 @@ public final class HugeIdMapBuilderOps {
         );
     }
 
+    /**
+     * Builds an id map for original ids that are known to be unique and labels that have already been assigned to internal ids,
+     * e.g. when restoring a previously persisted id map.
+     */
+    public static HugeIdMap build(
+        HugeLongArray graphIds,
+        long nodeCount,
+        LabelInformation labelInformation,
+        long highestNodeId,
+        int concurrency
+    ) {
+        HugeSparseLongArray nodeToGraphIds = buildSparseIdMap(
+            nodeCount,
+            highestNodeId,
+            concurrency,
+            add(graphIds)
+        );
+
+        return new HugeIdMap(
+            graphIds,
+            nodeToGraphIds,
+            labelInformation,
+            nodeCount,
+            highestNodeId
+        );
+    }
+
     static HugeIdMap buildChecked(
         HugeLongArray graphIds,
         long nodeCount,
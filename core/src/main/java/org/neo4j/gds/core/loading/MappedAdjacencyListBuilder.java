@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import org.neo4j.gds.core.huge.MappedAdjacencyList;
+import org.neo4j.gds.core.utils.paged.HugeIntArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+
+import java.nio.file.Path;
+
+public final class MappedAdjacencyListBuilder implements AdjacencyListBuilder<byte[], MappedAdjacencyList> {
+
+    private final BumpAllocator<byte[]> builder;
+    private final MappedAdjacencyList.PageWriter pageWriter;
+
+    MappedAdjacencyListBuilder(Path directory) {
+        // pages are written to the file as soon as they are full, only pages in flight remain on heap
+        this.pageWriter = new MappedAdjacencyList.PageWriter(directory);
+        this.builder = new BumpAllocator<>(CompressedAdjacencyListBuilder.Factory.INSTANCE, pageWriter);
+    }
+
+    @Override
+    public Allocator newAllocator() {
+        return new Allocator(this.builder.newLocalAllocator());
+    }
+
+    @Override
+    public MappedAdjacencyList build(HugeIntArray degrees, HugeLongArray offsets) {
+        var pages = pageWriter.map(builder.intoPages());
+        reorder(pages, offsets, degrees);
+        return new MappedAdjacencyList(pages, degrees, offsets);
+    }
+
+    static final class Allocator implements AdjacencyListBuilder.Allocator<byte[]> {
+
+        private final BumpAllocator.LocalAllocator<byte[]> allocator;
+
+        private Allocator(BumpAllocator.LocalAllocator<byte[]> allocator) {
+            this.allocator = allocator;
+        }
+
+        @Override
+        public void close() {
+            allocator.close();
+        }
+
+        @Override
+        public long write(byte[] targets, int length) {
+            return allocator.insert(targets, length);
+        }
+    }
+}
@@ -138,6 +138,14 @@ public final class NativeFactory extends CSRGraphStoreFactory<GraphProjectFromSt
         // Offsets and degrees are eagerly initialized and exist next to the fully populated AdjacencyBuffer
         duringLoadingEstimation.perNode(formatWithLocale("offsets for '%s'", relationshipType), HugeLongArray::memoryEstimation);
         duringLoadingEstimation.perNode(formatWithLocale("degrees for '%s'", relationshipType), HugeIntArray::memoryEstimation);
+        if (hasInverseIndex(relationshipProjection)) {
+            duringLoadingEstimation.add(
+                formatWithLocale("inverse adjacency loading buffer for '%s'", relationshipType),
+                AdjacencyBuffer.memoryEstimation(relationshipType, 0, false)
+            );
+            duringLoadingEstimation.perNode(formatWithLocale("inverse offsets for '%s'", relationshipType), HugeLongArray::memoryEstimation);
+            duringLoadingEstimation.perNode(formatWithLocale("inverse degrees for '%s'", relationshipType), HugeIntArray::memoryEstimation);
+        }
         relationshipProjection.properties().mappings().forEach(resolvedPropertyMapping -> duringLoadingEstimation.perNode(
             formatWithLocale("property '%s.%s'", relationshipType, resolvedPropertyMapping.propertyKey()),
             HugeLongArray::memoryEstimation
@@ -157,6 +165,12 @@ public final class NativeFactory extends CSRGraphStoreFactory<GraphProjectFromSt
             formatWithLocale("adjacency list for '%s'", relationshipType),
             AdjacencyListBehavior.adjacencyListEstimation(relationshipType, undirected)
         );
+        if (hasInverseIndex(relationshipProjection)) {
+            afterLoadingEstimation.add(
+                formatWithLocale("inverse adjacency list for '%s'", relationshipType),
+                AdjacencyListBehavior.adjacencyListEstimation(relationshipType, false)
+            );
+        }
         // all properties per projection
         relationshipProjection.properties().mappings().forEach(resolvedPropertyMapping -> {
             afterLoadingEstimation.add(
@@ -168,6 +182,10 @@ public final class NativeFactory extends CSRGraphStoreFactory<GraphProjectFromSt
         return afterLoadingEstimation.build();
     }
 
+    private static boolean hasInverseIndex(RelationshipProjection relationshipProjection) {
+        return relationshipProjection.indexInverse() && relationshipProjection.orientation() != Orientation.UNDIRECTED;
+    }
+
     @Override
     protected ProgressTracker initProgressTracker() {
         long relationshipCount = graphProjectConfig
@@ -180,7 +198,8 @@ public final class NativeFactory extends CSRGraphStoreFactory<GraphProjectFromSt
                     ? dimensions.relationshipCounts().values().stream().reduce(Long::sum).orElse(0L)
                     : dimensions.relationshipCounts().getOrDefault(entry.getKey(), 0L);
 
-                return entry.getValue().orientation() == Orientation.UNDIRECTED
+                // undirected and inverse indexed relationships are imported twice
+                return entry.getValue().orientation() == Orientation.UNDIRECTED || hasInverseIndex(entry.getValue())
                     ? relCount * 2
                     : relCount;
             }).mapToLong(Long::longValue).sum();
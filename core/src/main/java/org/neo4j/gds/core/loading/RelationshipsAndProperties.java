@@ -93,13 +93,18 @@ public interface RelationshipsAndProperties {
 
             RelationshipProjection projection = context.relationshipProjection();
 
+            var inverseAdjacency = context
+                .inverseImporter()
+                .map(inverseImporter -> inverseImporter.build().adjacency());
+
             relationships.put(
                 context.relationshipType(),
                 ImmutableTopology.of(
                     adjacency,
                     relationshipCount,
                     projection.orientation(),
-                    projection.isMultiGraph()
+                    projection.isMultiGraph(),
+                    inverseAdjacency
                 )
             );
 
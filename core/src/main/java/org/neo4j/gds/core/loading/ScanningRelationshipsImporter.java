@@ -20,15 +20,19 @@
 package org.neo4j.gds.core.loading;
 
 import org.immutables.builder.Builder;
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.RelationshipProjection;
 import org.neo4j.gds.api.GraphLoaderContext;
 import org.neo4j.gds.api.IdMap;
 import org.neo4j.gds.config.GraphProjectFromStoreConfig;
+import org.neo4j.gds.core.Aggregation;
 import org.neo4j.gds.core.GraphDimensions;
 import org.neo4j.gds.core.loading.SingleTypeRelationshipImporter.SingleTypeRelationshipImportContext;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.neo4j.gds.utils.GdsFeatureToggles.USE_PRE_AGGREGATION;
 
@@ -110,11 +114,29 @@ public final class ScanningRelationshipsImporter extends ScanningRecordsImporter
                         .validateRelationships(graphProjectConfig.validateRelationships())
                         .build();
 
-                    return ImmutableSingleTypeRelationshipImportContext.builder()
+                    var importContext = ImmutableSingleTypeRelationshipImportContext.builder()
                         .relationshipType(relationshipType)
                         .relationshipProjection(projection)
-                        .singleTypeRelationshipImporter(importerFactory)
-                        .build();
+                        .singleTypeRelationshipImporter(importerFactory);
+
+                    // undirected relationships are their own inverse
+                    if (projection.indexInverse() && projection.orientation() != Orientation.UNDIRECTED) {
+                        var inverseImportMetaData = SingleTypeRelationshipImporter.ImportMetaData.of(
+                            inverseProjection(projection),
+                            dimensions.relationshipTypeTokenMapping().get(relationshipType),
+                            dimensions.relationshipPropertyTokens(),
+                            USE_PRE_AGGREGATION.isEnabled()
+                        );
+
+                        importContext.inverseImporter(new SingleTypeRelationshipImporterBuilder()
+                            .importMetaData(inverseImportMetaData)
+                            .nodeCountSupplier(dimensions::nodeCount)
+                            .importSizing(sizing)
+                            .validateRelationships(graphProjectConfig.validateRelationships())
+                            .build());
+                    }
+
+                    return importContext.build();
                 }
             ).collect(Collectors.toList());
 
@@ -125,7 +147,10 @@ public final class ScanningRelationshipsImporter extends ScanningRecordsImporter
             storeScanner,
             importContexts
                 .stream()
-                .map(SingleTypeRelationshipImportContext::singleTypeRelationshipImporter)
+                .flatMap(context -> Stream.concat(
+                    Stream.of(context.singleTypeRelationshipImporter()),
+                    context.inverseImporter().stream()
+                ))
                 .collect(Collectors.toList())
         );
     }
@@ -134,4 +159,16 @@ public final class ScanningRelationshipsImporter extends ScanningRecordsImporter
     public RelationshipsAndProperties build() {
         return RelationshipsAndProperties.of(importContexts);
     }
+
+    /**
+     * The inverse index only contains the topology, the relationship properties are
+     * not duplicated. Parallel relationships are kept or dropped as in the projection itself.
+     */
+    private static RelationshipProjection inverseProjection(RelationshipProjection projection) {
+        return RelationshipProjection.builder()
+            .type(projection.type())
+            .orientation(projection.orientation() == Orientation.NATURAL ? Orientation.REVERSE : Orientation.NATURAL)
+            .aggregation(projection.isMultiGraph() ? Aggregation.NONE : Aggregation.SINGLE)
+            .build();
+    }
 }
@@ -208,5 +208,10 @@ public final class SingleTypeRelationshipImporter {
         RelationshipProjection relationshipProjection();
 
         SingleTypeRelationshipImporter singleTypeRelationshipImporter();
+
+        /**
+         * Imports the incoming relationships if the projection requests an inverse index.
+         */
+        Optional<SingleTypeRelationshipImporter> inverseImporter();
     }
 }
@@ -20,9 +20,12 @@
 package org.neo4j.gds.core.utils;
 
 import com.carrotsearch.hppc.LongHashSet;
+import org.neo4j.gds.core.utils.vector.VectorKernels;
 
 public final class Intersections {
 
+    private static final VectorKernels KERNELS = VectorKernels.instance();
+
     public static long intersection(LongHashSet targets1, LongHashSet targets2) {
         LongHashSet intersectionSet = new LongHashSet(targets1);
         intersectionSet.retainAll(targets2);
@@ -100,12 +103,7 @@ public final class Intersections {
     }
 
     public static double sumSquareDelta(double[] vector1, double[] vector2, int len) {
-        double result = 0;
-        for (int i = 0; i < len; i++) {
-            double delta = vector1[i] - vector2[i];
-            result += delta * delta;
-        }
-        return result;
+        return KERNELS.squaredDistance(vector1, 0, vector2, 0, len);
     }
 
     public static double[] sumSquareDeltas(double[] vector1, double[][] vector2, int len) {
@@ -140,30 +138,7 @@ public final class Intersections {
     }
 
     public static double pearson(double[] vector1, double[] vector2, int len) {
-        double vector1Sum = 0.0;
-        double vector2Sum = 0.0;
-        for (int i = 0; i < len; i++) {
-            vector1Sum += vector1[i];
-            vector2Sum += vector2[i];
-        }
-
-        double vector1Mean = vector1Sum / len;
-        double vector2Mean = vector2Sum / len;
-
-        double dotProductMinusMean = 0D;
-        double xLength = 0D;
-        double yLength = 0D;
-        for (int i = 0; i < len; i++) {
-            double vector1Delta = vector1[i] - vector1Mean;
-            double vector2Delta = vector2[i] - vector2Mean;
-
-            dotProductMinusMean += (vector1Delta * vector2Delta);
-            xLength += vector1Delta * vector1Delta;
-            yLength += vector2Delta * vector2Delta;
-        }
-
-        double result = dotProductMinusMean / Math.sqrt(xLength * yLength);
-        return Double.isNaN(result) ? 0 : result;
+        return KERNELS.pearson(vector1, vector2, len);
     }
 
     public static double pearsonSkip(double[] vector1, double[] vector2, int len, double skipValue) {
@@ -216,38 +191,10 @@ public final class Intersections {
     }
 
     public static double cosine(double[] vector1, double[] vector2, int len) {
-        double dotProduct = 0D;
-        double xLength = 0D;
-        double yLength = 0D;
-        for (int i = 0; i < len; i++) {
-            double weight1 = vector1[i];
-            // if (weight1 == 0d) continue;
-            double weight2 = vector2[i];
-            // if (weight2 == 0d) continue;
-
-            dotProduct += weight1 * weight2;
-            xLength += weight1 * weight1;
-            yLength += weight2 * weight2;
-        }
-
-        return dotProduct / Math.sqrt(xLength * yLength);
+        return KERNELS.cosine(vector1, vector2, len);
     }
 
     public static float cosine(float[] vector1, float[] vector2, int len) {
-        float dotProduct = 0F;
-        float xLength = 0F;
-        float yLength = 0F;
-        for (int i = 0; i < len; i++) {
-            float weight1 = vector1[i];
-            // if (weight1 == 0d) continue;
-            float weight2 = vector2[i];
-            // if (weight2 == 0d) continue;
-
-            dotProduct += weight1 * weight2;
-            xLength += weight1 * weight1;
-            yLength += weight2 * weight2;
-        }
-
-        return (float) (dotProduct / Math.sqrt(xLength * yLength));
+        return KERNELS.cosine(vector1, vector2, len);
     }
 }
@@ -39,6 +39,14 @@ public interface GraphStoreToFileExporterConfig extends GraphStoreExporterBaseCo
 
     String exportName();
 
+    /**
+     * Exports a binary snapshot with block compressed columns instead of csv files.
+     */
+    @Value.Default
+    default boolean binary() {
+        return false;
+    }
+
     static GraphStoreToFileExporterConfig of(String username, CypherMapWrapper config) {
         return new GraphStoreToFileExporterConfigImpl(username, config);
     }
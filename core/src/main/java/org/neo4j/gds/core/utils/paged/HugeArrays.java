@@ -20,6 +20,7 @@
 package org.neo4j.gds.core.utils.paged;
 
 import org.neo4j.gds.mem.MemoryUsage;
+import org.neo4j.gds.utils.GdsFeatureToggles;
 
 public final class HugeArrays {
 
@@ -43,6 +44,13 @@ public final class HugeArrays {
         return (pageIndex << PAGE_SHIFT) | indexInPage;
     }
 
+    /**
+     * Arrays that fit into a single page stay on the heap, even if off-heap arrays are enabled.
+     */
+    static boolean useOffHeap(long size) {
+        return size > PAGE_SIZE && GdsFeatureToggles.USE_OFF_HEAP_ARRAYS.isEnabled();
+    }
+
     public static int numberOfPages(long capacity) {
         final long numPages = (capacity + PAGE_MASK) >>> PAGE_SHIFT;
         assert numPages <= Integer.MAX_VALUE : "pageSize=" + (PAGE_SIZE) + " is too small for capacity: " + capacity;
@@ -183,6 +183,46 @@ public final class HugeAtomicBitSetOps {
         }
     }
 
+    /**
+     * Calls the given consumer for each set bit from the startIndex (inclusive) to the endIndex (exclusive).
+     */
+    static void forEachSetBit(
+        HugeAtomicLongArray bits,
+        long numBits,
+        long startIndex,
+        long endIndex,
+        LongConsumer consumer
+    ) {
+        assert (startIndex <= endIndex);
+        assert (endIndex <= numBits);
+
+        if (startIndex == endIndex) {
+            return;
+        }
+
+        long startWordIndex = startIndex / NUM_BITS;
+        // since endIndex is exclusive, we need the word before that index
+        long endWordIndex = (endIndex - 1) / NUM_BITS;
+
+        long startBitMask = -1L << startIndex;
+        long endBitMask = -1L >>> -endIndex;
+
+        for (long wordIndex = startWordIndex; wordIndex <= endWordIndex; wordIndex++) {
+            long word = bits.get(wordIndex);
+            if (wordIndex == startWordIndex) {
+                word &= startBitMask;
+            }
+            if (wordIndex == endWordIndex) {
+                word &= endBitMask;
+            }
+            while (word != 0) {
+                long next = Long.numberOfTrailingZeros(word);
+                consumer.accept(NUM_BITS * wordIndex + next);
+                word = word ^ Long.lowestOneBit(word);
+            }
+        }
+    }
+
     /**
      * Returns the number of set bits in the bit set.
      * <p>
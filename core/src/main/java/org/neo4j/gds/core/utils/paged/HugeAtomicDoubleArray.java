@@ -25,6 +25,7 @@ import org.neo4j.gds.core.utils.ArrayUtil;
 
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
 import java.util.Arrays;
 import java.util.function.DoubleUnaryOperator;
 
@@ -196,17 +197,30 @@ public abstract class HugeAtomicDoubleArray {
         long size,
         DoublePageCreator pageFiller
     ) {
+        if (HugeArrays.useOffHeap(size)) {
+            return OffHeapHugeAtomicDoubleArray.of(size, pageFiller);
+        }
         if (size <= ArrayUtil.MAX_ARRAY_LENGTH) {
             return HugeAtomicDoubleArray.SingleHugeAtomicDoubleArray.of(size, pageFiller);
         }
         return HugeAtomicDoubleArray.PagedHugeAtomicDoubleArray.of(size, pageFiller);
     }
 
+    /**
+     * Creates a new array of the given size that is stored in native memory, regardless of the feature toggle.
+     */
+    public static HugeAtomicDoubleArray newOffHeapArray(long size, DoublePageCreator pageFiller) {
+        return OffHeapHugeAtomicDoubleArray.of(size, pageFiller);
+    }
+
     public static long memoryEstimation(long size) {
         assert size >= 0;
         long instanceSize;
         long dataSize;
-        if (size <= ArrayUtil.MAX_ARRAY_LENGTH) {
+        if (HugeArrays.useOffHeap(size)) {
+            instanceSize = sizeOfInstance(OffHeapHugeAtomicDoubleArray.class);
+            dataSize = OffHeapPages.memoryUsage(size, Double.BYTES);
+        } else if (size <= ArrayUtil.MAX_ARRAY_LENGTH) {
             instanceSize = sizeOfInstance(HugeAtomicDoubleArray.SingleHugeAtomicDoubleArray.class);
             dataSize = sizeOfLongArray((int) size);
         } else {
@@ -482,4 +496,119 @@ public abstract class HugeAtomicDoubleArray {
             return 0L;
         }
     }
+
+    private static final class OffHeapHugeAtomicDoubleArray extends HugeAtomicDoubleArray {
+
+        private static final VarHandle BUFFER_HANDLE = MethodHandles.byteBufferViewVarHandle(
+            double[].class,
+            ByteOrder.nativeOrder()
+        );
+
+        private static HugeAtomicDoubleArray of(
+            long size,
+            DoublePageCreator pageCreator
+        ) {
+            var memory = OffHeapPages.allocate(size, Double.BYTES);
+            int numPages = memory.pageCount();
+            // pages are filled one after the other through a single on-heap page
+            var buffer = new double[PAGE_SIZE];
+            for (int pageIndex = 0; pageIndex < numPages; pageIndex++) {
+                var page = pageIndex == numPages - 1 ? new double[exclusiveIndexOfPage(size)] : buffer;
+                pageCreator.fillPage(page, ((long) pageIndex) << HugeArrays.PAGE_SHIFT);
+                memory.writePage(pageIndex, 0, page, 0, page.length);
+            }
+            VarHandle.storeStoreFence();
+            return new OffHeapHugeAtomicDoubleArray(size, memory);
+        }
+
+        private final long size;
+        private final OffHeapPages memory;
+
+        private OffHeapHugeAtomicDoubleArray(long size, OffHeapPages memory) {
+            this.size = size;
+            this.memory = memory;
+        }
+
+        private static int byteIndex(long index) {
+            return indexInPage(index) << 3;
+        }
+
+        @Override
+        public double get(long index) {
+            return (double) BUFFER_HANDLE.getVolatile(memory.page(pageIndex(index)), byteIndex(index));
+        }
+
+        @Override
+        public double getAndAdd(long index, double delta) {
+            var page = memory.page(pageIndex(index));
+            int byteIndex = byteIndex(index);
+            double prev = (double) BUFFER_HANDLE.getAcquire(page, byteIndex);
+            while (true) {
+                double next = prev + delta;
+                double current = (double) BUFFER_HANDLE.compareAndExchangeRelease(page, byteIndex, prev, next);
+                if (Double.compare(prev, current) == 0) {
+                    return prev;
+                }
+                prev = current;
+            }
+        }
+
+        @Override
+        public void set(long index, double value) {
+            BUFFER_HANDLE.setVolatile(memory.page(pageIndex(index)), byteIndex(index), value);
+        }
+
+        @Override
+        public double getAndReplace(long index, double value) {
+            return (double) BUFFER_HANDLE.getAndSet(memory.page(pageIndex(index)), byteIndex(index), value);
+        }
+
+        @Override
+        public boolean compareAndSet(long index, double expect, double update) {
+            return BUFFER_HANDLE.compareAndSet(memory.page(pageIndex(index)), byteIndex(index), expect, update);
+        }
+
+        @Override
+        public double compareAndExchange(long index, double expect, double update) {
+            return (double) BUFFER_HANDLE.compareAndExchange(memory.page(pageIndex(index)), byteIndex(index), expect, update);
+        }
+
+        @Override
+        public void update(long index, DoubleUnaryOperator updateFunction) {
+            var page = memory.page(pageIndex(index));
+            int byteIndex = byteIndex(index);
+            double prev = (double) BUFFER_HANDLE.getAcquire(page, byteIndex);
+            while (true) {
+                double next = updateFunction.applyAsDouble(prev);
+                double current = (double) BUFFER_HANDLE.compareAndExchangeRelease(page, byteIndex, prev, next);
+                if (Double.compare(prev, current) == 0) {
+                    return;
+                }
+                prev = current;
+            }
+        }
+
+        @Override
+        public long size() {
+            return size;
+        }
+
+        @Override
+        public long sizeOf() {
+            return memory.sizeOf();
+        }
+
+        @Override
+        public void setAll(double value) {
+            for (long i = 0; i < size; i++) {
+                BUFFER_HANDLE.set(memory.page(pageIndex(i)), byteIndex(i), value);
+            }
+            VarHandle.storeStoreFence();
+        }
+
+        @Override
+        public long release() {
+            return memory.release();
+        }
+    }
 }
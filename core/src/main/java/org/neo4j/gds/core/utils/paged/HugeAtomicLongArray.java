@@ -24,6 +24,7 @@ import org.neo4j.gds.core.utils.ArrayUtil;
 
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
 import java.util.Arrays;
 import java.util.function.LongUnaryOperator;
 
@@ -227,17 +228,30 @@ public abstract class HugeAtomicLongArray implements HugeCursorSupport<long[]> {
         long size,
         LongPageCreator pageFiller
     ) {
+        if (HugeArrays.useOffHeap(size)) {
+            return OffHeapHugeAtomicLongArray.of(size, pageFiller);
+        }
         if (size <= ArrayUtil.MAX_ARRAY_LENGTH) {
             return SingleHugeAtomicLongArray.of(size, pageFiller);
         }
         return PagedHugeAtomicLongArray.of(size, pageFiller);
     }
 
+    /**
+     * Creates a new array of the given size that is stored in native memory, regardless of the feature toggle.
+     */
+    public static HugeAtomicLongArray newOffHeapArray(long size, LongPageCreator pageFiller) {
+        return OffHeapHugeAtomicLongArray.of(size, pageFiller);
+    }
+
     public static long memoryEstimation(long size) {
         assert size >= 0;
         long instanceSize;
         long dataSize;
-        if (size <= ArrayUtil.MAX_ARRAY_LENGTH) {
+        if (HugeArrays.useOffHeap(size)) {
+            instanceSize = sizeOfInstance(OffHeapHugeAtomicLongArray.class);
+            dataSize = OffHeapPages.memoryUsage(size, Long.BYTES);
+        } else if (size <= ArrayUtil.MAX_ARRAY_LENGTH) {
             instanceSize = sizeOfInstance(SingleHugeAtomicLongArray.class);
             dataSize = sizeOfLongArray((int) size);
         } else {
@@ -247,6 +261,18 @@ public abstract class HugeAtomicLongArray implements HugeCursorSupport<long[]> {
         return instanceSize + dataSize;
     }
 
+    /**
+     * Element-wise copy for destinations that are stored differently than this array.
+     */
+    final void copyElements(HugeAtomicLongArray dest, long length) {
+        for (long i = 0; i < length; i++) {
+            dest.set(i, get(i));
+        }
+        for (long i = length; i < dest.size(); i++) {
+            dest.set(i, 0L);
+        }
+    }
+
     /* test-only */
     static HugeAtomicLongArray newPagedArray(
         long size,
@@ -395,6 +421,8 @@ public abstract class HugeAtomicLongArray implements HugeCursorSupport<long[]> {
                         remaining -= toCopy;
                     }
                 }
+            } else {
+                copyElements(dest, length);
             }
         }
     }
@@ -572,9 +600,127 @@ public abstract class HugeAtomicLongArray implements HugeCursorSupport<long[]> {
                 for (int i = pageLen; i < dst.pages.length; i++) {
                     Arrays.fill(dst.pages[i], 0L);
                 }
+            } else {
+                copyElements(dest, length);
+            }
+        }
+
+    }
+
+    static final class OffHeapHugeAtomicLongArray extends HugeAtomicLongArray {
+
+        private static final VarHandle BUFFER_HANDLE = MethodHandles.byteBufferViewVarHandle(
+            long[].class,
+            ByteOrder.nativeOrder()
+        );
+
+        private static HugeAtomicLongArray of(
+            long size,
+            LongPageCreator pageCreator
+        ) {
+            var memory = OffHeapPages.allocate(size, Long.BYTES);
+            int numPages = memory.pageCount();
+            // pages are filled one after the other through a single on-heap page
+            var buffer = new long[PAGE_SIZE];
+            for (int pageIndex = 0; pageIndex < numPages; pageIndex++) {
+                var page = pageIndex == numPages - 1 ? new long[exclusiveIndexOfPage(size)] : buffer;
+                pageCreator.fillPage(page, ((long) pageIndex) << HugeArrays.PAGE_SHIFT);
+                memory.writePage(pageIndex, 0, page, 0, page.length);
+            }
+            VarHandle.storeStoreFence();
+            return new OffHeapHugeAtomicLongArray(size, memory);
+        }
+
+        private final long size;
+        private final OffHeapPages memory;
+
+        private OffHeapHugeAtomicLongArray(long size, OffHeapPages memory) {
+            this.size = size;
+            this.memory = memory;
+        }
+
+        private static int byteIndex(long index) {
+            return indexInPage(index) << 3;
+        }
+
+        @Override
+        public long get(long index) {
+            return (long) BUFFER_HANDLE.getVolatile(memory.page(pageIndex(index)), byteIndex(index));
+        }
+
+        @Override
+        public long getAndAdd(long index, long delta) {
+            return (long) BUFFER_HANDLE.getAndAdd(memory.page(pageIndex(index)), byteIndex(index), delta);
+        }
+
+        @Override
+        public void set(long index, long value) {
+            BUFFER_HANDLE.setVolatile(memory.page(pageIndex(index)), byteIndex(index), value);
+        }
+
+        @Override
+        public boolean compareAndSet(long index, long expect, long update) {
+            return BUFFER_HANDLE.compareAndSet(memory.page(pageIndex(index)), byteIndex(index), expect, update);
+        }
+
+        @Override
+        public long compareAndExchange(long index, long expect, long update) {
+            return (long) BUFFER_HANDLE.compareAndExchange(memory.page(pageIndex(index)), byteIndex(index), expect, update);
+        }
+
+        @Override
+        public void update(long index, LongUnaryOperator updateFunction) {
+            var page = memory.page(pageIndex(index));
+            int byteIndex = byteIndex(index);
+            long prev = (long) BUFFER_HANDLE.getAcquire(page, byteIndex);
+            while (true) {
+                long next = updateFunction.applyAsLong(prev);
+                long current = (long) BUFFER_HANDLE.compareAndExchangeRelease(page, byteIndex, prev, next);
+                if (prev == current) {
+                    return;
+                }
+                prev = current;
+            }
+        }
+
+        @Override
+        public HugeCursor<long[]> newCursor() {
+            return new HugeCursor.OffHeapCursor<>(
+                size,
+                new long[PAGE_SIZE],
+                new long[PAGE_SIZE],
+                memory::copyPage,
+                memory::writeChangedPage
+            );
+        }
+
+        @Override
+        public long size() {
+            return size;
+        }
+
+        @Override
+        public long sizeOf() {
+            return memory.sizeOf();
+        }
+
+        @Override
+        public void setAll(long value) {
+            for (long i = 0; i < size; i++) {
+                BUFFER_HANDLE.set(memory.page(pageIndex(i)), byteIndex(i), value);
             }
+            VarHandle.storeStoreFence();
         }
 
+        @Override
+        public long release() {
+            return memory.release();
+        }
+
+        @Override
+        public void copyTo(HugeAtomicLongArray dest, long length) {
+            copyElements(dest, Math.min(Math.min(length, size), dest.size()));
+        }
     }
 
 }
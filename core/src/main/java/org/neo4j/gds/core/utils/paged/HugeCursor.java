@@ -201,4 +201,110 @@ public abstract class HugeCursor<Array> implements AutoCloseable {
             pageIndex = -1;
         }
     }
+
+    /**
+     * Cursor over the pages of an off-heap array.
+     * The values of every page are copied into a reusable on-heap buffer.
+     * Values that are changed in {@link #array} are written back to the underlying array
+     * when the cursor moves to the next page, is reset or is closed.
+     * Only changed values are written back, so that concurrent writes to other indices of the same page are kept.
+     */
+    static final class OffHeapCursor<Array> extends HugeCursor<Array> {
+
+        @FunctionalInterface
+        interface PageCopier<Array> {
+            void copy(int pageIndex, int from, int to, Array into);
+        }
+
+        @FunctionalInterface
+        interface PageWriter<Array> {
+            void writeChanged(int pageIndex, int from, int to, Array values, Array original);
+        }
+
+        private PageCopier<Array> copier;
+        private PageWriter<Array> writer;
+        // the values of the current page as they were copied, to detect changes
+        private Array original;
+        private int pageIndex;
+        private int fromPage;
+        private int maxPage;
+        private int loadedPage;
+        private final long capacity;
+        private long end;
+
+        OffHeapCursor(
+            long capacity,
+            Array buffer,
+            Array original,
+            PageCopier<Array> copier,
+            PageWriter<Array> writer
+        ) {
+            super();
+            this.capacity = capacity;
+            this.array = buffer;
+            this.original = original;
+            this.copier = copier;
+            this.writer = writer;
+            this.loadedPage = -1;
+        }
+
+        @Override
+        void setRange() {
+            setRange(0L, capacity);
+        }
+
+        @Override
+        void setRange(long start, long end) {
+            writeBack();
+            fromPage = pageIndex(start);
+            maxPage = pageIndex(end - 1L);
+            pageIndex = fromPage - 1;
+            this.end = end;
+            base = (long) fromPage << PAGE_SHIFT;
+            offset = indexInPage(start);
+            limit = fromPage == maxPage ? exclusiveIndexOfPage(end) : PAGE_SIZE;
+        }
+
+        @Override
+        public boolean next() {
+            writeBack();
+            int current = ++pageIndex;
+            if (current > maxPage) {
+                return false;
+            }
+            if (current != fromPage) {
+                base += PAGE_SIZE;
+                offset = 0;
+                limit = current == maxPage ? exclusiveIndexOfPage(end) : PAGE_SIZE;
+            }
+            copier.copy(current, offset, limit, array);
+            System.arraycopy(array, offset, original, offset, limit - offset);
+            loadedPage = current;
+            return true;
+        }
+
+        @Override
+        public void close() {
+            if (array != null) {
+                writeBack();
+            }
+            array = null;
+            original = null;
+            copier = null;
+            writer = null;
+            base = 0L;
+            end = 0L;
+            limit = 0;
+            maxPage = -1;
+            fromPage = -1;
+            pageIndex = -1;
+        }
+
+        private void writeBack() {
+            if (loadedPage >= 0) {
+                writer.writeChanged(loadedPage, offset, limit, array, original);
+                loadedPage = -1;
+            }
+        }
+    }
 }
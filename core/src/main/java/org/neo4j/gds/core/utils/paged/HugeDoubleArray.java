@@ -26,6 +26,7 @@ import java.util.Arrays;
 import java.util.function.LongFunction;
 import java.util.function.LongToDoubleFunction;
 import java.util.stream.DoubleStream;
+import java.util.stream.LongStream;
 
 import static org.neo4j.gds.core.utils.paged.HugeArrays.PAGE_SHIFT;
 import static org.neo4j.gds.core.utils.paged.HugeArrays.PAGE_SIZE;
@@ -42,6 +43,8 @@ import static org.neo4j.gds.mem.MemoryUsage.sizeOfObjectArray;
  * <p>
  * It is implemented by paging of smaller double-arrays ({@code double[][]}) to support approx. 32k bn. elements.
  * If the provided size is small enough, an optimized view of a single {@code double[]} might be used.
+ * If {@link org.neo4j.gds.utils.GdsFeatureToggles#USE_OFF_HEAP_ARRAYS} is enabled, larger arrays are stored in native memory,
+ * which is freed on {@link #release()}.
  *
  * <ul>
  * <li>The array is of a fixed size and cannot grow or shrink dynamically.</li>
@@ -199,15 +202,28 @@ public abstract class HugeDoubleArray extends HugeArray<double[], Double, HugeDo
      * Creates a new array of the given size.
      */
     public static HugeDoubleArray newArray(long size) {
+        if (HugeArrays.useOffHeap(size)) {
+            return OffHeapHugeDoubleArray.of(size);
+        }
         if (size <= ArrayUtil.MAX_ARRAY_LENGTH) {
             return SingleHugeDoubleArray.of(size);
         }
         return PagedHugeDoubleArray.of(size);
     }
 
+    /**
+     * Creates a new array of the given size that is stored in native memory, regardless of the feature toggle.
+     */
+    public static HugeDoubleArray newOffHeapArray(long size) {
+        return OffHeapHugeDoubleArray.of(size);
+    }
+
     public static long memoryEstimation(long size) {
         assert size >= 0;
 
+        if (HugeArrays.useOffHeap(size)) {
+            return sizeOfInstance(OffHeapHugeDoubleArray.class) + OffHeapPages.memoryUsage(size, Double.BYTES);
+        }
         if (size <= ArrayUtil.MAX_ARRAY_LENGTH) {
             return sizeOfInstance(SingleHugeDoubleArray.class) + sizeOfDoubleArray((int)size);
         }
@@ -227,6 +243,25 @@ public abstract class HugeDoubleArray extends HugeArray<double[], Double, HugeDo
         return new HugeDoubleArray.SingleHugeDoubleArray(values.length, values);
     }
 
+    /**
+     * Element-wise copy for destinations that are stored differently than this array.
+     */
+    final void copyElements(HugeDoubleArray dest, long length) {
+        if (length > 0) {
+            try (HugeCursor<double[]> cursor = initCursor(newCursor(), 0, length)) {
+                while (cursor.next()) {
+                    double[] array = cursor.array;
+                    for (int i = cursor.offset; i < cursor.limit; i++) {
+                        dest.set(cursor.base + i, array[i]);
+                    }
+                }
+            }
+        }
+        for (long i = length; i < dest.size(); i++) {
+            dest.set(i, 0D);
+        }
+    }
+
     /* test-only */
     static HugeDoubleArray newPagedArray(long size) {
         return PagedHugeDoubleArray.of(size);
@@ -312,6 +347,8 @@ public abstract class HugeDoubleArray extends HugeArray<double[], Double, HugeDo
                         remaining -= toCopy;
                     }
                 }
+            } else {
+                copyElements(dest, length);
             }
         }
 
@@ -463,6 +500,8 @@ public abstract class HugeDoubleArray extends HugeArray<double[], Double, HugeDo
                 for (int i = pageLen; i < dst.pages.length; i++) {
                     Arrays.fill(dst.pages[i], 0D);
                 }
+            } else {
+                copyElements(dest, length);
             }
         }
 
@@ -495,4 +534,107 @@ public abstract class HugeDoubleArray extends HugeArray<double[], Double, HugeDo
             return Arrays.stream(pages).flatMapToDouble(Arrays::stream);
         }
     }
+
+    private static final class OffHeapHugeDoubleArray extends HugeDoubleArray {
+
+        private static HugeDoubleArray of(long size) {
+            return new OffHeapHugeDoubleArray(size, OffHeapPages.allocate(size, Double.BYTES));
+        }
+
+        private final long size;
+        private final OffHeapPages memory;
+
+        private OffHeapHugeDoubleArray(long size, OffHeapPages memory) {
+            this.size = size;
+            this.memory = memory;
+        }
+
+        private static int byteIndex(long index) {
+            return indexInPage(index) << 3;
+        }
+
+        @Override
+        public double get(long index) {
+            assert index < size;
+            return memory.page(pageIndex(index)).getDouble(byteIndex(index));
+        }
+
+        @Override
+        public void set(long index, double value) {
+            assert index < size;
+            memory.page(pageIndex(index)).putDouble(byteIndex(index), value);
+        }
+
+        @Override
+        public void addTo(long index, double value) {
+            assert index < size;
+            var page = memory.page(pageIndex(index));
+            int byteIndex = byteIndex(index);
+            page.putDouble(byteIndex, page.getDouble(byteIndex) + value);
+        }
+
+        @Override
+        public void setAll(LongToDoubleFunction gen) {
+            for (long i = 0; i < size; i++) {
+                set(i, gen.applyAsDouble(i));
+            }
+        }
+
+        @Override
+        public void fill(double value) {
+            for (long i = 0; i < size; i++) {
+                set(i, value);
+            }
+        }
+
+        @Override
+        public void copyTo(HugeDoubleArray dest, long length) {
+            copyElements(dest, Math.min(Math.min(length, size), dest.size()));
+        }
+
+        @Override
+        public int copyFromArrayIntoSlice(double[] source, long sliceStart, long sliceEnd) {
+            int sourceIndex = 0;
+            int length = (int) Math.min(source.length, sliceEnd - sliceStart);
+            while (sourceIndex < length) {
+                long index = sliceStart + sourceIndex;
+                int indexInPage = indexInPage(index);
+                int copyLength = Math.min(PAGE_SIZE - indexInPage, length - sourceIndex);
+                memory.writePage(pageIndex(index), indexInPage, source, sourceIndex, copyLength);
+                sourceIndex += copyLength;
+            }
+            return sourceIndex;
+        }
+
+        @Override
+        public long size() {
+            return size;
+        }
+
+        @Override
+        public long sizeOf() {
+            return memory.sizeOf();
+        }
+
+        @Override
+        public long release() {
+            return memory.release();
+        }
+
+        @Override
+        public HugeCursor<double[]> newCursor() {
+            return new HugeCursor.OffHeapCursor<>(
+                size,
+                new double[PAGE_SIZE],
+                new double[PAGE_SIZE],
+                memory::copyPage,
+                memory::writeChangedPage
+            );
+        }
+
+        @Override
+        public DoubleStream stream() {
+            return LongStream.range(0, size).mapToDouble(this::get);
+        }
+    }
 }
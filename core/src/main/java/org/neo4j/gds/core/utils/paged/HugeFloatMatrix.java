@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.paged;
+
+import org.neo4j.gds.api.NodeProperties;
+import org.neo4j.gds.api.nodeproperties.FloatArrayNodeProperties;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.mem.BitUtil;
+
+import java.util.Arrays;
+
+import static org.neo4j.gds.mem.MemoryUsage.sizeOfFloatArray;
+import static org.neo4j.gds.mem.MemoryUsage.sizeOfInstance;
+import static org.neo4j.gds.mem.MemoryUsage.sizeOfObjectArray;
+
+/**
+ * A dense matrix of floats with a fixed number of columns, e.g. an embedding of {@code dimension} floats for every node.
+ *
+ * Rows are stored back to back in pages of floats. Every page holds the same power of two number of rows,
+ * so a row never spans two pages. Compared to a {@link HugeObjectArray} of {@code float[]},
+ * there is no array header and reference per row and the rows of consecutive nodes are next to each other.
+ *
+ * Algorithms that work on whole rows should access them in place, using {@link #page(long)} and {@link #offset(long)},
+ * instead of copying them with {@link #row(long)}.
+ */
+public final class HugeFloatMatrix {
+
+    private final long rows;
+    private final int dimension;
+    private final int rowsPerPageShift;
+    private final long rowInPageMask;
+    private float[][] pages;
+
+    public static HugeFloatMatrix newMatrix(long rows, int dimension) {
+        if (dimension <= 0) {
+            throw new IllegalArgumentException("The dimension of a matrix must be positive.");
+        }
+        return new HugeFloatMatrix(rows, dimension);
+    }
+
+    public static MemoryEstimation memoryEstimation(int dimension) {
+        return MemoryEstimations.builder(HugeFloatMatrix.class)
+            .perNode("pages", nodeCount -> memoryEstimation(nodeCount, dimension) - sizeOfInstance(HugeFloatMatrix.class))
+            .build();
+    }
+
+    public static long memoryEstimation(long rows, int dimension) {
+        int rowsPerPage = 1 << rowsPerPageShift(dimension);
+        long fullPages = rows / rowsPerPage;
+        int lastPageRows = (int) (rows % rowsPerPage);
+        int numPages = Math.toIntExact(fullPages + (lastPageRows > 0 ? 1 : 0));
+
+        long pageMemoryUsage = fullPages * sizeOfFloatArray((long) rowsPerPage * dimension);
+        if (lastPageRows > 0) {
+            pageMemoryUsage += sizeOfFloatArray((long) lastPageRows * dimension);
+        }
+
+        return sizeOfInstance(HugeFloatMatrix.class) + sizeOfObjectArray(numPages) + pageMemoryUsage;
+    }
+
+    private static int rowsPerPageShift(int dimension) {
+        // rows are never split, a row longer than a page gets a page of its own
+        int rowsPerPage = Math.max(1, HugeArrays.PAGE_SIZE / dimension);
+        return Integer.numberOfTrailingZeros(Integer.highestOneBit(rowsPerPage));
+    }
+
+    private HugeFloatMatrix(long rows, int dimension) {
+        this.rows = rows;
+        this.dimension = dimension;
+        this.rowsPerPageShift = rowsPerPageShift(dimension);
+        this.rowInPageMask = (1L << rowsPerPageShift) - 1;
+
+        int rowsPerPage = 1 << rowsPerPageShift;
+        int numPages = Math.toIntExact(BitUtil.ceilDiv(rows, rowsPerPage));
+        this.pages = new float[numPages][];
+        for (int pageIndex = 0; pageIndex < numPages; pageIndex++) {
+            long pageRows = Math.min(rowsPerPage, rows - ((long) pageIndex << rowsPerPageShift));
+            this.pages[pageIndex] = new float[(int) pageRows * dimension];
+        }
+    }
+
+    public long rows() {
+        return rows;
+    }
+
+    public int dimension() {
+        return dimension;
+    }
+
+    public float get(long row, int column) {
+        assert column < dimension;
+        return page(row)[offset(row) + column];
+    }
+
+    public void set(long row, int column, float value) {
+        assert column < dimension;
+        page(row)[offset(row) + column] = value;
+    }
+
+    /**
+     * @return the page holding the given row, starting at {@link #offset(long)}
+     */
+    public float[] page(long row) {
+        assert row < rows;
+        return pages[(int) (row >>> rowsPerPageShift)];
+    }
+
+    /**
+     * @return the index of the first column of the given row within its {@link #page(long)}
+     */
+    public int offset(long row) {
+        return (int) (row & rowInPageMask) * dimension;
+    }
+
+    /**
+     * @return a copy of the given row
+     */
+    public float[] row(long row) {
+        var values = new float[dimension];
+        copyRow(row, values);
+        return values;
+    }
+
+    public void copyRow(long row, float[] into) {
+        System.arraycopy(page(row), offset(row), into, 0, dimension);
+    }
+
+    public void setRow(long row, float[] values) {
+        assert values.length == dimension;
+        System.arraycopy(values, 0, page(row), offset(row), dimension);
+    }
+
+    public void fillRow(long row, float value) {
+        int offset = offset(row);
+        Arrays.fill(page(row), offset, offset + dimension, value);
+    }
+
+    public long sizeInBytes() {
+        return memoryEstimation(rows, dimension);
+    }
+
+    public void release() {
+        this.pages = null;
+    }
+
+    public NodeProperties asNodeProperties() {
+        return new FloatArrayNodeProperties() {
+            @Override
+            public float[] floatArrayValue(long nodeId) {
+                return row(nodeId);
+            }
+
+            @Override
+            public long size() {
+                return rows;
+            }
+        };
+    }
+}
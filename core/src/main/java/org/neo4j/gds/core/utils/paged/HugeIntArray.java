@@ -41,6 +41,8 @@ import static org.neo4j.gds.mem.MemoryUsage.sizeOfObjectArray;
  * <p>
  * It is implemented by paging of smaller int-arrays ({@code int[][]}) to support approx. 32k bn. elements.
  * If the provided size is small enough, an optimized view of a single {@code int[]} might be used.
+ * If {@link org.neo4j.gds.utils.GdsFeatureToggles#USE_OFF_HEAP_ARRAYS} is enabled, larger arrays are stored in native memory,
+ * which is freed on {@link #release()}.
  *
  * <ul>
  * <li>The array is of a fixed size and cannot grow or shrink dynamically.</li>
@@ -215,6 +217,9 @@ public abstract class HugeIntArray extends HugeArray<int[], Integer, HugeIntArra
      * Creates a new array of the given size.
      */
     public static HugeIntArray newArray(long size) {
+        if (HugeArrays.useOffHeap(size)) {
+            return OffHeapHugeIntArray.of(size);
+        }
         if (size <= ArrayUtil.MAX_ARRAY_LENGTH) {
             return SingleHugeIntArray.of(size);
         }
@@ -225,9 +230,19 @@ public abstract class HugeIntArray extends HugeArray<int[], Integer, HugeIntArra
         return new HugeIntArray.SingleHugeIntArray(values.length, values);
     }
 
+    /**
+     * Creates a new array of the given size that is stored in native memory, regardless of the feature toggle.
+     */
+    public static HugeIntArray newOffHeapArray(long size) {
+        return OffHeapHugeIntArray.of(size);
+    }
+
     public static long memoryEstimation(long size) {
         assert size >= 0;
 
+        if (HugeArrays.useOffHeap(size)) {
+            return sizeOfInstance(OffHeapHugeIntArray.class) + OffHeapPages.memoryUsage(size, Integer.BYTES);
+        }
         if (size <= ArrayUtil.MAX_ARRAY_LENGTH) {
             return sizeOfInstance(SingleHugeIntArray.class) + sizeOfIntArray((int) size);
         }
@@ -243,6 +258,25 @@ public abstract class HugeIntArray extends HugeArray<int[], Integer, HugeIntArra
         return sizeOfInstance + memoryUsed + sizeOfIntArray(lastPageSize);
     }
 
+    /**
+     * Element-wise copy for destinations that are stored differently than this array.
+     */
+    final void copyElements(HugeIntArray dest, long length) {
+        if (length > 0) {
+            try (HugeCursor<int[]> cursor = initCursor(newCursor(), 0, length)) {
+                while (cursor.next()) {
+                    int[] array = cursor.array;
+                    for (int i = cursor.offset; i < cursor.limit; i++) {
+                        dest.set(cursor.base + i, array[i]);
+                    }
+                }
+            }
+        }
+        for (long i = length; i < dest.size(); i++) {
+            dest.set(i, 0);
+        }
+    }
+
     /* test-only */
     static HugeIntArray newPagedArray(long size) {
         return PagedHugeIntArray.of(size);
@@ -349,6 +383,8 @@ public abstract class HugeIntArray extends HugeArray<int[], Integer, HugeIntArra
                         remaining -= toCopy;
                     }
                 }
+            } else {
+                copyElements(dest, length);
             }
         }
 
@@ -521,6 +557,8 @@ public abstract class HugeIntArray extends HugeArray<int[], Integer, HugeIntArra
                 for (int i = pageLen; i < dst.pages.length; i++) {
                     Arrays.fill(dst.pages[i], 0);
                 }
+            } else {
+                copyElements(dest, length);
             }
         }
 
@@ -548,4 +586,130 @@ public abstract class HugeIntArray extends HugeArray<int[], Integer, HugeIntArra
             return new HugeCursor.PagedCursor<>(size, pages);
         }
     }
+
+    private static final class OffHeapHugeIntArray extends HugeIntArray {
+
+        private static HugeIntArray of(long size) {
+            return new OffHeapHugeIntArray(size, OffHeapPages.allocate(size, Integer.BYTES));
+        }
+
+        private final long size;
+        private final OffHeapPages memory;
+
+        private OffHeapHugeIntArray(long size, OffHeapPages memory) {
+            this.size = size;
+            this.memory = memory;
+        }
+
+        private static int byteIndex(long index) {
+            return indexInPage(index) << 2;
+        }
+
+        @Override
+        public int get(long index) {
+            assert index < size;
+            return memory.page(pageIndex(index)).getInt(byteIndex(index));
+        }
+
+        @Override
+        public int getAndAdd(long index, int delta) {
+            assert index < size;
+            var page = memory.page(pageIndex(index));
+            int byteIndex = byteIndex(index);
+            int value = page.getInt(byteIndex);
+            page.putInt(byteIndex, value + delta);
+            return value;
+        }
+
+        @Override
+        public void set(long index, int value) {
+            assert index < size;
+            memory.page(pageIndex(index)).putInt(byteIndex(index), value);
+        }
+
+        @Override
+        public void or(long index, int value) {
+            assert index < size;
+            var page = memory.page(pageIndex(index));
+            int byteIndex = byteIndex(index);
+            page.putInt(byteIndex, page.getInt(byteIndex) | value);
+        }
+
+        @Override
+        public int and(long index, int value) {
+            assert index < size;
+            var page = memory.page(pageIndex(index));
+            int byteIndex = byteIndex(index);
+            int result = page.getInt(byteIndex) & value;
+            page.putInt(byteIndex, result);
+            return result;
+        }
+
+        @Override
+        public void addTo(long index, int value) {
+            assert index < size;
+            var page = memory.page(pageIndex(index));
+            int byteIndex = byteIndex(index);
+            page.putInt(byteIndex, page.getInt(byteIndex) + value);
+        }
+
+        @Override
+        public void setAll(LongToIntFunction gen) {
+            for (long i = 0; i < size; i++) {
+                set(i, gen.applyAsInt(i));
+            }
+        }
+
+        @Override
+        public void fill(int value) {
+            for (long i = 0; i < size; i++) {
+                set(i, value);
+            }
+        }
+
+        @Override
+        public void copyTo(HugeIntArray dest, long length) {
+            copyElements(dest, Math.min(Math.min(length, size), dest.size()));
+        }
+
+        @Override
+        public int copyFromArrayIntoSlice(int[] source, long sliceStart, long sliceEnd) {
+            int sourceIndex = 0;
+            int length = (int) Math.min(source.length, sliceEnd - sliceStart);
+            while (sourceIndex < length) {
+                long index = sliceStart + sourceIndex;
+                int indexInPage = indexInPage(index);
+                int copyLength = Math.min(PAGE_SIZE - indexInPage, length - sourceIndex);
+                memory.writePage(pageIndex(index), indexInPage, source, sourceIndex, copyLength);
+                sourceIndex += copyLength;
+            }
+            return sourceIndex;
+        }
+
+        @Override
+        public long size() {
+            return size;
+        }
+
+        @Override
+        public long sizeOf() {
+            return memory.sizeOf();
+        }
+
+        @Override
+        public long release() {
+            return memory.release();
+        }
+
+        @Override
+        public HugeCursor<int[]> newCursor() {
+            return new HugeCursor.OffHeapCursor<>(
+                size,
+                new int[PAGE_SIZE],
+                new int[PAGE_SIZE],
+                memory::copyPage,
+                memory::writeChangedPage
+            );
+        }
+    }
 }
@@ -35,6 +35,8 @@ import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
  * <p>
  * It is implemented by paging of smaller long-arrays ({@code long[][]}) to support approx. 32k bn. elements.
  * If the provided size is small enough, an optimized view of a single {@code long[]} might be used.
+ * If {@link org.neo4j.gds.utils.GdsFeatureToggles#USE_OFF_HEAP_ARRAYS} is enabled, larger arrays are stored in native memory,
+ * which is freed on {@link #release()}.
  *
  * <ul>
  * <li>The array is of a fixed size and cannot grow or shrink dynamically.</li>
@@ -218,15 +220,28 @@ public abstract class HugeLongArray extends HugeArray<long[], Long, HugeLongArra
      * Creates a new array of the given size.
      */
     public static HugeLongArray newArray(long size) {
+        if (HugeArrays.useOffHeap(size)) {
+            return OffHeapHugeLongArray.of(size);
+        }
         if (size <= ArrayUtil.MAX_ARRAY_LENGTH) {
             return SingleHugeLongArray.of(size);
         }
         return PagedHugeLongArray.of(size);
     }
 
+    /**
+     * Creates a new array of the given size that is stored in native memory, regardless of the feature toggle.
+     */
+    public static HugeLongArray newOffHeapArray(long size) {
+        return OffHeapHugeLongArray.of(size);
+    }
+
     public static long memoryEstimation(long size) {
         assert size >= 0;
 
+        if (HugeArrays.useOffHeap(size)) {
+            return MemoryUsage.sizeOfInstance(OffHeapHugeLongArray.class) + OffHeapPages.memoryUsage(size, Long.BYTES);
+        }
         if (size <= ArrayUtil.MAX_ARRAY_LENGTH) {
             return MemoryUsage.sizeOfInstance(SingleHugeLongArray.class) + MemoryUsage.sizeOfLongArray((int)size);
         }
@@ -254,6 +269,25 @@ public abstract class HugeLongArray extends HugeArray<long[], Long, HugeLongArra
         return new PagedHugeLongArray(size, array, PagedHugeLongArray.memoryUsed(array, capacity));
     }
 
+    /**
+     * Element-wise copy for destinations that are stored differently than this array.
+     */
+    final void copyElements(HugeLongArray dest, long length) {
+        if (length > 0) {
+            try (HugeCursor<long[]> cursor = initCursor(newCursor(), 0, length)) {
+                while (cursor.next()) {
+                    long[] array = cursor.array;
+                    for (int i = cursor.offset; i < cursor.limit; i++) {
+                        dest.set(cursor.base + i, array[i]);
+                    }
+                }
+            }
+        }
+        for (long i = length; i < dest.size(); i++) {
+            dest.set(i, 0L);
+        }
+    }
+
     /* test-only */
     static HugeLongArray newPagedArray(long size) {
         return PagedHugeLongArray.of(size);
@@ -351,6 +385,8 @@ public abstract class HugeLongArray extends HugeArray<long[], Long, HugeLongArra
                         remaining -= toCopy;
                     }
                 }
+            } else {
+                copyElements(dest, length);
             }
         }
 
@@ -532,6 +568,8 @@ public abstract class HugeLongArray extends HugeArray<long[], Long, HugeLongArra
                 for (int i = pageLen; i < dst.pages.length; i++) {
                     Arrays.fill(dst.pages[i], 0L);
                 }
+            } else {
+                copyElements(dest, length);
             }
         }
 
@@ -579,4 +617,143 @@ public abstract class HugeLongArray extends HugeArray<long[], Long, HugeLongArra
             return pages.length;
         }
     }
+
+    private static final class OffHeapHugeLongArray extends HugeLongArray {
+
+        private static HugeLongArray of(long size) {
+            return new OffHeapHugeLongArray(size, OffHeapPages.allocate(size, Long.BYTES));
+        }
+
+        private final long size;
+        private final OffHeapPages memory;
+
+        private OffHeapHugeLongArray(long size, OffHeapPages memory) {
+            this.size = size;
+            this.memory = memory;
+        }
+
+        private static int byteIndex(long index) {
+            return HugeArrays.indexInPage(index) << 3;
+        }
+
+        @Override
+        public long get(long index) {
+            assert index < size;
+            return memory.page(HugeArrays.pageIndex(index)).getLong(byteIndex(index));
+        }
+
+        @Override
+        public void set(long index, long value) {
+            assert index < size;
+            memory.page(HugeArrays.pageIndex(index)).putLong(byteIndex(index), value);
+        }
+
+        @Override
+        public void or(long index, final long value) {
+            assert index < size;
+            var page = memory.page(HugeArrays.pageIndex(index));
+            int byteIndex = byteIndex(index);
+            page.putLong(byteIndex, page.getLong(byteIndex) | value);
+        }
+
+        @Override
+        public long and(long index, final long value) {
+            assert index < size;
+            var page = memory.page(HugeArrays.pageIndex(index));
+            int byteIndex = byteIndex(index);
+            long result = page.getLong(byteIndex) & value;
+            page.putLong(byteIndex, result);
+            return result;
+        }
+
+        @Override
+        public void addTo(long index, long value) {
+            assert index < size;
+            var page = memory.page(HugeArrays.pageIndex(index));
+            int byteIndex = byteIndex(index);
+            page.putLong(byteIndex, page.getLong(byteIndex) + value);
+        }
+
+        @Override
+        public void setAll(LongUnaryOperator gen) {
+            for (long i = 0; i < size; i++) {
+                set(i, gen.applyAsLong(i));
+            }
+        }
+
+        @Override
+        public void fill(long value) {
+            for (long i = 0; i < size; i++) {
+                set(i, value);
+            }
+        }
+
+        @Override
+        public void copyTo(HugeLongArray dest, long length) {
+            copyElements(dest, Math.min(Math.min(length, size), dest.size()));
+        }
+
+        @Override
+        public int copyFromArrayIntoSlice(long[] source, long sliceStart, long sliceEnd) {
+            int sourceIndex = 0;
+            int length = (int) Math.min(source.length, sliceEnd - sliceStart);
+            while (sourceIndex < length) {
+                long index = sliceStart + sourceIndex;
+                int indexInPage = HugeArrays.indexInPage(index);
+                int copyLength = Math.min(HugeArrays.PAGE_SIZE - indexInPage, length - sourceIndex);
+                memory.writePage(HugeArrays.pageIndex(index), indexInPage, source, sourceIndex, copyLength);
+                sourceIndex += copyLength;
+            }
+            return sourceIndex;
+        }
+
+        @Override
+        public long size() {
+            return size;
+        }
+
+        @Override
+        public long sizeOf() {
+            return memory.sizeOf();
+        }
+
+        @Override
+        public long binarySearch(long searchValue) {
+            long low = 0;
+            long high = size - 1;
+            while (low <= high) {
+                long mid = (low + high) >>> 1;
+                long midVal = get(mid);
+                if (midVal < searchValue) {
+                    low = mid + 1;
+                } else if (midVal > searchValue) {
+                    high = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+            return low - 1;
+        }
+
+        @Override
+        public long release() {
+            return memory.release();
+        }
+
+        @Override
+        public HugeCursor<long[]> newCursor() {
+            return new HugeCursor.OffHeapCursor<>(
+                size,
+                new long[HugeArrays.PAGE_SIZE],
+                new long[HugeArrays.PAGE_SIZE],
+                memory::copyPage,
+                memory::writeChangedPage
+            );
+        }
+
+        @Override
+        public int pages() {
+            return memory.pageCount();
+        }
+    }
 }
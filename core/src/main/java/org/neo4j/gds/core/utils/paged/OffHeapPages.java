@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.paged;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import static org.neo4j.gds.core.utils.paged.HugeArrays.PAGE_SIZE;
+import static org.neo4j.gds.core.utils.paged.HugeArrays.exclusiveIndexOfPage;
+import static org.neo4j.gds.core.utils.paged.HugeArrays.numberOfPages;
+import static org.neo4j.gds.mem.MemoryUsage.sizeOfInstance;
+import static org.neo4j.gds.mem.MemoryUsage.sizeOfObjectArray;
+
+/**
+ * Native memory that backs the off-heap variants of the huge arrays.
+ * <p>
+ * The memory is split into direct {@link ByteBuffer}s that hold up to {@link HugeArrays#PAGE_SIZE} elements each,
+ * so that the same page and index computations as for the on-heap pages can be used.
+ * All buffers use the native byte order.
+ * <p>
+ * The memory is given back to the operating system when {@link #release()} is called,
+ * without waiting for the garbage collector to collect the buffers.
+ * If a page is not released explicitly, it is freed once the buffer becomes unreachable.
+ */
+final class OffHeapPages {
+
+    private static final long BUFFER_INSTANCE_SIZE = sizeOfInstance(ByteBuffer.allocateDirect(0).getClass());
+
+    private static final @Nullable MethodHandle INVOKE_CLEANER = invokeCleaner();
+
+    static OffHeapPages allocate(long size, int bytesPerElement) {
+        int numPages = numberOfPages(size);
+        var pages = new ByteBuffer[numPages];
+        for (int i = 0; i < numPages - 1; i++) {
+            pages[i] = allocatePage(PAGE_SIZE, bytesPerElement);
+        }
+        if (numPages > 0) {
+            pages[numPages - 1] = allocatePage(exclusiveIndexOfPage(size), bytesPerElement);
+        }
+        return new OffHeapPages(pages, memoryUsage(size, bytesPerElement));
+    }
+
+    /**
+     * @return the on-heap and native memory that is required to store {@code size} elements
+     */
+    static long memoryUsage(long size, int bytesPerElement) {
+        int numPages = numberOfPages(size);
+        return sizeOfInstance(OffHeapPages.class) +
+               sizeOfObjectArray(numPages) +
+               numPages * BUFFER_INSTANCE_SIZE +
+               size * bytesPerElement;
+    }
+
+    private static ByteBuffer allocatePage(int elements, int bytesPerElement) {
+        // direct buffers are zeroed on allocation, matching the defaults of the on-heap arrays
+        return ByteBuffer.allocateDirect(elements * bytesPerElement).order(ByteOrder.nativeOrder());
+    }
+
+    // volatile, so that every access observes a release and fails instead of touching freed memory
+    private volatile ByteBuffer[] pages;
+    private final long memoryUsed;
+
+    private OffHeapPages(ByteBuffer[] pages, long memoryUsed) {
+        this.pages = pages;
+        this.memoryUsed = memoryUsed;
+    }
+
+    /**
+     * @throws IllegalStateException if the pages have already been released
+     */
+    ByteBuffer page(int pageIndex) {
+        return livePages()[pageIndex];
+    }
+
+    int pageCount() {
+        return livePages().length;
+    }
+
+    private ByteBuffer[] livePages() {
+        var pages = this.pages;
+        if (pages == null) {
+            throw new IllegalStateException("The off-heap memory has already been released.");
+        }
+        return pages;
+    }
+
+    long sizeOf() {
+        return memoryUsed;
+    }
+
+    void copyPage(int pageIndex, int from, int to, long[] into) {
+        page(pageIndex).asLongBuffer().position(from).get(into, from, to - from);
+    }
+
+    void copyPage(int pageIndex, int from, int to, int[] into) {
+        page(pageIndex).asIntBuffer().position(from).get(into, from, to - from);
+    }
+
+    void copyPage(int pageIndex, int from, int to, double[] into) {
+        page(pageIndex).asDoubleBuffer().position(from).get(into, from, to - from);
+    }
+
+    void writePage(int pageIndex, int into, long[] from, int offset, int length) {
+        page(pageIndex).asLongBuffer().position(into).put(from, offset, length);
+    }
+
+    void writePage(int pageIndex, int into, int[] from, int offset, int length) {
+        page(pageIndex).asIntBuffer().position(into).put(from, offset, length);
+    }
+
+    void writePage(int pageIndex, int into, double[] from, int offset, int length) {
+        page(pageIndex).asDoubleBuffer().position(into).put(from, offset, length);
+    }
+
+    void writeChangedPage(int pageIndex, int from, int to, long[] values, long[] original) {
+        var page = page(pageIndex).asLongBuffer();
+        for (int i = from; i < to; i++) {
+            if (values[i] != original[i]) {
+                page.put(i, values[i]);
+            }
+        }
+    }
+
+    void writeChangedPage(int pageIndex, int from, int to, int[] values, int[] original) {
+        var page = page(pageIndex).asIntBuffer();
+        for (int i = from; i < to; i++) {
+            if (values[i] != original[i]) {
+                page.put(i, values[i]);
+            }
+        }
+    }
+
+    void writeChangedPage(int pageIndex, int from, int to, double[] values, double[] original) {
+        var page = page(pageIndex).asDoubleBuffer();
+        for (int i = from; i < to; i++) {
+            // compare the bits, so that NaN values are not considered as changed
+            if (Double.doubleToRawLongBits(values[i]) != Double.doubleToRawLongBits(original[i])) {
+                page.put(i, values[i]);
+            }
+        }
+    }
+
+    /**
+     * Frees the native memory of all pages. Any access to the pages afterwards fails with an {@link IllegalStateException}.
+     *
+     * @return the amount of memory freed, in bytes, or 0 if the pages have already been released.
+     */
+    long release() {
+        var pages = this.pages;
+        if (pages == null) {
+            return 0L;
+        }
+        this.pages = null;
+        if (INVOKE_CLEANER != null) {
+            for (ByteBuffer page : pages) {
+                try {
+                    INVOKE_CLEANER.invokeExact(page);
+                } catch (Throwable e) {
+                    // leave the page to the garbage collector
+                }
+            }
+        }
+        return memoryUsed;
+    }
+
+    /**
+     * {@code sun.misc.Unsafe#invokeCleaner} is the only way to free a direct buffer deterministically.
+     * If it is not accessible, the buffers are freed by the garbage collector.
+     */
+    private static @Nullable MethodHandle invokeCleaner() {
+        try {
+            var unsafeClass = Class.forName("sun.misc.Unsafe");
+            var theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            return MethodHandles
+                .lookup()
+                .findVirtual(unsafeClass, "invokeCleaner", MethodType.methodType(void.class, ByteBuffer.class))
+                .bindTo(theUnsafe.get(null));
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+}
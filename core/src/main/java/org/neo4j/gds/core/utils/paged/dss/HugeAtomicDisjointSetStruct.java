@@ -161,11 +161,20 @@ public final class HugeAtomicDisjointSetStruct implements DisjointSetStruct {
 
     @Override
     public void union(long id1, long id2) {
+        tryUnion(id1, id2);
+    }
+
+    /**
+     * Joins the sets of both ids, like {@link #union(long, long)}.
+     *
+     * @return true if this call merged two different sets, false if both ids already were in the same set
+     */
+    public boolean tryUnion(long id1, long id2) {
         while (true) {
             id1 = find(id1);
             id2 = find(id2);
             if (id1 == id2) {
-                return;
+                return false;
             }
 
             // We need to do Union-by-Min, so the smaller community ID wins.
@@ -185,7 +194,7 @@ public final class HugeAtomicDisjointSetStruct implements DisjointSetStruct {
                 continue;
             }
 
-            break;
+            return true;
         }
     }
 
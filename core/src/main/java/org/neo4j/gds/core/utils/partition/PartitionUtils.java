@@ -97,6 +97,22 @@ public final class PartitionUtils {
         return degreePartitionWithBatchSize(graph.nodeIterator(), graph::degree, batchSize, taskCreator);
     }
 
+    /**
+     * Partitions by the number of incoming relationships, for tasks that traverse the inverse index.
+     */
+    public static <TASK> List<TASK> inverseDegreePartition(
+        Graph graph,
+        int concurrency,
+        Function<DegreePartition, TASK> taskCreator,
+        Optional<Integer> minBatchSize
+    ) {
+        var batchSize = Math.max(
+            minBatchSize.orElse(ParallelUtil.DEFAULT_BATCH_SIZE),
+            BitUtil.ceilDiv(graph.relationshipCount(), concurrency)
+        );
+        return degreePartitionWithBatchSize(graph.nodeIterator(), graph::degreeInverse, batchSize, taskCreator);
+    }
+
     public static <TASK> List<TASK> degreePartitionWithBatchSize(Graph graph, long batchSize, Function<DegreePartition, TASK> taskCreator) {
         return degreePartitionWithBatchSize(graph.nodeIterator(), graph::degree, batchSize, taskCreator);
     }
@@ -21,6 +21,9 @@ package org.neo4j.gds.core.utils.progress.tasks;
 
 import org.neo4j.gds.core.utils.mem.MemoryRange;
 
+import java.util.Collections;
+import java.util.List;
+
 public interface ProgressTracker {
 
     ProgressTracker NULL_TRACKER = new EmptyProgressTracker();
@@ -59,6 +62,13 @@ public interface ProgressTracker {
 
     void release();
 
+    /**
+     * Creates a tracker for each of the next {@code count} pending subtasks of the current task.
+     * Every tracker begins and ends its own subtask, independently of the others,
+     * which allows to track subtasks that run concurrently on different threads.
+     */
+    List<ProgressTracker> subTaskTrackers(int count);
+
     class EmptyProgressTracker implements ProgressTracker {
 
         @Override
@@ -120,6 +130,11 @@ public interface ProgressTracker {
         public void release() {
         }
 
+        @Override
+        public List<ProgressTracker> subTaskTrackers(int count) {
+            return Collections.nCopies(count, this);
+        }
+
         @Override
         public void endSubTaskWithFailure() {
 
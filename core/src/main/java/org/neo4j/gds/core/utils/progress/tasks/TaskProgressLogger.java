@@ -37,6 +37,31 @@ class TaskProgressLogger extends BatchingProgressLogger {
         this.loggingLeafTaskVisitor = new LoggingLeafTaskVisitor(this);
     }
 
+    TaskProgressLogger(Log log, Task baseTask, String taskName, int concurrency) {
+        this(log, baseTask, concurrency);
+        setTask(taskName);
+    }
+
+    /**
+     * The full name of a subtask of the currently logged task, as it would be logged when beginning the subtask.
+     * Unlike the logged name, the iteration of the subtask is derived from its position in the parent task,
+     * so that the name does not depend on the progress of its preceding subtasks.
+     */
+    String subTaskName(Task subTask, Task parentTask) {
+        var subTaskName = subTask.description();
+        if (parentTask instanceof IterativeTask) {
+            var iterativeParentTask = (IterativeTask) parentTask;
+            if (iterativeParentTask.mode() == IterativeTask.Mode.OPEN) {
+                throw new UnsupportedOperationException("Subtasks of open iterative tasks cannot be named in advance");
+            }
+            var maxIterations = iterativeParentTask.maxIterations();
+            var subTasksPerIteration = parentTask.subTasks().size() / maxIterations;
+            var iteration = parentTask.subTasks().indexOf(subTask) / subTasksPerIteration + 1;
+            subTaskName = formatWithLocale("%s %d of %d", subTaskName, iteration, maxIterations);
+        }
+        return getTask() + TASK_SEPARATOR + subTaskName;
+    }
+
     void logBeginSubTask(Task task, Task parentTask) {
         var taskName = taskDescription(task, parentTask);
         if (parentTask == null) {
@@ -22,6 +22,7 @@ package org.neo4j.gds.core.utils.progress.tasks;
 import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.TestOnly;
 import org.neo4j.gds.core.utils.mem.MemoryRange;
+import org.neo4j.gds.core.utils.progress.EmptyTaskRegistryFactory;
 import org.neo4j.gds.core.utils.progress.TaskRegistry;
 import org.neo4j.gds.core.utils.progress.TaskRegistryFactory;
 import org.neo4j.gds.core.utils.warnings.EmptyUserLogRegistryFactory;
@@ -29,8 +30,10 @@ import org.neo4j.gds.core.utils.warnings.UserLogRegistry;
 import org.neo4j.gds.core.utils.warnings.UserLogRegistryFactory;
 import org.neo4j.logging.Log;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.Stack;
+import java.util.stream.Collectors;
 
 import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
 
@@ -40,6 +43,8 @@ public class TaskProgressTracker implements ProgressTracker {
     private final TaskRegistry taskRegistry;
     private final UserLogRegistry userLogRegistry;
     private final TaskProgressLogger taskProgressLogger;
+    private final Log log;
+    private final int concurrency;
     private final Stack<Task> nestedTasks;
     protected Optional<Task> currentTask;
 
@@ -50,13 +55,33 @@ public class TaskProgressTracker implements ProgressTracker {
     public TaskProgressTracker(
         Task baseTask, Log log, int concurrency, TaskRegistryFactory taskRegistryFactory,
         UserLogRegistryFactory userLogRegistryFactory
+    ) {
+        this(
+            baseTask,
+            log,
+            concurrency,
+            new TaskProgressLogger(log, baseTask, concurrency),
+            taskRegistryFactory.newInstance(),
+            userLogRegistryFactory.newInstance()
+        );
+    }
+
+    private TaskProgressTracker(
+        Task baseTask,
+        Log log,
+        int concurrency,
+        TaskProgressLogger taskProgressLogger,
+        TaskRegistry taskRegistry,
+        UserLogRegistry userLogRegistry
     ) {
         this.baseTask = baseTask;
-        this.taskRegistry = taskRegistryFactory.newInstance();
-        this.taskProgressLogger = new TaskProgressLogger(log, baseTask, concurrency);
+        this.log = log;
+        this.concurrency = concurrency;
+        this.taskRegistry = taskRegistry;
+        this.taskProgressLogger = taskProgressLogger;
         this.currentTask = Optional.empty();
         this.nestedTasks = new Stack<>();
-        this.userLogRegistry = userLogRegistryFactory.newInstance();
+        this.userLogRegistry = userLogRegistry;
     }
 
     @Override
@@ -148,6 +173,38 @@ public class TaskProgressTracker implements ProgressTracker {
         validateTaskNotRunning();
     }
 
+    @Override
+    public List<ProgressTracker> subTaskTrackers(int count) {
+        var parentTask = requireCurrentTask();
+        var pendingSubTasks = parentTask.subTasks()
+            .stream()
+            .filter(task -> task.status() == Status.PENDING)
+            .limit(count)
+            .collect(Collectors.toList());
+
+        if (pendingSubTasks.size() < count) {
+            throw new IllegalStateException(formatWithLocale(
+                "Task `%s` has only %d pending subtasks, but %d were requested",
+                parentTask.description(),
+                pendingSubTasks.size(),
+                count
+            ));
+        }
+
+        // the subtasks are only registered as part of the base task,
+        // their trackers share nothing but the log and the user log registry
+        return pendingSubTasks.stream()
+            .map(subTask -> new TaskProgressTracker(
+                subTask,
+                log,
+                concurrency,
+                new TaskProgressLogger(log, subTask, taskProgressLogger.subTaskName(subTask, parentTask), concurrency),
+                EmptyTaskRegistryFactory.INSTANCE.newInstance(),
+                userLogRegistry
+            ))
+            .collect(Collectors.toList());
+    }
+
     @Override
     public void endSubTaskWithFailure() {
         var currentTask = requireCurrentTask();
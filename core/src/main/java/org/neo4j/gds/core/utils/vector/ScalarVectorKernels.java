@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.vector;
+
+/**
+ * Plain loops, which accumulate values strictly from left to right.
+ */
+enum ScalarVectorKernels implements VectorKernels {
+    INSTANCE;
+
+    @Override
+    public float dot(float[] left, int leftOffset, float[] right, int rightOffset, int length) {
+        float result = 0;
+        for (int i = 0; i < length; i++) {
+            result += left[leftOffset + i] * right[rightOffset + i];
+        }
+        return result;
+    }
+
+    @Override
+    public double dot(double[] left, int leftOffset, double[] right, int rightOffset, int length) {
+        double result = 0;
+        for (int i = 0; i < length; i++) {
+            result += left[leftOffset + i] * right[rightOffset + i];
+        }
+        return result;
+    }
+
+    @Override
+    public float sumOfSquares(float[] values, int offset, int length) {
+        float result = 0;
+        for (int i = offset; i < offset + length; i++) {
+            result += values[i] * values[i];
+        }
+        return result;
+    }
+
+    @Override
+    public double sumOfSquares(double[] values, int offset, int length) {
+        double result = 0;
+        for (int i = offset; i < offset + length; i++) {
+            result += values[i] * values[i];
+        }
+        return result;
+    }
+
+    @Override
+    public float squaredDistance(float[] left, int leftOffset, float[] right, int rightOffset, int length) {
+        float result = 0;
+        for (int i = 0; i < length; i++) {
+            float delta = left[leftOffset + i] - right[rightOffset + i];
+            result += delta * delta;
+        }
+        return result;
+    }
+
+    @Override
+    public double squaredDistance(double[] left, int leftOffset, double[] right, int rightOffset, int length) {
+        double result = 0;
+        for (int i = 0; i < length; i++) {
+            double delta = left[leftOffset + i] - right[rightOffset + i];
+            result += delta * delta;
+        }
+        return result;
+    }
+
+    @Override
+    public void addScaled(float[] target, int targetOffset, float[] source, int sourceOffset, int length, float scale) {
+        for (int i = 0; i < length; i++) {
+            target[targetOffset + i] += scale * source[sourceOffset + i];
+        }
+    }
+
+    @Override
+    public void addScaled(float[] target, int targetOffset, float[] source, int sourceOffset, int length, double scale) {
+        for (int i = 0; i < length; i++) {
+            target[targetOffset + i] = (float) Math.fma(source[sourceOffset + i], scale, target[targetOffset + i]);
+        }
+    }
+
+    @Override
+    public void addScaled(
+        double[] target,
+        int targetOffset,
+        double[] source,
+        int sourceOffset,
+        int length,
+        double scale
+    ) {
+        for (int i = 0; i < length; i++) {
+            target[targetOffset + i] += scale * source[sourceOffset + i];
+        }
+    }
+
+    @Override
+    public float cosine(float[] left, float[] right, int length) {
+        float dotProduct = 0F;
+        float xLength = 0F;
+        float yLength = 0F;
+        for (int i = 0; i < length; i++) {
+            float weight1 = left[i];
+            float weight2 = right[i];
+
+            dotProduct += weight1 * weight2;
+            xLength += weight1 * weight1;
+            yLength += weight2 * weight2;
+        }
+
+        return (float) (dotProduct / Math.sqrt(xLength * yLength));
+    }
+
+    @Override
+    public double cosine(double[] left, double[] right, int length) {
+        double dotProduct = 0D;
+        double xLength = 0D;
+        double yLength = 0D;
+        for (int i = 0; i < length; i++) {
+            double weight1 = left[i];
+            double weight2 = right[i];
+
+            dotProduct += weight1 * weight2;
+            xLength += weight1 * weight1;
+            yLength += weight2 * weight2;
+        }
+
+        return dotProduct / Math.sqrt(xLength * yLength);
+    }
+
+    @Override
+    public double pearson(double[] left, double[] right, int length) {
+        double leftSum = 0.0;
+        double rightSum = 0.0;
+        for (int i = 0; i < length; i++) {
+            leftSum += left[i];
+            rightSum += right[i];
+        }
+
+        double leftMean = leftSum / length;
+        double rightMean = rightSum / length;
+
+        double dotProductMinusMean = 0D;
+        double xLength = 0D;
+        double yLength = 0D;
+        for (int i = 0; i < length; i++) {
+            double leftDelta = left[i] - leftMean;
+            double rightDelta = right[i] - rightMean;
+
+            dotProductMinusMean += (leftDelta * rightDelta);
+            xLength += leftDelta * leftDelta;
+            yLength += rightDelta * rightDelta;
+        }
+
+        double result = dotProductMinusMean / Math.sqrt(xLength * yLength);
+        return Double.isNaN(result) ? 0 : result;
+    }
+}
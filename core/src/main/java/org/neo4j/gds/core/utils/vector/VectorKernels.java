@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.vector;
+
+/**
+ * Kernels for the dense vector computations of node embeddings and similarities.
+ *
+ * The implementation is chosen once, when the kernels are first used:
+ * If the JVM runs with the incubating Vector API, i.e. with {@code --add-modules jdk.incubator.vector},
+ * and the vectorized kernels of the {@code vector-kernels} module are available, they are used.
+ * Otherwise, the kernels fall back to scalar loops, which compute exactly the same results as the plain loops they replaced.
+ * Vectorized kernels sum up values in a different order, so their results can differ in the last bits.
+ * Using the Vector API can be disabled with the {@code useVectorApi} system property, see {@link org.neo4j.gds.utils.GdsFeatureToggles#USE_VECTOR_API}.
+ */
+public interface VectorKernels {
+
+    static VectorKernels instance() {
+        return VectorKernelsLoader.KERNELS;
+    }
+
+    float dot(float[] left, int leftOffset, float[] right, int rightOffset, int length);
+
+    double dot(double[] left, int leftOffset, double[] right, int rightOffset, int length);
+
+    float sumOfSquares(float[] values, int offset, int length);
+
+    double sumOfSquares(double[] values, int offset, int length);
+
+    float squaredDistance(float[] left, int leftOffset, float[] right, int rightOffset, int length);
+
+    double squaredDistance(double[] left, int leftOffset, double[] right, int rightOffset, int length);
+
+    /**
+     * Adds {@code scale * source} to {@code target}.
+     */
+    void addScaled(float[] target, int targetOffset, float[] source, int sourceOffset, int length, float scale);
+
+    /**
+     * Adds {@code scale * source} to {@code target}.
+     * The scalar kernels compute every element in double precision and round it once,
+     * the vectorized kernels scale in single precision.
+     */
+    void addScaled(float[] target, int targetOffset, float[] source, int sourceOffset, int length, double scale);
+
+    /**
+     * Adds {@code scale * source} to {@code target}.
+     */
+    void addScaled(double[] target, int targetOffset, double[] source, int sourceOffset, int length, double scale);
+
+    float cosine(float[] left, float[] right, int length);
+
+    double cosine(double[] left, double[] right, int length);
+
+    /**
+     * @return the pearson correlation of both vectors or 0, if it is not defined
+     */
+    double pearson(double[] left, double[] right, int length);
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.vector;
+
+import org.neo4j.gds.utils.GdsFeatureToggles;
+
+final class VectorKernelsLoader {
+
+    private static final String VECTOR_API_MODULE = "jdk.incubator.vector";
+    private static final String VECTORIZED_KERNELS = "org.neo4j.gds.core.utils.vector.panama.PanamaVectorKernels";
+
+    static final VectorKernels KERNELS = load();
+
+    private static VectorKernels load() {
+        if (GdsFeatureToggles.USE_VECTOR_API && ModuleLayer.boot().findModule(VECTOR_API_MODULE).isPresent()) {
+            try {
+                return (VectorKernels) Class.forName(VECTORIZED_KERNELS).getDeclaredConstructor().newInstance();
+            } catch (ReflectiveOperationException | LinkageError e) {
+                // the vectorized kernels are not on the class path or have been compiled for a newer JVM
+            }
+        }
+        return ScalarVectorKernels.INSTANCE;
+    }
+
+    private VectorKernelsLoader() {}
+}
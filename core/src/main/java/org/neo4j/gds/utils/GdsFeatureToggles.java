@@ -24,6 +24,7 @@ import org.jetbrains.annotations.TestOnly;
 
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 public enum GdsFeatureToggles {
 
@@ -33,6 +34,9 @@ public enum GdsFeatureToggles {
     USE_PARALLEL_PROPERTY_VALUE_INDEX(false),
     USE_BIT_ID_MAP(true),
     USE_UNCOMPRESSED_ADJACENCY_LIST(false),
+    USE_PACKED_ADJACENCY_LIST(false),
+    USE_MAPPED_ADJACENCY_LIST(false),
+    USE_OFF_HEAP_ARRAYS(false),
     USE_REORDERED_ADJACENCY_LIST(false);
 
     public boolean isEnabled() {
@@ -107,6 +111,21 @@ public enum GdsFeatureToggles {
     );
     public static final AtomicInteger PAGES_PER_THREAD = new AtomicInteger(PAGES_PER_THREAD_FLAG);
 
+    // Directory into which adjacency lists are written when they are memory-mapped, see USE_MAPPED_ADJACENCY_LIST.
+    // This is only configurable via system property, as it allows writing to arbitrary locations.
+    public static final String MAPPED_ADJACENCY_LIST_DIRECTORY_DEFAULT_SETTING = System.getProperty("java.io.tmpdir");
+    private static final String MAPPED_ADJACENCY_LIST_DIRECTORY_FLAG = System.getProperty(
+        name(GdsFeatureToggles.class, "mappedAdjacencyListDirectory"),
+        MAPPED_ADJACENCY_LIST_DIRECTORY_DEFAULT_SETTING
+    );
+    public static final AtomicReference<String> MAPPED_ADJACENCY_LIST_DIRECTORY = new AtomicReference<>(
+        MAPPED_ADJACENCY_LIST_DIRECTORY_FLAG
+    );
+
+    // Whether vector kernels use the incubating Vector API, if the JVM provides it. Kernels are chosen once,
+    // when they are first used, so this is only configurable via system property. See VectorKernels.
+    public static final boolean USE_VECTOR_API = booleanProperty(name(GdsFeatureToggles.class, "useVectorApi"), true);
+
     private static String name(Class<?> location, String name) {
         return location.getCanonicalName() + "." + name;
     }
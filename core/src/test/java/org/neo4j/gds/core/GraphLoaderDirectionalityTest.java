@@ -19,17 +19,21 @@
  */
 package org.neo4j.gds.core;
 
+import org.junit.jupiter.api.Test;
 import org.neo4j.gds.BaseTest;
 import org.neo4j.gds.CypherLoaderBuilder;
 import org.neo4j.gds.Orientation;
+import org.neo4j.gds.RelationshipProjection;
 import org.neo4j.gds.StoreLoaderBuilder;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.config.GraphProjectFromCypherConfig;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.neo4j.gds.GraphFactoryTestSupport.AllGraphStoreFactoryTypesTest;
 import static org.neo4j.gds.GraphFactoryTestSupport.FactoryType;
 import static org.neo4j.gds.GraphFactoryTestSupport.FactoryType.CYPHER;
+import static org.neo4j.gds.GraphHelper.assertInverseRelationships;
 import static org.neo4j.gds.GraphHelper.assertRelationships;
 import static org.neo4j.gds.compat.GraphDatabaseApiProxy.applyInTransaction;
 
@@ -96,6 +100,65 @@ class GraphLoaderDirectionalityTest extends BaseTest {
         assertRelationships(graph, 3, 1);
     }
 
+    @Test
+    void loadNaturalWithInverseIndex() {
+        runQuery(DB_CYPHER);
+        Graph graph = applyInTransaction(db, tx -> new StoreLoaderBuilder()
+            .api(db)
+            .addRelationshipProjection(RelationshipProjection.builder().type("REL").indexInverse(true).build())
+            .build()
+            .graph());
+
+        assertTrue(graph.isInverseIndexed());
+        assertRelationships(graph, 0, 0, 1);
+        assertRelationships(graph, 1, 1, 2, 3);
+        assertInverseRelationships(graph, 0, 0);
+        assertInverseRelationships(graph, 1, 0, 1);
+        assertInverseRelationships(graph, 2, 1);
+        assertInverseRelationships(graph, 3, 1);
+        assertEquals(1, graph.degreeInverse(0));
+        assertEquals(2, graph.degreeInverse(1));
+        assertEquals(1, graph.degreeInverse(2));
+        assertEquals(1, graph.degreeInverse(3));
+    }
+
+    @Test
+    void loadReverseWithInverseIndex() {
+        runQuery(DB_CYPHER);
+        Graph graph = applyInTransaction(db, tx -> new StoreLoaderBuilder()
+            .api(db)
+            .addRelationshipProjection(RelationshipProjection.builder()
+                .type("REL")
+                .orientation(Orientation.REVERSE)
+                .indexInverse(true)
+                .build())
+            .build()
+            .graph());
+
+        assertTrue(graph.isInverseIndexed());
+        assertRelationships(graph, 0, 0);
+        assertRelationships(graph, 1, 0, 1);
+        assertRelationships(graph, 2, 1);
+        assertRelationships(graph, 3, 1);
+        assertInverseRelationships(graph, 0, 0, 1);
+        assertInverseRelationships(graph, 1, 1, 2, 3);
+        assertInverseRelationships(graph, 2);
+        assertInverseRelationships(graph, 3);
+        assertEquals(2, graph.degreeInverse(0));
+        assertEquals(3, graph.degreeInverse(1));
+        assertEquals(0, graph.degreeInverse(2));
+        assertEquals(0, graph.degreeInverse(3));
+    }
+
+    @Test
+    void loadUndirectedIsInverseIndexed() {
+        Graph graph = loadDirectedGraph(FactoryType.NATIVE, RELATIONSHIP_QUERY_BOTH, Orientation.UNDIRECTED);
+
+        assertTrue(graph.isInverseIndexed());
+        assertInverseRelationships(graph, 1, 0, 1, 2, 3);
+        assertEquals(4, graph.degreeInverse(1));
+    }
+
     @AllGraphStoreFactoryTypesTest
     void loadNaturalWithoutAggregation(FactoryType factoryType) {
         Graph graph = loadDirectedGraph(factoryType, RELATIONSHIP_QUERY_OUTGOING, Orientation.NATURAL);
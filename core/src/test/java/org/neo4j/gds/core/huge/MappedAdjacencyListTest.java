@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.huge;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.api.AdjacencyCursor;
+import org.neo4j.gds.core.Aggregation;
+import org.neo4j.gds.core.loading.AdjacencyCompression;
+import org.neo4j.gds.core.loading.BumpAllocator;
+import org.neo4j.gds.core.loading.VarLongEncoding;
+import org.neo4j.gds.core.utils.paged.HugeIntArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class MappedAdjacencyListTest {
+
+    @TempDir
+    Path tempDir;
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 63, 64, 65, 128, 1000})
+    void shouldIterateAllTargets(int degree) {
+        var targets = randomTargets(degree, 1L << 40);
+        var adjacencyList = mapped(targets, targets);
+
+        for (int node = 0; node < 2; node++) {
+            var cursor = adjacencyList.adjacencyCursor(node);
+            assertEquals(targets.length, cursor.size());
+            for (long expected : targets) {
+                assertThat(cursor.hasNextVLong()).isTrue();
+                assertEquals(expected, cursor.peekVLong());
+                assertEquals(expected, cursor.nextVLong());
+            }
+            assertThat(cursor.hasNextVLong()).isFalse();
+        }
+    }
+
+    @Test
+    void shouldSkipUntilAndAdvance() {
+        var targets = randomTargets(500, 100_000);
+        var adjacencyList = mapped(targets);
+
+        for (int i = 0; i < targets.length; i += 17) {
+            long target = targets[i];
+
+            var advanced = adjacencyList.adjacencyCursor(0).advance(target);
+            assertEquals(target, advanced);
+
+            var skipped = adjacencyList.adjacencyCursor(0).skipUntil(target);
+            long expected = i + 1 < targets.length ? targets[i + 1] : AdjacencyCursor.NOT_FOUND;
+            assertEquals(expected, skipped);
+        }
+    }
+
+    @Test
+    void shouldCopyCursorState() {
+        var targets = randomTargets(200, 10_000);
+        var adjacencyList = mapped(targets);
+
+        var cursor = adjacencyList.adjacencyCursor(0);
+        for (int i = 0; i < 70; i++) {
+            cursor.nextVLong();
+        }
+        var copy = cursor.shallowCopy(null);
+        assertEquals(cursor.remaining(), copy.remaining());
+        while (cursor.hasNextVLong()) {
+            assertEquals(cursor.nextVLong(), copy.nextVLong());
+        }
+    }
+
+    @Test
+    void shouldMapPagesWrittenInAnyOrder() {
+        var adjacencies = new long[][]{
+            randomTargets(10, 1000),
+            randomTargets(100, 1_000_000),
+            randomTargets(1000, 1L << 40)
+        };
+        var pages = new byte[adjacencies.length][];
+        var degrees = HugeIntArray.newArray(adjacencies.length);
+        var offsets = HugeLongArray.newArray(adjacencies.length);
+        encode(adjacencies, pages, degrees, offsets);
+
+        var pageWriter = new MappedAdjacencyList.PageWriter(tempDir);
+        for (int page = pages.length - 1; page > 0; page--) {
+            pageWriter.accept(page, pages[page]);
+        }
+        // the first page is written when mapping
+        var remainingPages = new byte[pages.length][];
+        remainingPages[0] = pages[0];
+        var adjacencyList = new MappedAdjacencyList(pageWriter.map(remainingPages), degrees, offsets);
+
+        assertThat(remainingPages).containsOnlyNulls();
+        for (int node = 0; node < adjacencies.length; node++) {
+            var cursor = adjacencyList.adjacencyCursor(node);
+            for (long expected : adjacencies[node]) {
+                assertEquals(expected, cursor.nextVLong());
+            }
+            assertThat(cursor.hasNextVLong()).isFalse();
+        }
+    }
+
+    @Test
+    void shouldNotLeaveFilesBehind() throws IOException {
+        mapped(randomTargets(100, 1000));
+
+        try (var files = Files.list(tempDir)) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    private static long[] randomTargets(int degree, long maxTarget) {
+        var random = new SplittableRandom(42L);
+        return random.longs(degree, 0, maxTarget).sorted().distinct().toArray();
+    }
+
+    // every adjacency list is stored on its own page
+    private MappedAdjacencyList mapped(long[]... adjacencies) {
+        var pages = new byte[adjacencies.length][];
+        var degrees = HugeIntArray.newArray(adjacencies.length);
+        var offsets = HugeLongArray.newArray(adjacencies.length);
+        encode(adjacencies, pages, degrees, offsets);
+        return MappedAdjacencyList.spill(tempDir, pages, degrees, offsets);
+    }
+
+    private static void encode(long[][] adjacencies, byte[][] pages, HugeIntArray degrees, HugeLongArray offsets) {
+        for (int node = 0; node < adjacencies.length; node++) {
+            var deltas = Arrays.copyOf(adjacencies[node], adjacencies[node].length);
+            int degree = AdjacencyCompression.applyDeltaEncoding(deltas, deltas.length, Aggregation.NONE);
+            var page = new byte[VarLongEncoding.encodedVLongsSize(deltas, degree)];
+            VarLongEncoding.encodeVLongs(deltas, degree, page, 0);
+            pages[node] = page;
+            degrees.set(node, degree);
+            offsets.set(node, (long) node << BumpAllocator.PAGE_SHIFT);
+        }
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.huge;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.api.AdjacencyCursor;
+import org.neo4j.gds.core.Aggregation;
+import org.neo4j.gds.core.loading.AdjacencyCompression;
+import org.neo4j.gds.core.loading.AdjacencyPacking;
+import org.neo4j.gds.core.utils.paged.HugeIntArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.neo4j.gds.core.huge.PackedAdjacencyList.computeAdjacencyByteSize;
+
+class PackedAdjacencyListTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 63, 64, 65, 128, 129, 1000})
+    void shouldIterateAllTargets(int degree) {
+        var targets = randomTargets(degree, 1L << 40);
+        var adjacencyList = packed(targets);
+
+        var cursor = adjacencyList.adjacencyCursor(0);
+        assertEquals(targets.length, cursor.size());
+        for (long expected : targets) {
+            assertThat(cursor.hasNextVLong()).isTrue();
+            assertEquals(expected, cursor.peekVLong());
+            assertEquals(expected, cursor.nextVLong());
+        }
+        assertThat(cursor.hasNextVLong()).isFalse();
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {1L, 1L << 7, 1L << 31, 1L << 62})
+    void shouldHandleDifferentBitWidths(long maxTarget) {
+        var targets = randomTargets(300, maxTarget);
+        var adjacencyList = packed(targets);
+
+        var cursor = adjacencyList.adjacencyCursor(0);
+        var actual = new long[cursor.size()];
+        for (int i = 0; i < actual.length; i++) {
+            actual[i] = cursor.nextVLong();
+        }
+        assertThat(actual).containsExactly(targets);
+    }
+
+    @Test
+    void shouldSkipUntilAndAdvance() {
+        var targets = randomTargets(500, 100_000);
+        var adjacencyList = packed(targets);
+
+        for (int i = 0; i < targets.length; i += 17) {
+            long target = targets[i];
+
+            var advanced = adjacencyList.adjacencyCursor(0).advance(target);
+            assertEquals(target, advanced);
+
+            var skipped = adjacencyList.adjacencyCursor(0).skipUntil(target);
+            long expected = i + 1 < targets.length ? targets[i + 1] : AdjacencyCursor.NOT_FOUND;
+            assertEquals(expected, skipped);
+        }
+    }
+
+    @Test
+    void shouldCopyCursorState() {
+        var targets = randomTargets(200, 10_000);
+        var adjacencyList = packed(targets);
+
+        var cursor = adjacencyList.adjacencyCursor(0);
+        for (int i = 0; i < 70; i++) {
+            cursor.nextVLong();
+        }
+        var copy = cursor.shallowCopy(null);
+        assertEquals(cursor.remaining(), copy.remaining());
+        while (cursor.hasNextVLong()) {
+            assertEquals(cursor.nextVLong(), copy.nextVLong());
+        }
+    }
+
+    @Test
+    void shouldComputeAdjacencyByteSize() {
+        long avgDegree = 1000;
+        long nodeCount = 100_000_000;
+        long delta = 100_000;
+        long firstAdjacencyIdAvgByteSize = ceilDivSize(nodeCount);
+        int bits = 17;
+        // 15 full blocks of 64 values and one block of 40 values
+        long packedBlocks = 15 * (1 + 8 * bits) + (1 + 8 * ((40 * bits + 63) / 64));
+        long expected = (firstAdjacencyIdAvgByteSize + packedBlocks) * nodeCount;
+
+        assertEquals(expected, computeAdjacencyByteSize(avgDegree, nodeCount, delta));
+    }
+
+    @Test
+    void shouldComputeAdjacencyByteSizeNoRelationships() {
+        assertEquals(0, computeAdjacencyByteSize(0, 100, 0));
+    }
+
+    private static long ceilDivSize(long nodeCount) {
+        long vlongSize = (64 - Long.numberOfLeadingZeros(nodeCount - 1) + 6) / 7;
+        return (vlongSize + 1) / 2;
+    }
+
+    private static long[] randomTargets(int degree, long maxTarget) {
+        var random = new SplittableRandom(42L);
+        return random.longs(degree, 0, maxTarget).sorted().distinct().toArray();
+    }
+
+    private static PackedAdjacencyList packed(long[] targets) {
+        var deltas = Arrays.copyOf(targets, targets.length);
+        int degree = AdjacencyCompression.applyDeltaEncoding(deltas, deltas.length, Aggregation.NONE);
+        var page = new byte[AdjacencyPacking.packedSize(deltas, degree)];
+        AdjacencyPacking.pack(deltas, degree, page, 0);
+        return new PackedAdjacencyList(new byte[][]{page}, HugeIntArray.of(degree), HugeLongArray.of(0L));
+    }
+}
@@ -83,4 +83,16 @@ class UncompressedAdjacencyListTest {
 
         assertEquals(expected, memRec.memoryUsage());
     }
+
+    @Test
+    void shouldReadPropertyValueAtPosition() {
+        var pages = new long[][]{{-1L, 42L, 43L, 44L, 45L}};
+        var degrees = HugeIntArray.of(3, 1);
+        var offsets = HugeLongArray.of(1, 4);
+        var properties = new UncompressedAdjacencyList(pages, degrees, offsets);
+
+        assertEquals(42L, properties.propertyValue(0, 0));
+        assertEquals(44L, properties.propertyValue(0, 2));
+        assertEquals(45L, properties.propertyValue(1, 0));
+    }
 }
@@ -377,6 +377,43 @@ class GraphStoreCatalogTest {
         assertEquals(2, GraphStoreCatalog.graphStoresCount());
     }
 
+    @Test
+    void removeParentOfView() {
+        var viewConfig = GraphProjectFromStoreConfig.emptyWithName(USER_NAME, "view");
+        GraphStoreCatalog.set(CONFIG, graphStore);
+        GraphStoreCatalog.setView(viewConfig, otherGraphStore, graphStore);
+        assertEquals(1, GraphStoreCatalog.viewCount(graphStore));
+
+        GraphStoreCatalog.remove(CatalogRequest.of(USER_NAME, DATABASE_ID), GRAPH_NAME, graphStoreWithConfig -> {}, true);
+        assertFalse(GraphStoreCatalog.exists(USER_NAME, DATABASE_ID, GRAPH_NAME));
+        assertTrue(GraphStoreCatalog.exists(USER_NAME, DATABASE_ID, "view"));
+        assertEquals(1, GraphStoreCatalog.viewCount(graphStore));
+
+        GraphStoreCatalog.remove(CatalogRequest.of(USER_NAME, DATABASE_ID), "view", graphStoreWithConfig -> {}, true);
+        assertFalse(GraphStoreCatalog.exists(USER_NAME, DATABASE_ID, "view"));
+        assertEquals(0, GraphStoreCatalog.viewCount(graphStore));
+    }
+
+    @Test
+    void algorithmStateIsRemovedWithGraphStore() {
+        GraphStoreCatalog.set(CONFIG, graphStore);
+        GraphStoreCatalog.setAlgorithmState(graphStore, "state", 42L);
+
+        assertThat(GraphStoreCatalog.getAlgorithmState(graphStore, "state", Long.class)).contains(42L);
+        assertThat(GraphStoreCatalog.getAlgorithmState(graphStore, "state", String.class)).isEmpty();
+        assertThat(GraphStoreCatalog.getAlgorithmState(graphStore, "other", Long.class)).isEmpty();
+        assertThat(GraphStoreCatalog.getAlgorithmState(otherGraphStore, "state", Long.class)).isEmpty();
+
+        GraphStoreCatalog.remove(CatalogRequest.of(USER_NAME, DATABASE_ID), GRAPH_NAME, graphStoreWithConfig -> {}, true);
+        assertThat(GraphStoreCatalog.getAlgorithmState(graphStore, "state", Long.class)).isEmpty();
+    }
+
+    @Test
+    void algorithmStateIsNotRetainedForGraphStoresOutsideTheCatalog() {
+        GraphStoreCatalog.setAlgorithmState(graphStore, "state", 42L);
+        assertThat(GraphStoreCatalog.getAlgorithmState(graphStore, "state", Long.class)).isEmpty();
+    }
+
     @Test
     void removeAllLoadedGraphs() {
         GraphStoreCatalog.set(CONFIG, graphStore);
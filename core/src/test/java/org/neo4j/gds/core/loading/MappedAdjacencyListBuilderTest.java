@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.neo4j.gds.core.utils.paged.HugeIntArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.utils.GdsFeatureToggles;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MappedAdjacencyListBuilderTest extends AdjacencyListBuilderBaseTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void test() {
+        GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST.disableAndRun(() ->
+            GdsFeatureToggles.USE_MAPPED_ADJACENCY_LIST.enableAndRun(this::testAdjacencyList));
+    }
+
+    @Test
+    void testMapper() {
+        GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST.disableAndRun(() ->
+            GdsFeatureToggles.USE_MAPPED_ADJACENCY_LIST.enableAndRun(this::testValueMapper));
+    }
+
+    @Test
+    void shouldWritePagesWhileLoading() throws IOException {
+        // every adjacency list takes more than half a page, hence each of them is stored on its own page
+        int degree = BumpAllocator.PAGE_SIZE / 2 + 1;
+        var deltas = new long[degree];
+        Arrays.fill(deltas, 1L);
+        var compressed = new byte[VarLongEncoding.encodedVLongsSize(deltas, degree)];
+        VarLongEncoding.encodeVLongs(deltas, degree, compressed, 0);
+
+        int nodeCount = 3;
+        var degrees = HugeIntArray.newArray(nodeCount);
+        var offsets = HugeLongArray.newArray(nodeCount);
+
+        var builder = new MappedAdjacencyListBuilder(tempDir);
+        var allocator = builder.newAllocator();
+        for (int node = 0; node < nodeCount; node++) {
+            offsets.set(node, allocator.write(compressed, compressed.length));
+            degrees.set(node, degree);
+        }
+
+        // all but the page that is still being written to have been moved to the file
+        assertThat(spilledBytes()).isEqualTo((nodeCount - 1L) * BumpAllocator.PAGE_SIZE);
+
+        allocator.close();
+        assertThat(spilledBytes()).isEqualTo((long) nodeCount * BumpAllocator.PAGE_SIZE);
+
+        var adjacencyList = builder.build(degrees, offsets);
+        try (var files = Files.list(tempDir)) {
+            assertThat(files).isEmpty();
+        }
+        for (int node = 0; node < nodeCount; node++) {
+            var cursor = adjacencyList.adjacencyCursor(node);
+            assertThat(cursor.size()).isEqualTo(degree);
+            long expected = 1L;
+            while (cursor.hasNextVLong()) {
+                assertThat(cursor.nextVLong()).isEqualTo(expected++);
+            }
+            assertThat(expected).isEqualTo(degree + 1L);
+        }
+    }
+
+    private long spilledBytes() throws IOException {
+        try (var files = Files.list(tempDir)) {
+            var spilled = files.collect(Collectors.toList());
+            assertThat(spilled).hasSize(1);
+            return Files.size(spilled.get(0));
+        }
+    }
+}
@@ -25,6 +25,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.neo4j.gds.Orientation;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.beta.generator.RandomGraphGenerator;
 import org.neo4j.gds.beta.generator.RelationshipDistribution;
@@ -149,6 +150,27 @@ class PartitionUtilsTest {
         }
     }
 
+    @Test
+    void testInverseDegreePartitioning() {
+        var concurrency = 4;
+
+        var graph = RandomGraphGenerator.builder()
+            .nodeCount(DEFAULT_BATCH_SIZE)
+            .averageDegree(concurrency)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .orientation(Orientation.UNDIRECTED)
+            .seed(42L)
+            .build()
+            .generate();
+
+        var partitions = PartitionUtils.inverseDegreePartition(graph, concurrency, Functions.identity(), Optional.empty());
+
+        assertThat(partitions.stream().mapToLong(DegreePartition::nodeCount).sum()).isEqualTo(graph.nodeCount());
+        for (DegreePartition partition : partitions) {
+            assertThat(partition.totalDegree()).isEqualTo(partition.stream().map(graph::degreeInverse).sum());
+        }
+    }
+
     @Test
     void testDegreePartitioningWithBatchSize() {
         Graph graph = fromGdl(
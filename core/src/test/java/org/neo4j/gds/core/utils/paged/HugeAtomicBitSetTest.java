@@ -115,6 +115,27 @@ class HugeAtomicBitSetTest {
         });
     }
 
+    @ParameterizedTest
+    @CsvSource({"0,1337", "0,63", "70,140", "64,128", "42,42", "1300,1337"})
+    void forEachSetBitInRange(int startIndex, int endIndex) {
+        var bitSet = HugeAtomicBitSet.create(1337);
+        for (int i = 0; i < bitSet.size(); i += 3) {
+            bitSet.set(i);
+        }
+
+        var expected = new ArrayList<Long>();
+        for (long i = startIndex; i < endIndex; i++) {
+            if (i % 3 == 0) {
+                expected.add(i);
+            }
+        }
+
+        var actual = new ArrayList<Long>();
+        bitSet.forEachSetBit(startIndex, endIndex, actual::add);
+
+        assertThat(actual).containsExactlyElementsOf(expected);
+    }
+
     @ParameterizedTest
     @MethodSource("suppliers")
     void setRangeDoesNotSetOutsideOfRange(HabsSupplier supplier) {
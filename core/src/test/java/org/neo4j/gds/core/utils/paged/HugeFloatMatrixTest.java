@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.paged;
+
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+import net.jqwik.api.constraints.IntRange;
+import net.jqwik.api.constraints.LongRange;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class HugeFloatMatrixTest {
+
+    @Property
+    void testSetAndGet(
+        @ForAll @LongRange(min = 0, max = 9_999) long row,
+        @ForAll @IntRange(min = 0, max = 99) int column,
+        @ForAll float value
+    ) {
+        var matrix = HugeFloatMatrix.newMatrix(10_000, 100);
+        matrix.set(row, column, value);
+        assertEquals(value, matrix.get(row, column));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 3, 64, 100, HugeArrays.PAGE_SIZE, HugeArrays.PAGE_SIZE + 1})
+    void shouldKeepRowsApart(int dimension) {
+        long rows = 3L * HugeArrays.PAGE_SIZE / dimension + 7;
+        var matrix = HugeFloatMatrix.newMatrix(rows, dimension);
+
+        for (long row = 0; row < rows; row++) {
+            matrix.fillRow(row, row);
+        }
+
+        for (long row = 0; row < rows; row++) {
+            var page = matrix.page(row);
+            int offset = matrix.offset(row);
+            assertThat(offset + dimension).isLessThanOrEqualTo(page.length);
+            for (int column = 0; column < dimension; column++) {
+                assertEquals((float) row, page[offset + column]);
+            }
+        }
+    }
+
+    @Test
+    void shouldCopyRows() {
+        var matrix = HugeFloatMatrix.newMatrix(3, 2);
+        matrix.setRow(1, new float[]{4.2f, 13.37f});
+
+        var row = matrix.row(1);
+        assertThat(row).containsExactly(4.2f, 13.37f);
+
+        row[0] = 0f;
+        assertThat(matrix.row(1)).containsExactly(4.2f, 13.37f);
+        assertThat(matrix.row(0)).containsExactly(0f, 0f);
+        assertThat(matrix.row(2)).containsExactly(0f, 0f);
+    }
+
+    @Test
+    void shouldProvideNodeProperties() {
+        var matrix = HugeFloatMatrix.newMatrix(2, 3);
+        matrix.setRow(0, new float[]{1f, 2f, 3f});
+
+        var nodeProperties = matrix.asNodeProperties();
+        assertThat(nodeProperties.size()).isEqualTo(2);
+        assertThat(nodeProperties.floatArrayValue(0)).containsExactly(1f, 2f, 3f);
+        assertThat(nodeProperties.floatArrayValue(1)).containsExactly(0f, 0f, 0f);
+    }
+
+    @Test
+    void shouldEstimateMemory() {
+        var matrix = HugeFloatMatrix.newMatrix(100, 128);
+        // a single page of 100 rows of 128 floats, instead of 100 float arrays with their headers
+        assertThat(matrix.sizeInBytes())
+            .isGreaterThan(100 * 128 * Float.BYTES)
+            .isLessThan(100 * 128 * Float.BYTES + 128);
+    }
+
+    @Test
+    void shouldFailOnInvalidDimension() {
+        assertThatThrownBy(() -> HugeFloatMatrix.newMatrix(10, 0))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("dimension");
+    }
+}
@@ -0,0 +1,290 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.paged;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.beta.generator.PropertyProducer;
+import org.neo4j.gds.beta.generator.RandomGraphGenerator;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.neo4j.gds.mem.MemoryUsage;
+import org.neo4j.gds.utils.GdsFeatureToggles;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+final class OffHeapHugeArrayTest {
+
+    // spans multiple pages and ends in a partially filled one
+    private static final long SIZE = 3L * HugeArrays.PAGE_SIZE + 42;
+
+    @Test
+    void shouldStoreLongs() {
+        var array = HugeLongArray.newOffHeapArray(SIZE);
+        array.setAll(i -> i * 3);
+        array.addTo(7, 1);
+        array.or(8, 1);
+
+        assertEquals(22L, array.get(7));
+        assertEquals(25L, array.get(8));
+        assertEquals((SIZE - 1) * 3, array.get(SIZE - 1));
+        assertEquals(100L, array.binarySearch(301));
+        assertEquals(-1L, array.binarySearch(-1));
+    }
+
+    @Test
+    void shouldStoreInts() {
+        var array = HugeIntArray.newOffHeapArray(SIZE);
+        array.setAll(i -> (int) i);
+
+        assertEquals(9, array.getAndAdd(9, 1));
+        assertEquals(10, array.get(9));
+        assertEquals((int) SIZE - 1, array.get(SIZE - 1));
+    }
+
+    @Test
+    void shouldStoreDoubles() {
+        var array = HugeDoubleArray.newOffHeapArray(SIZE);
+        array.fill(1.5);
+        array.addTo(0, 1.0);
+
+        assertEquals(2.5, array.get(0));
+        assertEquals(1.5 * SIZE + 1.0, array.stream().sum());
+    }
+
+    @Test
+    void shouldStoreAtomicLongs() {
+        var array = HugeAtomicLongArray.newOffHeapArray(SIZE, LongPageCreator.identity(1));
+
+        assertEquals(SIZE - 1, array.get(SIZE - 1));
+        assertEquals(3L, array.getAndAdd(3, 2));
+        assertThat(array.compareAndSet(3, 5, 9)).isTrue();
+        assertThat(array.compareAndSet(3, 5, 11)).isFalse();
+        assertEquals(9L, array.get(3));
+    }
+
+    @Test
+    void shouldStoreAtomicDoubles() {
+        var array = HugeAtomicDoubleArray.newOffHeapArray(SIZE, DoublePageCreator.of(1, i -> i / 2.0));
+
+        assertEquals((SIZE - 1) / 2.0, array.get(SIZE - 1));
+        assertEquals(2.0, array.getAndAdd(4, 1.0));
+        assertEquals(3.0, array.getAndReplace(4, 0.5));
+        assertEquals(0.5, array.get(4));
+    }
+
+    @Test
+    void shouldIterateWithCursor() {
+        var array = HugeLongArray.newOffHeapArray(SIZE);
+        array.setAll(i -> i + 1);
+
+        long start = 10;
+        long end = SIZE - 10;
+        long sum = 0L;
+        try (var cursor = array.initCursor(array.newCursor(), start, end)) {
+            while (cursor.next()) {
+                for (int i = cursor.offset; i < cursor.limit; i++) {
+                    assertEquals(cursor.base + i + 1, cursor.array[i]);
+                    sum += cursor.array[i];
+                }
+            }
+        }
+
+        assertEquals((end * (end + 1) - start * (start + 1)) / 2, sum);
+        assertThat(array.toArray()).hasSize((int) SIZE);
+    }
+
+    @Test
+    void shouldWriteLongsThroughCursor() {
+        var array = HugeLongArray.newOffHeapArray(SIZE);
+        array.fill(1L);
+
+        try (var cursor = array.initCursor(array.newCursor(), 10, SIZE - 10)) {
+            while (cursor.next()) {
+                for (int i = cursor.offset; i < cursor.limit; i++) {
+                    cursor.array[i] = cursor.base + i;
+                }
+            }
+        }
+
+        assertEquals(1L, array.get(9));
+        assertEquals(10L, array.get(10));
+        assertEquals(HugeArrays.PAGE_SIZE, array.get(HugeArrays.PAGE_SIZE));
+        assertEquals(SIZE - 11, array.get(SIZE - 11));
+        assertEquals(1L, array.get(SIZE - 10));
+    }
+
+    @Test
+    void shouldWriteIntsAndDoublesThroughCursor() {
+        var ints = HugeIntArray.newOffHeapArray(SIZE);
+        try (var cursor = ints.initCursor(ints.newCursor())) {
+            while (cursor.next()) {
+                Arrays.fill(cursor.array, cursor.offset, cursor.limit, 42);
+            }
+        }
+
+        var doubles = HugeDoubleArray.newOffHeapArray(SIZE);
+        try (var cursor = doubles.initCursor(doubles.newCursor())) {
+            while (cursor.next()) {
+                Arrays.fill(cursor.array, cursor.offset, cursor.limit, 0.5);
+            }
+        }
+
+        for (long i = 0; i < SIZE; i++) {
+            assertEquals(42, ints.get(i));
+            assertEquals(0.5, doubles.get(i));
+        }
+    }
+
+    @Test
+    void shouldWriteBackWhenCursorIsClosedOrReset() {
+        var array = HugeLongArray.newOffHeapArray(SIZE);
+        var cursor = array.newCursor();
+
+        array.initCursor(cursor, 0, SIZE);
+        assertThat(cursor.next()).isTrue();
+        cursor.array[cursor.offset] = 7L;
+        // resetting the cursor leaves the current page
+        array.initCursor(cursor, SIZE - 1, SIZE);
+        assertThat(cursor.next()).isTrue();
+        cursor.array[cursor.offset] = 8L;
+        cursor.close();
+
+        assertEquals(7L, array.get(0));
+        assertEquals(8L, array.get(SIZE - 1));
+    }
+
+    @Test
+    void shouldKeepConcurrentWritesIntoTheSamePage() {
+        var array = HugeLongArray.newOffHeapArray(SIZE);
+
+        try (var cursor = array.initCursor(array.newCursor(), 0, 10)) {
+            assertThat(cursor.next()).isTrue();
+            cursor.array[0] = 1L;
+            // written while the cursor holds a copy of the page
+            array.set(1, 2L);
+        }
+
+        assertEquals(1L, array.get(0));
+        assertEquals(2L, array.get(1));
+    }
+
+    @Test
+    void shouldGenerateTheSameGraphWithOffHeapArrays() {
+        var onHeapGraph = randomGraph();
+        var offHeapGraph = new Graph[1];
+        GdsFeatureToggles.USE_OFF_HEAP_ARRAYS.enableAndRun(() -> offHeapGraph[0] = randomGraph());
+
+        assertEquals(onHeapGraph.nodeCount(), offHeapGraph[0].nodeCount());
+        assertEquals(onHeapGraph.relationshipCount(), offHeapGraph[0].relationshipCount());
+        var onHeapScores = onHeapGraph.nodeProperties("score");
+        var offHeapScores = offHeapGraph[0].nodeProperties("score");
+        for (long nodeId = 0; nodeId < SIZE; nodeId++) {
+            assertEquals(onHeapGraph.toOriginalNodeId(nodeId), offHeapGraph[0].toOriginalNodeId(nodeId));
+            assertEquals(onHeapGraph.degree(nodeId), offHeapGraph[0].degree(nodeId));
+            assertEquals(onHeapScores.doubleValue(nodeId), offHeapScores.doubleValue(nodeId));
+        }
+    }
+
+    private static Graph randomGraph() {
+        return RandomGraphGenerator.builder()
+            .nodeCount(SIZE)
+            .averageDegree(2)
+            .relationshipDistribution(RelationshipDistribution.UNIFORM)
+            .nodePropertyProducer(PropertyProducer.randomDouble("score", 0, 1))
+            .seed(42L)
+            .build()
+            .generate();
+    }
+
+    @Test
+    void shouldCopyBetweenOnHeapAndOffHeap() {
+        var offHeap = HugeLongArray.newOffHeapArray(SIZE);
+        offHeap.setAll(i -> i);
+
+        var onHeap = HugeLongArray.newArray(SIZE + 10);
+        onHeap.fill(42);
+        offHeap.copyTo(onHeap, SIZE);
+        assertEquals(SIZE - 1, onHeap.get(SIZE - 1));
+        assertEquals(0L, onHeap.get(SIZE));
+
+        var copy = HugeLongArray.newOffHeapArray(SIZE);
+        onHeap.copyTo(copy, SIZE);
+        assertThat(copy.toArray()).isEqualTo(offHeap.toArray());
+    }
+
+    @Test
+    void shouldCopyFromArrayIntoSlice() {
+        var array = HugeLongArray.newOffHeapArray(SIZE);
+        var source = new long[HugeArrays.PAGE_SIZE + 10];
+        Arrays.fill(source, 7L);
+
+        int copied = array.copyFromArrayIntoSlice(source, 100, 100 + source.length);
+
+        assertEquals(source.length, copied);
+        assertEquals(0L, array.get(99));
+        assertEquals(7L, array.get(100));
+        assertEquals(7L, array.get(100 + source.length - 1));
+        assertEquals(0L, array.get(100 + source.length));
+    }
+
+    @Test
+    void shouldEstimateAndReleaseMemory() {
+        GdsFeatureToggles.USE_OFF_HEAP_ARRAYS.enableAndRun(() -> {
+            var array = HugeLongArray.newArray(SIZE);
+
+            assertEquals(HugeLongArray.memoryEstimation(SIZE), array.sizeOf() + MemoryUsage.sizeOfInstance(array.getClass()));
+            assertEquals(array.sizeOf(), array.release());
+            assertEquals(0L, array.release());
+        });
+    }
+
+    @Test
+    void shouldFailOnAccessAfterRelease() {
+        var longs = HugeLongArray.newOffHeapArray(SIZE);
+        var atomicDoubles = HugeAtomicDoubleArray.newOffHeapArray(SIZE, DoublePageCreator.of(1, i -> i / 2.0));
+        longs.release();
+        atomicDoubles.release();
+
+        assertThatThrownBy(() -> longs.get(0))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("already been released");
+        assertThatThrownBy(() -> longs.set(SIZE - 1, 42L)).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> longs.copyFromArrayIntoSlice(new long[]{1L}, 0, 1)).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> atomicDoubles.getAndAdd(0, 1.0)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void shouldOnlyUseOffHeapArraysWhenEnabled() {
+        GdsFeatureToggles.USE_OFF_HEAP_ARRAYS.enableAndRun(() -> {
+            assertThat(HugeLongArray.newArray(SIZE).getClass().getSimpleName()).isEqualTo("OffHeapHugeLongArray");
+            assertThat(HugeIntArray.newArray(SIZE).getClass().getSimpleName()).isEqualTo("OffHeapHugeIntArray");
+            assertThat(HugeDoubleArray.newArray(SIZE).getClass().getSimpleName()).isEqualTo("OffHeapHugeDoubleArray");
+            // arrays that fit into a single page stay on the heap
+            assertThat(HugeLongArray.newArray(HugeArrays.PAGE_SIZE).getClass().getSimpleName()).isEqualTo("SingleHugeLongArray");
+        });
+        GdsFeatureToggles.USE_OFF_HEAP_ARRAYS.disableAndRun(() ->
+            assertThat(HugeLongArray.newArray(SIZE).getClass().getSimpleName()).isEqualTo("SingleHugeLongArray")
+        );
+    }
+}
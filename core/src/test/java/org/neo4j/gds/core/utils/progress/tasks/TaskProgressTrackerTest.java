@@ -208,6 +208,61 @@ public class TaskProgressTrackerTest {
         assertThat(taskStore.query("")).containsValue(task);
     }
 
+    @Test
+    void shouldTrackSubTasksIndependently() {
+        try (var ignored = RenamesCurrentThread.renameThread("test")) {
+            var iterativeTask = Tasks.iterativeFixed("iterative", () -> List.of(Tasks.leaf("leaf", 2)), 2);
+            var task = Tasks.task("root", iterativeTask);
+            var log = Neo4jProxy.testLog();
+            var progressTracker = new TaskProgressTracker(task, log, 1, EmptyTaskRegistryFactory.INSTANCE);
+
+            progressTracker.beginSubTask("root");
+            progressTracker.beginSubTask("iterative");
+            var subTaskTrackers = progressTracker.subTaskTrackers(2);
+            assertThat(subTaskTrackers).hasSize(2);
+
+            // the second iteration begins before the first one ends
+            var first = subTaskTrackers.get(0);
+            var second = subTaskTrackers.get(1);
+            first.beginSubTask("leaf");
+            second.beginSubTask("leaf");
+            second.logProgress(2);
+            first.logProgress(1);
+            second.endSubTask("leaf");
+            first.endSubTask("leaf");
+
+            assertThat(iterativeTask.subTasks()).extracting(Task::status).containsOnly(Status.FINISHED);
+
+            progressTracker.endSubTask("iterative");
+            progressTracker.endSubTask("root");
+
+            assertThat(log.getMessages(TestLog.INFO)).containsExactly(
+                "[test] root :: Start",
+                "[test] root :: iterative :: Start",
+                "[test] root :: iterative :: leaf 1 of 2 :: Start",
+                "[test] root :: iterative :: leaf 2 of 2 :: Start",
+                "[test] root :: iterative :: leaf 2 of 2 100%",
+                "[test] root :: iterative :: leaf 1 of 2 50%",
+                "[test] root :: iterative :: leaf 2 of 2 :: Finished",
+                "[test] root :: iterative :: leaf 1 of 2 100%",
+                "[test] root :: iterative :: leaf 1 of 2 :: Finished",
+                "[test] root :: iterative :: Finished",
+                "[test] root :: Finished"
+            );
+        }
+    }
+
+    @Test
+    void shouldFailToTrackMoreSubTasksThanPending() {
+        var task = Tasks.task("root", Tasks.leaf("leaf"));
+        var progressTracker = progressTracker(task);
+        progressTracker.beginSubTask();
+
+        assertThatThrownBy(() -> progressTracker.subTaskTrackers(2))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("Task `root` has only 1 pending subtasks, but 2 were requested");
+    }
+
     private TaskProgressTracker progressTracker(Task task, Log log) {
         return new TaskProgressTracker(task, log, 1, EmptyTaskRegistryFactory.INSTANCE);
     }
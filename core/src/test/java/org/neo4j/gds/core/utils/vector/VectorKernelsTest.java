@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.vector;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class VectorKernelsTest {
+
+    @Test
+    void shouldFallBackToScalarKernelsWithoutTheVectorApi() {
+        // core tests neither run with the incubator module nor have the vectorized kernels on the class path
+        assertThat(VectorKernels.instance()).isSameAs(ScalarVectorKernels.INSTANCE);
+    }
+
+    @Test
+    void shouldComputeOnSlices() {
+        var kernels = ScalarVectorKernels.INSTANCE;
+        var left = new float[]{42, 1, 2, 3};
+        var right = new float[]{4, 5, 6};
+
+        assertThat(kernels.dot(left, 1, right, 0, 3)).isEqualTo(32F);
+        assertThat(kernels.sumOfSquares(left, 1, 3)).isEqualTo(14F);
+        assertThat(kernels.squaredDistance(left, 1, right, 0, 3)).isEqualTo(27F);
+
+        kernels.addScaled(left, 1, right, 0, 3, 0.5F);
+        assertThat(left).containsExactly(42, 3, 4.5F, 6);
+    }
+
+    @Test
+    void shouldScaleInDoublePrecision() {
+        var kernels = ScalarVectorKernels.INSTANCE;
+        double scale = 0.1;
+        var target = new float[]{1F, 3F};
+        var source = new float[]{1F / 3, 7F};
+
+        kernels.addScaled(target, 0, source, 0, 2, scale);
+
+        assertThat(target).containsExactly(
+            (float) Math.fma(1F / 3, scale, 1F),
+            (float) Math.fma(7F, scale, 3F)
+        );
+    }
+
+    @Test
+    void shouldComputeSimilarities() {
+        var kernels = ScalarVectorKernels.INSTANCE;
+        var left = new double[]{1, 2, 3};
+        var right = new double[]{2, 4, 7};
+
+        assertThat(kernels.cosine(left, right, 3)).isCloseTo(31 / Math.sqrt(14 * 69), within(1e-12));
+        assertThat(kernels.pearson(left, right, 3)).isCloseTo(5 / Math.sqrt(2 * (38.0 / 3)), within(1e-12));
+        assertThat(kernels.pearson(left, new double[]{1, 1, 1}, 3)).isEqualTo(0);
+    }
+}
@@ -19,6 +19,7 @@
  */
 package org.neo4j.gds.core.utils.io.file;
 
+import org.jetbrains.annotations.TestOnly;
 import org.neo4j.common.Validator;
 import org.neo4j.gds.RelationshipType;
 import org.neo4j.gds.annotation.ValueClass;
@@ -60,6 +61,7 @@ public final class CsvGraphStoreImporter {
     private final Path importPath;
     private final GraphStoreRelationshipVisitor.Builder relationshipVisitorBuilder;
     private final int concurrency;
+    private final long chunkSize;
 
     private final GraphStoreBuilder graphStoreBuilder;
     private final Log log;
@@ -72,12 +74,24 @@ public final class CsvGraphStoreImporter {
         Path importPath,
         Log log,
         TaskRegistryFactory taskRegistryFactory
+    ) {
+        return create(concurrency, importPath, FileInput.DEFAULT_CHUNK_SIZE, log, taskRegistryFactory);
+    }
+
+    @TestOnly
+    static CsvGraphStoreImporter create(
+        int concurrency,
+        Path importPath,
+        long chunkSize,
+        Log log,
+        TaskRegistryFactory taskRegistryFactory
     ) {
         return new CsvGraphStoreImporter(
             new GraphStoreNodeVisitor.Builder(),
             new GraphStoreRelationshipVisitor.Builder(),
             concurrency,
             importPath,
+            chunkSize,
             log,
             taskRegistryFactory
         );
@@ -88,6 +102,7 @@ public final class CsvGraphStoreImporter {
         GraphStoreRelationshipVisitor.Builder relationshipVisitorBuilder,
         int concurrency,
         Path importPath,
+        long chunkSize,
         Log log,
         TaskRegistryFactory taskRegistryFactory
     ) {
@@ -95,13 +110,14 @@ public final class CsvGraphStoreImporter {
         this.relationshipVisitorBuilder = relationshipVisitorBuilder;
         this.concurrency = concurrency;
         this.importPath = importPath;
+        this.chunkSize = chunkSize;
         this.graphStoreBuilder = new GraphStoreBuilder().concurrency(concurrency);
         this.log = log;
         this.taskRegistryFactory = taskRegistryFactory;
     }
 
     public UserGraphStore run() {
-        var fileInput = new FileInput(importPath);
+        var fileInput = new FileInput(importPath, chunkSize);
         this.progressTracker = createProgressTracker(fileInput);
         progressTracker.beginSubTask();
         try {
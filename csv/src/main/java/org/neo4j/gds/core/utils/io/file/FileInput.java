@@ -23,6 +23,7 @@ import org.apache.commons.lang3.tuple.Pair;
 import org.neo4j.gds.ElementIdentifier;
 import org.neo4j.gds.NodeLabel;
 import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.annotation.ValueClass;
 import org.neo4j.gds.api.schema.ElementSchema;
 import org.neo4j.gds.api.schema.NodeSchema;
 import org.neo4j.gds.api.schema.PropertySchema;
@@ -42,23 +43,33 @@ import org.neo4j.internal.batchimport.input.InputEntityVisitor;
 import org.neo4j.internal.batchimport.input.ReadableGroups;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.Iterator;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
 public final class FileInput implements CompatInput {
 
+    // Data files are split into chunks of this size, which are imported in parallel.
+    static final long DEFAULT_CHUNK_SIZE = 1L << 24;
+
     private final Path importPath;
+    private final long chunkSize;
     private final String userName;
     private final GraphInfo graphInfo;
     private final NodeSchema nodeSchema;
     private final RelationshipSchema relationshipSchema;
 
     FileInput(Path importPath) {
+        this(importPath, DEFAULT_CHUNK_SIZE);
+    }
+
+    FileInput(Path importPath, long chunkSize) {
         this.importPath = importPath;
+        this.chunkSize = chunkSize;
         this.userName = new UserInfoLoader(importPath).load();
         this.graphInfo = new GraphInfoLoader(importPath).load();
         this.nodeSchema = new NodeSchemaLoader(importPath).load();
@@ -68,9 +79,9 @@ public final class FileInput implements CompatInput {
     @Override
     public InputIterable nodes(Collector badCollector) {
         Map<Path, List<Path>> pathMapping = CsvImportUtil.nodeHeaderToFileMapping(importPath);
-        Map<NodeFileHeader, List<Path>> headerToDataFilesMapping = pathMapping.entrySet().stream().collect(Collectors.toMap(
+        Map<NodeFileHeader, List<FileChunk>> headerToDataFilesMapping = pathMapping.entrySet().stream().collect(Collectors.toMap(
             entry -> CsvImportUtil.parseNodeHeader(entry.getKey()),
-            Map.Entry::getValue
+            entry -> split(entry.getValue(), chunkSize)
         ));
         return () -> new NodeImporter(headerToDataFilesMapping, nodeSchema);
     }
@@ -78,9 +89,9 @@ public final class FileInput implements CompatInput {
     @Override
     public InputIterable relationships(Collector badCollector) {
         Map<Path, List<Path>> pathMapping = CsvImportUtil.relationshipHeaderToFileMapping(importPath);
-        Map<RelationshipFileHeader, List<Path>> headerToDataFilesMapping = pathMapping.entrySet().stream().collect(Collectors.toMap(
+        Map<RelationshipFileHeader, List<FileChunk>> headerToDataFilesMapping = pathMapping.entrySet().stream().collect(Collectors.toMap(
             entry -> CsvImportUtil.parseRelationshipHeader(entry.getKey()),
-            Map.Entry::getValue
+            entry -> split(entry.getValue(), chunkSize)
         ));
         return () -> new RelationshipImporter(headerToDataFilesMapping, relationshipSchema);
     }
@@ -100,6 +111,29 @@ public final class FileInput implements CompatInput {
         return null;
     }
 
+    /**
+     * Splits the given files into chunks of at most {@code chunkSize} bytes.
+     * The chunks are not aligned to line boundaries, see {@link MappedLineReader}.
+     */
+    static List<FileChunk> split(List<Path> files, long chunkSize) {
+        var chunks = new ArrayList<FileChunk>();
+        for (Path file : files) {
+            long fileSize;
+            try {
+                fileSize = Files.size(file);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            long start = 0;
+            do {
+                long end = Math.min(fileSize, start + chunkSize);
+                chunks.add(ImmutableFileChunk.of(file, start, end));
+                start = end;
+            } while (start < fileSize);
+        }
+        return chunks;
+    }
+
     public String userName() {
         return userName;
     }
@@ -122,11 +156,11 @@ public final class FileInput implements CompatInput {
         IDENTIFIER extends ElementIdentifier,
         PROPERTY_SCHEMA extends PropertySchema> implements InputIterator {
 
-        private final MappedListIterator<HEADER, Path> entryIterator;
+        private final MappedListIterator<HEADER, FileChunk> entryIterator;
         final SCHEMA elementSchema;
 
         FileImporter(
-            Map<HEADER, List<Path>> headerToDataFilesMapping,
+            Map<HEADER, List<FileChunk>> headerToDataFilesMapping,
             SCHEMA elementSchema
         ) {
             this.entryIterator = new MappedListIterator<>(headerToDataFilesMapping);
@@ -136,7 +170,7 @@ public final class FileInput implements CompatInput {
         @Override
         public synchronized boolean next(InputChunk chunk) throws IOException {
             if (entryIterator.hasNext()) {
-                Pair<HEADER, Path> entry = entryIterator.next();
+                Pair<HEADER, FileChunk> entry = entryIterator.next();
 
                 assert chunk instanceof LineChunk;
                 ((LineChunk<HEADER, SCHEMA, IDENTIFIER, PROPERTY_SCHEMA>) chunk).initialize(entry.getKey(), entry.getValue());
@@ -153,7 +187,7 @@ public final class FileInput implements CompatInput {
     static class NodeImporter extends FileImporter<NodeFileHeader, NodeSchema, NodeLabel, PropertySchema> {
 
         NodeImporter(
-            Map<NodeFileHeader, List<Path>> headerToDataFilesMapping,
+            Map<NodeFileHeader, List<FileChunk>> headerToDataFilesMapping,
             NodeSchema nodeSchema
         ) {
             super(headerToDataFilesMapping, nodeSchema);
@@ -168,7 +202,7 @@ public final class FileInput implements CompatInput {
     static class RelationshipImporter extends FileImporter<RelationshipFileHeader, RelationshipSchema, RelationshipType, RelationshipPropertySchema> {
 
         RelationshipImporter(
-            Map<RelationshipFileHeader, List<Path>> headerToDataFilesMapping,
+            Map<RelationshipFileHeader, List<FileChunk>> headerToDataFilesMapping,
             RelationshipSchema relationshipSchema
         ) {
             super(headerToDataFilesMapping, relationshipSchema);
@@ -187,38 +221,50 @@ public final class FileInput implements CompatInput {
         PROPERTY_SCHEMA extends PropertySchema> implements InputChunk {
 
         private final SCHEMA schema;
+        private final MappedLineReader lineReader;
+        private final LineTokenizer tokenizer;
 
         HEADER header;
-        Iterator<String> lineIterator;
         Map<String, PROPERTY_SCHEMA> propertySchemas;
 
         LineChunk(SCHEMA schema) {
             this.schema = schema;
+            this.lineReader = new MappedLineReader();
+            this.tokenizer = new LineTokenizer();
         }
 
         void initialize(
             HEADER header,
-            Path path
+            FileChunk fileChunk
         ) throws IOException {
             this.header = header;
             this.propertySchemas = header.schemaForIdentifier(schema);
-            this.lineIterator = Files.lines(path).iterator();
+            this.lineReader.open(fileChunk.path(), fileChunk.start(), fileChunk.end());
         }
 
         @Override
         public boolean next(InputEntityVisitor visitor) throws IOException {
-            if (lineIterator.hasNext()) {
-                String line = lineIterator.next();
+            if (lineReader.next(tokenizer)) {
                 // Ignore empty lines
-                if (!line.isBlank()) {
-                    visitLine(line, header, visitor);
+                if (!tokenizer.isBlank()) {
+                    visitLine(tokenizer, header, visitor);
                 }
                 return true;
             }
             return false;
         }
 
-        abstract void visitLine(String line, HEADER header, InputEntityVisitor visitor) throws IOException;
+        void visitLine(String line, HEADER header, InputEntityVisitor visitor) throws IOException {
+            tokenizer.reset(line);
+            visitLine(tokenizer, header, visitor);
+        }
+
+        abstract void visitLine(LineTokenizer line, HEADER header, InputEntityVisitor visitor) throws IOException;
+
+        @Override
+        public void close() throws IOException {
+            lineReader.close();
+        }
     }
 
     static class NodeLineChunk extends LineChunk<NodeFileHeader, NodeSchema, NodeLabel, PropertySchema> {
@@ -228,19 +274,17 @@ public final class FileInput implements CompatInput {
         }
 
         @Override
-        void visitLine(String line, NodeFileHeader header, InputEntityVisitor visitor) throws IOException {
-
-            var lineValues = line.split(",", -1);
+        void visitLine(LineTokenizer line, NodeFileHeader header, InputEntityVisitor visitor) throws IOException {
 
             visitor.labels(header.nodeLabels());
 
-            visitor.id(Long.parseLong(lineValues[0]));
+            visitor.id(line.longValue(0));
 
             header
                 .propertyMappings()
                 .forEach(property -> {
-                    var propertyValue = property.position() < lineValues.length
-                        ? lineValues[property.position()]
+                    var propertyValue = property.position() < line.columnCount()
+                        ? line.stringValue(property.position())
                         : "";
                     visitor.property(
                         property.propertyKey(),
@@ -255,11 +299,6 @@ public final class FileInput implements CompatInput {
 
             visitor.endOfEntity();
         }
-
-        @Override
-        public void close() throws IOException {
-
-        }
     }
 
     static class RelationshipLineChunk extends LineChunk<RelationshipFileHeader, RelationshipSchema, RelationshipType, RelationshipPropertySchema> {
@@ -269,26 +308,28 @@ public final class FileInput implements CompatInput {
         }
 
         @Override
-        void visitLine(String line, RelationshipFileHeader header, InputEntityVisitor visitor) throws IOException {
-            var lineValues = line.split(",", -1);
-
+        void visitLine(LineTokenizer line, RelationshipFileHeader header, InputEntityVisitor visitor) throws IOException {
             visitor.type(header.relationshipType());
-            visitor.startId(Long.parseLong(lineValues[0]));
-            visitor.endId(Long.parseLong(lineValues[1]));
+            visitor.startId(line.longValue(0));
+            visitor.endId(line.longValue(1));
 
             header
                 .propertyMappings()
                 .forEach(property -> visitor.property(
                     property.propertyKey(),
-                    property.valueType().fromCsvValue(lineValues[property.position()], propertySchemas.get(property.propertyKey()).defaultValue())
+                    property.valueType().fromCsvValue(line.stringValue(property.position()), propertySchemas.get(property.propertyKey()).defaultValue())
                 ));
 
             visitor.endOfEntity();
         }
+    }
 
-        @Override
-        public void close() throws IOException {
+    @ValueClass
+    interface FileChunk {
+        Path path();
 
-        }
+        long start();
+
+        long end();
     }
 }
@@ -25,6 +25,7 @@ import org.neo4j.gds.api.GraphStore;
 import org.neo4j.gds.compat.GraphStoreExportSettings;
 import org.neo4j.gds.core.utils.io.GraphStoreExporter;
 import org.neo4j.gds.core.utils.io.NeoNodeProperties;
+import org.neo4j.gds.core.utils.io.file.binary.BinaryGraphStoreExporter;
 import org.neo4j.graphdb.config.Configuration;
 import org.neo4j.logging.Log;
 
@@ -49,10 +50,10 @@ public final class GraphStoreExporterUtil {
         Log log
     ) {
         try {
-            var exporter = GraphStoreToFileExporter.csv(graphStore, config, path, neoNodeProperties);
-
             var start = System.nanoTime();
-            var importedProperties = exporter.run();
+            var importedProperties = config.binary()
+                ? exportBinary(graphStore, path, neoNodeProperties)
+                : GraphStoreToFileExporter.csv(graphStore, config, path, neoNodeProperties).run();
             var end = System.nanoTime();
 
             var tookMillis = TimeUnit.NANOSECONDS.toMillis(end - start);
@@ -67,6 +68,17 @@ public final class GraphStoreExporterUtil {
         }
     }
 
+    private static GraphStoreExporter.ImportedProperties exportBinary(
+        GraphStore graphStore,
+        Path path,
+        Optional<NeoNodeProperties> neoNodeProperties
+    ) {
+        if (neoNodeProperties.isPresent()) {
+            throw new IllegalArgumentException("Additional node properties are not supported for binary exports.");
+        }
+        return BinaryGraphStoreExporter.of(graphStore, path, true).run();
+    }
+
     public static Path exportLocation(Configuration neo4jConfig, GraphStoreToFileExporterConfig config) {
         var rootPath = neo4jConfig.get(GraphStoreExportSettings.export_location_setting);
         var exportPath = rootPath != null ? rootPath.resolve(EXPORT_DIR) : null;
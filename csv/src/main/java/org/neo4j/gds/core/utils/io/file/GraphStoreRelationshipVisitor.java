@@ -62,10 +62,13 @@ public class GraphStoreRelationshipVisitor extends RelationshipVisitor {
                         .stream()
                         .map(schema -> ImmutablePropertyConfig.of(schema.aggregation(), schema.defaultValue()))
                         .collect(Collectors.toList());
-                    var relBuilder = relationshipBuilderSupplier.get()
-                        .propertyConfigs(propertyConfigs)
-                        .build();
-                    relationshipBuilders.put(key, relBuilder);
+                    // all visitors share the builder of a relationship type, which buffers thread-locally
+                    var relBuilder = relationshipBuilders.computeIfAbsent(
+                        key,
+                        ignore -> relationshipBuilderSupplier.get()
+                            .propertyConfigs(propertyConfigs)
+                            .build()
+                    );
                     return RelationshipBuilderFromVisitor.of(
                         propertyConfigs.size(),
                         relBuilder,
@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.io.file;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Splits a single line of a csv file into its comma separated columns, without copying the line.
+ * Numeric columns can be parsed directly from the underlying buffer; only columns that are
+ * requested as strings are decoded.
+ */
+final class LineTokenizer {
+
+    private static final long MULTIPLY_MIN = Long.MIN_VALUE / 10;
+
+    private ByteBuffer buffer;
+    private int lineStart;
+    private int lineEnd;
+
+    private int[] columnStarts;
+    private int[] columnEnds;
+    private int columnCount;
+
+    private byte[] decodeBuffer;
+
+    LineTokenizer() {
+        this.columnStarts = new int[8];
+        this.columnEnds = new int[8];
+        this.decodeBuffer = new byte[64];
+    }
+
+    void reset(String line) {
+        var bytes = line.getBytes(StandardCharsets.UTF_8);
+        reset(ByteBuffer.wrap(bytes), 0, bytes.length);
+    }
+
+    /**
+     * Tokenizes the bytes of {@code buffer} from {@code start} (inclusive) to {@code end} (exclusive).
+     * The buffer is accessed with absolute positions and must not change until the next call to reset.
+     */
+    void reset(ByteBuffer buffer, int start, int end) {
+        this.buffer = buffer;
+        this.lineStart = start;
+        this.lineEnd = end;
+        this.columnCount = 0;
+
+        int columnStart = start;
+        for (int i = start; i < end; i++) {
+            if (buffer.get(i) == ',') {
+                addColumn(columnStart, i);
+                columnStart = i + 1;
+            }
+        }
+        addColumn(columnStart, end);
+    }
+
+    private void addColumn(int start, int end) {
+        if (columnCount == columnStarts.length) {
+            columnStarts = Arrays.copyOf(columnStarts, columnCount * 2);
+            columnEnds = Arrays.copyOf(columnEnds, columnCount * 2);
+        }
+        columnStarts[columnCount] = start;
+        columnEnds[columnCount] = end;
+        columnCount++;
+    }
+
+    int columnCount() {
+        return columnCount;
+    }
+
+    boolean isBlank() {
+        for (int i = lineStart; i < lineEnd; i++) {
+            if (!Character.isWhitespace(buffer.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Parses the given column as a decimal long value, equivalent to {@link Long#parseLong(String)}.
+     */
+    long longValue(int column) {
+        int position = columnStarts[column];
+        int end = columnEnds[column];
+
+        boolean negative = false;
+        if (position < end) {
+            byte first = buffer.get(position);
+            if (first == '-' || first == '+') {
+                negative = first == '-';
+                position++;
+            }
+        }
+        if (position == end) {
+            throw invalidLong(column);
+        }
+
+        // accumulate negatively in order to be able to represent Long.MIN_VALUE
+        long value = 0L;
+        for (; position < end; position++) {
+            int digit = buffer.get(position) - '0';
+            if (digit < 0 || digit > 9 || value < MULTIPLY_MIN) {
+                throw invalidLong(column);
+            }
+            value *= 10;
+            if (value < Long.MIN_VALUE + digit) {
+                throw invalidLong(column);
+            }
+            value -= digit;
+        }
+
+        if (negative) {
+            return value;
+        }
+        if (value == Long.MIN_VALUE) {
+            throw invalidLong(column);
+        }
+        return -value;
+    }
+
+    String stringValue(int column) {
+        int start = columnStarts[column];
+        int length = columnEnds[column] - start;
+        if (decodeBuffer.length < length) {
+            decodeBuffer = new byte[Math.max(length, decodeBuffer.length * 2)];
+        }
+        for (int i = 0; i < length; i++) {
+            decodeBuffer[i] = buffer.get(start + i);
+        }
+        return new String(decodeBuffer, 0, length, StandardCharsets.UTF_8);
+    }
+
+    private NumberFormatException invalidLong(int column) {
+        return new NumberFormatException(formatWithLocale("For input string: \"%s\"", stringValue(column)));
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.io.file;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reads the lines of a byte range of a file through a memory mapping.
+ *
+ * A line belongs to the range in which it starts. If the range does not start at the beginning of the file,
+ * the first (partial) line is skipped, as it is read by the preceding range. The last line of a range
+ * is read completely, even if it ends after the range. This way, a file can be split at arbitrary
+ * positions and the ranges can be read independently, while every line is read exactly once.
+ */
+final class MappedLineReader implements AutoCloseable {
+
+    // additional bytes that are mapped beyond the end of the range in order to complete the last line
+    private static final int LINE_SLACK = 1 << 16;
+
+    private FileChannel channel;
+    private long fileSize;
+
+    private ByteBuffer window;
+    private long windowStart;
+
+    private long position;
+    private long end;
+
+    void open(Path file, long start, long end) throws IOException {
+        close();
+        this.channel = FileChannel.open(file, StandardOpenOption.READ);
+        this.fileSize = channel.size();
+        this.end = Math.min(end, fileSize);
+        this.window = null;
+
+        if (start == 0) {
+            this.position = 0;
+        } else {
+            // the previous range reads the line that contains the byte before our start
+            this.position = start - 1;
+            int lineEnd = findLineEnd();
+            this.position = lineEnd < 0 ? fileSize : windowStart + lineEnd + 1;
+        }
+    }
+
+    /**
+     * Advances to the next line of the range and hands it to the tokenizer.
+     *
+     * @return false if there are no more lines in the range
+     */
+    boolean next(LineTokenizer tokenizer) throws IOException {
+        if (position >= end) {
+            return false;
+        }
+
+        int lineEnd = findLineEnd();
+        int lineStart = (int) (position - windowStart);
+        long nextPosition;
+        if (lineEnd < 0) {
+            // last line of the file without a line break
+            lineEnd = window.limit();
+            nextPosition = fileSize;
+        } else {
+            nextPosition = windowStart + lineEnd + 1;
+        }
+        if (lineEnd > lineStart && window.get(lineEnd - 1) == '\r') {
+            lineEnd--;
+        }
+
+        tokenizer.reset(window, lineStart, lineEnd);
+        position = nextPosition;
+        return true;
+    }
+
+    /**
+     * Returns the index of the next line break at or after the current position within the window
+     * or -1 if the line is terminated by the end of the file.
+     * The window is re-mapped as needed, so that it contains the complete line.
+     */
+    private int findLineEnd() throws IOException {
+        long mapSize = Math.max(end - position, 0) + LINE_SLACK;
+        if (window == null || position < windowStart || position >= windowStart + window.limit()) {
+            map(mapSize);
+        }
+        int searchFrom = (int) (position - windowStart);
+        while (true) {
+            int limit = window.limit();
+            for (int i = searchFrom; i < limit; i++) {
+                if (window.get(i) == '\n') {
+                    return i;
+                }
+            }
+            if (windowStart + limit >= fileSize) {
+                return -1;
+            }
+            // the line continues beyond the window, map it again starting at the current line
+            searchFrom = limit - (int) (position - windowStart);
+            mapSize = Math.max(mapSize, limit) * 2;
+            map(mapSize);
+        }
+    }
+
+    private void map(long size) throws IOException {
+        long mappedSize = Math.min(Math.min(size, Integer.MAX_VALUE), fileSize - position);
+        this.window = channel.map(FileChannel.MapMode.READ_ONLY, position, mappedSize);
+        this.windowStart = position;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (channel != null) {
+            channel.close();
+            channel = null;
+        }
+        window = null;
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.io.file.binary;
+
+import org.neo4j.gds.api.DefaultValue;
+import org.neo4j.gds.api.nodeproperties.ValueType;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteOrder;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Describes the layout of a binary graph store snapshot.
+ *
+ * A snapshot is a directory containing a single meta data file, which holds the graph schema,
+ * counts and page tables, and one file per column, e.g. original node ids, label bit sets, node property values,
+ * relationship degrees and offsets, compressed adjacency pages and relationship property pages.
+ * Columns are written in little endian byte order and without any framing, so that they can be
+ * copied or mapped into memory without being parsed.
+ * Snapshots can optionally be written with block compressed columns, see {@link ColumnWriter}.
+ * The adjacency lists are never compressed, as they are mapped into memory when loading.
+ */
+final class BinaryFormat {
+
+    static final int MAGIC = 0x47445342; // "GDSB"
+    static final int VERSION = 1;
+
+    static final ByteOrder BYTE_ORDER = ByteOrder.LITTLE_ENDIAN;
+
+    // decompressed length, stored length, block type
+    static final int BLOCK_HEADER_SIZE = Integer.BYTES + Integer.BYTES + Byte.BYTES;
+    static final byte RAW_BLOCK = 0;
+    static final byte COMPRESSED_BLOCK = 1;
+
+    static final String META_DATA_FILE_NAME = "graph.meta";
+    static final String NODE_IDS_FILE_NAME = "nodes.ids";
+
+    static String labelFileName(int labelIndex) {
+        return formatWithLocale("labels_%d.bits", labelIndex);
+    }
+
+    static String nodePropertyFileName(int propertyIndex) {
+        return formatWithLocale("node_property_%d.values", propertyIndex);
+    }
+
+    static String nodePropertyLengthsFileName(int propertyIndex) {
+        return formatWithLocale("node_property_%d.lengths", propertyIndex);
+    }
+
+    static String degreesFileName(int typeIndex) {
+        return formatWithLocale("relationships_%d.degrees", typeIndex);
+    }
+
+    static String adjacencyOffsetsFileName(int typeIndex) {
+        return formatWithLocale("relationships_%d.adjacency_offsets", typeIndex);
+    }
+
+    static String adjacencyFileName(int typeIndex) {
+        return formatWithLocale("relationships_%d.adjacency", typeIndex);
+    }
+
+    static String propertyOffsetsFileName(int typeIndex) {
+        return formatWithLocale("relationships_%d.property_offsets", typeIndex);
+    }
+
+    static String relationshipPropertyFileName(int typeIndex, int propertyIndex) {
+        return formatWithLocale("relationships_%d.property_%d", typeIndex, propertyIndex);
+    }
+
+    static void writeDefaultValue(DataOutput out, DefaultValue defaultValue, ValueType valueType) throws IOException {
+        out.writeBoolean(defaultValue.isUserDefined());
+        out.writeBoolean(defaultValue.getObject() != null);
+        if (defaultValue.getObject() == null) {
+            return;
+        }
+        switch (valueType) {
+            case LONG:
+                out.writeLong(defaultValue.longValue());
+                break;
+            case DOUBLE:
+                out.writeDouble(defaultValue.doubleValue());
+                break;
+            case LONG_ARRAY:
+                var longs = defaultValue.longArrayValue();
+                out.writeInt(longs.length);
+                for (long value : longs) {
+                    out.writeLong(value);
+                }
+                break;
+            case DOUBLE_ARRAY:
+                var doubles = defaultValue.doubleArrayValue();
+                out.writeInt(doubles.length);
+                for (double value : doubles) {
+                    out.writeDouble(value);
+                }
+                break;
+            case FLOAT_ARRAY:
+                var floats = defaultValue.floatArrayValue();
+                out.writeInt(floats.length);
+                for (float value : floats) {
+                    out.writeFloat(value);
+                }
+                break;
+            default:
+                throw unsupportedValueType(valueType);
+        }
+    }
+
+    static DefaultValue readDefaultValue(DataInput in, ValueType valueType) throws IOException {
+        boolean isUserDefined = in.readBoolean();
+        if (!in.readBoolean()) {
+            return DefaultValue.of(null, isUserDefined);
+        }
+        switch (valueType) {
+            case LONG:
+                return DefaultValue.of(in.readLong(), isUserDefined);
+            case DOUBLE:
+                return DefaultValue.of(in.readDouble(), isUserDefined);
+            case LONG_ARRAY:
+                var longs = new long[in.readInt()];
+                for (int i = 0; i < longs.length; i++) {
+                    longs[i] = in.readLong();
+                }
+                return DefaultValue.of(longs, isUserDefined);
+            case DOUBLE_ARRAY:
+                var doubles = new double[in.readInt()];
+                for (int i = 0; i < doubles.length; i++) {
+                    doubles[i] = in.readDouble();
+                }
+                return DefaultValue.of(doubles, isUserDefined);
+            case FLOAT_ARRAY:
+                var floats = new float[in.readInt()];
+                for (int i = 0; i < floats.length; i++) {
+                    floats[i] = in.readFloat();
+                }
+                return DefaultValue.of(floats, isUserDefined);
+            default:
+                throw unsupportedValueType(valueType);
+        }
+    }
+
+    static IllegalArgumentException unsupportedValueType(ValueType valueType) {
+        return new IllegalArgumentException(formatWithLocale(
+            "Binary graph snapshots do not support properties of type `%s`.",
+            valueType.csvName()
+        ));
+    }
+
+    private BinaryFormat() {}
+}
@@ -0,0 +1,426 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.io.file.binary;
+
+import com.carrotsearch.hppc.BitSet;
+import com.carrotsearch.hppc.sorting.IndirectSort;
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.CompositeRelationshipIterator;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.api.IdMap;
+import org.neo4j.gds.api.NodeProperties;
+import org.neo4j.gds.api.nodeproperties.ValueType;
+import org.neo4j.gds.api.schema.PropertySchema;
+import org.neo4j.gds.api.schema.RelationshipPropertySchema;
+import org.neo4j.gds.core.loading.VarLongEncoding;
+import org.neo4j.gds.core.utils.AscendingLongComparator;
+import org.neo4j.gds.core.utils.io.GraphStoreExporter;
+import org.neo4j.gds.core.utils.io.ImmutableImportedProperties;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import static org.neo4j.gds.core.utils.io.file.binary.BinaryFormat.unsupportedValueType;
+
+/**
+ * Writes a {@link GraphStore} into a binary snapshot that can be restored by the {@link BinaryGraphStoreImporter}.
+ *
+ * Adjacency lists are written as delta and var-long encoded pages, which are mapped into memory when the snapshot is loaded.
+ * All other columns are written as plain arrays of primitive values, which can optionally be block compressed.
+ * Compression trades export and load time for a smaller snapshot on disk.
+ */
+public final class BinaryGraphStoreExporter {
+
+    private final GraphStore graphStore;
+    private final Path exportPath;
+    private final boolean compressColumns;
+
+    public static BinaryGraphStoreExporter of(GraphStore graphStore, Path exportPath) {
+        return of(graphStore, exportPath, false);
+    }
+
+    public static BinaryGraphStoreExporter of(GraphStore graphStore, Path exportPath, boolean compressColumns) {
+        return new BinaryGraphStoreExporter(graphStore, exportPath, compressColumns);
+    }
+
+    private BinaryGraphStoreExporter(GraphStore graphStore, Path exportPath, boolean compressColumns) {
+        this.graphStore = graphStore;
+        this.exportPath = exportPath;
+        this.compressColumns = compressColumns;
+    }
+
+    public GraphStoreExporter.ImportedProperties run() {
+        try {
+            Files.createDirectories(exportPath);
+            var metaDataFile = exportPath.resolve(BinaryFormat.META_DATA_FILE_NAME);
+            try (var metaData = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(metaDataFile)))) {
+                metaData.writeInt(BinaryFormat.MAGIC);
+                metaData.writeInt(BinaryFormat.VERSION);
+                metaData.writeBoolean(compressColumns);
+                metaData.writeUTF(graphStore.databaseId().name());
+                metaData.writeUTF(graphStore.databaseId().databaseId().uuid().toString());
+
+                exportNodes(metaData);
+                exportNodeProperties(metaData);
+                exportRelationships(metaData);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return exportedProperties();
+    }
+
+    private GraphStoreExporter.ImportedProperties exportedProperties() {
+        long nodePropertyCount = graphStore.nodePropertyKeys().values().stream().mapToLong(Set::size).sum()
+                                 * graphStore.nodeCount();
+        long relationshipPropertyCount = graphStore.relationshipTypes().stream()
+            .mapToLong(type -> graphStore.relationshipPropertyKeys(type).size() * graphStore.relationshipCount(type))
+            .sum();
+        return ImmutableImportedProperties.of(nodePropertyCount, relationshipPropertyCount);
+    }
+
+    private void exportNodes(DataOutputStream metaData) throws IOException {
+        var nodes = graphStore.nodes();
+        long nodeCount = nodes.nodeCount();
+        metaData.writeLong(nodeCount);
+        metaData.writeLong(nodes.highestNeoId());
+
+        try (var writer = column(BinaryFormat.NODE_IDS_FILE_NAME)) {
+            for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                writer.writeLong(nodes.toOriginalNodeId(nodeId));
+            }
+        }
+
+        var labels = labels(nodes);
+        metaData.writeInt(labels.size());
+        for (int labelIndex = 0; labelIndex < labels.size(); labelIndex++) {
+            var label = labels.get(labelIndex);
+            metaData.writeUTF(label.name());
+
+            var bitSet = new BitSet(nodeCount);
+            for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                if (nodes.hasLabel(nodeId, label)) {
+                    bitSet.set(nodeId);
+                }
+            }
+            int words = BitSet.bits2words(nodeCount);
+            metaData.writeInt(words);
+            try (var writer = column(BinaryFormat.labelFileName(labelIndex))) {
+                writer.writeLongs(bitSet.bits, 0, words);
+            }
+        }
+    }
+
+    private static List<NodeLabel> labels(IdMap nodes) {
+        var labels = nodes.availableNodeLabels();
+        // graphs without labels do not carry any label information
+        if (labels.equals(Set.of(NodeLabel.ALL_NODES))) {
+            return List.of();
+        }
+        return labels.stream().sorted(Comparator.comparing(NodeLabel::name)).collect(Collectors.toList());
+    }
+
+    private void exportNodeProperties(DataOutputStream metaData) throws IOException {
+        // the values of a property are shared by all labels, only the schema is stored per label
+        var schemasByKey = new TreeMap<String, Map<NodeLabel, PropertySchema>>();
+        graphStore.schema().nodeSchema().properties().forEach((label, properties) ->
+            properties.forEach((key, schema) ->
+                schemasByKey.computeIfAbsent(key, ignore -> new LinkedHashMap<>()).put(label, schema)
+            )
+        );
+
+        metaData.writeInt(schemasByKey.size());
+        int propertyIndex = 0;
+        for (var entry : schemasByKey.entrySet()) {
+            var propertyKey = entry.getKey();
+            var values = graphStore.nodePropertyValues(propertyKey);
+            var valueType = values.valueType();
+
+            metaData.writeUTF(propertyKey);
+            metaData.writeUTF(valueType.csvName());
+            metaData.writeInt(entry.getValue().size());
+            for (var labelAndSchema : entry.getValue().entrySet()) {
+                var schema = labelAndSchema.getValue();
+                metaData.writeUTF(labelAndSchema.getKey().name());
+                metaData.writeUTF(schema.state().name());
+                BinaryFormat.writeDefaultValue(metaData, schema.defaultValue(), valueType);
+            }
+
+            exportNodePropertyValues(values, valueType, propertyIndex++);
+        }
+    }
+
+    private void exportNodePropertyValues(NodeProperties values, ValueType valueType, int propertyIndex) {
+        long nodeCount = graphStore.nodeCount();
+        var valuesFile = BinaryFormat.nodePropertyFileName(propertyIndex);
+        switch (valueType) {
+            case LONG:
+                try (var writer = column(valuesFile)) {
+                    for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                        writer.writeLong(values.longValue(nodeId));
+                    }
+                }
+                break;
+            case DOUBLE:
+                try (var writer = column(valuesFile)) {
+                    for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                        writer.writeDouble(values.doubleValue(nodeId));
+                    }
+                }
+                break;
+            case LONG_ARRAY:
+            case DOUBLE_ARRAY:
+            case FLOAT_ARRAY:
+                var lengthsFile = BinaryFormat.nodePropertyLengthsFileName(propertyIndex);
+                try (
+                    var lengthsWriter = column(lengthsFile);
+                    var valuesWriter = column(valuesFile)
+                ) {
+                    for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                        exportArrayValue(values, valueType, nodeId, lengthsWriter, valuesWriter);
+                    }
+                }
+                break;
+            default:
+                throw unsupportedValueType(valueType);
+        }
+    }
+
+    private static void exportArrayValue(
+        NodeProperties values,
+        ValueType valueType,
+        long nodeId,
+        ColumnWriter lengthsWriter,
+        ColumnWriter valuesWriter
+    ) {
+        if (valueType == ValueType.LONG_ARRAY) {
+            var value = values.longArrayValue(nodeId);
+            lengthsWriter.writeInt(value == null ? -1 : value.length);
+            if (value != null) {
+                valuesWriter.writeLongs(value, 0, value.length);
+            }
+        } else if (valueType == ValueType.DOUBLE_ARRAY) {
+            var value = values.doubleArrayValue(nodeId);
+            lengthsWriter.writeInt(value == null ? -1 : value.length);
+            for (int i = 0; value != null && i < value.length; i++) {
+                valuesWriter.writeDouble(value[i]);
+            }
+        } else {
+            var value = values.floatArrayValue(nodeId);
+            lengthsWriter.writeInt(value == null ? -1 : value.length);
+            for (int i = 0; value != null && i < value.length; i++) {
+                valuesWriter.writeFloat(value[i]);
+            }
+        }
+    }
+
+    private void exportRelationships(DataOutputStream metaData) throws IOException {
+        var relationshipTypes = graphStore
+            .relationshipTypes()
+            .stream()
+            .sorted(Comparator.comparing(RelationshipType::name))
+            .collect(Collectors.toList());
+
+        metaData.writeInt(relationshipTypes.size());
+        for (int typeIndex = 0; typeIndex < relationshipTypes.size(); typeIndex++) {
+            var relationshipType = relationshipTypes.get(typeIndex);
+            var graph = graphStore.getGraph(relationshipType);
+            var propertySchemas = graphStore.schema().relationshipSchema().propertySchemasFor(relationshipType);
+
+            metaData.writeUTF(relationshipType.name());
+            metaData.writeBoolean(graph.isUndirected());
+            metaData.writeBoolean(graph.isMultiGraph());
+            metaData.writeLong(graphStore.relationshipCount(relationshipType));
+            metaData.writeInt(propertySchemas.size());
+            for (RelationshipPropertySchema schema : propertySchemas) {
+                metaData.writeUTF(schema.key());
+                metaData.writeUTF(schema.state().name());
+                metaData.writeUTF(schema.aggregation().name());
+                BinaryFormat.writeDefaultValue(metaData, schema.defaultValue(), ValueType.DOUBLE);
+            }
+
+            var propertyKeys = propertySchemas.stream().map(PropertySchema::key).collect(Collectors.toList());
+            var pageStarts = exportRelationshipType(
+                graphStore.getCompositeRelationshipIterator(relationshipType, propertyKeys),
+                typeIndex
+            );
+
+            for (long[] starts : pageStarts) {
+                metaData.writeInt(starts.length);
+                for (long start : starts) {
+                    metaData.writeLong(start);
+                }
+            }
+        }
+    }
+
+    /**
+     * @return the page starts of the adjacency pages, followed by the page starts of the property pages
+     */
+    private List<long[]> exportRelationshipType(CompositeRelationshipIterator iterator, int typeIndex) {
+        int propertyCount = iterator.propertyKeys().length;
+        var adjacencyLayout = new PageLayout();
+        var propertyLayout = new PageLayout();
+        var buffer = new RelationshipBuffer(propertyCount);
+        var compressed = new byte[0];
+
+        var writers = new ArrayList<ColumnWriter>();
+        try {
+            var degrees = add(writers, BinaryFormat.degreesFileName(typeIndex));
+            var adjacencyOffsets = add(writers, BinaryFormat.adjacencyOffsetsFileName(typeIndex));
+            // adjacency pages are mapped when loading and must not be compressed
+            var adjacency = ColumnWriter.create(exportPath.resolve(BinaryFormat.adjacencyFileName(typeIndex)));
+            writers.add(adjacency);
+            var propertyOffsets = add(writers, BinaryFormat.propertyOffsetsFileName(typeIndex));
+            var properties = new ColumnWriter[propertyCount];
+            for (int i = 0; i < propertyCount; i++) {
+                properties[i] = add(writers, BinaryFormat.relationshipPropertyFileName(typeIndex, i));
+            }
+
+            long nodeCount = graphStore.nodeCount();
+            for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                buffer.reset(iterator.degree(nodeId));
+                iterator.forEachRelationship(nodeId, buffer);
+                int degree = buffer.length;
+
+                degrees.writeInt(degree);
+                if (degree == 0) {
+                    adjacencyOffsets.writeLong(0L);
+                    propertyOffsets.writeLong(0L);
+                    continue;
+                }
+
+                buffer.sortAndDeltaEncode();
+                int compressedSize = VarLongEncoding.encodedVLongsSize(buffer.targets, degree);
+                if (compressed.length < compressedSize) {
+                    compressed = new byte[compressedSize];
+                }
+                VarLongEncoding.encodeVLongs(buffer.targets, degree, compressed, 0);
+                adjacencyOffsets.writeLong(adjacencyLayout.allocate(compressedSize));
+                adjacency.writeBytes(compressed, 0, compressedSize);
+
+                propertyOffsets.writeLong(propertyLayout.allocate(degree));
+                for (int i = 0; i < propertyCount; i++) {
+                    properties[i].writeLongs(buffer.properties[i], 0, degree);
+                }
+            }
+        } finally {
+            writers.forEach(ColumnWriter::close);
+        }
+
+        return List.of(adjacencyLayout.pageStarts(), propertyLayout.pageStarts());
+    }
+
+    private ColumnWriter add(List<ColumnWriter> writers, String fileName) {
+        var writer = column(fileName);
+        writers.add(writer);
+        return writer;
+    }
+
+    private ColumnWriter column(String fileName) {
+        return ColumnWriter.create(exportPath.resolve(fileName), compressColumns);
+    }
+
+    private static final class RelationshipBuffer implements CompositeRelationshipIterator.RelationshipConsumer {
+
+        private long[] targets;
+        private final long[][] properties;
+        private int length;
+
+        RelationshipBuffer(int propertyCount) {
+            this.targets = new long[0];
+            this.properties = new long[propertyCount][0];
+        }
+
+        void reset(int degree) {
+            if (targets.length < degree) {
+                grow(degree);
+            }
+            length = 0;
+        }
+
+        private void grow(int capacity) {
+            targets = Arrays.copyOf(targets, capacity);
+            for (int i = 0; i < properties.length; i++) {
+                properties[i] = Arrays.copyOf(properties[i], capacity);
+            }
+        }
+
+        @Override
+        public boolean consume(long source, long target, double[] propertyValues) {
+            if (length == targets.length) {
+                grow(Math.max(2 * length, 1));
+            }
+            targets[length] = target;
+            for (int i = 0; i < properties.length; i++) {
+                properties[i][length] = Double.doubleToLongBits(propertyValues[i]);
+            }
+            length++;
+            return true;
+        }
+
+        /**
+         * Sorts the targets together with their properties, if necessary, and replaces them by their deltas.
+         */
+        void sortAndDeltaEncode() {
+            if (!isSorted()) {
+                int[] order = IndirectSort.mergesort(0, length, new AscendingLongComparator(targets));
+                targets = reorder(targets, order, length);
+                for (int i = 0; i < properties.length; i++) {
+                    properties[i] = reorder(properties[i], order, length);
+                }
+            }
+            for (int i = length - 1; i > 0; i--) {
+                targets[i] -= targets[i - 1];
+            }
+        }
+
+        private boolean isSorted() {
+            for (int i = 1; i < length; i++) {
+                if (targets[i - 1] > targets[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static long[] reorder(long[] values, int[] order, int length) {
+            var sorted = Arrays.copyOf(values, values.length);
+            for (int i = 0; i < length; i++) {
+                sorted[i] = values[order[i]];
+            }
+            return sorted;
+        }
+    }
+}
@@ -0,0 +1,363 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.io.file.binary;
+
+import com.carrotsearch.hppc.BitSet;
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.DefaultValue;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.api.IdMap;
+import org.neo4j.gds.api.NodeProperties;
+import org.neo4j.gds.api.NodeProperty;
+import org.neo4j.gds.api.NodePropertyStore;
+import org.neo4j.gds.api.PropertyState;
+import org.neo4j.gds.api.RelationshipProperty;
+import org.neo4j.gds.api.RelationshipPropertyStore;
+import org.neo4j.gds.api.Relationships;
+import org.neo4j.gds.api.nodeproperties.ValueType;
+import org.neo4j.gds.core.Aggregation;
+import org.neo4j.gds.core.huge.MappedAdjacencyList;
+import org.neo4j.gds.core.huge.UncompressedAdjacencyList;
+import org.neo4j.gds.core.loading.GraphStoreBuilder;
+import org.neo4j.gds.core.loading.HugeIdMapBuilderOps;
+import org.neo4j.gds.core.loading.LabelInformation;
+import org.neo4j.gds.core.utils.paged.HugeArrays;
+import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
+import org.neo4j.gds.core.utils.paged.HugeIntArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.core.utils.paged.HugeObjectArray;
+import org.neo4j.kernel.database.DatabaseIdFactory;
+import org.neo4j.values.storable.NumberType;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Restores a {@link GraphStore} from a binary snapshot that has been written by the {@link BinaryGraphStoreExporter}.
+ *
+ * The compressed adjacency pages are mapped into memory as they are, hence loading a snapshot
+ * only needs to copy the node and property columns onto the heap and to rebuild the id mapping.
+ * The mapped adjacency files must not be modified or removed while the graph store is in use.
+ */
+public final class BinaryGraphStoreImporter {
+
+    private final Path importPath;
+    private final int concurrency;
+    // read from the meta data file
+    private boolean compressedColumns;
+
+    public static BinaryGraphStoreImporter of(Path importPath, int concurrency) {
+        return new BinaryGraphStoreImporter(importPath, concurrency);
+    }
+
+    private BinaryGraphStoreImporter(Path importPath, int concurrency) {
+        this.importPath = importPath;
+        this.concurrency = concurrency;
+    }
+
+    public GraphStore run() {
+        var metaDataFile = importPath.resolve(BinaryFormat.META_DATA_FILE_NAME);
+        try (var metaData = new DataInputStream(new BufferedInputStream(Files.newInputStream(metaDataFile)))) {
+            int magic = metaData.readInt();
+            int version = metaData.readInt();
+            if (magic != BinaryFormat.MAGIC || version != BinaryFormat.VERSION) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Directory '%s' does not contain a binary graph snapshot of version %d.",
+                    importPath,
+                    BinaryFormat.VERSION
+                ));
+            }
+
+            compressedColumns = metaData.readBoolean();
+            var databaseName = metaData.readUTF();
+            var databaseId = UUID.fromString(metaData.readUTF());
+
+            var graphStoreBuilder = new GraphStoreBuilder()
+                .databaseId(DatabaseIdFactory.from(databaseName, databaseId))
+                .concurrency(concurrency);
+
+            var nodes = importNodes(metaData);
+            graphStoreBuilder.nodes(nodes);
+            importNodeProperties(metaData, nodes.nodeCount()).forEach(graphStoreBuilder::putNodePropertyStores);
+            importRelationships(metaData, nodes.nodeCount(), graphStoreBuilder);
+
+            return graphStoreBuilder.build();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private IdMap importNodes(DataInputStream metaData) throws IOException {
+        long nodeCount = metaData.readLong();
+        long highestNeoId = metaData.readLong();
+
+        var graphIds = readLongColumn(BinaryFormat.NODE_IDS_FILE_NAME, nodeCount);
+
+        int labelCount = metaData.readInt();
+        var labels = new HashMap<NodeLabel, BitSet>(labelCount);
+        for (int labelIndex = 0; labelIndex < labelCount; labelIndex++) {
+            var label = NodeLabel.of(metaData.readUTF());
+            int words = metaData.readInt();
+            var bits = new long[words];
+            try (var reader = column(BinaryFormat.labelFileName(labelIndex))) {
+                reader.readLongs(bits, 0, words);
+            }
+            labels.put(label, new BitSet(bits, words));
+        }
+
+        return HugeIdMapBuilderOps.build(
+            graphIds,
+            nodeCount,
+            LabelInformation.from(labels),
+            highestNeoId,
+            concurrency
+        );
+    }
+
+    private Map<NodeLabel, NodePropertyStore> importNodeProperties(
+        DataInputStream metaData,
+        long nodeCount
+    ) throws IOException {
+        var propertyStoreBuilders = new HashMap<NodeLabel, NodePropertyStore.Builder>();
+
+        int propertyCount = metaData.readInt();
+        for (int propertyIndex = 0; propertyIndex < propertyCount; propertyIndex++) {
+            var propertyKey = metaData.readUTF();
+            var valueType = ValueType.fromCsvName(metaData.readUTF());
+            var values = importNodePropertyValues(valueType, propertyIndex, nodeCount);
+
+            int labelCount = metaData.readInt();
+            for (int i = 0; i < labelCount; i++) {
+                var label = NodeLabel.of(metaData.readUTF());
+                var state = PropertyState.valueOf(metaData.readUTF());
+                var defaultValue = BinaryFormat.readDefaultValue(metaData, valueType);
+                propertyStoreBuilders
+                    .computeIfAbsent(label, ignore -> NodePropertyStore.builder())
+                    .putIfAbsent(propertyKey, NodeProperty.of(propertyKey, state, values, defaultValue));
+            }
+        }
+
+        var propertyStores = new HashMap<NodeLabel, NodePropertyStore>();
+        propertyStoreBuilders.forEach((label, builder) -> propertyStores.put(label, builder.build()));
+        return propertyStores;
+    }
+
+    private NodeProperties importNodePropertyValues(ValueType valueType, int propertyIndex, long nodeCount) {
+        var valuesFile = BinaryFormat.nodePropertyFileName(propertyIndex);
+        switch (valueType) {
+            case LONG:
+                return readLongColumn(BinaryFormat.nodePropertyFileName(propertyIndex), nodeCount).asNodeProperties();
+            case DOUBLE:
+                var doubles = HugeDoubleArray.newArray(nodeCount);
+                try (var reader = column(valuesFile)) {
+                    var chunk = new double[HugeArrays.PAGE_SIZE];
+                    for (long start = 0; start < nodeCount; start += chunk.length) {
+                        int length = (int) Math.min(chunk.length, nodeCount - start);
+                        reader.readDoubles(chunk, 0, length);
+                        doubles.copyFromArrayIntoSlice(chunk, start, start + length);
+                    }
+                }
+                return doubles.asNodeProperties();
+            case LONG_ARRAY:
+            case DOUBLE_ARRAY:
+            case FLOAT_ARRAY:
+                var lengthsFile = BinaryFormat.nodePropertyLengthsFileName(propertyIndex);
+                try (var lengthsReader = column(lengthsFile); var valuesReader = column(valuesFile)) {
+                    return importArrayValues(valueType, nodeCount, lengthsReader, valuesReader).asNodeProperties();
+                }
+            default:
+                throw BinaryFormat.unsupportedValueType(valueType);
+        }
+    }
+
+    private static HugeObjectArray<?> importArrayValues(
+        ValueType valueType,
+        long nodeCount,
+        ColumnReader lengthsReader,
+        ColumnReader valuesReader
+    ) {
+        if (valueType == ValueType.LONG_ARRAY) {
+            var values = HugeObjectArray.newArray(long[].class, nodeCount);
+            for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                int length = lengthsReader.readInt();
+                if (length >= 0) {
+                    var value = new long[length];
+                    valuesReader.readLongs(value, 0, length);
+                    values.set(nodeId, value);
+                }
+            }
+            return values;
+        }
+        if (valueType == ValueType.DOUBLE_ARRAY) {
+            var values = HugeObjectArray.newArray(double[].class, nodeCount);
+            for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                int length = lengthsReader.readInt();
+                if (length >= 0) {
+                    var value = new double[length];
+                    valuesReader.readDoubles(value, 0, length);
+                    values.set(nodeId, value);
+                }
+            }
+            return values;
+        }
+        var values = HugeObjectArray.newArray(float[].class, nodeCount);
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            int length = lengthsReader.readInt();
+            if (length >= 0) {
+                var value = new float[length];
+                for (int i = 0; i < length; i++) {
+                    value[i] = valuesReader.readFloat();
+                }
+                values.set(nodeId, value);
+            }
+        }
+        return values;
+    }
+
+    private void importRelationships(
+        DataInputStream metaData,
+        long nodeCount,
+        GraphStoreBuilder graphStoreBuilder
+    ) throws IOException {
+        int typeCount = metaData.readInt();
+        for (int typeIndex = 0; typeIndex < typeCount; typeIndex++) {
+            var relationshipType = RelationshipType.of(metaData.readUTF());
+            var orientation = metaData.readBoolean() ? Orientation.UNDIRECTED : Orientation.NATURAL;
+            boolean isMultiGraph = metaData.readBoolean();
+            long elementCount = metaData.readLong();
+
+            int propertyCount = metaData.readInt();
+            var propertyKeys = new String[propertyCount];
+            var propertyStates = new PropertyState[propertyCount];
+            var aggregations = new Aggregation[propertyCount];
+            var defaultValues = new DefaultValue[propertyCount];
+            for (int i = 0; i < propertyCount; i++) {
+                propertyKeys[i] = metaData.readUTF();
+                propertyStates[i] = PropertyState.valueOf(metaData.readUTF());
+                aggregations[i] = Aggregation.valueOf(metaData.readUTF());
+                defaultValues[i] = BinaryFormat.readDefaultValue(metaData, ValueType.DOUBLE);
+            }
+
+            var adjacencyPageStarts = readPageStarts(metaData);
+            var propertyPageStarts = readPageStarts(metaData);
+
+            var degrees = HugeIntArray.newArray(nodeCount);
+            try (var reader = column(BinaryFormat.degreesFileName(typeIndex))) {
+                var chunk = new int[HugeArrays.PAGE_SIZE];
+                for (long start = 0; start < nodeCount; start += chunk.length) {
+                    int length = (int) Math.min(chunk.length, nodeCount - start);
+                    reader.readInts(chunk, 0, length);
+                    degrees.copyFromArrayIntoSlice(chunk, start, start + length);
+                }
+            }
+            var adjacencyOffsets = readLongColumn(BinaryFormat.adjacencyOffsetsFileName(typeIndex), nodeCount);
+
+            MappedAdjacencyList adjacencyList;
+            var adjacencyFile = importPath.resolve(BinaryFormat.adjacencyFileName(typeIndex));
+            try (var channel = FileChannel.open(adjacencyFile, StandardOpenOption.READ)) {
+                adjacencyList = MappedAdjacencyList.map(channel, adjacencyPageStarts, degrees, adjacencyOffsets);
+            }
+
+            var propertyStoreBuilder = RelationshipPropertyStore.builder();
+            if (propertyCount > 0) {
+                var propertyOffsets = readLongColumn(BinaryFormat.propertyOffsetsFileName(typeIndex), nodeCount);
+                for (int i = 0; i < propertyCount; i++) {
+                    var propertyFile = BinaryFormat.relationshipPropertyFileName(typeIndex, i);
+                    var propertyList = new UncompressedAdjacencyList(
+                        readPages(propertyFile, propertyPageStarts),
+                        degrees,
+                        propertyOffsets
+                    );
+                    var properties = Relationships.of(
+                        elementCount,
+                        orientation,
+                        isMultiGraph,
+                        adjacencyList,
+                        propertyList,
+                        defaultValues[i].doubleValue()
+                    ).properties().orElseThrow();
+                    propertyStoreBuilder.putIfAbsent(propertyKeys[i], RelationshipProperty.of(
+                        propertyKeys[i],
+                        NumberType.FLOATING_POINT,
+                        propertyStates[i],
+                        properties,
+                        defaultValues[i],
+                        aggregations[i]
+                    ));
+                }
+            }
+
+            graphStoreBuilder.putRelationships(
+                relationshipType,
+                Relationships.of(elementCount, orientation, isMultiGraph, adjacencyList).topology()
+            );
+            graphStoreBuilder.putRelationshipPropertyStores(relationshipType, propertyStoreBuilder.build());
+        }
+    }
+
+    private static long[] readPageStarts(DataInputStream metaData) throws IOException {
+        var pageStarts = new long[metaData.readInt()];
+        for (int i = 0; i < pageStarts.length; i++) {
+            pageStarts[i] = metaData.readLong();
+        }
+        return pageStarts;
+    }
+
+    private HugeLongArray readLongColumn(String fileName, long nodeCount) {
+        var values = HugeLongArray.newArray(nodeCount);
+        try (var reader = column(fileName)) {
+            var chunk = new long[HugeArrays.PAGE_SIZE];
+            for (long start = 0; start < nodeCount; start += chunk.length) {
+                int length = (int) Math.min(chunk.length, nodeCount - start);
+                reader.readLongs(chunk, 0, length);
+                values.copyFromArrayIntoSlice(chunk, start, start + length);
+            }
+        }
+        return values;
+    }
+
+    private long[][] readPages(String fileName, long[] pageStarts) {
+        var pages = new long[pageStarts.length - 1][];
+        try (var reader = column(fileName)) {
+            for (int i = 0; i < pages.length; i++) {
+                pages[i] = new long[(int) (pageStarts[i + 1] - pageStarts[i])];
+                reader.readLongs(pages[i], 0, pages[i].length);
+            }
+        }
+        return pages;
+    }
+
+    private ColumnReader column(String fileName) {
+        return ColumnReader.open(importPath.resolve(fileName), compressedColumns);
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.io.file.binary;
+
+import java.util.Arrays;
+
+/**
+ * A byte oriented block compression in the spirit of LZ4.
+ *
+ * A compressed block is a sequence of literal runs, each followed by a back reference into the already decompressed data.
+ * Every sequence starts with a token, whose upper four bits hold the literal length and whose lower four bits
+ * hold the match length minus {@link #MIN_MATCH}. Lengths that do not fit into four bits are continued in
+ * additional bytes of up to 255 each. The back reference is stored as a two byte little endian offset.
+ * The last sequence consists of literals only.
+ */
+final class BlockCompression {
+
+    private static final int MIN_MATCH = 4;
+    private static final int LAST_LITERALS = 5;
+    // a match must not start within the last bytes of a block
+    private static final int MATCH_FIND_LIMIT = 12;
+    private static final int MAX_OFFSET = (1 << 16) - 1;
+    private static final int RUN_MASK = 15;
+
+    static final int HASH_LOG = 14;
+
+    static int maxCompressedLength(int length) {
+        return length + length / 255 + 16;
+    }
+
+    /**
+     * Compresses the first {@code length} bytes of {@code src} into {@code dest},
+     * which must have a capacity of at least {@link #maxCompressedLength(int)}.
+     * The {@code hashTable} must have {@code 1 << HASH_LOG} entries, it is used as scratch space.
+     *
+     * @return the number of bytes written to {@code dest}
+     */
+    static int compress(byte[] src, int length, byte[] dest, int[] hashTable) {
+        Arrays.fill(hashTable, -1);
+
+        int anchor = 0;
+        int out = 0;
+        int position = 0;
+        int matchFindLimit = length - MATCH_FIND_LIMIT;
+        int matchLimit = length - LAST_LITERALS;
+
+        while (position < matchFindLimit) {
+            int sequence = readInt(src, position);
+            int hash = hash(sequence);
+            int reference = hashTable[hash];
+            hashTable[hash] = position;
+
+            if (reference < 0 || position - reference > MAX_OFFSET || readInt(src, reference) != sequence) {
+                position++;
+                continue;
+            }
+
+            // extend the match backwards into the pending literals
+            while (position > anchor && reference > 0 && src[position - 1] == src[reference - 1]) {
+                position--;
+                reference--;
+            }
+
+            int matchLength = MIN_MATCH;
+            while (position + matchLength < matchLimit && src[reference + matchLength] == src[position + matchLength]) {
+                matchLength++;
+            }
+
+            out = writeSequence(src, anchor, position - anchor, position - reference, matchLength, dest, out);
+            position += matchLength;
+            anchor = position;
+        }
+
+        return writeLastLiterals(src, anchor, length - anchor, dest, out);
+    }
+
+    /**
+     * Decompresses {@code srcLength} bytes of {@code src}, starting at {@code srcOffset}, into {@code dest},
+     * starting at {@code destOffset}. The decompressed data must be exactly {@code destLength} bytes long.
+     */
+    static void decompress(byte[] src, int srcOffset, int srcLength, byte[] dest, int destOffset, int destLength) {
+        int in = srcOffset;
+        int inEnd = srcOffset + srcLength;
+        int out = destOffset;
+
+        while (in < inEnd) {
+            int token = src[in++] & 0xFF;
+
+            int literalLength = token >>> 4;
+            if (literalLength == RUN_MASK) {
+                int next;
+                do {
+                    next = src[in++] & 0xFF;
+                    literalLength += next;
+                } while (next == 255);
+            }
+            System.arraycopy(src, in, dest, out, literalLength);
+            in += literalLength;
+            out += literalLength;
+
+            if (in >= inEnd) {
+                break;
+            }
+
+            int offset = (src[in++] & 0xFF) | ((src[in++] & 0xFF) << 8);
+            int matchLength = token & RUN_MASK;
+            if (matchLength == RUN_MASK) {
+                int next;
+                do {
+                    next = src[in++] & 0xFF;
+                    matchLength += next;
+                } while (next == 255);
+            }
+            matchLength += MIN_MATCH;
+
+            // the match may overlap with the bytes it produces, so it has to be copied byte by byte
+            int reference = out - offset;
+            if (offset == 0 || reference < destOffset) {
+                throw new IllegalStateException("Corrupted compressed block.");
+            }
+            for (int i = 0; i < matchLength; i++) {
+                dest[out + i] = dest[reference + i];
+            }
+            out += matchLength;
+        }
+
+        if (out - destOffset != destLength) {
+            throw new IllegalStateException("Corrupted compressed block.");
+        }
+    }
+
+    private static int writeSequence(
+        byte[] src,
+        int literalStart,
+        int literalLength,
+        int offset,
+        int matchLength,
+        byte[] dest,
+        int out
+    ) {
+        int matchCode = matchLength - MIN_MATCH;
+        dest[out++] = (byte) ((Math.min(literalLength, RUN_MASK) << 4) | Math.min(matchCode, RUN_MASK));
+        out = writeLength(literalLength, dest, out);
+        System.arraycopy(src, literalStart, dest, out, literalLength);
+        out += literalLength;
+        dest[out++] = (byte) offset;
+        dest[out++] = (byte) (offset >>> 8);
+        return writeLength(matchCode, dest, out);
+    }
+
+    private static int writeLastLiterals(byte[] src, int literalStart, int literalLength, byte[] dest, int out) {
+        dest[out++] = (byte) (Math.min(literalLength, RUN_MASK) << 4);
+        out = writeLength(literalLength, dest, out);
+        System.arraycopy(src, literalStart, dest, out, literalLength);
+        return out + literalLength;
+    }
+
+    private static int writeLength(int length, byte[] dest, int out) {
+        if (length < RUN_MASK) {
+            return out;
+        }
+        int remaining = length - RUN_MASK;
+        while (remaining >= 255) {
+            dest[out++] = (byte) 255;
+            remaining -= 255;
+        }
+        dest[out++] = (byte) remaining;
+        return out;
+    }
+
+    private static int readInt(byte[] src, int position) {
+        return (src[position] & 0xFF)
+               | (src[position + 1] & 0xFF) << 8
+               | (src[position + 2] & 0xFF) << 16
+               | (src[position + 3] & 0xFF) << 24;
+    }
+
+    private static int hash(int sequence) {
+        return (sequence * -1640531535) >>> (32 - HASH_LOG);
+    }
+
+    private BlockCompression() {}
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.io.file.binary;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reads primitive values from a column file of a binary graph snapshot, in the order they have been written by a {@link ColumnWriter}.
+ * Compressed columns are decompressed block by block while reading.
+ */
+final class ColumnReader implements AutoCloseable {
+
+    private static final int BUFFER_SIZE = 1 << 20;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+    private final boolean compressed;
+    private final ByteBuffer blockHeader;
+    private byte[] compressedBlock;
+
+    static ColumnReader open(Path file) {
+        return open(file, false);
+    }
+
+    static ColumnReader open(Path file, boolean compressed) {
+        try {
+            return new ColumnReader(FileChannel.open(file, StandardOpenOption.READ), compressed);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private ColumnReader(FileChannel channel, boolean compressed) {
+        this.channel = channel;
+        this.compressed = compressed;
+        if (compressed) {
+            // a block is decompressed after the unread rest of the previous one, which is shorter than a long
+            this.buffer = ByteBuffer.allocate(BUFFER_SIZE + Long.BYTES).order(BinaryFormat.BYTE_ORDER);
+            this.blockHeader = ByteBuffer.allocate(BinaryFormat.BLOCK_HEADER_SIZE).order(BinaryFormat.BYTE_ORDER);
+            this.compressedBlock = new byte[0];
+        } else {
+            this.buffer = ByteBuffer.allocateDirect(BUFFER_SIZE).order(BinaryFormat.BYTE_ORDER);
+            this.blockHeader = null;
+        }
+        this.buffer.limit(0);
+    }
+
+    int readInt() {
+        ensureAvailable(Integer.BYTES);
+        return buffer.getInt();
+    }
+
+    long readLong() {
+        ensureAvailable(Long.BYTES);
+        return buffer.getLong();
+    }
+
+    float readFloat() {
+        ensureAvailable(Float.BYTES);
+        return buffer.getFloat();
+    }
+
+    double readDouble() {
+        ensureAvailable(Double.BYTES);
+        return buffer.getDouble();
+    }
+
+    void readInts(int[] into, int offset, int length) {
+        while (length > 0) {
+            ensureAvailable(Integer.BYTES);
+            int chunk = Math.min(length, buffer.remaining() / Integer.BYTES);
+            buffer.asIntBuffer().get(into, offset, chunk);
+            buffer.position(buffer.position() + chunk * Integer.BYTES);
+            offset += chunk;
+            length -= chunk;
+        }
+    }
+
+    void readLongs(long[] into, int offset, int length) {
+        while (length > 0) {
+            ensureAvailable(Long.BYTES);
+            int chunk = Math.min(length, buffer.remaining() / Long.BYTES);
+            buffer.asLongBuffer().get(into, offset, chunk);
+            buffer.position(buffer.position() + chunk * Long.BYTES);
+            offset += chunk;
+            length -= chunk;
+        }
+    }
+
+    void readDoubles(double[] into, int offset, int length) {
+        while (length > 0) {
+            ensureAvailable(Double.BYTES);
+            int chunk = Math.min(length, buffer.remaining() / Double.BYTES);
+            buffer.asDoubleBuffer().get(into, offset, chunk);
+            buffer.position(buffer.position() + chunk * Double.BYTES);
+            offset += chunk;
+            length -= chunk;
+        }
+    }
+
+    private void ensureAvailable(int bytes) {
+        if (buffer.remaining() >= bytes) {
+            return;
+        }
+        buffer.compact();
+        try {
+            while (buffer.position() < bytes) {
+                if (compressed) {
+                    readBlock();
+                } else if (channel.read(buffer) < 0) {
+                    throw unexpectedEnd();
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        buffer.flip();
+    }
+
+    private void readBlock() throws IOException {
+        blockHeader.clear();
+        readFully(blockHeader);
+        blockHeader.flip();
+        int length = blockHeader.getInt();
+        int storedLength = blockHeader.getInt();
+        byte blockType = blockHeader.get();
+
+        if (blockType == BinaryFormat.RAW_BLOCK) {
+            var block = buffer.duplicate();
+            block.limit(buffer.position() + length);
+            readFully(block);
+        } else {
+            if (compressedBlock.length < storedLength) {
+                compressedBlock = new byte[storedLength];
+            }
+            readFully(ByteBuffer.wrap(compressedBlock, 0, storedLength));
+            BlockCompression.decompress(compressedBlock, 0, storedLength, buffer.array(), buffer.position(), length);
+        }
+        buffer.position(buffer.position() + length);
+    }
+
+    private void readFully(ByteBuffer target) throws IOException {
+        while (target.hasRemaining()) {
+            if (channel.read(target) < 0) {
+                throw unexpectedEnd();
+            }
+        }
+    }
+
+    private static IllegalStateException unexpectedEnd() {
+        return new IllegalStateException("Unexpected end of binary graph snapshot column.");
+    }
+
+    @Override
+    public void close() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
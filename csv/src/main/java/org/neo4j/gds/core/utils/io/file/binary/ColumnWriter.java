@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.io.file.binary;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Appends primitive values to a column file of a binary graph snapshot.
+ *
+ * A compressed column is written as a sequence of blocks, each holding up to one buffer of values.
+ * Every block starts with its decompressed length, its stored length and a flag whether it is stored
+ * compressed or, if compression does not pay off, as is.
+ */
+final class ColumnWriter implements AutoCloseable {
+
+    private static final int BUFFER_SIZE = 1 << 20;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+    private final boolean compressed;
+    private final ByteBuffer blockHeader;
+    private final byte[] compressedBlock;
+    private final int[] hashTable;
+
+    static ColumnWriter create(Path file) {
+        return create(file, false);
+    }
+
+    static ColumnWriter create(Path file, boolean compressed) {
+        try {
+            var channel = FileChannel.open(
+                file,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE
+            );
+            return new ColumnWriter(channel, compressed);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private ColumnWriter(FileChannel channel, boolean compressed) {
+        this.channel = channel;
+        this.compressed = compressed;
+        if (compressed) {
+            // compression works on the backing array of the buffer
+            this.buffer = ByteBuffer.allocate(BUFFER_SIZE).order(BinaryFormat.BYTE_ORDER);
+            this.blockHeader = ByteBuffer.allocate(BinaryFormat.BLOCK_HEADER_SIZE).order(BinaryFormat.BYTE_ORDER);
+            this.compressedBlock = new byte[BlockCompression.maxCompressedLength(BUFFER_SIZE)];
+            this.hashTable = new int[1 << BlockCompression.HASH_LOG];
+        } else {
+            this.buffer = ByteBuffer.allocateDirect(BUFFER_SIZE).order(BinaryFormat.BYTE_ORDER);
+            this.blockHeader = null;
+            this.compressedBlock = null;
+            this.hashTable = null;
+        }
+    }
+
+    void writeInt(int value) {
+        ensureCapacity(Integer.BYTES);
+        buffer.putInt(value);
+    }
+
+    void writeLong(long value) {
+        ensureCapacity(Long.BYTES);
+        buffer.putLong(value);
+    }
+
+    void writeFloat(float value) {
+        ensureCapacity(Float.BYTES);
+        buffer.putFloat(value);
+    }
+
+    void writeDouble(double value) {
+        ensureCapacity(Double.BYTES);
+        buffer.putDouble(value);
+    }
+
+    void writeLongs(long[] values, int offset, int length) {
+        while (length > 0) {
+            ensureCapacity(Long.BYTES);
+            int chunk = Math.min(length, buffer.remaining() / Long.BYTES);
+            buffer.asLongBuffer().put(values, offset, chunk);
+            buffer.position(buffer.position() + chunk * Long.BYTES);
+            offset += chunk;
+            length -= chunk;
+        }
+    }
+
+    void writeBytes(byte[] values, int offset, int length) {
+        while (length > 0) {
+            ensureCapacity(1);
+            int chunk = Math.min(length, buffer.remaining());
+            buffer.put(values, offset, chunk);
+            offset += chunk;
+            length -= chunk;
+        }
+    }
+
+    private void ensureCapacity(int bytes) {
+        if (buffer.remaining() < bytes) {
+            flush();
+        }
+    }
+
+    private void flush() {
+        buffer.flip();
+        try {
+            if (compressed) {
+                flushBlock();
+            } else {
+                writeFully(buffer);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        buffer.clear();
+    }
+
+    private void flushBlock() throws IOException {
+        int length = buffer.remaining();
+        if (length == 0) {
+            return;
+        }
+        int compressedLength = BlockCompression.compress(buffer.array(), length, compressedBlock, hashTable);
+        boolean storeCompressed = compressedLength < length;
+
+        blockHeader.clear();
+        blockHeader.putInt(length);
+        blockHeader.putInt(storeCompressed ? compressedLength : length);
+        blockHeader.put(storeCompressed ? BinaryFormat.COMPRESSED_BLOCK : BinaryFormat.RAW_BLOCK);
+        blockHeader.flip();
+        writeFully(blockHeader);
+
+        writeFully(storeCompressed ? ByteBuffer.wrap(compressedBlock, 0, compressedLength) : buffer);
+    }
+
+    private void writeFully(ByteBuffer source) throws IOException {
+        while (source.hasRemaining()) {
+            channel.write(source);
+        }
+    }
+
+    @Override
+    public void close() {
+        flush();
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
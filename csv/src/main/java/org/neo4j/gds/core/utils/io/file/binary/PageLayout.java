@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.io.file.binary;
+
+import com.carrotsearch.hppc.LongArrayList;
+import org.neo4j.gds.core.loading.BumpAllocator;
+
+/**
+ * Assigns addresses to consecutively written adjacency lists, following the page layout of the {@link BumpAllocator}:
+ * a list never crosses a page boundary and lists that are larger than a page get a page of their own.
+ * Pages are not padded, the start of every page within the column file is recorded instead.
+ */
+final class PageLayout {
+
+    private final LongArrayList pageStarts;
+    private long position;
+    private int pageIndex;
+    private int offsetInPage;
+
+    PageLayout() {
+        this.pageStarts = new LongArrayList();
+        this.pageIndex = -1;
+        this.offsetInPage = BumpAllocator.PAGE_SIZE;
+    }
+
+    /**
+     * Returns the address of a list of {@code length} elements that is written right after the previous one.
+     */
+    long allocate(int length) {
+        if (length > BumpAllocator.PAGE_SIZE - offsetInPage) {
+            pageIndex++;
+            offsetInPage = 0;
+            pageStarts.add(position);
+        }
+        long address = ((long) pageIndex << BumpAllocator.PAGE_SHIFT) | offsetInPage;
+        offsetInPage += length;
+        position += length;
+        return address;
+    }
+
+    /**
+     * Returns the start positions of all pages, followed by the end position of the last page.
+     */
+    long[] pageStarts() {
+        var result = new long[pageStarts.size() + 1];
+        System.arraycopy(pageStarts.buffer, 0, result, 0, pageStarts.size());
+        result[pageStarts.size()] = position;
+        return result;
+    }
+}
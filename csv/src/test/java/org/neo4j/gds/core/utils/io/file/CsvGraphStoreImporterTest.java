@@ -23,6 +23,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.neo4j.gds.TestSupport;
+import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.compat.Neo4jProxy;
 import org.neo4j.gds.compat.TestLog;
 import org.neo4j.gds.core.utils.progress.EmptyTaskRegistryFactory;
@@ -30,6 +31,7 @@ import org.neo4j.gds.core.utils.progress.EmptyTaskRegistryFactory;
 import java.net.URISyntaxException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
 import java.util.Objects;
 
 import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
@@ -48,22 +50,26 @@ class CsvGraphStoreImporterTest {
 
         assertThat(userGraphStore.userName()).isEqualTo("UserA");
 
-        var expectedGraph = TestSupport.fromGdl(
-                                            "  (n0:A {prop1: 21})" +
-                                            ", (n1:A {prop1: 42})" +
-                                            ", (n2:A {prop1: 23})" +
-                                            ", (n3:A {prop1: 24})" +
-                                            ", (:A { prop1: 25})" +
-                                            ", (:B)" +
-                                            ", (:B)" +
-                                            ", (:B)" +
-                                            ", (:B)" +
-                                            ", (:B)" +
-                                            ", (n0)-[:REL {weight: 1.5, height: 2.2}]->(n1)-[:REL {weight: 4.0, height: 2.3}]->(n2)-[:REL {weight: 4.2, height: 2.4}]->(n3)" +
-                                            ", (n1)-[:REL1]->(n2)-[:REL1]->(n3)"
-        );
         var actualGraph = graphStore.getUnion();
-        assertGraphEquals(expectedGraph, actualGraph);
+        assertGraphEquals(expectedGraph(), actualGraph);
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {1, 7, 20})
+    void shouldImportFilesInMultipleChunks(long chunkSize) throws URISyntaxException {
+        var relationshipFile = importPath().resolve("relationships_REL_0.csv");
+        assertThat(FileInput.split(List.of(relationshipFile), chunkSize)).hasSizeGreaterThan(1);
+
+        var importer = CsvGraphStoreImporter.create(
+            4,
+            importPath(),
+            chunkSize,
+            Neo4jProxy.testLog(),
+            EmptyTaskRegistryFactory.INSTANCE
+        );
+        var graphStore = importer.run().graphStore();
+
+        assertGraphEquals(expectedGraph(), graphStore.getUnion());
     }
 
     @Test
@@ -85,6 +91,23 @@ class CsvGraphStoreImporterTest {
         log.assertContainsMessage(TestLog.INFO, "Csv import :: Finished");
     }
 
+    private static Graph expectedGraph() {
+        return TestSupport.fromGdl(
+            "  (n0:A {prop1: 21})" +
+            ", (n1:A {prop1: 42})" +
+            ", (n2:A {prop1: 23})" +
+            ", (n3:A {prop1: 24})" +
+            ", (:A { prop1: 25})" +
+            ", (:B)" +
+            ", (:B)" +
+            ", (:B)" +
+            ", (:B)" +
+            ", (:B)" +
+            ", (n0)-[:REL {weight: 1.5, height: 2.2}]->(n1)-[:REL {weight: 4.0, height: 2.3}]->(n2)-[:REL {weight: 4.2, height: 2.4}]->(n3)" +
+            ", (n1)-[:REL1]->(n2)-[:REL1]->(n3)"
+        );
+    }
+
     private Path importPath() throws URISyntaxException {
         var uri = Objects.requireNonNull(getClass().getClassLoader().getResource("CsvToGraphStoreImporterTest")).toURI();
         return Paths.get(uri);
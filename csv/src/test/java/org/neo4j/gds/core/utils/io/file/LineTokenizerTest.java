@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.io.file;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LineTokenizerTest {
+
+    @Test
+    void shouldSplitColumns() {
+        var tokenizer = new LineTokenizer();
+        tokenizer.reset("42,,1;2;3,foo");
+
+        assertThat(tokenizer.columnCount()).isEqualTo(4);
+        assertThat(tokenizer.longValue(0)).isEqualTo(42L);
+        assertThat(tokenizer.stringValue(1)).isEmpty();
+        assertThat(tokenizer.stringValue(2)).isEqualTo("1;2;3");
+        assertThat(tokenizer.stringValue(3)).isEqualTo("foo");
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {0L, 1L, -1L, 1337L, Long.MAX_VALUE, Long.MIN_VALUE})
+    void shouldParseLongs(long value) {
+        var tokenizer = new LineTokenizer();
+        tokenizer.reset(value + ",0");
+
+        assertThat(tokenizer.longValue(0)).isEqualTo(value);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "-", "1.5", "abc", "9223372036854775808", "-9223372036854775809"})
+    void shouldFailOnInvalidLongs(String value) {
+        var tokenizer = new LineTokenizer();
+        tokenizer.reset(value);
+
+        assertThatThrownBy(() -> tokenizer.longValue(0))
+            .isInstanceOf(NumberFormatException.class)
+            .hasMessageContaining(value);
+    }
+
+    @Test
+    void shouldDetectBlankLines() {
+        var tokenizer = new LineTokenizer();
+
+        tokenizer.reset(" \t ");
+        assertThat(tokenizer.isBlank()).isTrue();
+
+        tokenizer.reset(" 1 ");
+        assertThat(tokenizer.isBlank()).isFalse();
+    }
+}
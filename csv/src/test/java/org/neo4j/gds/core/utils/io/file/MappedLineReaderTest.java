@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.io.file;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MappedLineReaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    @ParameterizedTest
+    @ValueSource(longs = {1, 2, 3, 5, 8, 13, 1000})
+    void shouldReadEveryLineExactlyOnce(long chunkSize) throws IOException {
+        var file = tempDir.resolve("lines.csv");
+        Files.write(file, "0,a\n1,bb\r\n\n22,ccc\n333,dddd".getBytes(StandardCharsets.UTF_8));
+
+        var lines = readChunks(FileInput.split(List.of(file), chunkSize));
+
+        assertThat(lines).containsExactly("0,a", "1,bb", "", "22,ccc", "333,dddd");
+    }
+
+    @Test
+    void shouldReadLinesLongerThanTheChunks() throws IOException {
+        var longValue = "x".repeat(200_000);
+        var file = tempDir.resolve("long.csv");
+        Files.write(file, ("0," + longValue + "\n1,y\n").getBytes(StandardCharsets.UTF_8));
+
+        var lines = readChunks(FileInput.split(List.of(file), 1024));
+
+        assertThat(lines).containsExactly("0," + longValue, "1,y");
+    }
+
+    @Test
+    void shouldReadEmptyFiles() throws IOException {
+        var file = tempDir.resolve("empty.csv");
+        Files.createFile(file);
+
+        var chunks = FileInput.split(List.of(file), 1024);
+
+        assertThat(chunks).hasSize(1);
+        assertThat(readChunks(chunks)).isEmpty();
+    }
+
+    private static List<String> readChunks(List<FileInput.FileChunk> chunks) throws IOException {
+        var lines = new ArrayList<String>();
+        var tokenizer = new LineTokenizer();
+        try (var reader = new MappedLineReader()) {
+            for (var chunk : chunks) {
+                reader.open(chunk.path(), chunk.start(), chunk.end());
+                while (reader.next(tokenizer)) {
+                    var columns = new ArrayList<String>();
+                    for (int i = 0; i < tokenizer.columnCount(); i++) {
+                        columns.add(tokenizer.stringValue(i));
+                    }
+                    lines.add(String.join(",", columns));
+                }
+            }
+        }
+        return lines;
+    }
+}
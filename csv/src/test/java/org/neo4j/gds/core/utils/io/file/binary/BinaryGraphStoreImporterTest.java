@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.io.file.binary;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.CSRGraph;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.core.huge.MappedAdjacencyList;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.gdl.GdlFactory;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.neo4j.gds.TestSupport.assertGraphEquals;
+
+@GdlExtension
+class BinaryGraphStoreImporterTest {
+
+    @GdlGraph
+    private static final String GDL =
+        "CREATE" +
+        "  (a:A:B { prop1: 0, prop2: 42, prop3: [1L, 3L, 3L, 7L], prop4: 0.5 })" +
+        ", (b:A:B { prop1: 1, prop2: 43, prop4: 1.5 })" +
+        ", (c:A:C { prop1: 2, prop2: 44, prop3: [1L, 9L, 8L, 4L], prop5: [1.0, 2.0] })" +
+        ", (d:B { prop1: 3 })" +
+        ", (a)-[:REL1 { prop1: 0, prop2: 42 }]->(a)" +
+        ", (a)-[:REL1 { prop1: 1, prop2: 43 }]->(b)" +
+        ", (a)-[:REL1 { prop1: 1, prop2: 45 }]->(b)" +
+        ", (b)-[:REL1 { prop1: 2, prop2: 44 }]->(a)" +
+        ", (b)-[:REL2 { prop3: 3, prop4: 45 }]->(c)" +
+        ", (c)-[:REL2 { prop3: 4, prop4: 46 }]->(d)" +
+        ", (d)-[:REL2 { prop3: 5, prop4: 47 }]->(a)";
+
+    @Inject
+    GraphStore graphStore;
+
+    @GdlGraph(graphNamePrefix = "undirected", orientation = Orientation.UNDIRECTED)
+    private static final String UNDIRECTED_GDL =
+        "CREATE" +
+        "  (a)-[:REL { w: 1.0 }]->(b)" +
+        ", (a)-[:REL { w: 2.0 }]->(c)" +
+        ", (c)-[:REL { w: 3.0 }]->(b)";
+
+    @Inject
+    GraphStore undirectedGraphStore;
+
+    @TempDir
+    Path snapshotLocation;
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void shouldRestoreGraphStore(int concurrency) {
+        BinaryGraphStoreExporter.of(graphStore, snapshotLocation).run();
+
+        var importedGraphStore = BinaryGraphStoreImporter.of(snapshotLocation, concurrency).run();
+
+        assertThat(importedGraphStore.databaseId()).isEqualTo(graphStore.databaseId());
+        assertThat(importedGraphStore.schema()).isEqualTo(graphStore.schema());
+        assertThat(importedGraphStore.relationshipCount()).isEqualTo(graphStore.relationshipCount());
+        assertGraphEquals(graphStore.getUnion(), importedGraphStore.getUnion());
+        for (var relationshipType : graphStore.relationshipTypes()) {
+            for (var propertyKey : graphStore.relationshipPropertyKeys(relationshipType)) {
+                assertGraphEquals(
+                    graphStore.getGraph(relationshipType, Optional.of(propertyKey)),
+                    importedGraphStore.getGraph(relationshipType, Optional.of(propertyKey))
+                );
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void shouldRestoreCompressedGraphStore(int concurrency) {
+        var exportedProperties = BinaryGraphStoreExporter.of(graphStore, snapshotLocation, true).run();
+        assertThat(exportedProperties.nodePropertyCount()).isEqualTo(13 * graphStore.nodeCount());
+        assertThat(exportedProperties.relationshipPropertyCount()).isEqualTo(2 * graphStore.relationshipCount());
+
+        var importedGraphStore = BinaryGraphStoreImporter.of(snapshotLocation, concurrency).run();
+
+        assertThat(importedGraphStore.schema()).isEqualTo(graphStore.schema());
+        assertGraphEquals(graphStore.getUnion(), importedGraphStore.getUnion());
+        for (var relationshipType : graphStore.relationshipTypes()) {
+            for (var propertyKey : graphStore.relationshipPropertyKeys(relationshipType)) {
+                assertGraphEquals(
+                    graphStore.getGraph(relationshipType, Optional.of(propertyKey)),
+                    importedGraphStore.getGraph(relationshipType, Optional.of(propertyKey))
+                );
+            }
+        }
+    }
+
+    @Test
+    void shouldMapAdjacencyLists() {
+        BinaryGraphStoreExporter.of(graphStore, snapshotLocation).run();
+
+        var importedGraphStore = BinaryGraphStoreImporter.of(snapshotLocation, 1).run();
+
+        var relationshipType = RelationshipType.of("REL1");
+        var graph = (CSRGraph) importedGraphStore.getGraph(relationshipType);
+        assertThat(graph.relationshipTopologies().get(relationshipType).adjacencyList())
+            .isInstanceOf(MappedAdjacencyList.class);
+        assertThat(graph.isMultiGraph()).isTrue();
+    }
+
+    @Test
+    void shouldRestoreUndirectedGraphStore() {
+        BinaryGraphStoreExporter.of(undirectedGraphStore, snapshotLocation).run();
+
+        var importedGraphStore = BinaryGraphStoreImporter.of(snapshotLocation, 1).run();
+
+        var importedGraph = importedGraphStore.getGraph(RelationshipType.of("REL"), Optional.of("w"));
+        assertThat(importedGraph.isUndirected()).isTrue();
+        assertGraphEquals(undirectedGraphStore.getGraph(RelationshipType.of("REL"), Optional.of("w")), importedGraph);
+    }
+
+    @Test
+    void shouldRestoreGraphWithNoLabels() {
+        var graphStore = GdlFactory.of("()-[]->()").build();
+
+        BinaryGraphStoreExporter.of(graphStore, snapshotLocation).run();
+
+        var importedGraphStore = BinaryGraphStoreImporter.of(snapshotLocation, 4).run();
+        assertGraphEquals(graphStore.getUnion(), importedGraphStore.getUnion());
+    }
+
+    @Test
+    void shouldFailOnUnknownFormat() throws Exception {
+        Files.write(snapshotLocation.resolve(BinaryFormat.META_DATA_FILE_NAME), new byte[]{1, 2, 3, 4, 5, 6, 7, 8});
+
+        assertThatThrownBy(() -> BinaryGraphStoreImporter.of(snapshotLocation, 1).run())
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("does not contain a binary graph snapshot");
+    }
+}
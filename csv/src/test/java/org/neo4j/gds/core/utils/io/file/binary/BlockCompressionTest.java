@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.io.file.binary;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BlockCompressionTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 12, 13, 100, 4096, 1 << 20})
+    void shouldRoundTripRandomBytes(int length) {
+        var random = new Random(42);
+        var bytes = new byte[length];
+        random.nextBytes(bytes);
+
+        assertRoundTrip(bytes);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {13, 100, 4096, 1 << 20})
+    void shouldCompressRepetitiveBytes(int length) {
+        var bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = (byte) (i % 7);
+        }
+
+        int compressedLength = assertRoundTrip(bytes);
+        assertThat(compressedLength).isLessThan(length);
+    }
+
+    @Test
+    void shouldCompressSmallValues() {
+        var random = new Random(1337);
+        var bytes = new byte[1 << 16];
+        for (int i = 0; i < bytes.length; i += Long.BYTES) {
+            bytes[i] = (byte) random.nextInt(4);
+        }
+
+        int compressedLength = assertRoundTrip(bytes);
+        assertThat(compressedLength).isLessThan(bytes.length / 2);
+    }
+
+    @Test
+    void shouldDetectCorruptedBlocks() {
+        var bytes = new byte[1024];
+        Arrays.fill(bytes, (byte) 42);
+        var compressed = new byte[BlockCompression.maxCompressedLength(bytes.length)];
+        int compressedLength = BlockCompression.compress(bytes, bytes.length, compressed, hashTable());
+
+        assertThatThrownBy(() -> BlockCompression.decompress(
+            compressed,
+            0,
+            compressedLength,
+            new byte[2048],
+            0,
+            bytes.length + 1
+        )).isInstanceOf(IllegalStateException.class);
+    }
+
+    private static int assertRoundTrip(byte[] bytes) {
+        var compressed = new byte[BlockCompression.maxCompressedLength(bytes.length)];
+        int compressedLength = BlockCompression.compress(bytes, bytes.length, compressed, hashTable());
+
+        var decompressed = new byte[bytes.length + 3];
+        BlockCompression.decompress(compressed, 0, compressedLength, decompressed, 3, bytes.length);
+        assertThat(Arrays.copyOfRange(decompressed, 3, decompressed.length)).isEqualTo(bytes);
+
+        return compressedLength;
+    }
+
+    private static int[] hashTable() {
+        return new int[1 << BlockCompression.HASH_LOG];
+    }
+}
@@ -35,9 +35,11 @@ import org.neo4j.gds.api.PartialIdMap;
 import org.neo4j.gds.api.nodeproperties.ValueType;
 import org.neo4j.gds.api.schema.NodeSchema;
 import org.neo4j.gds.api.schema.RelationshipPropertySchema;
+import org.neo4j.gds.config.ConcurrencyConfig;
 import org.neo4j.gds.config.GraphProjectConfig;
 import org.neo4j.gds.core.Aggregation;
 import org.neo4j.gds.core.CypherMapWrapper;
+import org.neo4j.gds.core.concurrency.Pools;
 import org.neo4j.gds.core.loading.CSRGraphStoreUtil;
 import org.neo4j.gds.core.loading.CatalogRequest;
 import org.neo4j.gds.core.loading.GraphStoreBuilder;
@@ -68,6 +70,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.OptionalLong;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.StreamSupport;
 
@@ -97,14 +100,20 @@ public final class CypherAggregation extends BaseProc {
 
     public static class GraphAggregator {
 
+        private static final int BATCH_SIZE = 10_000;
+
         private final ProgressTimer progressTimer;
         private final CatalogRequest catalogRequest;
         private final NamedDatabaseId databaseId;
         private final String username;
 
-        private @Nullable String graphName;
-        private @Nullable LazyIdMapBuilder idMapBuilder;
-        private @Nullable List<RelationshipPropertySchema> relationshipPropertySchemas;
+        // Rows are imported by the pipeline workers, while `update` may be called from several runtime threads.
+        // The lazily initialized state is therefore published through volatile fields.
+        private volatile @Nullable String graphName;
+        private volatile @Nullable GraphProjectFromCypherAggregation config;
+        private volatile @Nullable LazyIdMapBuilder idMapBuilder;
+        private volatile @Nullable List<RelationshipPropertySchema> relationshipPropertySchemas;
+        private volatile @Nullable RowImportPipeline pipeline;
         private final Map<RelationshipType, RelationshipsBuilder> relImporters;
 
         GraphAggregator(
@@ -117,7 +126,7 @@ public final class CypherAggregation extends BaseProc {
             this.catalogRequest = catalogRequest;
             this.databaseId = databaseId;
             this.username = username;
-            this.relImporters = new HashMap<>();
+            this.relImporters = new ConcurrentHashMap<>();
         }
 
         @UserAggregationUpdate
@@ -126,12 +135,12 @@ public final class CypherAggregation extends BaseProc {
             @Name("sourceNode") Node sourceNode,
             @Nullable @Name(value = "targetNode", defaultValue = "null") Node targetNode,
             @Nullable @Name(value = "nodesConfig", defaultValue = "null") Map<String, Object> nodesConfig,
-            @Nullable @Name(value = "relationshipConfig", defaultValue = "null") Map<String, Object> relationshipConfig
+            @Nullable @Name(value = "relationshipConfig", defaultValue = "null") Map<String, Object> relationshipConfig,
+            @Nullable @Name(value = "configuration", defaultValue = "null") Map<String, Object> configuration
         ) {
 
             if (this.graphName == null) {
-                validateGraphName(graphName);
-                this.graphName = graphName;
+                initialize(graphName, configuration);
             }
 
             Map<String, Value> sourceNodePropertyValues = null;
@@ -158,29 +167,15 @@ public final class CypherAggregation extends BaseProc {
                 }
             }
 
-            if (this.idMapBuilder == null) {
-                this.idMapBuilder = new LazyIdMapBuilder();
-            }
-
             Map<String, Value> relationshipProperties = null;
             RelationshipType relationshipType = null;
 
             if (relationshipConfig != null) {
                 if (this.relationshipPropertySchemas == null) {
-                    this.relationshipPropertySchemas = new ArrayList<>();
-
                     // We need to do this before extracting the `relationshipProperties`, because
                     // we remove the original entry from the map during converting; also we remove null keys
                     // so we could not create a schema entry for properties that are absent on the current relationship
-                    var relationshipPropertyKeys = relationshipConfig.get("properties");
-                    if (relationshipPropertyKeys instanceof Map) {
-                        for (var propertyKey : ((Map<?, ?>) relationshipPropertyKeys).keySet()) {
-                            this.relationshipPropertySchemas.add(RelationshipPropertySchema.of(
-                                String.valueOf(propertyKey),
-                                ValueType.DOUBLE
-                            ));
-                        }
-                    }
+                    initializeRelationshipPropertySchemas(relationshipConfig.get("properties"));
                 }
 
                 relationshipProperties = propertiesConfig("properties", relationshipConfig);
@@ -194,31 +189,103 @@ public final class CypherAggregation extends BaseProc {
                 }
             }
 
-            var relImporter = this.relImporters.computeIfAbsent(relationshipType, type -> newRelImporter());
+            // Reading from the nodes requires the transaction of the runtime thread,
+            // everything else happens on the import workers.
+            this.pipeline.add(
+                sourceNode.getId(),
+                sourceNodeLabels,
+                sourceNodePropertyValues,
+                targetNode == null ? RowImportPipeline.NO_TARGET : targetNode.getId(),
+                targetNodeLabels,
+                targetNodePropertyValues,
+                relationshipType,
+                relationshipProperties
+            );
+        }
 
-            var sourceNodeId = loadNode(sourceNode, sourceNodeLabels, sourceNodePropertyValues);
+        private synchronized void initialize(String graphName, @Nullable Map<String, Object> configuration) {
+            if (this.graphName != null) {
+                return;
+            }
+            validateGraphName(graphName);
+            var config = projectConfig(graphName, configuration);
+            this.idMapBuilder = new LazyIdMapBuilder(config.readConcurrency());
+            this.pipeline = new RowImportPipeline(
+                Pools.DEFAULT,
+                this::importRows,
+                BATCH_SIZE,
+                config.readConcurrency() * 2
+            );
+            this.config = config;
+            this.graphName = graphName;
+        }
 
-            if (targetNode != null) {
-                var targetNodeId = loadNode(targetNode, targetNodeLabels, targetNodePropertyValues);
+        private GraphProjectFromCypherAggregation projectConfig(
+            String graphName,
+            @Nullable Map<String, Object> configuration
+        ) {
+            var configMap = CypherMapWrapper.create(configuration);
+            configMap.requireOnlyKeysFrom(List.of(GraphProjectConfig.READ_CONCURRENCY_KEY));
+            return ImmutableGraphProjectFromCypherAggregation.builder()
+                .graphName(graphName)
+                .username(this.username)
+                .readConcurrency(configMap.getInt(
+                    GraphProjectConfig.READ_CONCURRENCY_KEY,
+                    ConcurrencyConfig.DEFAULT_CONCURRENCY
+                ))
+                .build();
+        }
 
-                if (this.relationshipPropertySchemas != null && !this.relationshipPropertySchemas.isEmpty()) {
-                    assert relationshipProperties != null;
-                    if (this.relationshipPropertySchemas.size() == 1) {
-                        var relationshipProperty = this.relationshipPropertySchemas.get(0).key();
-                        double propertyValue = loadOneRelationshipProperty(
-                            relationshipProperties,
-                            relationshipProperty
-                        );
-                        relImporter.addFromInternal(sourceNodeId, targetNodeId, propertyValue);
+        private synchronized void initializeRelationshipPropertySchemas(@Nullable Object relationshipPropertyKeys) {
+            if (this.relationshipPropertySchemas != null) {
+                return;
+            }
+            var relationshipPropertySchemas = new ArrayList<RelationshipPropertySchema>();
+            if (relationshipPropertyKeys instanceof Map) {
+                for (var propertyKey : ((Map<?, ?>) relationshipPropertyKeys).keySet()) {
+                    relationshipPropertySchemas.add(RelationshipPropertySchema.of(
+                        String.valueOf(propertyKey),
+                        ValueType.DOUBLE
+                    ));
+                }
+            }
+            this.relationshipPropertySchemas = relationshipPropertySchemas;
+        }
+
+        private void importRows(RowImportPipeline.Buffer rows) {
+            for (int row = 0; row < rows.size; row++) {
+                var relationshipType = Objects.requireNonNullElse(
+                    rows.relationshipTypes[row],
+                    RelationshipType.ALL_RELATIONSHIPS
+                );
+                var relImporter = this.relImporters.computeIfAbsent(relationshipType, type -> newRelImporter());
+
+                var sourceNodeId = loadNode(rows.sourceNodes[row], rows.sourceLabels[row], rows.sourceProperties[row]);
+
+                if (rows.targetNodes[row] != RowImportPipeline.NO_TARGET) {
+                    var targetNodeId = loadNode(rows.targetNodes[row], rows.targetLabels[row], rows.targetProperties[row]);
+                    var relationshipProperties = rows.relationshipProperties[row];
+                    var relationshipPropertySchemas = this.relationshipPropertySchemas;
+
+                    if (relationshipPropertySchemas != null && !relationshipPropertySchemas.isEmpty()) {
+                        assert relationshipProperties != null;
+                        if (relationshipPropertySchemas.size() == 1) {
+                            var relationshipProperty = relationshipPropertySchemas.get(0).key();
+                            double propertyValue = loadOneRelationshipProperty(
+                                relationshipProperties,
+                                relationshipProperty
+                            );
+                            relImporter.addFromInternal(sourceNodeId, targetNodeId, propertyValue);
+                        } else {
+                            var propertyValues = loadMultipleRelationshipProperties(
+                                relationshipProperties,
+                                relationshipPropertySchemas
+                            );
+                            relImporter.addFromInternal(sourceNodeId, targetNodeId, propertyValues);
+                        }
                     } else {
-                        var propertyValues = loadMultipleRelationshipProperties(
-                            relationshipProperties,
-                            this.relationshipPropertySchemas
-                        );
-                        relImporter.addFromInternal(sourceNodeId, targetNodeId, propertyValues);
+                        relImporter.addFromInternal(sourceNodeId, targetNodeId);
                     }
-                } else {
-                    relImporter.addFromInternal(sourceNodeId, targetNodeId);
                 }
             }
         }
@@ -295,13 +362,13 @@ public final class CypherAggregation extends BaseProc {
 
         private RelationshipsBuilder newRelImporter() {
             assert this.idMapBuilder != null;
+            assert this.config != null;
 
             var relationshipsBuilderBuilder = GraphFactory.initRelationshipsBuilder()
                 .nodes(this.idMapBuilder)
                 .orientation(Orientation.NATURAL)
                 .aggregation(Aggregation.NONE)
-                // TODO: concurrency from config
-                .concurrency(4);
+                .concurrency(this.config.readConcurrency());
 
             if (this.relationshipPropertySchemas != null) {
                 for (var ignored : this.relationshipPropertySchemas) {
@@ -330,13 +397,13 @@ public final class CypherAggregation extends BaseProc {
         }
 
         private long loadNode(
-            Node node,
+            long nodeId,
             @Nullable NodeLabel[] nodeLabels,
             @Nullable Map<String, Value> nodeProperties
         ) {
             return (nodeProperties == null)
-                ? this.idMapBuilder.addNode(node.getId(), nodeLabels)
-                : this.idMapBuilder.addNodeWithProperties(node.getId(), nodeProperties, nodeLabels);
+                ? this.idMapBuilder.addNode(nodeId, nodeLabels)
+                : this.idMapBuilder.addNodeWithProperties(nodeId, nodeProperties, nodeLabels);
         }
 
         private static double loadOneRelationshipProperty(
@@ -387,8 +454,13 @@ public final class CypherAggregation extends BaseProc {
                 );
             }
 
+            this.pipeline.flush();
+
+            var config = this.config;
+            assert config != null;
+
             var graphStoreBuilder = new GraphStoreBuilder()
-                .concurrency(4)
+                .concurrency(config.readConcurrency())
                 .databaseId(databaseId);
 
             var nodes = buildNodesWithProperties(graphStoreBuilder);
@@ -396,11 +468,6 @@ public final class CypherAggregation extends BaseProc {
 
             var graphStore = graphStoreBuilder.build();
 
-            var config = ImmutableGraphProjectFromCypherAggregation.builder()
-                .graphName(graphName)
-                .username(this.username)
-                .build();
-
             GraphStoreCatalog.set(config, graphStore);
 
             var projectMillis = this.progressTimer.stop().getDuration();
@@ -444,10 +511,8 @@ public final class CypherAggregation extends BaseProc {
                     Objects.requireNonNullElse(this.relationshipPropertySchemas, List.of())
                 );
 
-                var relType = relationshipType == null ? RelationshipType.ALL_RELATIONSHIPS : relationshipType;
-
-                graphStoreBuilder.putRelationships(relType, allRelationships.get(0).topology());
-                graphStoreBuilder.putRelationshipPropertyStores(relType, propertyStore);
+                graphStoreBuilder.putRelationships(relationshipType, allRelationships.get(0).topology());
+                graphStoreBuilder.putRelationshipPropertyStores(relationshipType, propertyStore);
             });
         }
 
@@ -522,8 +587,9 @@ final class LazyIdMapBuilder implements PartialIdMap {
     private final AtomicBoolean isEmpty = new AtomicBoolean(true);
     private final NodesBuilder nodesBuilder;
 
-    LazyIdMapBuilder() {
+    LazyIdMapBuilder(int concurrency) {
         this.nodesBuilder = GraphFactory.initNodesBuilder()
+            .concurrency(concurrency)
             .maxOriginalId(NodesBuilder.UNKNOWN_MAX_ID)
             .hasLabelInformation(true)
             .hasProperties(true)
@@ -0,0 +1,230 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.projection;
+
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.utils.AutoCloseableThreadLocal;
+import org.neo4j.gds.utils.ExceptionUtil;
+import org.neo4j.values.storable.Value;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * Moves projected rows from the Cypher runtime to import workers.
+ *
+ * Rows are collected in thread-local buffers, so that any number of threads may add rows concurrently.
+ * Full buffers are imported as tasks on the given executor. At most {@code capacity} buffers are
+ * in flight at any time, which blocks producers if the workers fall behind.
+ * No thread is parked waiting for input, so abandoning a pipeline does not leak workers.
+ */
+final class RowImportPipeline {
+
+    static final long NO_TARGET = -1L;
+
+    private final ExecutorService executor;
+    private final Consumer<Buffer> importer;
+    private final int batchSize;
+    private final int capacity;
+
+    private final Semaphore inFlight;
+    private final Queue<Buffer> bufferPool;
+    private final AutoCloseableThreadLocal<LocalBuffer> localBuffers;
+    private final AtomicReference<RuntimeException> error;
+
+    RowImportPipeline(ExecutorService executor, Consumer<Buffer> importer, int batchSize, int capacity) {
+        this.executor = executor;
+        this.importer = importer;
+        this.batchSize = batchSize;
+        this.capacity = capacity;
+        this.inFlight = new Semaphore(capacity);
+        this.bufferPool = new ConcurrentLinkedQueue<>();
+        this.localBuffers = AutoCloseableThreadLocal.withInitial(() -> new LocalBuffer(newBuffer()));
+        this.error = new AtomicReference<>();
+    }
+
+    void add(
+        long sourceNode,
+        @Nullable NodeLabel[] sourceLabels,
+        @Nullable Map<String, Value> sourceProperties,
+        long targetNode,
+        @Nullable NodeLabel[] targetLabels,
+        @Nullable Map<String, Value> targetProperties,
+        @Nullable RelationshipType relationshipType,
+        @Nullable Map<String, Value> relationshipProperties
+    ) {
+        var localBuffer = localBuffers.get();
+        var buffer = localBuffer.buffer;
+        buffer.add(
+            sourceNode,
+            sourceLabels,
+            sourceProperties,
+            targetNode,
+            targetLabels,
+            targetProperties,
+            relationshipType,
+            relationshipProperties
+        );
+        if (buffer.isFull()) {
+            submit(buffer);
+            localBuffer.buffer = newBuffer();
+        }
+    }
+
+    /**
+     * Submits all partially filled buffers and waits until all rows are imported.
+     * Must not be called concurrently with {@link #add}.
+     */
+    void flush() {
+        localBuffers.forEach(localBuffer -> {
+            if (localBuffer.buffer.size > 0) {
+                submit(localBuffer.buffer);
+                localBuffer.buffer = newBuffer();
+            }
+        });
+
+        try {
+            inFlight.acquire(capacity);
+            inFlight.release(capacity);
+        } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+        }
+
+        rethrowError();
+    }
+
+    private void submit(Buffer buffer) {
+        rethrowError();
+
+        try {
+            inFlight.acquire();
+        } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+        }
+
+        try {
+            executor.execute(() -> {
+                try {
+                    importer.accept(buffer);
+                } catch (RuntimeException e) {
+                    error.accumulateAndGet(e, ExceptionUtil::chain);
+                } finally {
+                    buffer.reset();
+                    bufferPool.offer(buffer);
+                    inFlight.release();
+                }
+            });
+        } catch (RuntimeException e) {
+            inFlight.release();
+            throw e;
+        }
+    }
+
+    private Buffer newBuffer() {
+        var buffer = bufferPool.poll();
+        return buffer != null ? buffer : new Buffer(batchSize);
+    }
+
+    private void rethrowError() {
+        var importError = error.get();
+        if (importError != null) {
+            throw importError;
+        }
+    }
+
+    private static final class LocalBuffer implements AutoCloseable {
+        private Buffer buffer;
+
+        LocalBuffer(Buffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    static final class Buffer {
+        final long[] sourceNodes;
+        final NodeLabel[][] sourceLabels;
+        final Map<String, Value>[] sourceProperties;
+        final long[] targetNodes;
+        final NodeLabel[][] targetLabels;
+        final Map<String, Value>[] targetProperties;
+        final RelationshipType[] relationshipTypes;
+        final Map<String, Value>[] relationshipProperties;
+        int size;
+
+        @SuppressWarnings("unchecked")
+        Buffer(int capacity) {
+            this.sourceNodes = new long[capacity];
+            this.sourceLabels = new NodeLabel[capacity][];
+            this.sourceProperties = (Map<String, Value>[]) new Map[capacity];
+            this.targetNodes = new long[capacity];
+            this.targetLabels = new NodeLabel[capacity][];
+            this.targetProperties = (Map<String, Value>[]) new Map[capacity];
+            this.relationshipTypes = new RelationshipType[capacity];
+            this.relationshipProperties = (Map<String, Value>[]) new Map[capacity];
+        }
+
+        void add(
+            long sourceNode,
+            @Nullable NodeLabel[] sourceLabels,
+            @Nullable Map<String, Value> sourceProperties,
+            long targetNode,
+            @Nullable NodeLabel[] targetLabels,
+            @Nullable Map<String, Value> targetProperties,
+            @Nullable RelationshipType relationshipType,
+            @Nullable Map<String, Value> relationshipProperties
+        ) {
+            this.sourceNodes[size] = sourceNode;
+            this.sourceLabels[size] = sourceLabels;
+            this.sourceProperties[size] = sourceProperties;
+            this.targetNodes[size] = targetNode;
+            this.targetLabels[size] = targetLabels;
+            this.targetProperties[size] = targetProperties;
+            this.relationshipTypes[size] = relationshipType;
+            this.relationshipProperties[size] = relationshipProperties;
+            size++;
+        }
+
+        boolean isFull() {
+            return size == sourceNodes.length;
+        }
+
+        void reset() {
+            Arrays.fill(sourceLabels, 0, size, null);
+            Arrays.fill(sourceProperties, 0, size, null);
+            Arrays.fill(targetLabels, 0, size, null);
+            Arrays.fill(targetProperties, 0, size, null);
+            Arrays.fill(relationshipTypes, 0, size, null);
+            Arrays.fill(relationshipProperties, 0, size, null);
+            size = 0;
+        }
+    }
+}
@@ -127,6 +127,22 @@ class CypherAggregationTest extends BaseProcTest {
             .returns(4L, Graph::relationshipCount);
     }
 
+    @Test
+    void testReadConcurrency() {
+        runQuery("MATCH (s:A)-[:REL]->(t:A) RETURN gds.alpha.graph.project('g', s, t, null, null, { readConcurrency: 2 })");
+
+        var graphStoreWithConfig = GraphStoreCatalog.get("", db.databaseId(), "g");
+        assertThat(graphStoreWithConfig.config().readConcurrency()).isEqualTo(2);
+        assertThat(graphStoreWithConfig.graphStore().getUnion().relationshipCount()).isEqualTo(4L);
+    }
+
+    @Test
+    void testInvalidConfigurationKey() {
+        assertThatThrownBy(() -> runQuery("MATCH (s) RETURN gds.alpha.graph.project('g', s, null, null, null, { concurrency: 2 })"))
+            .getRootCause()
+            .hasMessageContaining("Unexpected configuration key: concurrency");
+    }
+
     @Nested
     class LargerGraphTest extends RandomGraphTestCase {
 
@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.projection;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RowImportPipelineTest {
+
+    private ExecutorService executor;
+    private Queue<Long> importedNodes;
+
+    @BeforeEach
+    void setup() {
+        executor = Executors.newFixedThreadPool(4);
+        importedNodes = new ConcurrentLinkedQueue<>();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        executor.shutdownNow();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void shouldImportPartiallyFilledBuffersOnFlush() {
+        var pipeline = new RowImportPipeline(executor, this::collectRows, 10, 2);
+
+        for (long nodeId = 0; nodeId < 25; nodeId++) {
+            addRow(pipeline, nodeId);
+        }
+        pipeline.flush();
+
+        assertThat(importedNodes).containsExactlyInAnyOrderElementsOf(nodes(0, 25));
+    }
+
+    @Test
+    void shouldBlockProducerWhenWorkersFallBehind() throws InterruptedException {
+        var importStarted = new CountDownLatch(1);
+        var continueImport = new CountDownLatch(1);
+        var pipeline = new RowImportPipeline(executor, rows -> {
+            importStarted.countDown();
+            awaitUninterruptibly(continueImport);
+            collectRows(rows);
+        }, 1, 2);
+
+        var addedRows = new AtomicInteger();
+        var producer = new Thread(() -> {
+            for (long nodeId = 0; nodeId < 3; nodeId++) {
+                addRow(pipeline, nodeId);
+                addedRows.incrementAndGet();
+            }
+        });
+        producer.start();
+
+        // Two buffers are in flight, the third one waits for a free slot.
+        assertThat(importStarted.await(10, TimeUnit.SECONDS)).isTrue();
+        while (producer.getState() != Thread.State.WAITING) {
+            Thread.onSpinWait();
+        }
+        assertThat(addedRows.get()).isEqualTo(2);
+
+        continueImport.countDown();
+        producer.join(TimeUnit.SECONDS.toMillis(10));
+        assertThat(producer.isAlive()).isFalse();
+        assertThat(addedRows.get()).isEqualTo(3);
+
+        pipeline.flush();
+        assertThat(importedNodes).containsExactlyInAnyOrderElementsOf(nodes(0, 3));
+    }
+
+    @Test
+    void shouldPropagateImportErrorsToProducer() {
+        var pipeline = new RowImportPipeline(executor, rows -> {
+            throw new IllegalStateException("import failed");
+        }, 1, 2);
+
+        addRow(pipeline, 0);
+
+        assertThatThrownBy(pipeline::flush)
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("import failed");
+        assertThatThrownBy(() -> addRow(pipeline, 1))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("import failed");
+    }
+
+    @Test
+    void shouldImportRowsOfConcurrentProducers() throws InterruptedException {
+        int producerCount = 4;
+        int rowsPerProducer = 1_000;
+        var pipeline = new RowImportPipeline(executor, this::collectRows, 64, 4);
+
+        var producers = new ArrayList<Thread>();
+        for (int producer = 0; producer < producerCount; producer++) {
+            long firstNode = (long) producer * rowsPerProducer;
+            producers.add(new Thread(() -> {
+                for (long nodeId = firstNode; nodeId < firstNode + rowsPerProducer; nodeId++) {
+                    addRow(pipeline, nodeId);
+                }
+            }));
+        }
+        producers.forEach(Thread::start);
+        for (var producer : producers) {
+            producer.join();
+        }
+        pipeline.flush();
+
+        assertThat(importedNodes).containsExactlyInAnyOrderElementsOf(nodes(0, producerCount * rowsPerProducer));
+    }
+
+    private void collectRows(RowImportPipeline.Buffer rows) {
+        for (int row = 0; row < rows.size; row++) {
+            importedNodes.add(rows.sourceNodes[row]);
+        }
+    }
+
+    private static void addRow(RowImportPipeline pipeline, long sourceNode) {
+        pipeline.add(sourceNode, null, null, RowImportPipeline.NO_TARGET, null, null, null, null);
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static Iterable<Long> nodes(long startNode, long endNode) {
+        return LongStream.range(startNode, endNode).boxed().collect(Collectors.toList());
+    }
+}
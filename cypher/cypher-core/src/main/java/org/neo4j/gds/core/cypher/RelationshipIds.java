@@ -21,15 +21,21 @@ package org.neo4j.gds.core.cypher;
 
 import org.neo4j.gds.RelationshipType;
 import org.neo4j.gds.annotation.ValueClass;
+import org.neo4j.gds.api.AdjacencyCursor;
+import org.neo4j.gds.api.AdjacencyList;
+import org.neo4j.gds.api.CSRGraph;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.api.GraphStore;
 import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.utils.CloseableThreadLocal;
 import org.neo4j.storageengine.api.RelationshipSelection;
 import org.neo4j.token.TokenHolders;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Predicate;
 
 import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
@@ -39,60 +45,76 @@ public final class RelationshipIds {
     private final GraphStore graphStore;
     private final List<RelationshipIdContext> relationshipIdContexts;
     private final TokenHolders tokenHolders;
+    private final Map<RelationshipType, AdjacencyList> adjacencyLists;
+    // Relationships are resolved from a single source node at a time,
+    // so every thread reuses one cursor per relationship type.
+    private final CloseableThreadLocal<Map<RelationshipType, AdjacencyCursor>> adjacencyCursors;
 
     static RelationshipIds fromGraphStore(GraphStore graphStore, TokenHolders tokenHolders) {
         var relationshipIdContexts = new ArrayList<RelationshipIdContext>();
+        var adjacencyLists = new HashMap<RelationshipType, AdjacencyList>();
         graphStore.relationshipTypes().forEach(relType -> {
             var relCount = graphStore.relationshipCount(relType);
             var graph = graphStore.getGraph(relType);
             var offsets = computeAccumulatedOffsets(graph);
-            relationshipIdContexts.add(ImmutableRelationshipIdContext.of(relType, relCount, graph, offsets));
+            relationshipIdContexts.add(ImmutableRelationshipIdContext.of(
+                relType,
+                relCount,
+                graph,
+                offsets
+            ));
+            adjacencyLists.put(relType, ((CSRGraph) graph).relationshipTopologies().get(relType).adjacencyList());
         });
-        return new RelationshipIds(graphStore, relationshipIdContexts, tokenHolders);
+        return new RelationshipIds(graphStore, relationshipIdContexts, tokenHolders, adjacencyLists);
     }
 
     private RelationshipIds(
         GraphStore graphStore,
         List<RelationshipIdContext> relationshipIdContexts,
-        TokenHolders tokenHolders
+        TokenHolders tokenHolders,
+        Map<RelationshipType, AdjacencyList> adjacencyLists
     ) {
         this.graphStore = graphStore;
         this.relationshipIdContexts = relationshipIdContexts;
         this.tokenHolders = tokenHolders;
+        this.adjacencyLists = adjacencyLists;
+        this.adjacencyCursors = CloseableThreadLocal.withInitial(HashMap::new);
     }
 
     public CypherRelationshipCursor relationshipForId(long relationshipId) {
-        return resolveRelationshipId(relationshipId, (nodeId, offsetInAdjacency, relationshipIdContext) -> relationshipIdContext
-            .graph()
-            .streamRelationships(nodeId, Double.NaN)
-            .skip(offsetInAdjacency)
-            .findFirst()
-            .map(relCursor -> CypherRelationshipCursor.fromRelationshipCursor(relCursor, relationshipId, relationshipIdContext.relationshipType()))
-            .orElseThrow(
-                () -> new IllegalArgumentException(formatWithLocale(
-                    "No relationship with id %d was found for relationship type %s",
-                    relationshipId,
-                    relationshipIdContext.relationshipType()
-                ))
-            ));
+        return resolveRelationshipId(relationshipId, (nodeId, offsetInAdjacency, relationshipIdContext) -> {
+            var relationshipType = relationshipIdContext.relationshipType();
+            var cursors = adjacencyCursors.get();
+            var cursor = adjacencyLists
+                .get(relationshipType)
+                .adjacencyCursor(cursors.get(relationshipType), nodeId);
+            cursors.put(relationshipType, cursor);
+            // Compressed adjacency lists can only be decoded in order,
+            // so we skip the relationships before the requested one.
+            for (long i = 0; i < offsetInAdjacency; i++) {
+                cursor.nextVLong();
+            }
+            return ImmutableCypherRelationshipCursor.of(
+                nodeId,
+                cursor.nextVLong(),
+                Double.NaN,
+                relationshipId,
+                relationshipType
+            );
+        });
     }
 
     public double propertyValueForId(long relationshipId, String propertyKey) {
         return resolveRelationshipId(relationshipId, ((nodeId, offsetInAdjacency, relationshipIdContext) -> {
-            var properties = graphStore
-                .relationshipPropertyValues(relationshipIdContext.relationshipType(), propertyKey)
-                .values();
-            var propertyCursor = properties.propertiesList().propertyCursor(nodeId);
-            for (int i = 0; i < offsetInAdjacency - 1; i++) {
-                if (!propertyCursor.hasNextLong()) {
-                    return Double.NaN;
-                }
-                propertyCursor.nextLong();
-            }
-            if (propertyCursor.hasNextLong()) {
-                return Double.longBitsToDouble(propertyCursor.nextLong());
+            var relationshipType = relationshipIdContext.relationshipType();
+            if (!graphStore.hasRelationshipProperty(relationshipType, propertyKey)) {
+                return Double.NaN;
             }
-            return Double.NaN;
+            var properties = graphStore
+                .relationshipPropertyValues(relationshipType, propertyKey)
+                .values()
+                .propertiesList();
+            return Double.longBitsToDouble(properties.propertyValue(nodeId, (int) offsetInAdjacency));
         }));
     }
 
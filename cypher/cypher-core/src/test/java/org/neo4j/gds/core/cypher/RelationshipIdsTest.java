@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.cypher;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.IdFunction;
+import org.neo4j.gds.extension.Inject;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@GdlExtension
+class RelationshipIdsTest {
+
+    @GdlGraph
+    private static final String DB_CYPHER =
+        "CREATE" +
+        "  (a)" +
+        ", (b)" +
+        ", (c)" +
+        ", (d)" +
+        ", (a)-[:REL1 { weight: 1.0 }]->(b)" +
+        ", (a)-[:REL1 { weight: 2.0 }]->(c)" +
+        ", (a)-[:REL1 { weight: 3.0 }]->(d)" +
+        ", (c)-[:REL1 { weight: 4.0 }]->(d)" +
+        ", (b)-[:REL2 { weight: 5.0 }]->(c)" +
+        ", (d)-[:REL2 { weight: 6.0 }]->(a)";
+
+    @Inject
+    private GraphStore graphStore;
+
+    @Inject
+    private Graph graph;
+
+    @Inject
+    private IdFunction idFunction;
+
+    @Test
+    void shouldResolveRelationshipsById() {
+        var relationshipIds = RelationshipIds.fromGraphStore(graphStore, null);
+
+        var relationships = new ArrayList<List<Object>>();
+        for (long relationshipId = 0; relationshipId < graphStore.relationshipCount(); relationshipId++) {
+            var cursor = relationshipIds.relationshipForId(relationshipId);
+            assertThat(cursor.id()).isEqualTo(relationshipId);
+            assertThat(relationshipIds.relationshipTypeForId(relationshipId)).isEqualTo(cursor.relationshipType());
+            relationships.add(List.of(
+                cursor.relationshipType(),
+                cursor.sourceId(),
+                cursor.targetId(),
+                relationshipIds.propertyValueForId(relationshipId, "weight")
+            ));
+        }
+
+        assertThat(relationships)
+            .extracting(relationship -> tuple(relationship.toArray()))
+            .containsExactlyInAnyOrder(
+                tuple(RelationshipType.of("REL1"), mappedId("a"), mappedId("b"), 1.0),
+                tuple(RelationshipType.of("REL1"), mappedId("a"), mappedId("c"), 2.0),
+                tuple(RelationshipType.of("REL1"), mappedId("a"), mappedId("d"), 3.0),
+                tuple(RelationshipType.of("REL1"), mappedId("c"), mappedId("d"), 4.0),
+                tuple(RelationshipType.of("REL2"), mappedId("b"), mappedId("c"), 5.0),
+                tuple(RelationshipType.of("REL2"), mappedId("d"), mappedId("a"), 6.0)
+            );
+    }
+
+    @Test
+    void shouldReturnNaNForMissingProperty() {
+        var relationshipIds = RelationshipIds.fromGraphStore(graphStore, null);
+
+        assertThat(relationshipIds.propertyValueForId(0, "nonExisting")).isNaN();
+    }
+
+    private long mappedId(String variable) {
+        return graph.toMappedNodeId(idFunction.of(variable));
+    }
+}
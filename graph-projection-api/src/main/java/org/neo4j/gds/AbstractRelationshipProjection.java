@@ -50,6 +50,16 @@ public abstract class AbstractRelationshipProjection extends ElementProjection {
         return Aggregation.DEFAULT;
     }
 
+    /**
+     * Whether to build an inverse index, i.e. the incoming relationships of
+     * every node, next to the projected relationships.
+     */
+    @Value.Default
+    @Value.Parameter(false)
+    public boolean indexInverse() {
+        return false;
+    }
+
     @Value.Default
     @Value.Parameter(false)
     @Override
@@ -65,6 +75,7 @@ public abstract class AbstractRelationshipProjection extends ElementProjection {
     public static final String TYPE_KEY = "type";
     public static final String ORIENTATION_KEY = "orientation";
     public static final String AGGREGATION_KEY = "aggregation";
+    public static final String INDEX_INVERSE_KEY = "indexInverse";
 
     public static RelationshipProjection fromMap(Map<String, Object> map, RelationshipType relationshipType) {
         RelationshipProjection.Builder builder = RelationshipProjection.builder();
@@ -76,6 +87,9 @@ public abstract class AbstractRelationshipProjection extends ElementProjection {
         if (map.containsKey(ORIENTATION_KEY)) {
             builder.orientation(Orientation.parse(nonEmptyString(map, ORIENTATION_KEY)));
         }
+        if (map.containsKey(INDEX_INVERSE_KEY)) {
+            builder.indexInverse(booleanValue(map, INDEX_INVERSE_KEY));
+        }
         if (map.containsKey(AGGREGATION_KEY)) {
             Aggregation aggregation = Aggregation.parse(nonEmptyString(map, AGGREGATION_KEY));
             builder.aggregation(aggregation);
@@ -131,6 +145,10 @@ public abstract class AbstractRelationshipProjection extends ElementProjection {
         value.put(TYPE_KEY, type());
         value.put(ORIENTATION_KEY, orientation().name());
         value.put(AGGREGATION_KEY, aggregation().name());
+        // only listed if enabled to keep the representation of existing projections stable
+        if (indexInverse()) {
+            value.put(INDEX_INVERSE_KEY, true);
+        }
     }
 
     @Override
@@ -167,7 +185,21 @@ public abstract class AbstractRelationshipProjection extends ElementProjection {
     }
 
     private static void validateConfigKeys(Map<String, Object> map) {
-        ConfigKeyValidation.requireOnlyKeysFrom(List.of(TYPE_KEY, ORIENTATION_KEY, AGGREGATION_KEY, PROPERTIES_KEY), map.keySet());
+        ConfigKeyValidation.requireOnlyKeysFrom(
+            List.of(TYPE_KEY, ORIENTATION_KEY, AGGREGATION_KEY, INDEX_INVERSE_KEY, PROPERTIES_KEY),
+            map.keySet()
+        );
+    }
+
+    private static boolean booleanValue(Map<String, Object> config, String key) {
+        @Nullable Object value = config.get(key);
+        if (!(value instanceof Boolean)) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "'%s' is not a valid value for the key '%s'",
+                value, key
+            ));
+        }
+        return (Boolean) value;
     }
 
     @org.immutables.builder.Builder.AccessibleFields
@@ -88,6 +88,18 @@ class RelationshipProjectionsTest {
         assertThat(projections.typeFilter(), equalTo("T|FOO"));
     }
 
+    @Test
+    void shouldParseIndexInverse() {
+        var projections = RelationshipProjections.fromObject(Map.of(
+            "T", Map.of("type", "T", "indexInverse", true)
+        ));
+
+        var projection = projections.getFilter(RelationshipType.of("T"));
+        assertThat(projection.indexInverse(), equalTo(true));
+        assertThat(projection.toObject().get("indexInverse"), equalTo(true));
+        assertThat(RelationshipProjection.fromObject(projection.toObject(), RelationshipType.of("T")), equalTo(projection));
+    }
+
     @ParameterizedTest
     @MethodSource("org.neo4j.gds.RelationshipProjectionsTest#syntacticSugarsSimple")
     void syntacticSugars(Object argument) {
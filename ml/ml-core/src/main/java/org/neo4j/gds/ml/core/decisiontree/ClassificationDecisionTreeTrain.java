@@ -32,15 +32,18 @@ public class ClassificationDecisionTreeTrain<LOSS extends DecisionTreeLoss> exte
     private final int[] classes;
     private final HugeIntArray allLabels;
     private final Map<Integer, Integer> classToIdx;
+    private final HugeIntArray allLabelIndices;
 
     public ClassificationDecisionTreeTrain(
         LOSS lossFunction,
         HugeObjectArray<double[]> allFeatures,
+        FeatureBins featureBins,
         int maxDepth,
         int minSize,
         double featureBaggingRatio,
         double numFeatureVectorsRatio,
         Optional<Random> random,
+        int concurrency,
         int[] classes,
         HugeIntArray allLabels,
         Map<Integer, Integer> classToIdx
@@ -48,11 +51,14 @@ public class ClassificationDecisionTreeTrain<LOSS extends DecisionTreeLoss> exte
         super(
             lossFunction,
             allFeatures,
+            featureBins,
+            classes.length,
             maxDepth,
             minSize,
             featureBaggingRatio,
             numFeatureVectorsRatio,
-            random
+            random,
+            concurrency
         );
 
         assert classes.length > 0;
@@ -63,6 +69,9 @@ public class ClassificationDecisionTreeTrain<LOSS extends DecisionTreeLoss> exte
 
         assert classToIdx.keySet().size() == classes.length;
         this.classToIdx = classToIdx;
+
+        this.allLabelIndices = HugeIntArray.newArray(allLabels.size());
+        allLabelIndices.setAll(i -> classToIdx.get(allLabels.get(i)));
     }
 
     public static final class Builder<LOSS extends DecisionTreeLoss> {
@@ -78,6 +87,8 @@ public class ClassificationDecisionTreeTrain<LOSS extends DecisionTreeLoss> exte
         private double featureBaggingRatio = 0.0; // Use all feature indices.
         private double numFeatureVectorsRatio = 0.0; // Use all feature vectors.
         private Optional<Random> random = Optional.empty();
+        private Optional<FeatureBins> featureBins = Optional.empty();
+        private int concurrency = 1;
 
         public Builder(
             LOSS lossFunction,
@@ -99,11 +110,13 @@ public class ClassificationDecisionTreeTrain<LOSS extends DecisionTreeLoss> exte
             return new ClassificationDecisionTreeTrain<>(
                 lossFunction,
                 allFeatures,
+                featureBins.orElseGet(() -> FeatureBins.of(allFeatures, FeatureBins.DEFAULT_MAX_BINS, concurrency)),
                 maxDepth,
                 minSize,
                 featureBaggingRatio,
                 numFeatureVectorsRatio,
                 random,
+                concurrency,
                 classes,
                 allLabels,
                 classToIdx
@@ -129,6 +142,24 @@ public class ClassificationDecisionTreeTrain<LOSS extends DecisionTreeLoss> exte
             this.random = Optional.of(new Random(seed));
             return this;
         }
+
+        /**
+         * Use bins that were already computed for the feature vectors, e.g. when training several trees on them.
+         */
+        public Builder<LOSS> withFeatureBins(FeatureBins featureBins) {
+            this.featureBins = Optional.of(featureBins);
+            return this;
+        }
+
+        public Builder<LOSS> withConcurrency(int concurrency) {
+            this.concurrency = concurrency;
+            return this;
+        }
+    }
+
+    @Override
+    protected int labelIndex(long featureVectorIdx) {
+        return allLabelIndices.get(featureVectorIdx);
     }
 
     @Override
@@ -21,4 +21,10 @@ package org.neo4j.gds.ml.core.decisiontree;
 
 public interface DecisionTreeLoss {
     double splitLoss(Groups groups, GroupSizes groupSizes);
+
+    /**
+     * @param leftClassCounts the number of feature vectors per class index in the left group
+     * @param rightClassCounts the number of feature vectors per class index in the right group
+     */
+    double splitLoss(long[] leftClassCounts, long[] rightClassCounts);
 }
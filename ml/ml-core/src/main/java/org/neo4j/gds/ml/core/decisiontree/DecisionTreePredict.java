@@ -27,6 +27,10 @@ public class DecisionTreePredict<PREDICTION> {
         this.root = root;
     }
 
+    TreeNode<PREDICTION> root() {
+        return root;
+    }
+
     public PREDICTION predict(double[] features) {
         assert features.length > 0;
 
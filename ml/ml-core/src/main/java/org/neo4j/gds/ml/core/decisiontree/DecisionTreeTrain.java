@@ -19,7 +19,10 @@
  */
 package org.neo4j.gds.ml.core.decisiontree;
 
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.annotation.ValueClass;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.concurrency.Pools;
 import org.neo4j.gds.core.utils.paged.HugeByteArray;
 import org.neo4j.gds.core.utils.paged.HugeLongArray;
 import org.neo4j.gds.core.utils.paged.HugeObjectArray;
@@ -29,15 +32,30 @@ import java.util.Optional;
 import java.util.Random;
 import java.util.Stack;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.LongToIntFunction;
 
+/**
+ * Trains a decision tree using histograms over pre-binned features.
+ *
+ * The best split of a node is found by accumulating, per feature, the label counts of each bin,
+ * and scanning the bins in order. Only the smaller child of a split accumulates its histograms
+ * from the feature vectors, the histograms of the larger child are derived by subtracting the
+ * histograms of the smaller child from those of the parent.
+ */
 public abstract class DecisionTreeTrain<LOSS extends DecisionTreeLoss, PREDICTION> {
 
+    // Below this number of feature vectors, evaluating the features of a node in parallel does not pay off.
+    static final long MIN_PARALLEL_GROUP_SIZE = 10_000;
+
     private final Random random;
     private final LOSS lossFunction;
     private final HugeObjectArray<double[]> allFeatureVectors;
+    private final FeatureBins featureBins;
+    private final int numLabels;
     private final int maxDepth;
     private final int minSize;
     private final double numFeatureVectorsRatio;
+    private final int concurrency;
     private final int[] featureBag;
     // TODO: Implement HugeBitSet and use that instead of HugeByteArray.
     private final HugeByteArray bootstrappedDataset;
@@ -46,27 +64,36 @@ public abstract class DecisionTreeTrain<LOSS extends DecisionTreeLoss, PREDICTIO
     DecisionTreeTrain(
         LOSS lossFunction,
         HugeObjectArray<double[]> allFeatureVectors,
+        FeatureBins featureBins,
+        int numLabels,
         int maxDepth,
         int minSize,
         double featureBaggingRatio,
         double numFeatureVectorsRatio,
-        Optional<Random> random
+        Optional<Random> random,
+        int concurrency
     ) {
         assert allFeatureVectors.size() > 0;
+        assert featureBins.numFeatures() == allFeatureVectors.get(0).length;
+        assert numLabels > 0;
         assert maxDepth >= 1;
         assert minSize >= 0;
         assert featureBaggingRatio >= 0.0 && featureBaggingRatio <= 1.0;
         assert numFeatureVectorsRatio >= 0.0 && numFeatureVectorsRatio <= 1.0;
+        assert concurrency > 0;
 
         this.lossFunction = lossFunction;
         this.allFeatureVectors = allFeatureVectors;
+        this.featureBins = featureBins;
+        this.numLabels = numLabels;
         this.maxDepth = maxDepth;
         this.minSize = minSize;
         this.random = random.orElseGet(ThreadLocalRandom::current);
         this.numFeatureVectorsRatio = numFeatureVectorsRatio;
+        this.concurrency = concurrency;
         this.bootstrappedDataset = HugeByteArray.newArray(allFeatureVectors.size());
 
-        int totalNumFeatures = allFeatureVectors.get(0).length;
+        int totalNumFeatures = featureBins.numFeatures();
         if (Double.compare(featureBaggingRatio, 0.0d) == 0) {
             this.featureBag = new int[totalNumFeatures];
             Arrays.setAll(this.featureBag, i -> i);
@@ -95,34 +122,41 @@ public abstract class DecisionTreeTrain<LOSS extends DecisionTreeLoss, PREDICTIO
                     bootstrappedDataset
                 );
             }
-            root = splitAndPush(stack, activeFeatureVectors, activeFeatureVectors.size(), 1);
+            var histograms = new Histograms(
+                featureBins,
+                numLabels,
+                this::labelIndex,
+                activeFeatureVectors,
+                activeFeatureVectors.size()
+            );
+            root = splitAndPush(stack, histograms, 1);
         }
 
         while (!stack.empty()) {
             var record = stack.pop();
             var split = record.split();
+            var parentHistograms = record.histograms();
+
+            boolean leftIsLarger = split.sizes().left() > split.sizes().right();
+            var leftHistograms = parentHistograms.child(split.groups().left(), split.sizes().left(), leftIsLarger);
+            var rightHistograms = parentHistograms.child(split.groups().right(), split.sizes().right(), !leftIsLarger);
+            leftHistograms.linkSibling(rightHistograms);
 
             if (record.depth() >= maxDepth || split.sizes().left() <= minSize) {
                 record.node().leftChild = new TreeNode<>(toTerminal(split.groups().left(), split.sizes().left()));
             } else {
-                record.node().leftChild = splitAndPush(
-                    stack,
-                    split.groups().left(),
-                    split.sizes().left(),
-                    record.depth() + 1
-                );
+                record.node().leftChild = splitAndPush(stack, leftHistograms, record.depth() + 1);
             }
 
             if (record.depth() >= maxDepth || split.sizes().right() <= minSize) {
                 record.node().rightChild = new TreeNode<>(toTerminal(split.groups().right(), split.sizes().right()));
             } else {
-                record.node().rightChild = splitAndPush(
-                    stack,
-                    split.groups().right(),
-                    split.sizes().right(),
-                    record.depth() + 1
-                );
+                record.node().rightChild = splitAndPush(stack, rightHistograms, record.depth() + 1);
             }
+
+            // The histograms of the parent and the sibling are not needed anymore once both children are split.
+            leftHistograms.detach();
+            rightHistograms.detach();
         }
 
         return new DecisionTreePredict<>(root);
@@ -134,110 +168,259 @@ public abstract class DecisionTreeTrain<LOSS extends DecisionTreeLoss, PREDICTIO
 
     protected abstract PREDICTION toTerminal(HugeLongArray group, long groupSize);
 
+    /**
+     * @return the index of the label of the given feature vector, in the range {@code [0, numLabels)}
+     */
+    protected abstract int labelIndex(long featureVectorIdx);
+
     private TreeNode<PREDICTION> splitAndPush(
         Stack<StackRecord<PREDICTION>> stack,
-        HugeLongArray group,
-        long groupSize,
+        Histograms histograms,
         int depth
     ) {
+        var group = histograms.group;
+        var groupSize = histograms.groupSize;
         assert groupSize > 0;
         assert group.size() >= groupSize;
         assert depth >= 1;
 
-        var split = findBestSplit(group, groupSize);
-        if (split.sizes().right() == 0) {
-            return new TreeNode<>(toTerminal(split.groups().left(), split.sizes().right()));
-        } else if (split.sizes().left() == 0) {
-            return new TreeNode<>(toTerminal(split.groups().right(), split.sizes().right()));
+        var split = findBestSplit(histograms);
+        if (split.isEmpty()) {
+            return new TreeNode<>(toTerminal(group, groupSize));
         }
 
-        var node = new TreeNode<PREDICTION>(split.index(), split.value());
-        stack.push(ImmutableStackRecord.of(node, split, depth));
+        var node = new TreeNode<PREDICTION>(split.get().index(), split.get().value());
+        stack.push(ImmutableStackRecord.of(node, split.get(), histograms, depth));
 
         return node;
     }
 
-    private GroupSizes createSplit(
+    private Split createSplit(
         final int index,
-        final double value,
+        final int bin,
         HugeLongArray group,
-        final long groupSize,
-        Groups groups
+        final long groupSize
     ) {
         assert groupSize > 0;
         assert group.size() >= groupSize;
-        assert index >= 0 && index < allFeatureVectors.get(0).length;
+        assert index >= 0 && index < featureBins.numFeatures();
 
         long leftGroupSize = 0;
         long rightGroupSize = 0;
 
-        final var leftGroup = groups.left();
-        final var rightGroup = groups.right();
+        final var leftGroup = HugeLongArray.newArray(groupSize);
+        final var rightGroup = HugeLongArray.newArray(groupSize);
+
+        // Split at the smallest value of the right group, which separates the group the same way as the bin
+        // threshold does, but is a feature value of the group, as for splitting on the feature values directly.
+        double value = featureBins.threshold(index, bin);
+        double smallestRightValue = Double.POSITIVE_INFINITY;
 
-        for (int i = 0; i < groupSize; i++) {
+        for (long i = 0; i < groupSize; i++) {
             var featuresIdx = group.get(i);
-            var features = allFeatureVectors.get(featuresIdx);
-            if (features[index] < value) {
+            if (featureBins.bin(index, featuresIdx) < bin) {
                 leftGroup.set(leftGroupSize++, featuresIdx);
             } else {
                 rightGroup.set(rightGroupSize++, featuresIdx);
+                // NaN is never smaller, hence ignored
+                double featureValue = allFeatureVectors.get(featuresIdx)[index];
+                if (featureValue < smallestRightValue) {
+                    smallestRightValue = featureValue;
+                }
             }
         }
+        if (smallestRightValue < Double.POSITIVE_INFINITY) {
+            value = smallestRightValue;
+        }
 
-        return ImmutableGroupSizes.of(leftGroupSize, rightGroupSize);
+        return ImmutableSplit.of(
+            index,
+            value,
+            ImmutableGroups.of(leftGroup, rightGroup),
+            ImmutableGroupSizes.of(leftGroupSize, rightGroupSize)
+        );
     }
 
-    private Split findBestSplit(final HugeLongArray group, final long groupSize) {
-        assert groupSize > 0;
-        assert group.size() >= groupSize;
+    private Optional<Split> findBestSplit(Histograms histograms) {
+        if (featureBagger != null) {
+            featureBagger.sample(featureBag);
+        }
 
-        int bestIdx = -1;
-        double bestValue = Double.MAX_VALUE;
+        var bestLosses = new double[featureBag.length];
+        var bestBins = new int[featureBag.length];
+
+        if (concurrency > 1 && featureBag.length > 1 && histograms.groupSize >= MIN_PARALLEL_GROUP_SIZE) {
+            var tasks = ParallelUtil.tasks(featureBag.length, i -> () -> {
+                findBestBin(histograms, featureBag[i], i, bestLosses, bestBins);
+            });
+            ParallelUtil.runWithConcurrency(concurrency, tasks, Pools.DEFAULT);
+        } else {
+            for (int i = 0; i < featureBag.length; i++) {
+                findBestBin(histograms, featureBag[i], i, bestLosses, bestBins);
+            }
+        }
+
+        int bestBagIdx = -1;
         double bestLoss = Double.MAX_VALUE;
+        for (int i = 0; i < featureBag.length; i++) {
+            if (bestLosses[i] < bestLoss) {
+                bestLoss = bestLosses[i];
+                bestBagIdx = i;
+            }
+        }
 
-        var childGroups = ImmutableGroups.of(
-            HugeLongArray.newArray(groupSize),
-            HugeLongArray.newArray(groupSize)
-        );
-        var bestChildGroups = ImmutableGroups.of(
-            HugeLongArray.newArray(groupSize),
-            HugeLongArray.newArray(groupSize)
-        );
-        var bestGroupSizes = ImmutableGroupSizes.of(-1, -1);
+        if (bestBagIdx == -1) {
+            return Optional.empty();
+        }
 
-        if (featureBagger != null) {
-            featureBagger.sample(featureBag);
+        return Optional.of(createSplit(
+            featureBag[bestBagIdx],
+            bestBins[bestBagIdx],
+            histograms.group,
+            histograms.groupSize
+        ));
+    }
+
+    private void findBestBin(
+        Histograms histograms,
+        int feature,
+        int bagIdx,
+        double[] bestLosses,
+        int[] bestBins
+    ) {
+        var histogram = histograms.get(feature);
+        int binCount = featureBins.binCount(feature);
+
+        var totalCounts = new long[numLabels];
+        for (int bin = 0; bin < binCount; bin++) {
+            for (int label = 0; label < numLabels; label++) {
+                totalCounts[label] += histogram[bin * numLabels + label];
+            }
         }
 
-        for (long j = 0; j < groupSize; j++) {
-            for (int i : featureBag) {
-                var features = allFeatureVectors.get(group.get(j));
+        var leftCounts = new long[numLabels];
+        var rightCounts = new long[numLabels];
+        long leftSize = 0;
+
+        double bestLoss = Double.MAX_VALUE;
+        int bestBin = -1;
+
+        // Splitting at a bin sends all feature vectors of the preceding bins to the left.
+        for (int bin = 1; bin < binCount; bin++) {
+            for (int label = 0; label < numLabels; label++) {
+                long count = histogram[(bin - 1) * numLabels + label];
+                leftCounts[label] += count;
+                leftSize += count;
+            }
+
+            if (leftSize == 0) continue;
+            if (leftSize == histograms.groupSize) break;
+
+            for (int label = 0; label < numLabels; label++) {
+                rightCounts[label] = totalCounts[label] - leftCounts[label];
+            }
+
+            double loss = lossFunction.splitLoss(leftCounts, rightCounts);
+            if (loss < bestLoss) {
+                bestLoss = loss;
+                bestBin = bin;
+            }
+        }
 
-                var groupSizes = createSplit(i, features[i], group, groupSize, childGroups);
+        bestLosses[bagIdx] = bestLoss;
+        bestBins[bagIdx] = bestBin;
+    }
 
-                var loss = lossFunction.splitLoss(childGroups, groupSizes);
+    /**
+     * Per feature label counts for each bin, over the feature vectors of one tree node.
+     * The histograms are computed lazily, as every node may sample a different feature bag.
+     */
+    static final class Histograms {
+        private final FeatureBins featureBins;
+        private final int numLabels;
+        private final LongToIntFunction labelIndex;
+        private final HugeLongArray group;
+        private final long groupSize;
+        private final long[][] byFeature;
+        private final boolean subtractSibling;
+        private @Nullable Histograms parent;
+        private @Nullable Histograms sibling;
+
+        Histograms(
+            FeatureBins featureBins,
+            int numLabels,
+            LongToIntFunction labelIndex,
+            HugeLongArray group,
+            long groupSize
+        ) {
+            this(featureBins, numLabels, labelIndex, group, groupSize, null, false);
+        }
 
-                if (loss < bestLoss) {
-                    bestIdx = i;
-                    bestValue = features[i];
-                    bestLoss = loss;
+        private Histograms(
+            FeatureBins featureBins,
+            int numLabels,
+            LongToIntFunction labelIndex,
+            HugeLongArray group,
+            long groupSize,
+            @Nullable Histograms parent,
+            boolean subtractSibling
+        ) {
+            this.featureBins = featureBins;
+            this.numLabels = numLabels;
+            this.labelIndex = labelIndex;
+            this.group = group;
+            this.groupSize = groupSize;
+            this.byFeature = new long[featureBins.numFeatures()][];
+            this.parent = parent;
+            this.subtractSibling = subtractSibling;
+        }
 
-                    var tmpGroups = bestChildGroups;
-                    bestChildGroups = childGroups;
-                    childGroups = tmpGroups;
+        /**
+         * @param subtractSibling whether to derive the histograms from those of the parent and the sibling,
+         *                        which should only be the case for the larger of two siblings
+         */
+        Histograms child(HugeLongArray childGroup, long childGroupSize, boolean subtractSibling) {
+            return new Histograms(featureBins, numLabels, labelIndex, childGroup, childGroupSize, this, subtractSibling);
+        }
 
-                    bestGroupSizes = groupSizes;
+        // Different features may be computed concurrently, but every feature by only one thread.
+        long[] get(int feature) {
+            if (byFeature[feature] == null) {
+                if (subtractSibling && parent != null && sibling != null && parent.byFeature[feature] != null) {
+                    byFeature[feature] = subtract(parent.byFeature[feature], sibling.get(feature));
+                } else {
+                    byFeature[feature] = accumulate(feature);
                 }
             }
+            return byFeature[feature];
         }
 
-        return ImmutableSplit.of(
-            bestIdx,
-            bestValue,
-            bestChildGroups,
-            bestGroupSizes
-        );
+        void linkSibling(Histograms sibling) {
+            this.sibling = sibling;
+            sibling.sibling = this;
+        }
 
+        void detach() {
+            this.parent = null;
+            this.sibling = null;
+        }
+
+        private long[] accumulate(int feature) {
+            var histogram = new long[featureBins.binCount(feature) * numLabels];
+            for (long i = 0; i < groupSize; i++) {
+                long featuresIdx = group.get(i);
+                histogram[featureBins.bin(feature, featuresIdx) * numLabels + labelIndex.applyAsInt(featuresIdx)]++;
+            }
+            return histogram;
+        }
+
+        private static long[] subtract(long[] parentHistogram, long[] siblingHistogram) {
+            var histogram = new long[parentHistogram.length];
+            for (int i = 0; i < histogram.length; i++) {
+                histogram[i] = parentHistogram[i] - siblingHistogram[i];
+            }
+            return histogram;
+        }
     }
 
     @ValueClass
@@ -257,6 +440,8 @@ public abstract class DecisionTreeTrain<LOSS extends DecisionTreeLoss, PREDICTIO
 
         Split split();
 
+        Histograms histograms();
+
         int depth();
     }
 
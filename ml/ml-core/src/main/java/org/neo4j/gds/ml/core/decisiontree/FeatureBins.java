@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.ml.core.decisiontree;
+
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.utils.paged.HugeByteArray;
+import org.neo4j.gds.core.utils.paged.HugeObjectArray;
+
+import java.util.Arrays;
+
+/**
+ * Feature values discretized into at most {@code maxBins} bins per feature.
+ *
+ * The bins of a feature are delimited by thresholds, such that a value is in bin {@code b}
+ * if and only if it is not smaller than the first {@code b} thresholds.
+ * Splitting on the threshold of a bin is thereby equivalent to splitting on the value itself,
+ * which lets split search accumulate histograms over bins instead of trying every feature value.
+ *
+ * Features with at most {@code maxBins} distinct values use every value as a threshold.
+ * Otherwise, the thresholds are the quantiles of a sample of the feature values.
+ * The bins are computed once and can be shared by all trees trained on the same feature vectors.
+ */
+public final class FeatureBins {
+
+    public static final int DEFAULT_MAX_BINS = 256;
+
+    // The number of feature values sampled to find the quantiles of a feature.
+    private static final int MAX_SAMPLE_SIZE = 1 << 20;
+
+    private final double[][] thresholds;
+    private final HugeByteArray[] bins;
+
+    private FeatureBins(double[][] thresholds, HugeByteArray[] bins) {
+        this.thresholds = thresholds;
+        this.bins = bins;
+    }
+
+    public static FeatureBins of(HugeObjectArray<double[]> featureVectors, int maxBins, int concurrency) {
+        assert featureVectors.size() > 0;
+        assert maxBins >= 2 && maxBins <= DEFAULT_MAX_BINS;
+
+        int numFeatures = featureVectors.get(0).length;
+        var thresholds = new double[numFeatures][];
+        var bins = new HugeByteArray[numFeatures];
+
+        var tasks = ParallelUtil.tasks(numFeatures, feature -> () -> {
+            thresholds[feature] = thresholds(featureVectors, feature, maxBins);
+            bins[feature] = bins(featureVectors, feature, thresholds[feature]);
+        });
+        ParallelUtil.runWithConcurrency(concurrency, tasks, Pools.DEFAULT);
+
+        return new FeatureBins(thresholds, bins);
+    }
+
+    public int numFeatures() {
+        return thresholds.length;
+    }
+
+    int binCount(int feature) {
+        return thresholds[feature].length + 1;
+    }
+
+    int bin(int feature, long featureVectorIdx) {
+        return Byte.toUnsignedInt(bins[feature].get(featureVectorIdx));
+    }
+
+    /**
+     * The smallest value of the given bin, i.e. a feature value is smaller than the threshold
+     * if and only if it falls into one of the preceding bins.
+     */
+    double threshold(int feature, int bin) {
+        assert bin > 0 && bin < binCount(feature);
+        return thresholds[feature][bin - 1];
+    }
+
+    private static double[] thresholds(HugeObjectArray<double[]> featureVectors, int feature, int maxBins) {
+        long numVectors = featureVectors.size();
+        int sampleSize = (int) Math.min(numVectors, MAX_SAMPLE_SIZE);
+        double stride = (double) numVectors / sampleSize;
+
+        var sample = new double[sampleSize];
+        int numValues = 0;
+        for (int i = 0; i < sampleSize; i++) {
+            double value = featureVectors.get((long) (i * stride))[feature];
+            if (!Double.isNaN(value)) {
+                sample[numValues++] = value;
+            }
+        }
+        Arrays.sort(sample, 0, numValues);
+
+        int numDistinctValues = 0;
+        for (int i = 0; i < numValues; i++) {
+            if (i == 0 || sample[i] != sample[i - 1]) {
+                numDistinctValues++;
+            }
+        }
+
+        // The smallest value is not a threshold, as no value would be smaller.
+        if (numDistinctValues <= maxBins) {
+            var thresholds = new double[Math.max(numDistinctValues - 1, 0)];
+            int numThresholds = 0;
+            for (int i = 1; i < numValues; i++) {
+                if (sample[i] != sample[i - 1]) {
+                    thresholds[numThresholds++] = sample[i];
+                }
+            }
+            return thresholds;
+        }
+
+        // The quantiles are taken over all sampled values, such that frequent values get their own bins.
+        // Quantiles that coincide are only used once.
+        var thresholds = new double[maxBins - 1];
+        int numThresholds = 0;
+        for (int bin = 1; bin < maxBins; bin++) {
+            double quantile = sample[(int) ((long) bin * numValues / maxBins)];
+            if (quantile > sample[0] && (numThresholds == 0 || quantile > thresholds[numThresholds - 1])) {
+                thresholds[numThresholds++] = quantile;
+            }
+        }
+
+        return Arrays.copyOf(thresholds, numThresholds);
+    }
+
+    private static HugeByteArray bins(HugeObjectArray<double[]> featureVectors, int feature, double[] thresholds) {
+        var bins = HugeByteArray.newArray(featureVectors.size());
+        for (long i = 0; i < featureVectors.size(); i++) {
+            bins.set(i, (byte) bin(thresholds, featureVectors.get(i)[feature]));
+        }
+        return bins;
+    }
+
+    private static int bin(double[] thresholds, double value) {
+        // NaN is never smaller than a threshold, hence it belongs to the last bin.
+        if (Double.isNaN(value)) {
+            return thresholds.length;
+        }
+
+        int low = 0;
+        int high = thresholds.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (thresholds[mid] <= value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
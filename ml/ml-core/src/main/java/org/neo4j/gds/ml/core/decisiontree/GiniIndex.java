@@ -22,6 +22,7 @@ package org.neo4j.gds.ml.core.decisiontree;
 import org.neo4j.gds.core.utils.paged.HugeIntArray;
 import org.neo4j.gds.core.utils.paged.HugeLongArray;
 
+import java.util.Arrays;
 import java.util.Map;
 
 public class GiniIndex implements DecisionTreeLoss {
@@ -46,31 +47,45 @@ public class GiniIndex implements DecisionTreeLoss {
 
     @Override
     public double splitLoss(Groups groups, GroupSizes groupSizes) {
-        long totalSize = groupSizes.left() + groupSizes.right();
+        return splitLoss(
+            classCounts(groups.left(), groupSizes.left()),
+            classCounts(groups.right(), groupSizes.right())
+        );
+    }
+
+    @Override
+    public double splitLoss(long[] leftClassCounts, long[] rightClassCounts) {
+        assert leftClassCounts.length == classes.length;
+        assert rightClassCounts.length == classes.length;
+
+        long leftSize = Arrays.stream(leftClassCounts).sum();
+        long rightSize = Arrays.stream(rightClassCounts).sum();
+        long totalSize = leftSize + rightSize;
 
         if (totalSize == 0) {
             throw new IllegalStateException("Cannot compute loss over only empty groups");
         }
 
-        double loss = computeGroupLoss(groups.left(), groupSizes.left()) + computeGroupLoss(
-            groups.right(),
-            groupSizes.right()
-        );
+        double loss = computeGroupLoss(leftClassCounts, leftSize) + computeGroupLoss(rightClassCounts, rightSize);
 
         return loss / totalSize;
     }
 
-    private double computeGroupLoss(final HugeLongArray group, final long groupSize) {
+    private long[] classCounts(final HugeLongArray group, final long groupSize) {
         assert group.size() >= groupSize;
 
-        if (groupSize == 0) return 0;
-
         final var groupClassCounts = new long[classes.length];
         for (long i = 0; i < groupSize; i++) {
             var label = allLabels.get(group.get(i));
             groupClassCounts[classToIdx.get(label)]++;
         }
 
+        return groupClassCounts;
+    }
+
+    private static double computeGroupLoss(final long[] groupClassCounts, final long groupSize) {
+        if (groupSize == 0) return 0;
+
         double score = 0.0;
         for (var count : groupClassCounts) {
             score += Math.pow(count, 2);
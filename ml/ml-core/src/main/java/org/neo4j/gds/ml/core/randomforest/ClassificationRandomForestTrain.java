@@ -27,6 +27,7 @@ import org.neo4j.gds.core.utils.paged.HugeObjectArray;
 import org.neo4j.gds.ml.core.decisiontree.ClassificationDecisionTreeTrain;
 import org.neo4j.gds.ml.core.decisiontree.DecisionTreeLoss;
 import org.neo4j.gds.ml.core.decisiontree.DecisionTreePredict;
+import org.neo4j.gds.ml.core.decisiontree.FeatureBins;
 
 import java.util.HashMap;
 import java.util.Optional;
@@ -80,6 +81,13 @@ public class ClassificationRandomForestTrain<LOSS extends DecisionTreeLoss> {
             classToIdx.put(classes[i], i);
         }
 
+        // The bins only depend on the feature vectors, so all trees share them.
+        var featureBins = FeatureBins.of(allFeatureVectors, FeatureBins.DEFAULT_MAX_BINS, concurrency);
+
+        // Parallelize over trees if there are enough of them, and otherwise over the features within each tree.
+        int treeConcurrency = numDecisionTrees >= concurrency ? 1 : concurrency;
+        int forestConcurrency = treeConcurrency == 1 ? concurrency : 1;
+
         var tasks = ParallelUtil.tasks(numDecisionTrees, index -> () -> {
             var decisionTreeBuilder =
                 new ClassificationDecisionTreeTrain.Builder<>(
@@ -90,6 +98,8 @@ public class ClassificationRandomForestTrain<LOSS extends DecisionTreeLoss> {
                     allLabels,
                     classToIdx
                 )
+                    .withFeatureBins(featureBins)
+                    .withConcurrency(treeConcurrency)
                     .withMinSize(minSize)
                     .withFeatureBaggingRatio(numFeatureIndicesRatio)
                     .withNumFeatureVectorsRatio(numFeatureVectorsRatio);
@@ -102,7 +112,7 @@ public class ClassificationRandomForestTrain<LOSS extends DecisionTreeLoss> {
             decisionTrees[index] = decisionTree.train();
             bootstrappedDatasets[index] = decisionTree.bootstrappedDataset();
         });
-        ParallelUtil.runWithConcurrency(this.concurrency, tasks, Pools.DEFAULT);
+        ParallelUtil.runWithConcurrency(forestConcurrency, tasks, Pools.DEFAULT);
 
         return ImmutableClassificationRandomForestTrainResult.of(
             new ClassificationRandomForestPredict(decisionTrees, classes, classToIdx, concurrency),
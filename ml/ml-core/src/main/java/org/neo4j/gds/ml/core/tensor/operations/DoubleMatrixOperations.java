@@ -20,12 +20,15 @@
 package org.neo4j.gds.ml.core.tensor.operations;
 
 import org.ejml.MatrixDimensionException;
+import org.neo4j.gds.core.utils.vector.VectorKernels;
 import org.neo4j.gds.ml.core.tensor.Matrix;
 
 import java.util.function.IntPredicate;
 
 public final class DoubleMatrixOperations {
 
+    private static final VectorKernels KERNELS = VectorKernels.instance();
+
     /**
      * Modified version of Ejml implementation.
      *
@@ -50,25 +53,18 @@ public final class DoubleMatrixOperations {
             throw new MatrixDimensionException("The matrix 'c` does not have compatible dimensions.");
         }
 
+        double[] aData = a.data();
+        double[] bData = b.data();
         int aIndexStart = 0;
         int cIndex = 0;
 
         for (int xA = 0; xA < rowsA; xA++) {
-            int end = aIndexStart + colsB;
             int indexB = 0;
             for (int xB = 0; xB < rowsB; xB++) {
                 if (mask.test(cIndex)) {
-                    int indexA = aIndexStart;
-                    double total = 0;
-
-                    while (indexA < end) {
-                        total += a.dataAt(indexA++) * b.dataAt(indexB++);
-                    }
-
-                    c.setDataAt(cIndex, total);
-                } else {
-                    indexB += colsB;
+                    c.setDataAt(cIndex, KERNELS.dot(aData, aIndexStart, bData, indexB, colsA));
                 }
+                indexB += colsB;
                 cIndex++;
             }
             aIndexStart += colsA;
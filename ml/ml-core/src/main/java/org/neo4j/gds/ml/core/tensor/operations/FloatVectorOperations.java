@@ -20,25 +20,20 @@
 package org.neo4j.gds.ml.core.tensor.operations;
 
 import com.carrotsearch.hppc.predicates.FloatPredicate;
+import org.neo4j.gds.core.utils.vector.VectorKernels;
 
 public final class FloatVectorOperations {
 
+    private static final VectorKernels KERNELS = VectorKernels.instance();
+
     private FloatVectorOperations() {}
 
     public static void addInPlace(float[] lhs, float[] rhs) {
-        var length = Math.min(lhs.length, rhs.length);
-
-        for (int i = 0; i < length; i++) {
-            lhs[i] += rhs[i];
-        }
+        KERNELS.addScaled(lhs, 0, rhs, 0, Math.min(lhs.length, rhs.length), 1F);
     }
 
     public static void addWeightedInPlace(float[] lhs, float[] rhs, float weight) {
-        var length = Math.min(lhs.length, rhs.length);
-
-        for (int i = 0; i < length; i++) {
-            lhs[i] += weight * rhs[i];
-        }
+        KERNELS.addScaled(lhs, 0, rhs, 0, Math.min(lhs.length, rhs.length), weight);
     }
 
     public static void scale(float[] lhs, float scalar) {
@@ -55,12 +50,7 @@ public final class FloatVectorOperations {
     }
 
     public static float l2Norm(float[] data) {
-        float sum = 0.0f;
-        for (float value : data) {
-            sum += value * value;
-        }
-
-        return (float) Math.sqrt(sum);
+        return (float) Math.sqrt(KERNELS.sumOfSquares(data, 0, data.length));
     }
 
     public static void l2Normalize(float[] array) {
@@ -70,6 +60,52 @@ public final class FloatVectorOperations {
         }
     }
 
+    /*
+     * The following operations work on slices of arrays, e.g. rows of a HugeFloatMatrix.
+     */
+
+    public static void addInPlace(float[] lhs, int lhsOffset, float[] rhs, int rhsOffset, int length) {
+        KERNELS.addScaled(lhs, lhsOffset, rhs, rhsOffset, length, 1F);
+    }
+
+    public static void addWeightedInPlace(
+        float[] lhs,
+        int lhsOffset,
+        float[] rhs,
+        int rhsOffset,
+        int length,
+        float weight
+    ) {
+        KERNELS.addScaled(lhs, lhsOffset, rhs, rhsOffset, length, weight);
+    }
+
+    public static void scale(float[] lhs, int offset, int length, float scalar) {
+        for (int i = offset; i < offset + length; i++) {
+            lhs[i] = lhs[i] * scalar;
+        }
+    }
+
+    public static void scale(float[] lhs, int offset, int length, float scalar, float[] out) {
+        for (int i = 0; i < length; i++) {
+            out[i] = lhs[offset + i] * scalar;
+        }
+    }
+
+    public static float innerProduct(float[] lhs, int lhsOffset, float[] rhs, int rhsOffset, int length) {
+        return KERNELS.dot(lhs, lhsOffset, rhs, rhsOffset, length);
+    }
+
+    public static float l2Norm(float[] data, int offset, int length) {
+        return (float) Math.sqrt(KERNELS.sumOfSquares(data, offset, length));
+    }
+
+    public static void l2Normalize(float[] array, int offset, int length) {
+        float euclideanLength = l2Norm(array, offset, length);
+        if (euclideanLength > 0) {
+            scale(array, offset, length, 1 / euclideanLength);
+        }
+    }
+
     public static boolean anyMatch(float[] vector, FloatPredicate predicate) {
         boolean anyMatch = false;
         for (float v : vector) {
@@ -0,0 +1,260 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.ml.core.decisiontree;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.core.utils.paged.HugeIntArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.core.utils.paged.HugeObjectArray;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.OptionalDouble;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongToIntFunction;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class DecisionTreeTrainTest {
+
+    private static final int[] CLASSES = {0, 1, 2};
+    private static final Map<Integer, Integer> CLASS_TO_IDX = Map.of(
+        0, 0,
+        1, 1,
+        2, 2
+    );
+
+    private HugeObjectArray<double[]> featureVectors;
+    private HugeIntArray labels;
+
+    @ParameterizedTest
+    @ValueSource(longs = {0L, 3L, 7L, 10L})
+    void shouldFindSplitsAsGoodAsExhaustiveSearch(long seed) {
+        int maxDepth = 5;
+        int minSize = 10;
+        // With fewer feature vectors than bins, every feature value is a candidate threshold.
+        generateFeatureVectors(200, 3, seed);
+
+        var decisionTree = builder(maxDepth).withMinSize(minSize).build().train();
+
+        var allVectors = LongStream.range(0, featureVectors.size()).toArray();
+        assertMatchesExhaustiveSearch(decisionTree.root(), allVectors, 1, maxDepth, minSize);
+    }
+
+    @Test
+    void shouldFindSameSplitsWhenEvaluatingFeaturesInParallel() {
+        generateFeatureVectors(2 * DecisionTreeTrain.MIN_PARALLEL_GROUP_SIZE, 4, 42L);
+
+        var sequentialTree = builder(4)
+            .withFeatureBaggingRatio(0.5)
+            .withRandomSeed(1337L)
+            .withConcurrency(1)
+            .build()
+            .train();
+        var parallelTree = builder(4)
+            .withFeatureBaggingRatio(0.5)
+            .withRandomSeed(1337L)
+            .withConcurrency(4)
+            .build()
+            .train();
+
+        assertSameTree(parallelTree.root(), sequentialTree.root());
+    }
+
+    @Test
+    void shouldDeriveHistogramsOfLargerChildFromSibling() {
+        generateFeatureVectors(100, 2, 1L);
+        var featureBins = FeatureBins.of(featureVectors, FeatureBins.DEFAULT_MAX_BINS, 1);
+        var labelLookups = new AtomicLong();
+        LongToIntFunction countingLabelIndex = featureVectorIdx -> {
+            labelLookups.incrementAndGet();
+            return labelIndex(featureVectorIdx);
+        };
+
+        var parent = new DecisionTreeTrain.Histograms(
+            featureBins,
+            CLASSES.length,
+            countingLabelIndex,
+            HugeLongArray.of(LongStream.range(0, 100).toArray()),
+            100
+        );
+        parent.get(0);
+
+        var smallerGroup = HugeLongArray.of(LongStream.range(0, 30).toArray());
+        var largerGroup = HugeLongArray.of(LongStream.range(30, 100).toArray());
+        var smaller = parent.child(smallerGroup, 30, false);
+        var larger = parent.child(largerGroup, 70, true);
+        smaller.linkSibling(larger);
+
+        // Only the smaller sibling accumulates its histogram from the feature vectors.
+        labelLookups.set(0);
+        var derivedHistogram = larger.get(0);
+        assertThat(labelLookups.get()).isEqualTo(30);
+        assertThat(derivedHistogram).containsExactly(accumulatedHistogram(featureBins, largerGroup, 70, 0));
+
+        // Without a histogram of the parent there is nothing to subtract from.
+        labelLookups.set(0);
+        var accumulatedHistogram = larger.get(1);
+        assertThat(labelLookups.get()).isEqualTo(70);
+        assertThat(accumulatedHistogram).containsExactly(accumulatedHistogram(featureBins, largerGroup, 70, 1));
+    }
+
+    private void generateFeatureVectors(long numVectors, int numFeatures, long seed) {
+        var random = new Random(seed);
+        featureVectors = HugeObjectArray.newArray(double[].class, numVectors);
+        labels = HugeIntArray.newArray(numVectors);
+        for (long i = 0; i < numVectors; i++) {
+            var features = new double[numFeatures];
+            for (int feature = 0; feature < numFeatures; feature++) {
+                features[feature] = random.nextDouble();
+            }
+            featureVectors.set(i, features);
+            labels.set(i, random.nextInt(CLASSES.length));
+        }
+    }
+
+    private ClassificationDecisionTreeTrain.Builder<GiniIndex> builder(int maxDepth) {
+        return new ClassificationDecisionTreeTrain.Builder<>(
+            new GiniIndex(CLASSES, labels, CLASS_TO_IDX),
+            featureVectors,
+            maxDepth,
+            CLASSES,
+            labels,
+            CLASS_TO_IDX
+        );
+    }
+
+    private int labelIndex(long featureVectorIdx) {
+        return CLASS_TO_IDX.get(labels.get(featureVectorIdx));
+    }
+
+    private long[] accumulatedHistogram(FeatureBins featureBins, HugeLongArray group, long groupSize, int feature) {
+        return new DecisionTreeTrain.Histograms(featureBins, CLASSES.length, this::labelIndex, group, groupSize)
+            .get(feature);
+    }
+
+    private void assertMatchesExhaustiveSearch(
+        TreeNode<Integer> node,
+        long[] group,
+        int depth,
+        int maxDepth,
+        int minSize
+    ) {
+        var bestLoss = exhaustiveBestLoss(group);
+        if (bestLoss.isEmpty()) {
+            assertLeaf(node, group);
+            return;
+        }
+
+        var left = Arrays.stream(group).filter(i -> featureVectors.get(i)[node.index] < node.value).toArray();
+        var right = Arrays.stream(group).filter(i -> !(featureVectors.get(i)[node.index] < node.value)).toArray();
+        assertThat(left.length).isGreaterThan(0);
+        assertThat(right.length).isGreaterThan(0);
+        // As when splitting on the feature values directly, the threshold is the smallest value of the right group.
+        var smallestRightValue = Arrays.stream(right).mapToDouble(i -> featureVectors.get(i)[node.index]).min();
+        assertThat(node.value).isEqualTo(smallestRightValue.getAsDouble());
+        // Equally good splits may be chosen in a different order than by the exhaustive search.
+        assertThat(splitLoss(left, right)).isCloseTo(bestLoss.getAsDouble(), within(1e-9));
+
+        assertChildMatchesExhaustiveSearch(node.leftChild, left, depth, maxDepth, minSize);
+        assertChildMatchesExhaustiveSearch(node.rightChild, right, depth, maxDepth, minSize);
+    }
+
+    private void assertChildMatchesExhaustiveSearch(
+        TreeNode<Integer> child,
+        long[] childGroup,
+        int parentDepth,
+        int maxDepth,
+        int minSize
+    ) {
+        if (parentDepth >= maxDepth || childGroup.length <= minSize) {
+            assertLeaf(child, childGroup);
+        } else {
+            assertMatchesExhaustiveSearch(child, childGroup, parentDepth + 1, maxDepth, minSize);
+        }
+    }
+
+    private OptionalDouble exhaustiveBestLoss(long[] group) {
+        var bestLoss = OptionalDouble.empty();
+
+        for (int feature = 0; feature < featureVectors.get(0).length; feature++) {
+            int f = feature;
+            var values = Arrays.stream(group).mapToDouble(i -> featureVectors.get(i)[f]).distinct().sorted().toArray();
+            // Splitting at the smallest value would leave the left group empty.
+            for (int v = 1; v < values.length; v++) {
+                double threshold = values[v];
+                var left = Arrays.stream(group).filter(i -> featureVectors.get(i)[f] < threshold).toArray();
+                var right = Arrays.stream(group).filter(i -> featureVectors.get(i)[f] >= threshold).toArray();
+                double loss = splitLoss(left, right);
+
+                if (bestLoss.isEmpty() || loss < bestLoss.getAsDouble()) {
+                    bestLoss = OptionalDouble.of(loss);
+                }
+            }
+        }
+
+        return bestLoss;
+    }
+
+    private double splitLoss(long[] left, long[] right) {
+        return new GiniIndex(CLASSES, labels, CLASS_TO_IDX).splitLoss(classCounts(left), classCounts(right));
+    }
+
+    private long[] classCounts(long[] group) {
+        var classCounts = new long[CLASSES.length];
+        for (long featureVectorIdx : group) {
+            classCounts[labelIndex(featureVectorIdx)]++;
+        }
+        return classCounts;
+    }
+
+    private void assertLeaf(TreeNode<Integer> node, long[] group) {
+        assertThat(node.leftChild).isNull();
+        assertThat(node.rightChild).isNull();
+
+        var classCounts = classCounts(group);
+        int majorityClassIdx = 0;
+        for (int i = 1; i < classCounts.length; i++) {
+            if (classCounts[i] > classCounts[majorityClassIdx]) {
+                majorityClassIdx = i;
+            }
+        }
+        assertThat(node.prediction).isEqualTo(CLASSES[majorityClassIdx]);
+    }
+
+    private static void assertSameTree(TreeNode<Integer> actual, TreeNode<Integer> expected) {
+        assertThat(actual.index).isEqualTo(expected.index);
+        assertThat(actual.value).isEqualTo(expected.value);
+        assertThat(actual.prediction).isEqualTo(expected.prediction);
+
+        if (expected.leftChild == null) {
+            assertThat(actual.leftChild).isNull();
+            assertThat(actual.rightChild).isNull();
+        } else {
+            assertSameTree(actual.leftChild, expected.leftChild);
+            assertSameTree(actual.rightChild, expected.rightChild);
+        }
+    }
+}
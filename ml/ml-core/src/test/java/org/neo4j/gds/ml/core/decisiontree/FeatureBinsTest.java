@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.ml.core.decisiontree;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.core.utils.paged.HugeObjectArray;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FeatureBinsTest {
+
+    @Test
+    void shouldUseDistinctValuesAsThresholds() {
+        var featureVectors = HugeObjectArray.of(
+            new double[]{3.0, 1.0},
+            new double[]{1.0, 1.0},
+            new double[]{2.0, 1.0},
+            new double[]{3.0, 1.0},
+            new double[]{Double.NaN, 1.0}
+        );
+
+        var featureBins = FeatureBins.of(featureVectors, FeatureBins.DEFAULT_MAX_BINS, 1);
+
+        assertThat(featureBins.numFeatures()).isEqualTo(2);
+
+        assertThat(featureBins.binCount(0)).isEqualTo(3);
+        assertThat(featureBins.threshold(0, 1)).isEqualTo(2.0);
+        assertThat(featureBins.threshold(0, 2)).isEqualTo(3.0);
+        assertThat(featureBins.bin(0, 0)).isEqualTo(2);
+        assertThat(featureBins.bin(0, 1)).isEqualTo(0);
+        assertThat(featureBins.bin(0, 2)).isEqualTo(1);
+        assertThat(featureBins.bin(0, 3)).isEqualTo(2);
+        assertThat(featureBins.bin(0, 4)).isEqualTo(2);
+
+        // A constant feature cannot be split on.
+        assertThat(featureBins.binCount(1)).isEqualTo(1);
+        for (long i = 0; i < featureVectors.size(); i++) {
+            assertThat(featureBins.bin(1, i)).isEqualTo(0);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void shouldUseQuantilesAsThresholds(int concurrency) {
+        int numVectors = 10_000;
+        int maxBins = 16;
+        var featureVectors = HugeObjectArray.newArray(double[].class, numVectors);
+        featureVectors.setAll(i -> new double[]{(i * 7919) % numVectors});
+
+        var featureBins = FeatureBins.of(featureVectors, maxBins, concurrency);
+
+        assertThat(featureBins.binCount(0)).isEqualTo(maxBins);
+
+        var binSizes = new long[maxBins];
+        for (long i = 0; i < numVectors; i++) {
+            int bin = featureBins.bin(0, i);
+            binSizes[bin]++;
+
+            double value = featureVectors.get(i)[0];
+            if (bin > 0) {
+                assertThat(value).isGreaterThanOrEqualTo(featureBins.threshold(0, bin));
+            }
+            if (bin < maxBins - 1) {
+                assertThat(value).isLessThan(featureBins.threshold(0, bin + 1));
+            }
+        }
+
+        assertThat(binSizes).containsOnly(numVectors / maxBins);
+    }
+
+    @Test
+    void shouldTakeQuantilesOverAllValues() {
+        int numVectors = 10_000;
+        int maxBins = 16;
+        // half of the values are zero, the others are distinct
+        var featureVectors = HugeObjectArray.newArray(double[].class, numVectors);
+        featureVectors.setAll(i -> new double[]{i < numVectors / 2 ? 0 : i - numVectors / 2 + 1});
+
+        var featureBins = FeatureBins.of(featureVectors, maxBins, 1);
+
+        // the quantiles in the zeros coincide and only the first bin contains zeros
+        assertThat(featureBins.binCount(0)).isEqualTo(maxBins / 2 + 1);
+        assertThat(featureBins.threshold(0, 1)).isEqualTo(1.0);
+
+        var binSizes = new long[featureBins.binCount(0)];
+        for (long i = 0; i < numVectors; i++) {
+            int bin = featureBins.bin(0, i);
+            binSizes[bin]++;
+            assertThat(bin == 0).isEqualTo(featureVectors.get(i)[0] == 0);
+        }
+
+        assertThat(binSizes[0]).isEqualTo(numVectors / 2);
+        for (int bin = 1; bin < binSizes.length; bin++) {
+            assertThat(binSizes[bin]).isEqualTo(numVectors / maxBins);
+        }
+    }
+}
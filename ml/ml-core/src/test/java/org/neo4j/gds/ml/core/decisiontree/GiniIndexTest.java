@@ -20,6 +20,7 @@
 package org.neo4j.gds.ml.core.decisiontree;
 
 import org.assertj.core.data.Offset;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -97,4 +98,18 @@ class GiniIndexTest {
         assertThat(giniIndexLoss.splitLoss(ImmutableGroups.of(leftGroup, rightGroup), groupSizes))
             .isCloseTo(expectedLoss, Offset.offset(0.00001D));
     }
+
+    @Test
+    void shouldComputeSameLossFromClassCounts() {
+        var hugeLabels = HugeIntArray.newArray(4);
+        hugeLabels.setAll(i -> i == 0 ? 1 : 5);
+
+        var giniIndexLoss = new GiniIndex(CLASSES, hugeLabels, CLASS_TO_IDX);
+
+        // Class index 0 is label 5, class index 1 is label 1.
+        assertThat(giniIndexLoss.splitLoss(new long[]{1, 1}, new long[]{2, 0}))
+            .isCloseTo(0.25D, Offset.offset(0.00001D));
+        assertThat(giniIndexLoss.splitLoss(new long[]{0, 1}, new long[]{3, 0}))
+            .isCloseTo(0.0D, Offset.offset(0.00001D));
+    }
 }
@@ -29,6 +29,8 @@ import org.neo4j.gds.ml.core.decisiontree.GiniIndex;
 
 import java.util.Map;
 import java.util.Optional;
+import java.util.Random;
+import java.util.function.IntFunction;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -139,4 +141,42 @@ public class ClassificationRandomForestTest {
         assertThat(randomForestPredict.outOfBagError(bootstrappedDatasets, allFeatureVectors, allLabels))
             .isCloseTo(0.2, Offset.offset(0.000001D));
     }
+
+    @ParameterizedTest
+    @ValueSource(ints = {2, 8})
+    void shouldTrainSameForestIndependentOfConcurrency(int numDecisionTrees) {
+        // Enough feature vectors for the features of a tree to be evaluated in parallel.
+        long numVectors = 30_000;
+        var random = new Random(42L);
+        var featureVectors = HugeObjectArray.newArray(double[].class, numVectors);
+        var labels = HugeIntArray.newArray(numVectors);
+        for (long i = 0; i < numVectors; i++) {
+            featureVectors.set(i, new double[]{random.nextDouble(), random.nextDouble(), random.nextDouble()});
+            labels.set(i, random.nextInt(2) == 0 ? 1337 : 42);
+        }
+        var lossFunction = new GiniIndex(CLASSES, labels, CLASS_TO_IDX);
+
+        // With fewer trees than threads, each tree evaluates its features in parallel instead.
+        IntFunction<ClassificationRandomForestPredict> trainForest = concurrency -> new ClassificationRandomForestTrain<>(
+            lossFunction,
+            featureVectors,
+            3,
+            1,
+            0.5D,
+            0.5D,
+            Optional.of(1337L),
+            numDecisionTrees,
+            concurrency,
+            CLASSES,
+            labels
+        ).train().predictor();
+
+        var sequentialForest = trainForest.apply(1);
+        var concurrentForest = trainForest.apply(4);
+
+        for (long i = 0; i < numVectors; i++) {
+            var features = featureVectors.get(i);
+            assertThat(concurrentForest.predict(features)).isEqualTo(sequentialForest.predict(features));
+        }
+    }
 }
@@ -144,6 +144,9 @@ class OpenGdsProcedureSmokeTest extends BaseProcTest {
 
         "gds.alpha.userLog",
 
+        "gds.alpha.wcc.update.mutate",
+        "gds.alpha.wcc.update.stream",
+
         "gds.articleRank.mutate",
         "gds.articleRank.mutate.estimate",
         "gds.articleRank.stats",
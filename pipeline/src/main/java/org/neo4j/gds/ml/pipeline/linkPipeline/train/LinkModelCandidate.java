@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.ml.pipeline.linkPipeline.train;
+
+import org.neo4j.gds.ml.linkmodels.metrics.LinkMetric;
+import org.neo4j.gds.ml.nodemodels.ModelStats;
+import org.neo4j.gds.models.logisticregression.LogisticRegressionTrainConfig;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * The train and validation metrics of a model candidate, collected over the folds it is evaluated on.
+ * The folds are evaluated in rounds, every candidate which is not abandoned is evaluated on one fold per round.
+ *
+ * Between the rounds, a candidate is abandoned once its validation score cannot exceed the score of another
+ * candidate anymore, even if it reached the maximum score and the other one the minimum score on all remaining folds.
+ * Since this only depends on the completed rounds, the abandoned candidates do not depend on the task scheduling.
+ * The stats of an abandoned candidate only cover the folds evaluated until then.
+ */
+class LinkModelCandidate {
+    private final LogisticRegressionTrainConfig params;
+    private final int numberOfFolds;
+    private final LinkMetric mainMetric;
+    private final LinkModelStatsBuilder trainStatsBuilder;
+    private final LinkModelStatsBuilder validationStatsBuilder;
+
+    private int evaluatedFolds;
+    private double validationScoreSum;
+    private boolean abandoned;
+
+    LinkModelCandidate(LogisticRegressionTrainConfig params, int numberOfFolds, LinkMetric mainMetric) {
+        this.params = params;
+        this.numberOfFolds = numberOfFolds;
+        this.mainMetric = mainMetric;
+        this.trainStatsBuilder = new LinkModelStatsBuilder(params, numberOfFolds);
+        this.validationStatsBuilder = new LinkModelStatsBuilder(params, numberOfFolds);
+    }
+
+    /**
+     * Abandons the candidates which cannot win anymore, after all remaining candidates completed the same round.
+     *
+     * @return the newly abandoned candidates
+     */
+    static List<LinkModelCandidate> abandonHopelessCandidates(List<LinkModelCandidate> candidates) {
+        var remainingCandidates = candidates.stream()
+            .filter(candidate -> !candidate.abandoned)
+            .collect(Collectors.toList());
+
+        var bestMinValidationScore = remainingCandidates.stream()
+            .mapToDouble(LinkModelCandidate::minValidationScore)
+            .max()
+            .orElse(Double.NEGATIVE_INFINITY);
+
+        var abandonedCandidates = remainingCandidates.stream()
+            .filter(candidate -> candidate.maxValidationScore() < bestMinValidationScore)
+            .collect(Collectors.toList());
+        abandonedCandidates.forEach(candidate -> candidate.abandoned = true);
+
+        return abandonedCandidates;
+    }
+
+    LogisticRegressionTrainConfig params() {
+        return params;
+    }
+
+    boolean isAbandoned() {
+        return abandoned;
+    }
+
+    int remainingFolds() {
+        return numberOfFolds - evaluatedFolds;
+    }
+
+    void update(Map<LinkMetric, Double> trainMetrics, Map<LinkMetric, Double> validationMetrics) {
+        trainMetrics.forEach(trainStatsBuilder::update);
+        validationMetrics.forEach(validationStatsBuilder::update);
+
+        validationScoreSum += validationMetrics.get(mainMetric);
+        evaluatedFolds++;
+    }
+
+    ModelStats<LogisticRegressionTrainConfig> trainStats(LinkMetric metric) {
+        return trainStatsBuilder.modelStats(metric, evaluatedFolds);
+    }
+
+    ModelStats<LogisticRegressionTrainConfig> validationStats(LinkMetric metric) {
+        return validationStatsBuilder.modelStats(metric, evaluatedFolds);
+    }
+
+    private double minValidationScore() {
+        return (validationScoreSum + remainingFolds() * mainMetric.minValue()) / numberOfFolds;
+    }
+
+    private double maxValidationScore() {
+        return (validationScoreSum + remainingFolds() * mainMetric.maxValue()) / numberOfFolds;
+    }
+}
@@ -59,9 +59,16 @@ class LinkModelStatsBuilder {
     }
 
     ModelStats<LogisticRegressionTrainConfig> modelStats(LinkMetric metric) {
+        return modelStats(metric, numberOfSplits);
+    }
+
+    /**
+     * @param evaluatedSplits the number of splits the metric was updated for, if not all of them
+     */
+    ModelStats<LogisticRegressionTrainConfig> modelStats(LinkMetric metric, int evaluatedSplits) {
         return ImmutableModelStats.of(
             modelParams,
-            sum.get(metric) / numberOfSplits,
+            sum.get(metric) / evaluatedSplits,
             min.get(metric),
             max.get(metric)
         );
@@ -45,6 +45,7 @@ public final class LinkPredictionEvaluationMetricComputer {
         Classifier classifier,
         BatchQueue evaluationQueue,
         LinkPredictionTrainConfig trainConfig,
+        int concurrency,
         ProgressTracker progressTracker,
         TerminationFlag terminationFlag
     ) {
@@ -54,7 +55,7 @@ public final class LinkPredictionEvaluationMetricComputer {
         var targets = inputData.labels();
         var features = inputData.features();
 
-        evaluationQueue.parallelConsume(trainConfig.concurrency(), thread -> (batch) -> {
+        evaluationQueue.parallelConsume(concurrency, thread -> (batch) -> {
                 for (Long relationshipIdx : batch.nodeIds()) {
                     double[] classProbabilities = classifier.predictProbabilities(relationshipIdx, features);
                     int positiveClassId = classifier.classIdMap().toMapped((long) EdgeSplitter.POSITIVE);
@@ -26,6 +26,8 @@ import org.neo4j.gds.RelationshipType;
 import org.neo4j.gds.annotation.ValueClass;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.core.collections.ReadOnlyHugeLongIdentityArray;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.concurrency.Pools;
 import org.neo4j.gds.core.model.Model;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
 import org.neo4j.gds.core.utils.mem.MemoryEstimations;
@@ -136,12 +138,24 @@ public class LinkPredictionTrain extends Algorithm<LinkPredictionTrainResult> {
 
         // train best model on the entire training graph
         progressTracker.beginSubTask("train best model");
-        var classifier = trainModel(trainData, trainRelationshipIds, bestParameters, progressTracker);
+        var classifier = trainModel(
+            trainData,
+            trainRelationshipIds,
+            bestParameters,
+            trainConfig.concurrency(),
+            progressTracker
+        );
         progressTracker.endSubTask("train best model");
 
         // evaluate the best model on the training and test graphs
         progressTracker.beginSubTask("compute train metrics");
-        var outerTrainMetrics = computeTrainMetric(trainData, classifier, trainRelationshipIds, progressTracker);
+        var outerTrainMetrics = computeTrainMetric(
+            trainData,
+            classifier,
+            trainRelationshipIds,
+            trainConfig.concurrency(),
+            progressTracker
+        );
         progressTracker.endSubTask("compute train metrics");
 
         progressTracker.beginSubTask("evaluate on test data");
@@ -164,11 +178,12 @@ public class LinkPredictionTrain extends Algorithm<LinkPredictionTrainResult> {
         FeaturesAndLabels featureAndLabels,
         ReadOnlyHugeLongArray trainSet,
         LogisticRegressionTrainConfig modelConfig,
+        int concurrency,
         ProgressTracker customProgressTracker
     ) {
         return new LogisticRegressionTrainer(
             trainSet,
-            trainConfig.concurrency(),
+            concurrency,
             modelConfig,
             classIdMap,
             true,
@@ -186,36 +201,80 @@ public class LinkPredictionTrain extends Algorithm<LinkPredictionTrainResult> {
         var trainStats = initStatsMap();
         var validationStats = initStatsMap();
 
-        var linkLogisticRegressionTrainConfigs = pipeline.trainingParameterSpace();
-        progressTracker.setVolume(linkLogisticRegressionTrainConfigs.size());
-        linkLogisticRegressionTrainConfigs.forEach(modelParams -> {
-            var trainStatsBuilder = new LinkModelStatsBuilder(modelParams, pipeline.splitConfig().validationFolds());
-            var validationStatsBuilder = new LinkModelStatsBuilder(modelParams, pipeline.splitConfig().validationFolds());
-            for (TrainingExamplesSplit relSplit : validationSplits) {
-                // train each model candidate on the train sets
-                var trainSet = relSplit.trainSet();
-                var validationSet = relSplit.testSet();
-                // the below calls intentionally suppress progress logging of individual models
-                var classifier = trainModel(trainData, ReadOnlyHugeLongArray.of(trainSet), modelParams, ProgressTracker.NULL_TRACKER);
-
-                // evaluate each model candidate on the train and validation sets
-                computeTrainMetric(trainData, classifier, ReadOnlyHugeLongArray.of(trainSet), ProgressTracker.NULL_TRACKER)
-                    .forEach(trainStatsBuilder::update);
-                computeTrainMetric(trainData, classifier, ReadOnlyHugeLongArray.of(validationSet), ProgressTracker.NULL_TRACKER)
-                    .forEach(validationStatsBuilder::update);
+        var mainMetric = trainConfig.metrics().get(0);
+        int numberOfFolds = validationSplits.size();
+        var candidates = pipeline.trainingParameterSpace().stream()
+            .map(modelParams -> new LinkModelCandidate(modelParams, numberOfFolds, mainMetric))
+            .collect(Collectors.toList());
+
+        // the folds are evaluated in rounds, in which the remaining candidates are trained and evaluated
+        // independently on the shared train data, splitting the concurrency between the models trained at the same time
+        int modelConcurrency = Math.min(trainConfig.concurrency(), candidates.size());
+        int concurrencyPerModel = Math.max(1, trainConfig.concurrency() / modelConcurrency);
+
+        progressTracker.setVolume((long) candidates.size() * numberOfFolds);
+        // the models train on the default pool, so we run them from a separate one to not wait on ourselves
+        var modelPool = Pools.createForkJoinPool(modelConcurrency);
+        try {
+            for (int fold = 0; fold < numberOfFolds; fold++) {
+                var relSplit = validationSplits.get(fold);
+                var trainSet = ReadOnlyHugeLongArray.of(relSplit.trainSet());
+                var validationSet = ReadOnlyHugeLongArray.of(relSplit.testSet());
+
+                var tasks = candidates.stream()
+                    .filter(candidate -> !candidate.isAbandoned())
+                    .map(candidate -> (Runnable) () -> {
+                        // train each model candidate on the train set
+                        // the below calls intentionally suppress progress logging of individual models
+                        var classifier = trainModel(
+                            trainData,
+                            trainSet,
+                            candidate.params(),
+                            concurrencyPerModel,
+                            ProgressTracker.NULL_TRACKER
+                        );
+
+                        // evaluate each model candidate on the train and validation sets
+                        var trainMetrics = computeTrainMetric(
+                            trainData,
+                            classifier,
+                            trainSet,
+                            concurrencyPerModel,
+                            ProgressTracker.NULL_TRACKER
+                        );
+                        var validationMetrics = computeTrainMetric(
+                            trainData,
+                            classifier,
+                            validationSet,
+                            concurrencyPerModel,
+                            ProgressTracker.NULL_TRACKER
+                        );
+                        candidate.update(trainMetrics, validationMetrics);
+
+                        progressTracker.logProgress();
+                    })
+                    .collect(Collectors.toList());
+
+                ParallelUtil.runWithConcurrency(modelConcurrency, tasks, terminationFlag, modelPool);
+
+                int remainingFolds = numberOfFolds - fold - 1;
+                if (remainingFolds > 0) {
+                    // the skipped folds of abandoned candidates count as done
+                    var abandonedCandidates = LinkModelCandidate.abandonHopelessCandidates(candidates);
+                    progressTracker.logProgress((long) abandonedCandidates.size() * remainingFolds);
+                }
             }
+        } finally {
+            modelPool.shutdown();
+        }
 
-            // insert the candidates metrics into trainStats and validationStats
-            trainConfig.metrics().forEach(metric -> {
-                validationStats.get(metric).add(validationStatsBuilder.modelStats(metric));
-                trainStats.get(metric).add(trainStatsBuilder.modelStats(metric));
-            });
-
-            progressTracker.logProgress();
-        });
+        // insert the candidates metrics into trainStats and validationStats
+        candidates.forEach(candidate -> trainConfig.metrics().forEach(metric -> {
+            validationStats.get(metric).add(candidate.validationStats(metric));
+            trainStats.get(metric).add(candidate.trainStats(metric));
+        }));
 
         // 5. pick the best-scoring model candidate, according to the main metric
-        var mainMetric = trainConfig.metrics().get(0);
         var modelStats = validationStats.get(mainMetric);
         var winner = Collections.max(modelStats, COMPARE_AVERAGE);
 
@@ -240,6 +299,7 @@ public class LinkPredictionTrain extends Algorithm<LinkPredictionTrainResult> {
             classifier,
             new BatchQueue(testData.size()),
             trainConfig,
+            trainConfig.concurrency(),
             progressTracker,
             terminationFlag
         );
@@ -334,6 +394,7 @@ public class LinkPredictionTrain extends Algorithm<LinkPredictionTrainResult> {
         FeaturesAndLabels trainData,
         Classifier classifier,
         ReadOnlyHugeLongArray evaluationSet,
+        int concurrency,
         ProgressTracker progressTracker
     ) {
         return computeMetric(
@@ -341,6 +402,7 @@ public class LinkPredictionTrain extends Algorithm<LinkPredictionTrainResult> {
             classifier,
             new HugeBatchQueue(evaluationSet),
             trainConfig,
+            concurrency,
             progressTracker,
             terminationFlag
         );
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.ml.pipeline.linkPipeline.train;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.ml.linkmodels.metrics.LinkMetric;
+import org.neo4j.gds.models.logisticregression.LogisticRegressionTrainConfig;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LinkModelCandidateTest {
+
+    @Test
+    void shouldAverageOverTheEvaluatedFolds() {
+        var candidate = new LinkModelCandidate(LogisticRegressionTrainConfig.defaultConfig(), 2, LinkMetric.AUCPR);
+
+        candidate.update(Map.of(LinkMetric.AUCPR, 0.75), Map.of(LinkMetric.AUCPR, 0.6));
+        candidate.update(Map.of(LinkMetric.AUCPR, 0.25), Map.of(LinkMetric.AUCPR, 0.4));
+
+        assertThat(candidate.remainingFolds()).isEqualTo(0);
+        var validationStats = candidate.validationStats(LinkMetric.AUCPR);
+        assertThat(validationStats.avg()).isEqualTo(0.5);
+        assertThat(validationStats.min()).isEqualTo(0.4);
+        assertThat(validationStats.max()).isEqualTo(0.6);
+        assertThat(candidate.trainStats(LinkMetric.AUCPR).avg()).isEqualTo(0.5);
+    }
+
+    @Test
+    void shouldAbandonCandidatesWhichCannotWin() {
+        var bestCandidate = new LinkModelCandidate(LogisticRegressionTrainConfig.defaultConfig(), 3, LinkMetric.AUCPR);
+        var closeCandidate = new LinkModelCandidate(LogisticRegressionTrainConfig.defaultConfig(), 3, LinkMetric.AUCPR);
+        var hopelessCandidate = new LinkModelCandidate(LogisticRegressionTrainConfig.defaultConfig(), 3, LinkMetric.AUCPR);
+        var candidates = List.of(bestCandidate, closeCandidate, hopelessCandidate);
+
+        bestCandidate.update(Map.of(LinkMetric.AUCPR, 1.0), Map.of(LinkMetric.AUCPR, 1.0));
+        closeCandidate.update(Map.of(LinkMetric.AUCPR, 1.0), Map.of(LinkMetric.AUCPR, 0.5));
+        hopelessCandidate.update(Map.of(LinkMetric.AUCPR, 1.0), Map.of(LinkMetric.AUCPR, 0.0));
+
+        // after one fold, every candidate could still score at least 2 / 3 on the remaining folds
+        assertThat(LinkModelCandidate.abandonHopelessCandidates(candidates)).isEmpty();
+
+        bestCandidate.update(Map.of(LinkMetric.AUCPR, 1.0), Map.of(LinkMetric.AUCPR, 1.0));
+        closeCandidate.update(Map.of(LinkMetric.AUCPR, 1.0), Map.of(LinkMetric.AUCPR, 0.6));
+        hopelessCandidate.update(Map.of(LinkMetric.AUCPR, 1.0), Map.of(LinkMetric.AUCPR, 0.5));
+
+        // the best candidate scores at least 2 / 3, the close one at most 2.1 / 3 and the hopeless one at most 1.5 / 3
+        assertThat(LinkModelCandidate.abandonHopelessCandidates(candidates)).containsExactly(hopelessCandidate);
+        assertThat(bestCandidate.isAbandoned()).isFalse();
+        assertThat(closeCandidate.isAbandoned()).isFalse();
+        assertThat(hopelessCandidate.isAbandoned()).isTrue();
+
+        // once abandoned, the candidate stays abandoned and its stats cover only the evaluated folds
+        assertThat(LinkModelCandidate.abandonHopelessCandidates(candidates)).isEmpty();
+        assertThat(hopelessCandidate.remainingFolds()).isEqualTo(1);
+        assertThat(hopelessCandidate.validationStats(LinkMetric.AUCPR).avg()).isEqualTo(0.25);
+    }
+}
@@ -262,7 +262,7 @@ abstract class ProcedureGenerator extends PregelGenerator {
                 .returns(MemoryEstimation.class)
                 .addParameter(pregelSpec.configTypeName(), "configuration")
                 .addStatement("var computation = new $T()", computationClassName(pregelSpec, ""))
-                .addStatement("return $T.memoryEstimation(computation.schema(configuration), computation.reducer().isPresent(), configuration.isAsynchronous())", Pregel.class)
+                .addStatement("return $T.memoryEstimation(computation.schema(configuration), computation.reducer().isPresent(), configuration.isAsynchronous(), computation.messageLength())", Pregel.class)
                 .build()
             )
             .build();
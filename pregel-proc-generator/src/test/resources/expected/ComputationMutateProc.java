@@ -109,7 +109,7 @@ public final class ComputationMutateProc extends PregelMutateProc<ComputationAlg
             @Override
             public MemoryEstimation memoryEstimation(PregelProcedureConfig configuration) {
                 var computation = new Computation();
-                return Pregel.memoryEstimation(computation.schema(configuration), computation.reducer().isPresent(), configuration.isAsynchronous());
+                return Pregel.memoryEstimation(computation.schema(configuration), computation.reducer().isPresent(), configuration.isAsynchronous(), computation.messageLength());
             }
         };
     }
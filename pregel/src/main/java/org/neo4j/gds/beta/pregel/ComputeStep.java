@@ -35,6 +35,8 @@ public interface ComputeStep<CONFIG extends PregelConfig, ITERATOR extends Messa
 
     HugeAtomicBitSet voteBits();
 
+    Frontier frontier();
+
     PregelComputation<CONFIG> computation();
 
     NodeValue nodeValue();
@@ -73,6 +75,8 @@ public interface ComputeStep<CONFIG extends PregelConfig, ITERATOR extends Messa
 
     void sendTo(long targetNodeId, double message);
 
+    void sendTo(long targetNodeId, double[] message);
+
     default void computeBatch() {
         var messenger = messenger();
         var messageIterator = messenger.messageIterator();
@@ -83,8 +87,9 @@ public interface ComputeStep<CONFIG extends PregelConfig, ITERATOR extends Messa
         var initContext = initContext();
         var computeContext = computeContext();
         var voteBits = voteBits();
+        var frontier = frontier();
 
-        nodeBatch.consume(nodeId -> {
+        LongConsumer computeNode = nodeId -> {
             if (computeContext.isInitialSuperstep()) {
                 initContext.setNodeId(nodeId);
                 computation.init(initContext);
@@ -96,8 +101,20 @@ public interface ComputeStep<CONFIG extends PregelConfig, ITERATOR extends Messa
                 voteBits.clear(nodeId);
                 computeContext.setNodeId(nodeId);
                 computation.compute(computeContext, messages);
+
+                if (!voteBits.get(nodeId)) {
+                    frontier.activate(nodeId);
+                }
             }
-        });
+        };
+
+        if (computeContext.isInitialSuperstep()) {
+            nodeBatch.consume(computeNode);
+        } else {
+            // Nodes outside the frontier have voted to halt
+            // and did not receive messages, we can skip them.
+            frontier.forEachActiveNode(nodeBatch, computeNode);
+        }
         progressTracker().logProgress(nodeBatch.nodeCount());
     }
 
@@ -108,6 +125,13 @@ public interface ComputeStep<CONFIG extends PregelConfig, ITERATOR extends Messa
         });
     }
 
+    default void sendToNeighbors(long sourceNodeId, double[] message) {
+        graph().forEachRelationship(sourceNodeId, (ignored, targetNodeId) -> {
+            sendTo(targetNodeId, message);
+            return true;
+        });
+    }
+
     default void sendToNeighborsWeighted(long sourceNodeId, double message) {
         graph().forEachRelationship(sourceNodeId, 1.0, (ignored, targetNodeId, weight) -> {
             sendTo(targetNodeId, computation().applyRelationshipWeight(message, weight));
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.pregel;
+
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.core.utils.ArrayUtil;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
+import org.neo4j.gds.core.utils.partition.Partition;
+import org.neo4j.gds.mem.MemoryUsage;
+
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+
+/**
+ * Tracks the nodes that need to be visited in a superstep,
+ * i.e. nodes that received a message or did not vote to halt.
+ *
+ * While a superstep is running, nodes are activated for the
+ * next superstep. If only a few nodes are active, they are
+ * collected into a sorted list, otherwise the active nodes
+ * are iterated from the underlying bit set.
+ */
+public final class Frontier {
+
+    // A sorted list of node ids is used if it is smaller than the bit set.
+    private static final int SPARSE_RATIO = Long.SIZE;
+
+    private final long nodeCount;
+
+    private HugeAtomicBitSet current;
+    private HugeAtomicBitSet next;
+    private @Nullable long[] sparseNodes;
+    private long activeNodeCount;
+
+    static Frontier of(long nodeCount) {
+        return new Frontier(nodeCount);
+    }
+
+    static MemoryEstimation memoryEstimation() {
+        return MemoryEstimations.builder(Frontier.class)
+            .perNode("current frontier", HugeAtomicBitSet::memoryEstimation)
+            .perNode("next frontier", HugeAtomicBitSet::memoryEstimation)
+            .perNode("sparse frontier", nodeCount -> MemoryUsage.sizeOfLongArray(nodeCount / SPARSE_RATIO))
+            .build();
+    }
+
+    private Frontier(long nodeCount) {
+        this.nodeCount = nodeCount;
+        this.current = HugeAtomicBitSet.create(nodeCount);
+        this.next = HugeAtomicBitSet.create(nodeCount);
+        this.activeNodeCount = nodeCount;
+    }
+
+    /**
+     * Makes the nodes activated during the previous superstep the current frontier.
+     * Must not be called concurrently with {@link #activate(long)}.
+     */
+    void initIteration(int iteration) {
+        if (iteration == 0) {
+            // every node is visited in the initial superstep
+            return;
+        }
+
+        var tmp = current;
+        this.current = next;
+        this.next = tmp;
+        this.next.clear();
+
+        this.activeNodeCount = current.cardinality();
+
+        if (activeNodeCount <= nodeCount / SPARSE_RATIO && activeNodeCount <= ArrayUtil.MAX_ARRAY_LENGTH) {
+            var nodes = new long[(int) activeNodeCount];
+            var index = new int[]{0};
+            current.forEachSetBit(nodeId -> nodes[index[0]++] = nodeId);
+            this.sparseNodes = nodes;
+        } else {
+            this.sparseNodes = null;
+        }
+    }
+
+    /**
+     * Marks the node to be visited in the next superstep.
+     */
+    void activate(long nodeId) {
+        // avoid the CAS if the node is already active
+        if (!next.get(nodeId)) {
+            next.set(nodeId);
+        }
+    }
+
+    long activeNodeCount() {
+        return activeNodeCount;
+    }
+
+    boolean isSparse() {
+        return sparseNodes != null;
+    }
+
+    /**
+     * Calls the consumer for all active nodes of the given batch in increasing order.
+     */
+    void forEachActiveNode(Partition nodeBatch, LongConsumer consumer) {
+        long startNode = nodeBatch.startNode();
+        long endNode = startNode + nodeBatch.nodeCount();
+
+        var sparseNodes = this.sparseNodes;
+        if (sparseNodes != null) {
+            int index = Arrays.binarySearch(sparseNodes, startNode);
+            if (index < 0) {
+                index = -index - 1;
+            }
+            for (; index < sparseNodes.length && sparseNodes[index] < endNode; index++) {
+                consumer.accept(sparseNodes[index]);
+            }
+        } else {
+            current.forEachSetBit(startNode, endNode, consumer);
+        }
+    }
+}
@@ -37,9 +37,11 @@ public final class Messages implements Iterable<Double> {
     }
 
     private final MessageIterator iterator;
+    private final LongMessageIterator longIterator;
 
     Messages(MessageIterator iterator) {
         this.iterator = iterator;
+        this.longIterator = new LongMessageIterator(iterator);
     }
 
     @NotNull
@@ -47,7 +49,50 @@ public final class Messages implements Iterable<Double> {
         return iterator;
     }
 
+    /**
+     * Iterates messages that have been sent as long values,
+     * e.g. via {@link org.neo4j.gds.beta.pregel.context.ComputeContext#sendTo(long, long)}.
+     */
+    @NotNull
+    public PrimitiveIterator.OfLong longIterator() {
+        return longIterator;
+    }
+
+    /**
+     * Reads the next array message into the given buffer. The buffer
+     * length must be equal to {@link PregelComputation#messageLength()}.
+     *
+     * @return false, iff there are no more messages
+     */
+    public boolean nextDoubleArray(double[] message) {
+        if (!iterator.hasNext()) {
+            return false;
+        }
+        for (int i = 0; i < message.length; i++) {
+            message[i] = iterator.nextDouble();
+        }
+        return true;
+    }
+
     public boolean isEmpty() {
         return iterator.isEmpty();
     }
+
+    private static final class LongMessageIterator implements PrimitiveIterator.OfLong {
+        private final MessageIterator iterator;
+
+        LongMessageIterator(MessageIterator iterator) {
+            this.iterator = iterator;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return iterator.hasNext();
+        }
+
+        @Override
+        public long nextLong() {
+            return (long) iterator.nextDouble();
+        }
+    }
 }
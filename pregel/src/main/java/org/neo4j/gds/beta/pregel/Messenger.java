@@ -25,6 +25,10 @@ public interface Messenger<ITERATOR extends Messages.MessageIterator> {
 
     void sendTo(long targetNodeId, double message);
 
+    default void sendTo(long targetNodeId, double[] message) {
+        throw new UnsupportedOperationException("Array messages require a reducer.");
+    }
+
     ITERATOR messageIterator();
 
     void initMessageIterator(ITERATOR messageIterator, long nodeId, boolean isFirstIteration);
@@ -34,6 +34,7 @@ public final class PartitionedComputeStep<CONFIG extends PregelConfig, ITERATOR
     private final ProgressTracker progressTracker;
     private final Partition nodeBatch;
     private final HugeAtomicBitSet voteBits;
+    private final Frontier frontier;
     private final Messenger<ITERATOR> messenger;
     private final PregelComputation<CONFIG> computation;
 
@@ -51,6 +52,7 @@ public final class PartitionedComputeStep<CONFIG extends PregelConfig, ITERATOR
         NodeValue nodeValue,
         Messenger<ITERATOR> messenger,
         HugeAtomicBitSet voteBits,
+        Frontier frontier,
         ProgressTracker progressTracker
     ) {
         this.graph = graph;
@@ -58,6 +60,7 @@ public final class PartitionedComputeStep<CONFIG extends PregelConfig, ITERATOR
         this.nodeValue = nodeValue;
         this.computation = computation;
         this.voteBits = voteBits;
+        this.frontier = frontier;
         this.nodeBatch = nodeBatch;
         this.messenger = messenger;
         this.computeContext = new ComputeContext<>(this, config);
@@ -80,6 +83,11 @@ public final class PartitionedComputeStep<CONFIG extends PregelConfig, ITERATOR
         return voteBits;
     }
 
+    @Override
+    public Frontier frontier() {
+        return frontier;
+    }
+
     @Override
     public PregelComputation<CONFIG> computation() {
         return computation;
@@ -123,6 +131,14 @@ public final class PartitionedComputeStep<CONFIG extends PregelConfig, ITERATOR
     @Override
     public void sendTo(long targetNodeId, double message) {
         messenger.sendTo(targetNodeId, message);
+        frontier.activate(targetNodeId);
+        hasSentMessage = true;
+    }
+
+    @Override
+    public void sendTo(long targetNodeId, double[] message) {
+        messenger.sendTo(targetNodeId, message);
+        frontier.activate(targetNodeId);
         hasSentMessage = true;
     }
 
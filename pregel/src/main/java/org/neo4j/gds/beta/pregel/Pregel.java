@@ -33,6 +33,8 @@ import org.neo4j.gds.core.utils.progress.tasks.Tasks;
 import java.util.List;
 import java.util.concurrent.ExecutorService;
 
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
 @Value.Style(builderVisibility = Value.Style.BuilderVisibility.PUBLIC, depluralize = true, deepImmutablesDetection = true)
 public final class Pregel<CONFIG extends PregelConfig> {
 
@@ -46,6 +48,8 @@ public final class Pregel<CONFIG extends PregelConfig> {
 
     private final Messenger<?> messenger;
 
+    private final Frontier frontier;
+
     private final PregelComputer<CONFIG> computer;
 
     private final ProgressTracker progressTracker;
@@ -76,8 +80,18 @@ public final class Pregel<CONFIG extends PregelConfig> {
     }
 
     public static MemoryEstimation memoryEstimation(PregelSchema pregelSchema, boolean isQueueBased, boolean isAsync) {
+        return memoryEstimation(pregelSchema, isQueueBased, isAsync, 1);
+    }
+
+    public static MemoryEstimation memoryEstimation(
+        PregelSchema pregelSchema,
+        boolean isQueueBased,
+        boolean isAsync,
+        int messageLength
+    ) {
         var estimationBuilder = MemoryEstimations.builder(Pregel.class)
             .perNode("vote bits", HugeAtomicBitSet::memoryEstimation)
+            .add("active frontier", Frontier.memoryEstimation())
             .perThread("compute steps", MemoryEstimations.builder(PartitionedComputeStep.class).build())
             .add("node value", NodeValue.memoryEstimation(pregelSchema));
 
@@ -88,7 +102,7 @@ public final class Pregel<CONFIG extends PregelConfig> {
                 estimationBuilder.add("message queues", SyncQueueMessenger.memoryEstimation());
             }
         } else {
-            estimationBuilder.add("message arrays", ReducingMessenger.memoryEstimation());
+            estimationBuilder.add("message arrays", ReducingMessenger.memoryEstimation(messageLength));
         }
 
         return estimationBuilder.build();
@@ -130,13 +144,29 @@ public final class Pregel<CONFIG extends PregelConfig> {
         this.progressTracker = progressTracker;
 
         var reducer = computation.reducer();
+        var messageLength = computation.messageLength();
+
+        if (messageLength < 1) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The message length must be at least 1, but was %d.",
+                messageLength
+            ));
+        }
+        if (messageLength > 1 && reducer.isEmpty()) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Messages of length %d require a reducer.",
+                messageLength
+            ));
+        }
 
         this.messenger = reducer.isPresent()
-            ? new ReducingMessenger(graph, config, reducer.get())
+            ? new ReducingMessenger(graph, config, reducer.get(), messageLength)
             : config.isAsynchronous()
                 ? new AsyncQueueMessenger(graph.nodeCount())
                 : new SyncQueueMessenger(graph.nodeCount());
 
+        this.frontier = Frontier.of(graph.nodeCount());
+
         this.computer = PregelComputer.<CONFIG>builder()
             .graph(graph)
             .computation(computation)
@@ -144,6 +174,7 @@ public final class Pregel<CONFIG extends PregelConfig> {
             .nodeValues(nodeValues)
             .messenger(messenger)
             .voteBits(HugeAtomicBitSet.create(graph.nodeCount()))
+            .frontier(frontier)
             .executorService(config.useForkJoin()
                 ? Pools.createForkJoinPool(config.concurrency())
                 : executor)
@@ -166,6 +197,7 @@ public final class Pregel<CONFIG extends PregelConfig> {
 
                     computer.initIteration(iteration);
                     messenger.initIteration(iteration);
+                    frontier.initIteration(iteration);
                     computer.runIteration();
                 } finally {
                     progressTracker.endSubTask();
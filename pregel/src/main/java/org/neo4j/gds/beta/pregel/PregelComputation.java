@@ -103,6 +103,18 @@ public interface PregelComputation<C extends PregelConfig> {
         return Optional.empty();
     }
 
+    /**
+     * The number of doubles in a single message. Computations that send
+     * double array messages, e.g. embeddings, override this method to
+     * return the fixed length of those arrays.
+     * <br>
+     * Array messages are reduced element-wise and therefore require
+     * a {@link #reducer()}.
+     */
+    default int messageLength() {
+        return 1;
+    }
+
     /**
      * If the input graph is weighted, i.e. relationships have a
      * property, this method can be overridden to apply that weight
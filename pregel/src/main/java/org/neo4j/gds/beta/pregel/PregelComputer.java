@@ -36,6 +36,7 @@ abstract class PregelComputer<CONFIG extends PregelConfig> {
     final NodeValue nodeValues;
     final Messenger<?> messenger;
     final HugeAtomicBitSet voteBits;
+    final Frontier frontier;
     final ProgressTracker progressTracker;
 
     PregelComputer(
@@ -45,6 +46,7 @@ abstract class PregelComputer<CONFIG extends PregelConfig> {
         NodeValue nodeValues,
         Messenger<?> messenger,
         HugeAtomicBitSet voteBits,
+        Frontier frontier,
         ProgressTracker progressTracker
     ) {
         this.graph = graph;
@@ -53,6 +55,7 @@ abstract class PregelComputer<CONFIG extends PregelConfig> {
         this.nodeValues = nodeValues;
         this.messenger = messenger;
         this.voteBits = voteBits;
+        this.frontier = frontier;
         this.progressTracker = progressTracker;
     }
 
@@ -78,6 +81,7 @@ abstract class PregelComputer<CONFIG extends PregelConfig> {
         NodeValue nodeValues,
         Messenger<?> messenger,
         HugeAtomicBitSet voteBits,
+        Frontier frontier,
         ExecutorService executorService,
         ProgressTracker progressTracker
     ) {
@@ -96,6 +100,7 @@ abstract class PregelComputer<CONFIG extends PregelConfig> {
                 nodeValues,
                 messenger,
                 voteBits,
+                frontier,
                 (ForkJoinPool) executorService,
                 progressTracker
             );
@@ -108,6 +113,7 @@ abstract class PregelComputer<CONFIG extends PregelConfig> {
             nodeValues,
             messenger,
             voteBits,
+            frontier,
             config.concurrency(),
             executorService,
             progressTracker
@@ -31,6 +31,28 @@ public interface Reducer {
      */
     double reduce(double current, double message);
 
+    /**
+     * Indicates if messages can be pre-reduced per thread before they are
+     * reduced into the shared message array, which avoids contention on
+     * nodes that receive many messages. This requires {@link #combine}
+     * to be consistent with {@link #reduce}. Reducers that do not support
+     * combining reduce every message directly into the shared array.
+     */
+    default boolean supportsCombining() {
+        return false;
+    }
+
+    /**
+     * Combines two partially reduced values, only used if {@link #supportsCombining()} is true.
+     * Combining the partial results of any split of the messages must lead
+     * to the same value as reducing all messages one by one.
+     * For most reducers this is the same as {@link #reduce}, but for example
+     * a count reducer needs to add up the partial counts.
+     */
+    default double combine(double current, double partial) {
+        return reduce(current, partial);
+    }
+
     class Sum implements Reducer {
 
         @Override
@@ -43,6 +65,15 @@ public interface Reducer {
             return current + message;
         }
 
+        @Override
+        public boolean supportsCombining() {
+            return true;
+        }
+
+        @Override
+        public double combine(double current, double partial) {
+            return current + partial;
+        }
     }
 
     class Min implements Reducer {
@@ -56,6 +87,16 @@ public interface Reducer {
         public double reduce(double current, double message) {
             return Math.min(current, message);
         }
+
+        @Override
+        public boolean supportsCombining() {
+            return true;
+        }
+
+        @Override
+        public double combine(double current, double partial) {
+            return Math.min(current, partial);
+        }
     }
 
     class Max implements Reducer {
@@ -69,6 +110,16 @@ public interface Reducer {
         public double reduce(double current, double message) {
             return Math.max(current, message);
         }
+
+        @Override
+        public boolean supportsCombining() {
+            return true;
+        }
+
+        @Override
+        public double combine(double current, double partial) {
+            return Math.max(current, partial);
+        }
     }
 
     class Count implements Reducer {
@@ -82,5 +133,15 @@ public interface Reducer {
         public double reduce(double current, double message) {
             return current + 1;
         }
+
+        @Override
+        public boolean supportsCombining() {
+            return true;
+        }
+
+        @Override
+        public double combine(double current, double partial) {
+            return current + partial;
+        }
     }
 }
@@ -24,42 +24,84 @@ import org.neo4j.gds.core.concurrency.ParallelUtil;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
 import org.neo4j.gds.core.utils.mem.MemoryEstimations;
 import org.neo4j.gds.core.utils.paged.HugeAtomicDoubleArray;
+import org.neo4j.gds.mem.BitUtil;
+import org.neo4j.gds.mem.MemoryUsage;
+import org.neo4j.gds.utils.AutoCloseableThreadLocal;
+
+import java.util.Arrays;
 
 /**
- * A messenger implementation that is backed by two double arrays used
- * to send and receive messages. The messenger can only be applied in
- * combination with a {@link Reducer}
- * which atomically reduces all incoming messages into a single one.
+ * Reduces all messages sent to a node into a single message.
+ *
+ * A message consists of {@code messageLength} doubles, each of
+ * them is reduced individually. To avoid contention on nodes
+ * that receive many messages, each thread pre-reduces messages
+ * in a small direct-mapped buffer if the reducer supports combining.
+ * Partially reduced values are combined into the shared message array
+ * when they are evicted from that buffer or at the end of the superstep.
  */
 public class ReducingMessenger implements Messenger<ReducingMessenger.SingleMessageIterator> {
 
+    // Maximum number of target slots in the per-thread combining buffers.
+    static final int MAX_COMBINER_CAPACITY = 1 << 10;
+
     private final Graph graph;
     private final PregelConfig config;
     private final Reducer reducer;
+    private final int messageLength;
+    private final boolean combining;
+    private final int combinerCapacity;
+    private final AutoCloseableThreadLocal<Combiner> combiners;
 
     private HugeAtomicDoubleArray sendArray;
     private HugeAtomicDoubleArray receiveArray;
 
     ReducingMessenger(Graph graph, PregelConfig config, Reducer reducer) {
+        this(graph, config, reducer, 1);
+    }
+
+    ReducingMessenger(Graph graph, PregelConfig config, Reducer reducer, int messageLength) {
         assert !Double.isNaN(reducer.identity()): "identity element must not be NaN";
+        assert messageLength > 0: "message length must be positive";
 
         this.graph = graph;
         this.config = config;
         this.reducer = reducer;
+        this.messageLength = messageLength;
+        this.combining = reducer.supportsCombining();
+        this.combinerCapacity = combinerCapacity(graph.nodeCount());
+        this.combiners = AutoCloseableThreadLocal.withInitial(Combiner::new);
 
-        this.receiveArray = HugeAtomicDoubleArray.newArray(graph.nodeCount());
-        this.sendArray = HugeAtomicDoubleArray.newArray(graph.nodeCount());
+        this.receiveArray = HugeAtomicDoubleArray.newArray(graph.nodeCount() * messageLength);
+        this.sendArray = HugeAtomicDoubleArray.newArray(graph.nodeCount() * messageLength);
     }
 
-    static MemoryEstimation memoryEstimation() {
+    static MemoryEstimation memoryEstimation(int messageLength) {
         return MemoryEstimations.builder(ReducingMessenger.class)
-            .perNode("send array", HugeAtomicDoubleArray::memoryEstimation)
-            .perNode("receive array", HugeAtomicDoubleArray::memoryEstimation)
+            .perNode("send array", nodeCount -> HugeAtomicDoubleArray.memoryEstimation(nodeCount * messageLength))
+            .perNode("receive array", nodeCount -> HugeAtomicDoubleArray.memoryEstimation(nodeCount * messageLength))
+            .perThread("combining buffer", MemoryEstimations.builder()
+                .perNode("targets", nodeCount -> MemoryUsage.sizeOfLongArray(combinerCapacity(nodeCount)))
+                .perNode(
+                    "values",
+                    nodeCount -> MemoryUsage.sizeOfDoubleArray(combinerCapacity(nodeCount) * messageLength)
+                )
+                .build())
             .build();
     }
 
+    // A power of two, so that the slot of a target can be computed from the upper bits of its hash.
+    static int combinerCapacity(long nodeCount) {
+        return (int) Math.min(MAX_COMBINER_CAPACITY, BitUtil.nextHighestPowerOfTwo(Math.max(nodeCount, 2)));
+    }
+
     @Override
     public void initIteration(int iteration) {
+        // Publish all messages that are still buffered from the previous iteration
+        if (combining) {
+            combiners.forEach(Combiner::flush);
+        }
+
         // Swap arrays
         var tmp = receiveArray;
         this.receiveArray = sendArray;
@@ -68,21 +110,40 @@ public class ReducingMessenger implements Messenger<ReducingMessenger.SingleMess
         ParallelUtil.parallelForEachNode(
             graph,
             config.concurrency(),
-            nodeId -> sendArray.set(nodeId, reducer.identity())
+            nodeId -> {
+                for (long index = nodeId * messageLength; index < (nodeId + 1) * messageLength; index++) {
+                    sendArray.set(index, reducer.identity());
+                }
+            }
         );
     }
 
     @Override
     public void sendTo(long targetNodeId, double message) {
-        sendArray.update(
-            targetNodeId,
-            current -> reducer.reduce(current, message)
-        );
+        assert messageLength == 1: "expected a message of length " + messageLength;
+        if (combining) {
+            combiners.get().add(targetNodeId, message);
+        } else {
+            sendArray.update(targetNodeId, current -> reducer.reduce(current, message));
+        }
+    }
+
+    @Override
+    public void sendTo(long targetNodeId, double[] message) {
+        assert message.length == messageLength: "expected a message of length " + messageLength;
+        if (combining) {
+            combiners.get().add(targetNodeId, message);
+        } else {
+            for (int i = 0; i < messageLength; i++) {
+                double value = message[i];
+                sendArray.update(targetNodeId * messageLength + i, current -> reducer.reduce(current, value));
+            }
+        }
     }
 
     @Override
     public ReducingMessenger.SingleMessageIterator messageIterator() {
-        return new SingleMessageIterator();
+        return new SingleMessageIterator(messageLength);
     }
 
     @Override
@@ -91,23 +152,107 @@ public class ReducingMessenger implements Messenger<ReducingMessenger.SingleMess
         long nodeId,
         boolean isInitialIteration
     ) {
-        var message = receiveArray.getAndReplace(nodeId, reducer.identity());
-        messageIterator.init(message, message != reducer.identity());
+        var identity = reducer.identity();
+        var message = messageIterator.message;
+        var hasMessage = false;
+        for (int i = 0; i < messageLength; i++) {
+            message[i] = receiveArray.getAndReplace(nodeId * messageLength + i, identity);
+            hasMessage |= message[i] != identity;
+        }
+        messageIterator.init(hasMessage);
     }
 
     @Override
     public void release() {
+        combiners.close();
         sendArray.release();
         receiveArray.release();
     }
 
+    private void reduceIntoSendArray(long index, double partial) {
+        sendArray.update(index, current -> reducer.combine(current, partial));
+    }
+
+    private final class Combiner implements AutoCloseable {
+        private static final long EMPTY = -1L;
+
+        private final long[] targets;
+        private final double[] values;
+        private final int shift;
+
+        Combiner() {
+            this.targets = new long[combinerCapacity];
+            this.values = new double[combinerCapacity * messageLength];
+            this.shift = Long.SIZE - Integer.numberOfTrailingZeros(combinerCapacity);
+            Arrays.fill(targets, EMPTY);
+        }
+
+        void add(long targetNodeId, double message) {
+            int slot = slot(targetNodeId);
+            if (targets[slot] == targetNodeId) {
+                values[slot] = reducer.reduce(values[slot], message);
+            } else {
+                evict(slot);
+                targets[slot] = targetNodeId;
+                values[slot] = reducer.reduce(reducer.identity(), message);
+            }
+        }
+
+        void add(long targetNodeId, double[] message) {
+            int slot = slot(targetNodeId);
+            int offset = slot * messageLength;
+            if (targets[slot] == targetNodeId) {
+                for (int i = 0; i < messageLength; i++) {
+                    values[offset + i] = reducer.reduce(values[offset + i], message[i]);
+                }
+            } else {
+                evict(slot);
+                targets[slot] = targetNodeId;
+                for (int i = 0; i < messageLength; i++) {
+                    values[offset + i] = reducer.reduce(reducer.identity(), message[i]);
+                }
+            }
+        }
+
+        void flush() {
+            for (int slot = 0; slot < targets.length; slot++) {
+                evict(slot);
+            }
+        }
+
+        private void evict(int slot) {
+            var targetNodeId = targets[slot];
+            if (targetNodeId != EMPTY) {
+                int offset = slot * messageLength;
+                for (int i = 0; i < messageLength; i++) {
+                    reduceIntoSendArray(targetNodeId * messageLength + i, values[offset + i]);
+                }
+                targets[slot] = EMPTY;
+            }
+        }
+
+        private int slot(long targetNodeId) {
+            // Fibonacci hashing spreads neighbouring node ids over the buffer
+            return (int) ((targetNodeId * 0x9E3779B97F4A7C15L) >>> shift);
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
     static class SingleMessageIterator implements Messages.MessageIterator {
 
+        final double[] message;
         boolean hasNext;
-        double message;
+        int position;
+
+        SingleMessageIterator(int messageLength) {
+            this.message = new double[messageLength];
+        }
 
-        void init(double value, boolean hasNext) {
-            this.message = value;
+        void init(boolean hasNext) {
+            this.position = 0;
             this.hasNext = hasNext;
         }
 
@@ -123,8 +268,9 @@ public class ReducingMessenger implements Messenger<ReducingMessenger.SingleMess
 
         @Override
         public double nextDouble() {
-            hasNext = false;
-            return message;
+            var value = message[position++];
+            hasNext = position < message.length;
+            return value;
         }
     }
 }
@@ -22,6 +22,8 @@ package org.neo4j.gds.beta.pregel.context;
 import org.neo4j.gds.beta.pregel.ComputeStep;
 import org.neo4j.gds.beta.pregel.PregelConfig;
 
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
 /**
  * A context that is used during the computation. It allows an implementation
  * to send messages to other nodes and change the state of the currently
@@ -36,6 +38,8 @@ public final class ComputeContext<CONFIG extends PregelConfig> extends NodeCentr
             : computeStep::sendToNeighbors;
     }
 
+    private static final long MAX_EXACT_LONG_MESSAGE = 1L << 53;
+
     private final SendMessagesFunction sendMessagesFunction;
 
     /**
@@ -116,6 +120,27 @@ public final class ComputeContext<CONFIG extends PregelConfig> extends NodeCentr
         sendMessagesFunction.sendToNeighbors(nodeId, message);
     }
 
+    /**
+     * Sends the given long message to all neighbors of the node.
+     * Relationship weights are not applied to long messages.
+     *
+     * @throws IllegalArgumentException if the absolute value of the message exceeds 2^53
+     * @see #sendLongTo(long, long)
+     */
+    public void sendLongToNeighbors(long message) {
+        computeStep.sendToNeighbors(nodeId, encode(message));
+    }
+
+    /**
+     * Sends the given array message to all neighbors of the node.
+     * Relationship weights are not applied to array messages.
+     *
+     * @see #sendTo(long, double[])
+     */
+    public void sendToNeighbors(double[] message) {
+        computeStep.sendToNeighbors(nodeId, message);
+    }
+
     /**
      * Sends the given message to the target node. The target
      * node can be any existing node id in the graph.
@@ -126,6 +151,43 @@ public final class ComputeContext<CONFIG extends PregelConfig> extends NodeCentr
         computeStep.sendTo(targetNodeId, message);
     }
 
+    /**
+     * Sends the given long message to the target node. Long messages
+     * are read via {@link org.neo4j.gds.beta.pregel.Messages#longIterator()}.
+     * The message must be in the range of node ids, i.e. its absolute
+     * value must not exceed 2^53. A reducer is applied to long messages
+     * the same way as to double messages.
+     *
+     * @throws ArrayIndexOutOfBoundsException if the node is in the not in id space
+     * @throws IllegalArgumentException if the absolute value of the message exceeds 2^53
+     */
+    public void sendLongTo(long targetNodeId, long message) {
+        computeStep.sendTo(targetNodeId, encode(message));
+    }
+
+    /**
+     * Sends the given array message to the target node. The array
+     * length must be equal to {@link org.neo4j.gds.beta.pregel.PregelComputation#messageLength()}.
+     * The message is copied, so the array can be reused by the caller.
+     * Array messages are read via {@link org.neo4j.gds.beta.pregel.Messages#nextDoubleArray(double[])}.
+     *
+     * @throws ArrayIndexOutOfBoundsException if the node is in the not in id space
+     */
+    public void sendTo(long targetNodeId, double[] message) {
+        computeStep.sendTo(targetNodeId, message);
+    }
+
+    private static double encode(long message) {
+        // Long values up to 2^53 are exactly representable as double
+        if (message > MAX_EXACT_LONG_MESSAGE || message < -MAX_EXACT_LONG_MESSAGE) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Long messages must not exceed 2^53 in absolute value, got %d.",
+                message
+            ));
+        }
+        return message;
+    }
+
     @FunctionalInterface
     interface SendMessagesFunction {
         void sendToNeighbors(long sourceNodeId, double message);
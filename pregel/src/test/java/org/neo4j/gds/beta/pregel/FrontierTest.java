@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.pregel;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.core.utils.partition.Partition;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FrontierTest {
+
+    @Test
+    void visitsAllNodesInInitialSuperstep() {
+        var frontier = Frontier.of(42);
+        frontier.initIteration(0);
+
+        assertThat(frontier.activeNodeCount()).isEqualTo(42);
+    }
+
+    @Test
+    void sparseFrontier() {
+        var frontier = Frontier.of(10_000);
+        frontier.initIteration(0);
+
+        frontier.activate(4000);
+        frontier.activate(17);
+        frontier.activate(9999);
+        frontier.activate(17);
+
+        frontier.initIteration(1);
+
+        assertThat(frontier.isSparse()).isTrue();
+        assertThat(frontier.activeNodeCount()).isEqualTo(3);
+        assertThat(activeNodes(frontier, Partition.of(0, 10_000))).containsExactly(17L, 4000L, 9999L);
+        assertThat(activeNodes(frontier, Partition.of(17, 3983))).containsExactly(17L);
+        assertThat(activeNodes(frontier, Partition.of(18, 3983))).containsExactly(4000L);
+        assertThat(activeNodes(frontier, Partition.of(4001, 5998))).isEmpty();
+    }
+
+    @Test
+    void denseFrontier() {
+        var frontier = Frontier.of(1000);
+        frontier.initIteration(0);
+
+        for (long nodeId = 0; nodeId < 1000; nodeId += 2) {
+            frontier.activate(nodeId);
+        }
+
+        frontier.initIteration(1);
+
+        assertThat(frontier.isSparse()).isFalse();
+        assertThat(frontier.activeNodeCount()).isEqualTo(500);
+        assertThat(activeNodes(frontier, Partition.of(63, 6))).containsExactly(64L, 66L, 68L);
+    }
+
+    @Test
+    void switchesBetweenSparseAndDense() {
+        var frontier = Frontier.of(1000);
+        frontier.initIteration(0);
+
+        for (long nodeId = 0; nodeId < 1000; nodeId++) {
+            frontier.activate(nodeId);
+        }
+        frontier.initIteration(1);
+        assertThat(frontier.isSparse()).isFalse();
+
+        frontier.activate(42);
+        frontier.initIteration(2);
+        assertThat(frontier.isSparse()).isTrue();
+        assertThat(activeNodes(frontier, Partition.of(0, 1000))).containsExactly(42L);
+
+        frontier.initIteration(3);
+        assertThat(frontier.activeNodeCount()).isEqualTo(0);
+        assertThat(activeNodes(frontier, Partition.of(0, 1000))).isEmpty();
+    }
+
+    private static List<Long> activeNodes(Frontier frontier, Partition partition) {
+        var nodes = new ArrayList<Long>();
+        frontier.forEachActiveNode(partition, nodes::add);
+        return nodes;
+    }
+}
@@ -43,6 +43,7 @@ import org.neo4j.gds.compat.TestLog;
 import org.neo4j.gds.core.ImmutableGraphDimensions;
 import org.neo4j.gds.core.concurrency.Pools;
 import org.neo4j.gds.core.utils.mem.MemoryRange;
+import org.neo4j.gds.core.utils.paged.HugeAtomicDoubleArray;
 import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
 import org.neo4j.gds.core.utils.progress.EmptyTaskRegistryFactory;
 import org.neo4j.gds.core.utils.progress.TaskRegistry;
@@ -52,6 +53,7 @@ import org.neo4j.gds.extension.GdlExtension;
 import org.neo4j.gds.extension.GdlGraph;
 import org.neo4j.gds.extension.Inject;
 import org.neo4j.gds.extension.TestGraph;
+import org.neo4j.gds.mem.MemoryUsage;
 
 import java.util.Arrays;
 import java.util.Optional;
@@ -60,6 +62,7 @@ import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -292,6 +295,177 @@ class PregelTest {
         assertEquals(Double.NaN, nodeValues.doubleProperties(KEY).get(2L));
     }
 
+    @ParameterizedTest
+    @EnumSource(Partitioning.class)
+    void reduceMessagesToSpecificTarget(Partitioning partitioning) {
+        var config = ImmutablePregelConfig.builder()
+            .maxIterations(2)
+            .concurrency(2)
+            .partitioning(partitioning)
+            .build();
+
+        var pregelJob = Pregel.create(
+            graph,
+            config,
+            new TestCountingSendTo(),
+            Pools.DEFAULT,
+            ProgressTracker.NULL_TRACKER
+        );
+
+        var nodeValues = pregelJob.run().nodeValues();
+        assertEquals(2.0, nodeValues.doubleProperties(KEY).get(0L));
+    }
+
+    @ParameterizedTest
+    @EnumSource(Partitioning.class)
+    void reduceWithoutCombiningForCustomReducers(Partitioning partitioning) {
+        var config = ImmutablePregelConfig.builder()
+            .maxIterations(2)
+            .concurrency(2)
+            .partitioning(partitioning)
+            .build();
+
+        // does not override `combine`, pre-reducing per thread would count partial counts as single messages
+        var customCountReducer = new Reducer() {
+            @Override
+            public double identity() {
+                return 0;
+            }
+
+            @Override
+            public double reduce(double current, double message) {
+                return current + 1;
+            }
+        };
+        var pregelJob = Pregel.create(
+            graph,
+            config,
+            new TestSendTo() {
+                @Override
+                public Optional<Reducer> reducer() {
+                    return Optional.of(customCountReducer);
+                }
+            },
+            Pools.DEFAULT,
+            ProgressTracker.NULL_TRACKER
+        );
+
+        var nodeValues = pregelJob.run().nodeValues();
+        assertEquals(2.0, nodeValues.doubleProperties(KEY).get(0L));
+    }
+
+    @ParameterizedTest
+    @EnumSource(Partitioning.class)
+    void sendLongMessages(Partitioning partitioning) {
+        var config = ImmutablePregelConfig.builder()
+            .maxIterations(2)
+            .partitioning(partitioning)
+            .build();
+
+        var pregelJob = Pregel.create(
+            graph,
+            config,
+            new TestLongMessages(),
+            Pools.DEFAULT,
+            ProgressTracker.NULL_TRACKER
+        );
+
+        var nodeValues = pregelJob.run().nodeValues();
+        assertArrayEquals(
+            new long[]{0L, TestLongMessages.OFFSET, TestLongMessages.OFFSET},
+            nodeValues.longProperties(KEY).toArray()
+        );
+    }
+
+    @ParameterizedTest
+    @EnumSource(Partitioning.class)
+    void doNotApplyRelationshipWeightsToLongMessages(Partitioning partitioning) {
+        var config = ImmutablePregelConfig.builder()
+            .maxIterations(2)
+            .partitioning(partitioning)
+            .relationshipWeightProperty("prop")
+            .build();
+
+        var pregelJob = Pregel.create(
+            graph,
+            config,
+            new TestLongMessages() {
+                @Override
+                public double applyRelationshipWeight(double nodeValue, double relationshipWeight) {
+                    return nodeValue * relationshipWeight;
+                }
+            },
+            Pools.DEFAULT,
+            ProgressTracker.NULL_TRACKER
+        );
+
+        var nodeValues = pregelJob.run().nodeValues();
+        assertArrayEquals(
+            new long[]{0L, TestLongMessages.OFFSET, TestLongMessages.OFFSET},
+            nodeValues.longProperties(KEY).toArray()
+        );
+    }
+
+    @Test
+    void rejectLongMessagesThatAreNotExactlyRepresentable() {
+        var config = ImmutablePregelConfig.builder().maxIterations(2).build();
+
+        var pregelJob = Pregel.create(
+            graph,
+            config,
+            new TestLongMessages() {
+                @Override
+                public void compute(ComputeContext<PregelConfig> context, Messages messages) {
+                    context.sendLongToNeighbors((1L << 53) + 1);
+                }
+            },
+            Pools.DEFAULT,
+            ProgressTracker.NULL_TRACKER
+        );
+
+        assertThatThrownBy(pregelJob::run)
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Long messages must not exceed 2^53");
+    }
+
+    @ParameterizedTest
+    @EnumSource(Partitioning.class)
+    void sendArrayMessages(Partitioning partitioning) {
+        var config = ImmutablePregelConfig.builder()
+            .maxIterations(2)
+            .partitioning(partitioning)
+            .build();
+
+        var pregelJob = Pregel.create(
+            graph,
+            config,
+            new TestArrayMessages(),
+            Pools.DEFAULT,
+            ProgressTracker.NULL_TRACKER
+        );
+
+        var nodeValues = pregelJob.run().nodeValues();
+        assertArrayEquals(new double[]{0.0, 0.0}, nodeValues.doubleArrayValue(KEY, 0L));
+        assertArrayEquals(new double[]{4.0, 6.0}, nodeValues.doubleArrayValue(KEY, 1L));
+        assertArrayEquals(new double[]{1.0, 2.0}, nodeValues.doubleArrayValue(KEY, 2L));
+    }
+
+    @Test
+    void arrayMessagesRequireReducer() {
+        var config = ImmutablePregelConfig.builder().maxIterations(2).build();
+
+        var computation = new TestArrayMessages() {
+            @Override
+            public Optional<Reducer> reducer() {
+                return Optional.empty();
+            }
+        };
+
+        assertThatThrownBy(() -> Pregel.create(graph, config, computation, Pools.DEFAULT, ProgressTracker.NULL_TRACKER))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Messages of length 2 require a reducer.");
+    }
+
     @ParameterizedTest
     @EnumSource(Partitioning.class)
     void compositeNodeValueTest(Partitioning partitioning) {
@@ -375,8 +549,8 @@ class PregelTest {
     static Stream<Arguments> estimations() {
         return Stream.of(
             // queue based sync
-            Arguments.of(1, new PregelSchema.Builder().add("key", ValueType.LONG).build(), true, false, 7441704L),
-            Arguments.of(10, new PregelSchema.Builder().add("key", ValueType.LONG).build(), true, false, 7442208L),
+            Arguments.of(1, new PregelSchema.Builder().add("key", ValueType.LONG).build(), true, false, 7445664L),
+            Arguments.of(10, new PregelSchema.Builder().add("key", ValueType.LONG).build(), true, false, 7446168L),
             Arguments.of(1, new PregelSchema.Builder()
                     .add("key1", ValueType.LONG)
                     .add("key2", ValueType.DOUBLE)
@@ -385,7 +559,7 @@ class PregelTest {
                     .build(),
                 true,
                 false,
-                9441776L
+                9445736L
             ),
             Arguments.of(10, new PregelSchema.Builder()
                     .add("key1", ValueType.LONG)
@@ -395,12 +569,12 @@ class PregelTest {
                     .build(),
                 true,
                 false,
-                9442280L
+                9446240L
             ),
 
             // queue based async
-            Arguments.of(1, new PregelSchema.Builder().add("key", ValueType.LONG).build(), true, true, 3841664L),
-            Arguments.of(10, new PregelSchema.Builder().add("key", ValueType.LONG).build(), true, true, 3842168L),
+            Arguments.of(1, new PregelSchema.Builder().add("key", ValueType.LONG).build(), true, true, 3845624L),
+            Arguments.of(10, new PregelSchema.Builder().add("key", ValueType.LONG).build(), true, true, 3846128L),
             Arguments.of(1, new PregelSchema.Builder()
                     .add("key1", ValueType.LONG)
                     .add("key2", ValueType.DOUBLE)
@@ -409,7 +583,7 @@ class PregelTest {
                     .build(),
                 true,
                 true,
-                5841736L
+                5845696L
             ),
             Arguments.of(10, new PregelSchema.Builder()
                     .add("key1", ValueType.LONG)
@@ -419,12 +593,12 @@ class PregelTest {
                     .build(),
                 true,
                 true,
-                5842240L
+                5846200L
             ),
 
             // array based
-            Arguments.of(1, new PregelSchema.Builder().add("key", ValueType.LONG).build(), false, false, 241584L),
-            Arguments.of(10, new PregelSchema.Builder().add("key", ValueType.LONG).build(), false, false, 242088L),
+            Arguments.of(1, new PregelSchema.Builder().add("key", ValueType.LONG).build(), false, false, 261976L),
+            Arguments.of(10, new PregelSchema.Builder().add("key", ValueType.LONG).build(), false, false, 410224L),
             Arguments.of(1, new PregelSchema.Builder()
                     .add("key1", ValueType.LONG)
                     .add("key2", ValueType.DOUBLE)
@@ -433,7 +607,7 @@ class PregelTest {
                     .build(),
                 false,
                 false,
-                2241656L
+                2262048L
             ),
             Arguments.of(10, new PregelSchema.Builder()
                     .add("key1", ValueType.LONG)
@@ -443,7 +617,7 @@ class PregelTest {
                     .build(),
                 false,
                 false,
-                2242160L
+                2410296L
             )
         );
     }
@@ -471,6 +645,32 @@ class PregelTest {
         );
     }
 
+    @Test
+    void memoryEstimationScalesWithMessageLength() {
+        var nodeCount = 10_000L;
+        var dimensions = ImmutableGraphDimensions.builder()
+            .nodeCount(nodeCount)
+            .relCountUpperBound(100_000)
+            .build();
+        var pregelSchema = new PregelSchema.Builder().add("key", ValueType.LONG).build();
+
+        long singleValueMessages = Pregel
+            .memoryEstimation(pregelSchema, false, false, 1)
+            .estimate(dimensions, 1)
+            .memoryUsage().max;
+        long arrayMessages = Pregel
+            .memoryEstimation(pregelSchema, false, false, 4)
+            .estimate(dimensions, 1)
+            .memoryUsage().max;
+
+        var combinerCapacity = ReducingMessenger.combinerCapacity(nodeCount);
+        long expectedDifference =
+            2 * (HugeAtomicDoubleArray.memoryEstimation(4 * nodeCount) - HugeAtomicDoubleArray.memoryEstimation(nodeCount)) +
+            MemoryUsage.sizeOfDoubleArray(4 * combinerCapacity) - MemoryUsage.sizeOfDoubleArray(combinerCapacity);
+
+        assertEquals(expectedDifference, arrayMessages - singleValueMessages);
+    }
+
     static Stream<Arguments> partitioningConfigAndResult() {
         return crossArguments(PregelTest::partitionings, PregelTest::configAndResult);
     }
@@ -625,6 +825,82 @@ class PregelTest {
         }
     }
 
+    public static class TestCountingSendTo extends TestSendTo {
+
+        @Override
+        public Optional<Reducer> reducer() {
+            return Optional.of(new Reducer.Count());
+        }
+    }
+
+    static class TestLongMessages implements PregelComputation<PregelConfig> {
+
+        // not exactly representable as float, but as double
+        static final long OFFSET = (1L << 40) + 1;
+
+        @Override
+        public PregelSchema schema(PregelConfig config) {
+            return new PregelSchema.Builder().add(KEY, ValueType.LONG).build();
+        }
+
+        @Override
+        public void init(InitContext<PregelConfig> context) {
+            context.setNodeValue(KEY, 0L);
+        }
+
+        @Override
+        public void compute(ComputeContext<PregelConfig> context, Messages messages) {
+            if (context.isInitialSuperstep()) {
+                context.sendLongToNeighbors(OFFSET + context.nodeId());
+            } else {
+                var longMessages = messages.longIterator();
+                while (longMessages.hasNext()) {
+                    context.setNodeValue(KEY, longMessages.nextLong());
+                }
+            }
+            context.voteToHalt();
+        }
+    }
+
+    static class TestArrayMessages implements PregelComputation<PregelConfig> {
+
+        @Override
+        public PregelSchema schema(PregelConfig config) {
+            return new PregelSchema.Builder().add(KEY, ValueType.DOUBLE_ARRAY).build();
+        }
+
+        @Override
+        public void init(InitContext<PregelConfig> context) {
+            context.setNodeValue(KEY, new double[]{0.0, 0.0});
+        }
+
+        @Override
+        public void compute(ComputeContext<PregelConfig> context, Messages messages) {
+            if (context.isInitialSuperstep()) {
+                context.sendToNeighbors(new double[]{1.0, 2.0});
+                if (context.nodeId() == 2L) {
+                    context.sendTo(1L, new double[]{3.0, 4.0});
+                }
+            } else {
+                var message = new double[messageLength()];
+                while (messages.nextDoubleArray(message)) {
+                    context.setNodeValue(KEY, message.clone());
+                }
+            }
+            context.voteToHalt();
+        }
+
+        @Override
+        public Optional<Reducer> reducer() {
+            return Optional.of(new Reducer.Sum());
+        }
+
+        @Override
+        public int messageLength() {
+            return 2;
+        }
+    }
+
     @ValueClass
     @Configuration
     @SuppressWarnings("immutables:subtype")
@@ -21,18 +21,17 @@ package org.neo4j.gds.beta.node2vec;
 
 import org.neo4j.gds.api.NodeProperties;
 import org.neo4j.gds.api.nodeproperties.FloatArrayNodeProperties;
-import org.neo4j.gds.core.utils.paged.HugeObjectArray;
+import org.neo4j.gds.core.utils.paged.HugeFloatMatrix;
 import org.neo4j.gds.embeddings.node2vec.Node2Vec;
 import org.neo4j.gds.embeddings.node2vec.Node2VecBaseConfig;
 import org.neo4j.gds.executor.ComputationResult;
-import org.neo4j.gds.ml.core.tensor.FloatVector;
 
 final class Node2VecCompanion {
 
     static final String DESCRIPTION = "The Node2Vec algorithm computes embeddings for nodes based on random walks.";
 
     static <CONFIG extends Node2VecBaseConfig> NodeProperties nodeProperties(
-        ComputationResult<Node2Vec, HugeObjectArray<FloatVector>, CONFIG> computationResult
+        ComputationResult<Node2Vec, HugeFloatMatrix, CONFIG> computationResult
     ) {
         var size = computationResult.graph().nodeCount();
         var embeddings = computationResult.result();
@@ -45,7 +44,7 @@ final class Node2VecCompanion {
 
             @Override
             public float[] floatArrayValue(long nodeId) {
-                return embeddings.get(nodeId).data();
+                return embeddings.row(nodeId);
             }
         };
     }
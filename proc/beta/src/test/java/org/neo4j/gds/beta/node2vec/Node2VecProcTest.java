@@ -26,11 +26,10 @@ import org.neo4j.gds.AlgoBaseProcTest;
 import org.neo4j.gds.BaseProcTest;
 import org.neo4j.gds.MemoryEstimateTest;
 import org.neo4j.gds.catalog.GraphProjectProc;
-import org.neo4j.gds.core.utils.paged.HugeObjectArray;
+import org.neo4j.gds.core.utils.paged.HugeFloatMatrix;
 import org.neo4j.gds.embeddings.node2vec.Node2Vec;
 import org.neo4j.gds.embeddings.node2vec.Node2VecBaseConfig;
 import org.neo4j.gds.extension.Neo4jGraph;
-import org.neo4j.gds.ml.core.tensor.FloatVector;
 import org.neo4j.kernel.internal.GraphDatabaseAPI;
 
 import java.util.stream.Stream;
@@ -38,8 +37,8 @@ import java.util.stream.Stream;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 public abstract class Node2VecProcTest<CONFIG extends Node2VecBaseConfig> extends
-    BaseProcTest implements AlgoBaseProcTest<Node2Vec, CONFIG, HugeObjectArray<FloatVector>>,
-    MemoryEstimateTest<Node2Vec, CONFIG, HugeObjectArray<FloatVector>> {
+    BaseProcTest implements AlgoBaseProcTest<Node2Vec, CONFIG, HugeFloatMatrix>,
+    MemoryEstimateTest<Node2Vec, CONFIG, HugeFloatMatrix> {
 
     @TestFactory
     final Stream<DynamicTest> configTests() {
@@ -76,9 +75,9 @@ public abstract class Node2VecProcTest<CONFIG extends Node2VecBaseConfig> extend
         return db;
     }
 
-    public void assertResultEquals(HugeObjectArray<FloatVector> result1, HugeObjectArray<FloatVector> result2) {
+    public void assertResultEquals(HugeFloatMatrix result1, HugeFloatMatrix result2) {
         // TODO: This just tests that the dimensions are the same for node 0, it's not a very good equality test
-        assertEquals(result1.get(0).data().length, result2.get(0).data().length);
+        assertEquals(result1.dimension(), result2.dimension());
     }
 
 }
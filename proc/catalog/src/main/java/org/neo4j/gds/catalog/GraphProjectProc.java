@@ -284,7 +284,11 @@ public class GraphProjectProc extends CatalogProc {
             progressTracker
         );
 
-        GraphStoreCatalog.set(config, graphStore);
+        if (config.view()) {
+            GraphStoreCatalog.setView(config, graphStore, fromGraphStore);
+        } else {
+            GraphStoreCatalog.set(config, graphStore);
+        }
 
         var projectMillis = progressTimer.stop().getDuration();
 
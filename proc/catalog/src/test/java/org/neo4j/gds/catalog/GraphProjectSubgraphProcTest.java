@@ -26,6 +26,7 @@ import org.neo4j.gds.BaseProcTest;
 import org.neo4j.gds.GdsCypher;
 import org.neo4j.gds.beta.filter.expression.SemanticErrors;
 import org.neo4j.gds.config.GraphProjectFromStoreConfig;
+import org.neo4j.gds.core.loading.CatalogRequest;
 import org.neo4j.gds.core.loading.GraphStoreCatalog;
 import org.neo4j.gds.extension.Neo4jGraph;
 import org.opencypher.v9_0.parser.javacc.ParseException;
@@ -116,6 +117,38 @@ class GraphProjectSubgraphProcTest extends BaseProcTest {
         assertGraphEquals(fromGdl("(:A)"), subgraphStore.getUnion());
     }
 
+    @Test
+    void executeProcAsView() {
+        var subGraphQuery = "CALL gds.beta.graph.project.subgraph('subgraph', 'graph', 'n:A OR n:B', 'true', {view: true})";
+
+        assertCypherResult(subGraphQuery, List.of(Map.of(
+            "graphName", "subgraph",
+            "fromGraphName", "graph",
+            "nodeFilter", "n:A OR n:B",
+            "relationshipFilter", "true",
+            "nodeCount", 2L,
+            "relationshipCount", 1L,
+            "projectMillis", greaterThan(-1L),
+            "createMillis", greaterThan(-1L)
+        )));
+
+        // the view stays usable after the original graph has been dropped
+        GraphStoreCatalog.remove(
+            CatalogRequest.of(getUsername(), db.databaseId()),
+            "graph",
+            graphStoreWithConfig -> {},
+            true
+        );
+
+        var subgraphStore = GraphStoreCatalog.get(
+            getUsername(),
+            db.databaseId(),
+            "subgraph"
+        ).graphStore();
+
+        assertGraphEquals(fromGdl("(:A)-->(:B)"), subgraphStore.getUnion());
+    }
+
     @Test
     void throwsOnExistingGraph() {
         runQuery(GdsCypher.call("subgraph")
@@ -35,6 +35,7 @@ import org.neo4j.gds.compat.GraphDatabaseApiProxy;
 import org.neo4j.gds.compat.GraphStoreExportSettings;
 import org.neo4j.gds.compat.Neo4jVersion;
 import org.neo4j.gds.core.loading.GraphStoreCatalog;
+import org.neo4j.gds.core.utils.io.file.binary.BinaryGraphStoreImporter;
 import org.neo4j.gds.junit.annotation.DisableForNeo4jVersion;
 import org.neo4j.graphdb.QueryExecutionException;
 import org.neo4j.io.fs.DefaultFileSystemAbstraction;
@@ -49,6 +50,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.neo4j.gds.TestSupport.assertGraphEquals;
 import static org.neo4j.gds.core.utils.io.file.GraphStoreExporterUtil.EXPORT_DIR;
 import static org.neo4j.gds.utils.ExceptionUtil.rootCause;
 import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
@@ -227,6 +229,48 @@ class GraphStoreExportProcTest extends BaseProcTest {
         });
     }
 
+    @Test
+    void exportBinary() {
+        projectGraph();
+
+        var exportQuery = "CALL gds.beta.graph.export.csv('test-graph', {exportName: 'export', binary: true})";
+
+        runQueryWithRowConsumer(exportQuery, row -> {
+            assertEquals("export", row.getString("exportName"));
+            assertEquals(4, row.getNumber("nodeCount").longValue());
+            assertEquals(6, row.getNumber("relationshipCount").longValue());
+            assertEquals(3, row.getNumber("relationshipTypeCount").longValue());
+            assertEquals(8, row.getNumber("nodePropertyCount").longValue());
+            assertEquals(6, row.getNumber("relationshipPropertyCount").longValue());
+            assertThat(row.getNumber("writeMillis").longValue()).isGreaterThan(0L);
+        });
+
+        var exportPath = tempDir.resolve(EXPORT_DIR).resolve("export");
+        assertThat(exportPath.resolve("graph.meta")).exists();
+
+        var graphStore = GraphStoreCatalog.get(getUsername(), db.databaseId(), "test-graph").graphStore();
+        var importedGraphStore = BinaryGraphStoreImporter.of(exportPath, 1).run();
+        assertGraphEquals(graphStore.getUnion(), importedGraphStore.getUnion());
+    }
+
+    @Test
+    void failsBinaryExportWithAdditionalNodeProperties() {
+        projectGraph();
+
+        var exportQuery = "CALL gds.beta.graph.export.csv(" +
+                          "  'test-graph', {" +
+                          "    exportName: 'export'," +
+                          "    binary: true," +
+                          "    additionalNodeProperties: ['prop3']" +
+                          "  }" +
+                          ")";
+
+        assertThatCode(() -> runQuery(exportQuery))
+            .getRootCause()
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Additional node properties are not supported for binary exports.");
+    }
+
     @Test
     void failsWhenTheExportDirectoryAlreadyExists() throws IOException {
         var exportName = "export";
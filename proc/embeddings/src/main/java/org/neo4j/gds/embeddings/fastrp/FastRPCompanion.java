@@ -20,7 +20,6 @@
 package org.neo4j.gds.embeddings.fastrp;
 
 import org.neo4j.gds.api.NodeProperties;
-import org.neo4j.gds.api.nodeproperties.FloatArrayNodeProperties;
 import org.neo4j.gds.executor.ComputationResult;
 
 final class FastRPCompanion {
@@ -30,19 +29,6 @@ final class FastRPCompanion {
     private FastRPCompanion() {}
 
     static <CONFIG extends FastRPBaseConfig> NodeProperties getNodeProperties(ComputationResult<FastRP, FastRP.FastRPResult, CONFIG> computationResult) {
-        var nodeCount = computationResult.graph().nodeCount();
-        var embeddings = computationResult.result().embeddings();
-
-        return new FloatArrayNodeProperties() {
-            @Override
-            public float[] floatArrayValue(long nodeId) {
-                return embeddings.get(nodeId);
-            }
-
-            @Override
-            public long size() {
-                return nodeCount;
-            }
-        };
+        return computationResult.result().embeddings().asNodeProperties();
     }
 }
@@ -111,6 +111,10 @@ public class SysInfoProc {
             .add(value("featureParallelPropertyValueIndex", GdsFeatureToggles.USE_PARALLEL_PROPERTY_VALUE_INDEX.isEnabled()))
             .add(value("featureBitIdMap", GdsFeatureToggles.USE_BIT_ID_MAP.isEnabled()))
             .add(value("featureUncompressedAdjacencyList", GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST.isEnabled()))
+            .add(value("featurePackedAdjacencyList", GdsFeatureToggles.USE_PACKED_ADJACENCY_LIST.isEnabled()))
+            .add(value("featureMappedAdjacencyList", GdsFeatureToggles.USE_MAPPED_ADJACENCY_LIST.isEnabled()))
+            .add(value("featureMappedAdjacencyListDirectory", GdsFeatureToggles.MAPPED_ADJACENCY_LIST_DIRECTORY.get()))
+            .add(value("featureOffHeapArrays", GdsFeatureToggles.USE_OFF_HEAP_ARRAYS.isEnabled()))
             .add(value("featureReorderedAdjacencyList", GdsFeatureToggles.USE_REORDERED_ADJACENCY_LIST.isEnabled()));
     }
 
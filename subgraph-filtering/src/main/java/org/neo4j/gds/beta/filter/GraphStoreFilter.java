@@ -87,6 +87,10 @@ public final class GraphStoreFilter {
 
         progressTracker.beginSubTask();
         try {
+            if (config.view()) {
+                return view(graphStore, expressions, config.concurrency(), executorService, progressTracker);
+            }
+
             var filteredNodes = NodesFilter.filterNodes(
                 graphStore,
                 expressions.nodeExpression(),
@@ -118,6 +122,45 @@ public final class GraphStoreFilter {
         }
     }
 
+    /**
+     * Creates a graph store that shares nodes, properties and adjacency lists with the input graph store.
+     * The view selects nodes via a bitmap over the input id space and applies the relationship filter
+     * lazily while iterating adjacencies, so that only the node selection and filtered degrees are stored.
+     */
+    private static GraphStore view(
+        GraphStore graphStore,
+        Expressions expressions,
+        int concurrency,
+        ExecutorService executorService,
+        ProgressTracker progressTracker
+    ) {
+        var viewNodes = NodesView.viewNodes(
+            graphStore,
+            expressions.nodeExpression(),
+            concurrency,
+            executorService,
+            progressTracker
+        );
+
+        var viewRelationships = RelationshipsView.viewRelationships(
+            graphStore,
+            expressions.relationshipExpression(),
+            viewNodes.idMap(),
+            concurrency,
+            executorService,
+            progressTracker
+        );
+
+        return CSRGraphStore.of(
+            graphStore.databaseId(),
+            viewNodes.idMap(),
+            viewNodes.propertyStores(),
+            viewRelationships.topology(),
+            viewRelationships.propertyStores(),
+            concurrency
+        );
+    }
+
     @ValueClass
     interface Expressions {
         Expression nodeExpression();
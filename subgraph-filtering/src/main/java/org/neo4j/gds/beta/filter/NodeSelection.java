@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.filter;
+
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+
+import static org.neo4j.gds.api.IdMap.NOT_FOUND;
+
+/**
+ * A selection of nodes from an input id space that assigns
+ * dense, order-preserving ids to the selected nodes.
+ *
+ * The selection is stored as a bitmap over the input id space,
+ * together with the number of selected nodes preceding each word,
+ * so that mapping an input node to its selected id is a constant
+ * time rank query. Since the mapping is monotone, sorted input
+ * adjacencies stay sorted when translated to the selected id space.
+ */
+final class NodeSelection {
+
+    private final long[] words;
+    private final long[] ranks;
+    private final HugeLongArray selectedNodes;
+
+    static NodeSelection of(HugeAtomicBitSet selectedInputNodes) {
+        var words = new long[Math.toIntExact((selectedInputNodes.size() + Long.SIZE - 1) >>> 6)];
+        var selectedNodes = HugeLongArray.newArray(selectedInputNodes.cardinality());
+        var cursor = new long[1];
+
+        selectedInputNodes.forEachSetBit(inputNode -> {
+            words[(int) (inputNode >>> 6)] |= 1L << inputNode;
+            selectedNodes.set(cursor[0]++, inputNode);
+        });
+
+        var ranks = new long[words.length];
+        long rank = 0;
+        for (int i = 0; i < words.length; i++) {
+            ranks[i] = rank;
+            rank += Long.bitCount(words[i]);
+        }
+
+        return new NodeSelection(words, ranks, selectedNodes);
+    }
+
+    private NodeSelection(long[] words, long[] ranks, HugeLongArray selectedNodes) {
+        this.words = words;
+        this.ranks = ranks;
+        this.selectedNodes = selectedNodes;
+    }
+
+    long nodeCount() {
+        return selectedNodes.size();
+    }
+
+    boolean isSelected(long inputNode) {
+        var wordIndex = inputNode >> 6;
+        return wordIndex >= 0 && wordIndex < words.length && (words[(int) wordIndex] & (1L << inputNode)) != 0;
+    }
+
+    /**
+     * Returns the selected id of the given input node or {@code -1} if the node is not selected.
+     */
+    long toSelectedNodeId(long inputNode) {
+        var wordIndex = inputNode >> 6;
+        if (wordIndex < 0 || wordIndex >= words.length) {
+            return NOT_FOUND;
+        }
+        var word = words[(int) wordIndex];
+        var bit = 1L << inputNode;
+        if ((word & bit) == 0) {
+            return NOT_FOUND;
+        }
+        return ranks[(int) wordIndex] + Long.bitCount(word & (bit - 1));
+    }
+
+    long toInputNodeId(long selectedNode) {
+        return selectedNodes.get(selectedNode);
+    }
+}
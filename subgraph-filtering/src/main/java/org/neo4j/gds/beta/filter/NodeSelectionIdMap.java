@@ -0,0 +1,224 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.filter;
+
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.api.IdMap;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.utils.LazyBatchCollection;
+import org.neo4j.gds.core.utils.collection.primitive.PrimitiveLongIterable;
+import org.neo4j.gds.core.utils.collection.primitive.PrimitiveLongIterator;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.function.LongPredicate;
+
+/**
+ * An id map over a {@link NodeSelection} of an input id map.
+ * Original ids and labels are resolved through the input id map,
+ * so apart from the selection itself, nothing is copied.
+ *
+ * Like an id map created for a materialized subgraph, the view
+ * is the root of its own id space.
+ */
+class NodeSelectionIdMap implements IdMap {
+
+    private final IdMap inputNodes;
+    private final NodeSelection selection;
+    private final Set<NodeLabel> availableNodeLabels;
+
+    NodeSelectionIdMap(IdMap inputNodes, NodeSelection selection, Set<NodeLabel> availableNodeLabels) {
+        this.inputNodes = inputNodes;
+        this.selection = selection;
+        this.availableNodeLabels = availableNodeLabels;
+    }
+
+    NodeSelection selection() {
+        return selection;
+    }
+
+    @Override
+    public long toMappedNodeId(long nodeId) {
+        var inputNode = inputNodes.toMappedNodeId(nodeId);
+        return inputNode == NOT_FOUND ? NOT_FOUND : selection.toSelectedNodeId(inputNode);
+    }
+
+    @Override
+    public long toOriginalNodeId(long nodeId) {
+        return inputNodes.toOriginalNodeId(selection.toInputNodeId(nodeId));
+    }
+
+    @Override
+    public long toRootNodeId(long nodeId) {
+        return nodeId;
+    }
+
+    @Override
+    public IdMap rootIdMap() {
+        return this;
+    }
+
+    @Override
+    public boolean contains(long nodeId) {
+        return inputNodes.contains(nodeId) && selection.isSelected(inputNodes.toMappedNodeId(nodeId));
+    }
+
+    @Override
+    public long nodeCount() {
+        return selection.nodeCount();
+    }
+
+    @Override
+    public OptionalLong rootNodeCount() {
+        return OptionalLong.of(nodeCount());
+    }
+
+    @Override
+    public long highestNeoId() {
+        return inputNodes.highestNeoId();
+    }
+
+    @Override
+    public Set<NodeLabel> nodeLabels(long nodeId) {
+        return inputNodes.nodeLabels(selection.toInputNodeId(nodeId));
+    }
+
+    @Override
+    public void forEachNodeLabel(long nodeId, NodeLabelConsumer consumer) {
+        inputNodes.forEachNodeLabel(selection.toInputNodeId(nodeId), consumer);
+    }
+
+    @Override
+    public Set<NodeLabel> availableNodeLabels() {
+        return availableNodeLabels;
+    }
+
+    @Override
+    public boolean hasLabel(long nodeId, NodeLabel label) {
+        return inputNodes.hasLabel(selection.toInputNodeId(nodeId), label);
+    }
+
+    @Override
+    public void forEachNode(LongPredicate consumer) {
+        var nodeCount = nodeCount();
+        for (long node = 0; node < nodeCount; node++) {
+            if (!consumer.test(node)) {
+                return;
+            }
+        }
+    }
+
+    @Override
+    public PrimitiveLongIterator nodeIterator() {
+        return new IdIterator(nodeCount());
+    }
+
+    @Override
+    public Collection<PrimitiveLongIterable> batchIterables(long batchSize) {
+        return LazyBatchCollection.of(nodeCount(), batchSize, IdIterable::new);
+    }
+
+    @Override
+    public IdMap withFilteredLabels(Collection<NodeLabel> nodeLabels, int concurrency) {
+        return withFilteredLabels(nodeLabels, concurrency, node -> true, availableNodeLabels);
+    }
+
+    /**
+     * Selects the nodes of this view that pass the {@code candidates} predicate and have any of the given labels.
+     */
+    private IdMap withFilteredLabels(
+        Collection<NodeLabel> nodeLabels,
+        int concurrency,
+        LongPredicate candidates,
+        Set<NodeLabel> candidateNodeLabels
+    ) {
+        var selectedNodes = HugeAtomicBitSet.create(nodeCount());
+        ParallelUtil.parallelForEachNode(nodeCount(), concurrency, node -> {
+            if (!candidates.test(node)) {
+                return;
+            }
+            for (NodeLabel nodeLabel : nodeLabels) {
+                if (hasLabel(node, nodeLabel)) {
+                    selectedNodes.set(node);
+                    return;
+                }
+            }
+        });
+
+        var filteredNodeLabels = new HashSet<>(nodeLabels);
+        filteredNodeLabels.retainAll(candidateNodeLabels);
+
+        return new LabelFilteredIdMap(this, NodeSelection.of(selectedNodes), filteredNodeLabels);
+    }
+
+    /**
+     * A label filtered id map on top of the view.
+     * As for all label filtered id maps, original ids refer to the
+     * id space of the unfiltered graph, i.e. the view itself.
+     */
+    private static final class LabelFilteredIdMap extends NodeSelectionIdMap {
+
+        private final NodeSelectionIdMap viewNodes;
+
+        LabelFilteredIdMap(NodeSelectionIdMap viewNodes, NodeSelection selection, Set<NodeLabel> availableNodeLabels) {
+            super(viewNodes, selection, availableNodeLabels);
+            this.viewNodes = viewNodes;
+        }
+
+        @Override
+        public long toMappedNodeId(long nodeId) {
+            return selection().toSelectedNodeId(nodeId);
+        }
+
+        @Override
+        public long toOriginalNodeId(long nodeId) {
+            return selection().toInputNodeId(nodeId);
+        }
+
+        @Override
+        public long toRootNodeId(long nodeId) {
+            return viewNodes.toRootNodeId(toOriginalNodeId(nodeId));
+        }
+
+        @Override
+        public IdMap rootIdMap() {
+            return viewNodes.rootIdMap();
+        }
+
+        @Override
+        public boolean contains(long nodeId) {
+            return selection().isSelected(nodeId);
+        }
+
+        @Override
+        public OptionalLong rootNodeCount() {
+            return viewNodes.rootNodeCount();
+        }
+
+        @Override
+        public IdMap withFilteredLabels(Collection<NodeLabel> nodeLabels, int concurrency) {
+            // filter the view again, restricted to the nodes selected by this filter
+            return viewNodes.withFilteredLabels(nodeLabels, concurrency, selection()::isSelected, availableNodeLabels());
+        }
+    }
+}
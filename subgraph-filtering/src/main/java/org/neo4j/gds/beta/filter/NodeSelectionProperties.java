@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.filter;
+
+import org.neo4j.gds.api.NodeProperties;
+import org.neo4j.gds.api.nodeproperties.ValueType;
+import org.neo4j.values.storable.Value;
+
+import java.util.OptionalDouble;
+import java.util.OptionalLong;
+
+/**
+ * Node properties of a graph view, backed by the properties of the input graph.
+ * The input properties are owned by the input graph and are never released by the view.
+ */
+final class NodeSelectionProperties implements NodeProperties {
+
+    private final NodeProperties inputProperties;
+    private final NodeSelection selection;
+
+    NodeSelectionProperties(NodeProperties inputProperties, NodeSelection selection) {
+        this.inputProperties = inputProperties;
+        this.selection = selection;
+    }
+
+    @Override
+    public double doubleValue(long nodeId) {
+        return inputProperties.doubleValue(selection.toInputNodeId(nodeId));
+    }
+
+    @Override
+    public long longValue(long nodeId) {
+        return inputProperties.longValue(selection.toInputNodeId(nodeId));
+    }
+
+    @Override
+    public double[] doubleArrayValue(long nodeId) {
+        return inputProperties.doubleArrayValue(selection.toInputNodeId(nodeId));
+    }
+
+    @Override
+    public float[] floatArrayValue(long nodeId) {
+        return inputProperties.floatArrayValue(selection.toInputNodeId(nodeId));
+    }
+
+    @Override
+    public long[] longArrayValue(long nodeId) {
+        return inputProperties.longArrayValue(selection.toInputNodeId(nodeId));
+    }
+
+    @Override
+    public Object getObject(long nodeId) {
+        return inputProperties.getObject(selection.toInputNodeId(nodeId));
+    }
+
+    @Override
+    public Value value(long nodeId) {
+        return inputProperties.value(selection.toInputNodeId(nodeId));
+    }
+
+    @Override
+    public ValueType valueType() {
+        return inputProperties.valueType();
+    }
+
+    @Override
+    public long size() {
+        return selection.nodeCount();
+    }
+
+    @Override
+    public OptionalLong getMaxLongPropertyValue() {
+        if (valueType() == ValueType.LONG) {
+            var max = Long.MIN_VALUE;
+            for (long node = 0; node < size(); node++) {
+                max = Math.max(max, longValue(node));
+            }
+            return max == Long.MIN_VALUE ? OptionalLong.empty() : OptionalLong.of(max);
+        }
+        return inputProperties.getMaxLongPropertyValue();
+    }
+
+    @Override
+    public OptionalDouble getMaxDoublePropertyValue() {
+        if (valueType() == ValueType.DOUBLE) {
+            var max = Double.NEGATIVE_INFINITY;
+            for (long node = 0; node < size(); node++) {
+                max = Math.max(max, doubleValue(node));
+            }
+            return max == Double.NEGATIVE_INFINITY ? OptionalDouble.empty() : OptionalDouble.of(max);
+        }
+        return inputProperties.getMaxDoublePropertyValue();
+    }
+}
@@ -28,7 +28,7 @@ import org.neo4j.gds.api.IdMap;
 import org.neo4j.gds.api.NodeProperties;
 import org.neo4j.gds.api.NodeProperty;
 import org.neo4j.gds.api.NodePropertyStore;
-import org.neo4j.gds.beta.filter.expression.EvaluationContext;
+import org.neo4j.gds.beta.filter.expression.CompiledExpression;
 import org.neo4j.gds.beta.filter.expression.Expression;
 import org.neo4j.gds.core.concurrency.ParallelUtil;
 import org.neo4j.gds.core.loading.construction.GraphFactory;
@@ -264,8 +264,7 @@ final class NodesFilter {
 
     private static final class NodeFilterTask implements Runnable {
         private final Partition partition;
-        private final Expression expression;
-        private final EvaluationContext.NodeEvaluationContext nodeContext;
+        private final CompiledExpression expression;
         private final ProgressTracker progressTracker;
         private final GraphStore graphStore;
         private final NodesBuilder nodesBuilder;
@@ -303,10 +302,10 @@ final class NodesFilter {
             ProgressTracker progressTracker
         ) {
             this.partition = partition;
-            this.expression = expression;
+            // compiled per task, as compiled node expressions are not thread-safe
+            this.expression = CompiledExpression.forNodes(expression, graphStore);
             this.graphStore = graphStore;
             this.nodesBuilder = nodesBuilder;
-            this.nodeContext = new EvaluationContext.NodeEvaluationContext(graphStore);
             this.progressTracker = progressTracker;
         }
 
@@ -314,8 +313,7 @@ final class NodesFilter {
         public void run() {
             var idMap = graphStore.nodes();
             partition.consume(node -> {
-                nodeContext.init(node);
-                if (expression.evaluate(nodeContext) == Expression.TRUE) {
+                if (expression.testNode(node)) {
                     var originalId = idMap.toOriginalNodeId(node);
                     NodeLabel[] labels = idMap.nodeLabels(node).toArray(NodeLabel[]::new);
                     nodesBuilder.addNode(originalId, labels);
@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.filter;
+
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.annotation.ValueClass;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.api.NodeProperty;
+import org.neo4j.gds.api.NodePropertyStore;
+import org.neo4j.gds.beta.filter.expression.CompiledExpression;
+import org.neo4j.gds.beta.filter.expression.Expression;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
+import org.neo4j.gds.core.utils.partition.Partition;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.stream.Collectors;
+
+/**
+ * Creates the nodes of a graph view.
+ * Instead of copying the selected nodes and their properties,
+ * the view only stores which input nodes are selected.
+ */
+final class NodesView {
+
+    @ValueClass
+    interface ViewNodes {
+        NodeSelectionIdMap idMap();
+
+        Map<NodeLabel, NodePropertyStore> propertyStores();
+    }
+
+    static ViewNodes viewNodes(
+        GraphStore graphStore,
+        Expression expression,
+        int concurrency,
+        ExecutorService executorService,
+        ProgressTracker progressTracker
+    ) {
+        var inputNodes = graphStore.nodes();
+        var selectedNodes = HugeAtomicBitSet.create(graphStore.nodeCount());
+
+        var tasks = PartitionUtils.rangePartition(
+            concurrency,
+            graphStore.nodeCount(),
+            partition -> new NodeSelectionTask(partition, expression, graphStore, selectedNodes, progressTracker),
+            Optional.empty()
+        );
+
+        progressTracker.beginSubTask();
+        ParallelUtil.runWithConcurrency(concurrency, tasks, executorService);
+        progressTracker.endSubTask();
+
+        var availableNodeLabels = tasks
+            .stream()
+            .flatMap(task -> task.nodeLabels.stream())
+            .collect(Collectors.toSet());
+
+        var selection = NodeSelection.of(selectedNodes);
+        var idMap = new NodeSelectionIdMap(inputNodes, selection, availableNodeLabels);
+
+        progressTracker.beginSubTask();
+        var propertyStores = viewNodeProperties(graphStore, idMap, progressTracker);
+        progressTracker.endSubTask();
+
+        return ImmutableViewNodes.builder()
+            .idMap(idMap)
+            .propertyStores(propertyStores)
+            .build();
+    }
+
+    private static Map<NodeLabel, NodePropertyStore> viewNodeProperties(
+        GraphStore inputGraphStore,
+        NodeSelectionIdMap idMap,
+        ProgressTracker progressTracker
+    ) {
+        var propertyStores = new HashMap<NodeLabel, NodePropertyStore>();
+
+        for (NodeLabel nodeLabel : idMap.availableNodeLabels()) {
+            var propertyKeys = inputGraphStore.nodePropertyKeys(nodeLabel);
+            var volume = idMap.nodeCount() * propertyKeys.size();
+            progressTracker.beginSubTask(volume);
+
+            var builder = NodePropertyStore.builder();
+            propertyKeys.forEach(propertyKey -> builder.putNodeProperty(
+                propertyKey,
+                NodeProperty.of(
+                    propertyKey,
+                    inputGraphStore.nodePropertyState(propertyKey),
+                    new NodeSelectionProperties(
+                        inputGraphStore.nodePropertyValues(nodeLabel, propertyKey),
+                        idMap.selection()
+                    )
+                )
+            ));
+            propertyStores.put(nodeLabel, builder.build());
+
+            progressTracker.logProgress(volume);
+            progressTracker.endSubTask();
+        }
+
+        return propertyStores;
+    }
+
+    private NodesView() {}
+
+    private static final class NodeSelectionTask implements Runnable {
+        private final Partition partition;
+        private final CompiledExpression expression;
+        private final GraphStore graphStore;
+        private final HugeAtomicBitSet selectedNodes;
+        private final ProgressTracker progressTracker;
+        private final Set<NodeLabel> nodeLabels;
+
+        private NodeSelectionTask(
+            Partition partition,
+            Expression expression,
+            GraphStore graphStore,
+            HugeAtomicBitSet selectedNodes,
+            ProgressTracker progressTracker
+        ) {
+            this.partition = partition;
+            // compiled per task, as compiled node expressions are not thread-safe
+            this.expression = CompiledExpression.forNodes(expression, graphStore);
+            this.graphStore = graphStore;
+            this.selectedNodes = selectedNodes;
+            this.progressTracker = progressTracker;
+            this.nodeLabels = new HashSet<>();
+        }
+
+        @Override
+        public void run() {
+            var idMap = graphStore.nodes();
+            var labelCount = idMap.availableNodeLabels().size();
+            partition.consume(node -> {
+                if (expression.testNode(node)) {
+                    selectedNodes.set(node);
+                    if (nodeLabels.size() < labelCount) {
+                        idMap.forEachNodeLabel(node, nodeLabel -> {
+                            nodeLabels.add(nodeLabel);
+                            return true;
+                        });
+                    }
+                }
+                progressTracker.logProgress();
+            });
+        }
+    }
+}
@@ -29,7 +29,7 @@ import org.neo4j.gds.api.PropertyState;
 import org.neo4j.gds.api.RelationshipProperty;
 import org.neo4j.gds.api.RelationshipPropertyStore;
 import org.neo4j.gds.api.Relationships;
-import org.neo4j.gds.beta.filter.expression.EvaluationContext;
+import org.neo4j.gds.beta.filter.expression.CompiledExpression;
 import org.neo4j.gds.beta.filter.expression.Expression;
 import org.neo4j.gds.core.Aggregation;
 import org.neo4j.gds.core.concurrency.ParallelUtil;
@@ -163,16 +163,16 @@ final class RelationshipsFilter {
             .boxed()
             .collect(Collectors.toMap(propertyKeys::get, Function.identity()));
 
+        var compiledExpression = CompiledExpression.forRelationships(relationshipExpr, relType.name, propertyIndices);
+
         var relationshipFilterTasks = PartitionUtils.rangePartition(concurrency, outputNodes.nodeCount(), partition ->
             new RelationshipFilterTask(
                 partition,
-                relationshipExpr,
+                compiledExpression,
                 compositeIterator.concurrentCopy(),
                 inputNodes,
                 outputNodes,
                 relationshipsBuilder,
-                relType,
-                propertyIndices,
                 progressTracker
             ),
             Optional.empty()
@@ -200,24 +200,20 @@ final class RelationshipsFilter {
 
     private static final class RelationshipFilterTask implements Runnable {
         private final Partition partition;
-        private final Expression expression;
-        private final EvaluationContext.RelationshipEvaluationContext evaluationContext;
+        private final CompiledExpression expression;
         private final ProgressTracker progressTracker;
         private final CompositeRelationshipIterator relationshipIterator;
         private final IdMap inputNodes;
         private final IdMap outputNodes;
         private final RelationshipsBuilder relationshipsBuilder;
-        private final RelationshipType relType;
 
         private RelationshipFilterTask(
             Partition partition,
-            Expression expression,
+            CompiledExpression expression,
             CompositeRelationshipIterator relationshipIterator,
             IdMap inputNodes,
             IdMap outputNodes,
             RelationshipsBuilder relationshipsBuilder,
-            RelationshipType relType,
-            Map<String, Integer> propertyIndices,
             ProgressTracker progressTracker
         ) {
             this.partition = partition;
@@ -226,13 +222,17 @@ final class RelationshipsFilter {
             this.inputNodes = inputNodes;
             this.outputNodes = outputNodes;
             this.relationshipsBuilder = relationshipsBuilder;
-            this.relType = relType;
-            this.evaluationContext = new EvaluationContext.RelationshipEvaluationContext(propertyIndices);
             this.progressTracker = progressTracker;
         }
 
         @Override
         public void run() {
+            // e.g. a filter on a different relationship type
+            if (expression.isAlwaysFalse()) {
+                partition.consume(node -> progressTracker.logProgress(relationshipIterator.degree(node)));
+                return;
+            }
+
             partition.consume(node -> {
                 var neoSource = outputNodes.toOriginalNodeId(node);
                 var inputSource = inputNodes.toMappedNodeId(neoSource);
@@ -242,9 +242,7 @@ final class RelationshipsFilter {
                     var mappedTarget = outputNodes.toMappedNodeId(neoTarget);
 
                     if (mappedTarget != NOT_FOUND) {
-                        evaluationContext.init(relType.name, properties);
-
-                        if (expression.evaluate(evaluationContext) == Expression.TRUE) {
+                        if (expression.testRelationship(properties)) {
                             // TODO branching should happen somewhere else
                             if (properties.length == 0) {
                                 relationshipsBuilder.add(neoSource, neoTarget);
@@ -0,0 +1,519 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.filter;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.AdjacencyCursor;
+import org.neo4j.gds.api.AdjacencyList;
+import org.neo4j.gds.api.AdjacencyProperties;
+import org.neo4j.gds.api.CSRGraph;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.api.ImmutableRelationshipProperty;
+import org.neo4j.gds.api.PropertyCursor;
+import org.neo4j.gds.api.RelationshipProperty;
+import org.neo4j.gds.api.RelationshipPropertyStore;
+import org.neo4j.gds.api.Relationships;
+import org.neo4j.gds.beta.filter.expression.CompiledExpression;
+import org.neo4j.gds.beta.filter.expression.Expression;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.utils.paged.HugeIntArray;
+import org.neo4j.gds.core.utils.partition.Partition;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Creates the relationships of a graph view.
+ * The adjacency lists of the input graph are shared with the view and
+ * filtered lazily when a cursor is initialized: targets outside the node
+ * selection and relationships rejected by the relationship filter are
+ * skipped, remaining targets are translated to the id space of the view.
+ * Only the filtered degree of each node is stored.
+ */
+final class RelationshipsView {
+
+    static RelationshipsFilter.FilteredRelationships viewRelationships(
+        GraphStore graphStore,
+        Expression expression,
+        NodeSelectionIdMap outputNodes,
+        int concurrency,
+        ExecutorService executorService,
+        ProgressTracker progressTracker
+    ) {
+        Map<RelationshipType, Relationships.Topology> topologies = new HashMap<>();
+        Map<RelationshipType, RelationshipPropertyStore> relPropertyStores = new HashMap<>();
+
+        progressTracker.beginSubTask();
+
+        for (RelationshipType relType : graphStore.relationshipTypes()) {
+            progressTracker.beginSubTask(graphStore.relationshipCount(relType));
+
+            var propertyKeys = new ArrayList<>(graphStore.relationshipPropertyKeys(relType));
+            var propertyIndices = IntStream
+                .range(0, propertyKeys.size())
+                .boxed()
+                .collect(Collectors.toMap(propertyKeys::get, Function.identity()));
+            var compiledExpression = CompiledExpression.forRelationships(expression, relType.name, propertyIndices);
+
+            // Drop relationship types that are completely filtered out, e.g. by a filter on a different type.
+            if (compiledExpression.isAlwaysFalse()) {
+                progressTracker.logProgress(graphStore.relationshipCount(relType));
+                progressTracker.endSubTask();
+                continue;
+            }
+
+            var inputRelationships = inputRelationships(
+                graphStore,
+                relType,
+                propertyKeys,
+                compiledExpression,
+                outputNodes.selection()
+            );
+            var degrees = HugeIntArray.newArray(outputNodes.nodeCount());
+
+            var tasks = PartitionUtils.rangePartition(
+                concurrency,
+                outputNodes.nodeCount(),
+                partition -> new DegreeTask(partition, inputRelationships, degrees, progressTracker),
+                Optional.empty()
+            );
+            ParallelUtil.runWithConcurrency(concurrency, tasks, executorService);
+
+            var relationshipCount = tasks.stream().mapToLong(task -> task.relationshipCount).sum();
+            if (relationshipCount == 0) {
+                progressTracker.endSubTask();
+                continue;
+            }
+
+            var adjacencyList = new ViewAdjacencyList(inputRelationships, degrees);
+            var inputTopology = inputRelationships.topology;
+
+            topologies.put(relType, Relationships.of(
+                relationshipCount,
+                inputTopology.orientation(),
+                inputTopology.isMultiGraph(),
+                adjacencyList
+            ).topology());
+
+            var propertyStoreBuilder = RelationshipPropertyStore.builder();
+            for (int propertyIndex = 0; propertyIndex < propertyKeys.size(); propertyIndex++) {
+                var inputProperty = inputRelationships.properties[propertyIndex];
+                var properties = Relationships.of(
+                    relationshipCount,
+                    inputTopology.orientation(),
+                    inputTopology.isMultiGraph(),
+                    adjacencyList,
+                    new ViewAdjacencyProperties(adjacencyList, propertyIndex),
+                    inputProperty.values().defaultPropertyValue()
+                ).properties().orElseThrow(IllegalStateException::new);
+
+                propertyStoreBuilder.putIfAbsent(
+                    inputProperty.key(),
+                    ImmutableRelationshipProperty.of(properties, inputProperty.propertySchema())
+                );
+            }
+            relPropertyStores.put(relType, propertyStoreBuilder.build());
+
+            progressTracker.endSubTask();
+        }
+
+        progressTracker.endSubTask();
+
+        return ImmutableFilteredRelationships.builder()
+            .topology(topologies)
+            .propertyStores(relPropertyStores)
+            .build();
+    }
+
+    private static InputRelationships inputRelationships(
+        GraphStore graphStore,
+        RelationshipType relType,
+        List<String> propertyKeys,
+        CompiledExpression expression,
+        NodeSelection selection
+    ) {
+        var graph = graphStore.getGraph(relType);
+        if (!(graph instanceof CSRGraph)) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Cannot create a view on relationship type `%s`, as it is not stored in a compressed sparse row format.",
+                relType.name
+            ));
+        }
+
+        var topology = ((CSRGraph) graph).relationshipTopologies().get(relType);
+        var properties = propertyKeys
+            .stream()
+            .map(propertyKey -> graphStore.relationshipPropertyValues(relType, propertyKey))
+            .toArray(RelationshipProperty[]::new);
+
+        return new InputRelationships(topology, properties, expression, selection);
+    }
+
+    private RelationshipsView() {}
+
+    private static final class InputRelationships {
+        private final Relationships.Topology topology;
+        private final RelationshipProperty[] properties;
+        private final CompiledExpression expression;
+        private final NodeSelection selection;
+
+        private InputRelationships(
+            Relationships.Topology topology,
+            RelationshipProperty[] properties,
+            CompiledExpression expression,
+            NodeSelection selection
+        ) {
+            this.topology = topology;
+            this.properties = properties;
+            this.expression = expression;
+            this.selection = selection;
+        }
+    }
+
+    /**
+     * Decodes the filtered adjacency of a single node into reusable buffers.
+     * Input property cursors are only opened if the filter depends on them
+     * or if the scanner also collects the values of a property.
+     */
+    private static final class NeighbourhoodScanner {
+        private final InputRelationships input;
+        private final int valueIndex;
+        private final boolean testProperties;
+
+        private final PropertyCursor[] propertyCursors;
+        private final long[] rawProperties;
+        private final double[] properties;
+        private AdjacencyCursor adjacencyCursor;
+
+        private long[] targets;
+        private long[] values;
+        private int size;
+
+        NeighbourhoodScanner(InputRelationships input, int valueIndex) {
+            this.input = input;
+            this.valueIndex = valueIndex;
+            this.testProperties = !input.expression.isAlwaysTrue();
+            this.propertyCursors = new PropertyCursor[input.properties.length];
+            this.rawProperties = new long[input.properties.length];
+            this.properties = new double[input.properties.length];
+            this.targets = new long[0];
+            this.values = new long[0];
+        }
+
+        int scan(long node) {
+            var inputNode = input.selection.toInputNodeId(node);
+            var adjacencyList = input.topology.adjacencyList();
+
+            ensureCapacity(adjacencyList.degree(inputNode));
+            adjacencyCursor = adjacencyList.adjacencyCursor(adjacencyCursor, inputNode);
+            for (int i = 0; i < propertyCursors.length; i++) {
+                if (testProperties || i == valueIndex) {
+                    var inputProperties = input.properties[i].values();
+                    propertyCursors[i] = inputProperties.propertiesList().propertyCursor(
+                        propertyCursors[i],
+                        inputNode,
+                        inputProperties.defaultPropertyValue()
+                    );
+                }
+            }
+
+            size = 0;
+            while (adjacencyCursor.hasNextVLong()) {
+                var target = input.selection.toSelectedNodeId(adjacencyCursor.nextVLong());
+
+                if (testProperties) {
+                    for (int i = 0; i < propertyCursors.length; i++) {
+                        rawProperties[i] = propertyCursors[i].nextLong();
+                        properties[i] = Double.longBitsToDouble(rawProperties[i]);
+                    }
+                } else if (valueIndex >= 0) {
+                    rawProperties[valueIndex] = propertyCursors[valueIndex].nextLong();
+                }
+
+                if (target == AdjacencyCursor.NOT_FOUND || (testProperties && !input.expression.testRelationship(properties))) {
+                    continue;
+                }
+
+                targets[size] = target;
+                if (valueIndex >= 0) {
+                    values[size] = rawProperties[valueIndex];
+                }
+                size++;
+            }
+
+            return size;
+        }
+
+        void copyFrom(NeighbourhoodScanner other) {
+            ensureCapacity(other.size);
+            System.arraycopy(other.targets, 0, targets, 0, other.size);
+            if (valueIndex >= 0) {
+                System.arraycopy(other.values, 0, values, 0, other.size);
+            }
+            size = other.size;
+        }
+
+        private void ensureCapacity(int degree) {
+            if (targets.length < degree) {
+                targets = Arrays.copyOf(targets, degree);
+                if (valueIndex >= 0) {
+                    values = Arrays.copyOf(values, degree);
+                }
+            }
+        }
+    }
+
+    private static final class DegreeTask implements Runnable {
+        private final Partition partition;
+        private final InputRelationships input;
+        private final HugeIntArray degrees;
+        private final ProgressTracker progressTracker;
+        private final NeighbourhoodScanner scanner;
+        private long relationshipCount;
+
+        DegreeTask(
+            Partition partition,
+            InputRelationships input,
+            HugeIntArray degrees,
+            ProgressTracker progressTracker
+        ) {
+            this.partition = partition;
+            this.input = input;
+            this.degrees = degrees;
+            this.progressTracker = progressTracker;
+            this.scanner = new NeighbourhoodScanner(input, -1);
+        }
+
+        @Override
+        public void run() {
+            var adjacencyList = input.topology.adjacencyList();
+            partition.consume(node -> {
+                var degree = scanner.scan(node);
+                degrees.set(node, degree);
+                relationshipCount += degree;
+                progressTracker.logProgress(adjacencyList.degree(input.selection.toInputNodeId(node)));
+            });
+        }
+    }
+
+    static final class ViewAdjacencyList implements AdjacencyList {
+        private final InputRelationships input;
+        private final HugeIntArray degrees;
+
+        private ViewAdjacencyList(InputRelationships input, HugeIntArray degrees) {
+            this.input = input;
+            this.degrees = degrees;
+        }
+
+        @Override
+        public int degree(long node) {
+            return degrees.get(node);
+        }
+
+        @Override
+        public AdjacencyCursor adjacencyCursor(long node, double fallbackValue) {
+            return adjacencyCursor(null, node, fallbackValue);
+        }
+
+        @Override
+        public AdjacencyCursor adjacencyCursor(@Nullable AdjacencyCursor reuse, long node, double fallbackValue) {
+            var degree = degree(node);
+            if (degree == 0) {
+                return AdjacencyCursor.empty();
+            }
+            var cursor = reuse instanceof ViewAdjacencyCursor && ((ViewAdjacencyCursor) reuse).scanner.input == input
+                ? (ViewAdjacencyCursor) reuse
+                : new ViewAdjacencyCursor(new NeighbourhoodScanner(input, -1));
+            cursor.init(node, degree);
+            return cursor;
+        }
+
+        @Override
+        public AdjacencyCursor rawAdjacencyCursor() {
+            return new ViewAdjacencyCursor(new NeighbourhoodScanner(input, -1));
+        }
+
+        @Override
+        public void close() {
+            // the input adjacency list is owned by the input graph
+        }
+    }
+
+    static final class ViewAdjacencyCursor implements AdjacencyCursor {
+        private final NeighbourhoodScanner scanner;
+        private int position;
+
+        private ViewAdjacencyCursor(NeighbourhoodScanner scanner) {
+            this.scanner = scanner;
+        }
+
+        @Override
+        public void init(long index, int degree) {
+            scanner.scan(index);
+            position = 0;
+        }
+
+        @Override
+        public int size() {
+            return scanner.size;
+        }
+
+        @Override
+        public boolean hasNextVLong() {
+            return position < scanner.size;
+        }
+
+        @Override
+        public long nextVLong() {
+            return scanner.targets[position++];
+        }
+
+        @Override
+        public long peekVLong() {
+            return position < scanner.size ? scanner.targets[position] : NOT_FOUND;
+        }
+
+        @Override
+        public int remaining() {
+            return scanner.size - position;
+        }
+
+        @Override
+        public long skipUntil(long nodeId) {
+            while (position < scanner.size) {
+                var target = scanner.targets[position++];
+                if (target > nodeId) {
+                    return target;
+                }
+            }
+            return NOT_FOUND;
+        }
+
+        @Override
+        public long advance(long nodeId) {
+            while (position < scanner.size) {
+                var target = scanner.targets[position++];
+                if (target >= nodeId) {
+                    return target;
+                }
+            }
+            return NOT_FOUND;
+        }
+
+        @Override
+        public @NotNull AdjacencyCursor shallowCopy(@Nullable AdjacencyCursor destination) {
+            var dest = destination instanceof ViewAdjacencyCursor
+                ? (ViewAdjacencyCursor) destination
+                : new ViewAdjacencyCursor(new NeighbourhoodScanner(scanner.input, -1));
+            dest.scanner.copyFrom(scanner);
+            dest.position = position;
+            return dest;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    static final class ViewAdjacencyProperties implements AdjacencyProperties {
+        private final ViewAdjacencyList adjacencyList;
+        private final int propertyIndex;
+
+        private ViewAdjacencyProperties(ViewAdjacencyList adjacencyList, int propertyIndex) {
+            this.adjacencyList = adjacencyList;
+            this.propertyIndex = propertyIndex;
+        }
+
+        @Override
+        public PropertyCursor propertyCursor(long node, double fallbackValue) {
+            return propertyCursor(null, node, fallbackValue);
+        }
+
+        @Override
+        public PropertyCursor propertyCursor(PropertyCursor reuse, long node, double fallbackValue) {
+            var degree = adjacencyList.degree(node);
+            if (degree == 0) {
+                return PropertyCursor.empty();
+            }
+            var cursor = reuse instanceof ViewPropertyCursor && ((ViewPropertyCursor) reuse).reads(adjacencyList.input, propertyIndex)
+                ? (ViewPropertyCursor) reuse
+                : new ViewPropertyCursor(new NeighbourhoodScanner(adjacencyList.input, propertyIndex));
+            cursor.init(node, degree);
+            return cursor;
+        }
+
+        @Override
+        public PropertyCursor rawPropertyCursor() {
+            return new ViewPropertyCursor(new NeighbourhoodScanner(adjacencyList.input, propertyIndex));
+        }
+
+        @Override
+        public void close() {
+            // the input properties are owned by the input graph
+        }
+    }
+
+    static final class ViewPropertyCursor implements PropertyCursor {
+        private final NeighbourhoodScanner scanner;
+        private int position;
+
+        private ViewPropertyCursor(NeighbourhoodScanner scanner) {
+            this.scanner = scanner;
+        }
+
+        @Override
+        public void init(long index, int degree) {
+            scanner.scan(index);
+            position = 0;
+        }
+
+        private boolean reads(InputRelationships input, int propertyIndex) {
+            return scanner.input == input && scanner.valueIndex == propertyIndex;
+        }
+
+        @Override
+        public boolean hasNextLong() {
+            return position < scanner.size;
+        }
+
+        @Override
+        public long nextLong() {
+            return scanner.values[position++];
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
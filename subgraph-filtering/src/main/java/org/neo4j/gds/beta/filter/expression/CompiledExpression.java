@@ -0,0 +1,360 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.filter.expression;
+
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.api.DefaultValue;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.api.IdMap;
+import org.neo4j.gds.api.NodeProperties;
+import org.neo4j.gds.api.nodeproperties.ValueType;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.neo4j.gds.beta.filter.expression.Expression.TRUE;
+
+/**
+ * An {@link Expression} compiled into a tree of typed closures.
+ *
+ * Compared to {@link Expression#evaluate(EvaluationContext)}, the compiled expression
+ * resolves property values and labels once instead of for every element,
+ * reads long properties without converting them to doubles
+ * and folds constant sub-expressions, e.g. relationship type checks.
+ * The results are the same as the ones of the evaluated expression.
+ *
+ * A compiled node expression is not thread-safe.
+ */
+public final class CompiledExpression {
+
+    @FunctionalInterface
+    private interface Condition {
+        boolean test(long nodeId, double[] properties);
+    }
+
+    @FunctionalInterface
+    private interface DoubleOperand {
+        double get(long nodeId, double[] properties);
+    }
+
+    @FunctionalInterface
+    private interface LongOperand {
+        long get(long nodeId, double[] properties);
+    }
+
+    private static final Condition ALWAYS = (nodeId, properties) -> true;
+    private static final Condition NEVER = (nodeId, properties) -> false;
+    private static final double[] NO_PROPERTIES = new double[0];
+
+    private final Condition condition;
+
+    public static CompiledExpression forNodes(Expression expression, GraphStore graphStore) {
+        var foldingContext = new EvaluationContext.RelationshipEvaluationContext(Map.of());
+        return new CompiledExpression(new Compiler(graphStore, null, Map.of(), foldingContext).condition(expression));
+    }
+
+    public static CompiledExpression forRelationships(
+        Expression expression,
+        String relationshipType,
+        Map<String, Integer> propertyIndices
+    ) {
+        var foldingContext = new EvaluationContext.RelationshipEvaluationContext(Map.of());
+        foldingContext.init(relationshipType);
+        return new CompiledExpression(new Compiler(null, relationshipType, propertyIndices, foldingContext).condition(expression));
+    }
+
+    private CompiledExpression(Condition condition) {
+        this.condition = condition;
+    }
+
+    public boolean isAlwaysTrue() {
+        return condition == ALWAYS;
+    }
+
+    public boolean isAlwaysFalse() {
+        return condition == NEVER;
+    }
+
+    public boolean testNode(long nodeId) {
+        return condition.test(nodeId, NO_PROPERTIES);
+    }
+
+    public boolean testRelationship(double[] properties) {
+        return condition.test(-1, properties);
+    }
+
+    private static final class Compiler {
+        private final GraphStore graphStore;
+        private final String relationshipType;
+        private final Map<String, Integer> propertyIndices;
+        private final EvaluationContext foldingContext;
+
+        private Compiler(
+            GraphStore graphStore,
+            String relationshipType,
+            Map<String, Integer> propertyIndices,
+            EvaluationContext foldingContext
+        ) {
+            this.graphStore = graphStore;
+            this.relationshipType = relationshipType;
+            this.propertyIndices = propertyIndices;
+            this.foldingContext = foldingContext;
+        }
+
+        private boolean forNodes() {
+            return relationshipType == null;
+        }
+
+        // Constant expressions neither read properties nor, for nodes, labels.
+        private boolean isConstant(Expression expression) {
+            if (expression instanceof Expression.Literal || expression instanceof Expression.LeafExpression) {
+                return true;
+            }
+            if (expression instanceof Expression.UnaryExpression.Property) {
+                return false;
+            }
+            if (expression instanceof Expression.UnaryExpression.HasLabelsOrTypes) {
+                return !forNodes();
+            }
+            if (expression instanceof Expression.UnaryExpression) {
+                return isConstant(((Expression.UnaryExpression) expression).in());
+            }
+            if (expression instanceof Expression.BinaryExpression) {
+                var binary = (Expression.BinaryExpression) expression;
+                return isConstant(binary.lhs()) && isConstant(binary.rhs());
+            }
+            return false;
+        }
+
+        Condition condition(Expression expression) {
+            if (isConstant(expression)) {
+                return expression.evaluate(foldingContext) == TRUE ? ALWAYS : NEVER;
+            }
+
+            if (expression instanceof Expression.UnaryExpression.Not) {
+                var in = condition(((Expression.UnaryExpression.Not) expression).in());
+                return (nodeId, properties) -> !in.test(nodeId, properties);
+            }
+
+            // The rhs is only compiled if the lhs does not decide the result,
+            // e.g. a relationship type check guards a property that other types do not have.
+            if (expression instanceof Expression.BinaryExpression.And) {
+                var lhs = condition(((Expression.BinaryExpression) expression).lhs());
+                if (lhs == NEVER) {
+                    return NEVER;
+                }
+                var rhs = condition(((Expression.BinaryExpression) expression).rhs());
+                if (rhs == NEVER) {
+                    return NEVER;
+                }
+                if (lhs == ALWAYS) {
+                    return rhs;
+                }
+                if (rhs == ALWAYS) {
+                    return lhs;
+                }
+                return (nodeId, properties) -> lhs.test(nodeId, properties) && rhs.test(nodeId, properties);
+            }
+
+            if (expression instanceof Expression.BinaryExpression.Or) {
+                var lhs = condition(((Expression.BinaryExpression) expression).lhs());
+                if (lhs == ALWAYS) {
+                    return ALWAYS;
+                }
+                var rhs = condition(((Expression.BinaryExpression) expression).rhs());
+                if (rhs == ALWAYS) {
+                    return ALWAYS;
+                }
+                if (lhs == NEVER) {
+                    return rhs;
+                }
+                if (rhs == NEVER) {
+                    return lhs;
+                }
+                return (nodeId, properties) -> lhs.test(nodeId, properties) || rhs.test(nodeId, properties);
+            }
+
+            if (expression instanceof Expression.BinaryExpression.Xor) {
+                var lhs = condition(((Expression.BinaryExpression) expression).lhs());
+                var rhs = condition(((Expression.BinaryExpression) expression).rhs());
+                return (nodeId, properties) -> lhs.test(nodeId, properties) ^ rhs.test(nodeId, properties);
+            }
+
+            if (expression instanceof Expression.UnaryExpression.HasLabelsOrTypes) {
+                var nodes = graphStore.nodes();
+                var labels = ((Expression.UnaryExpression.HasLabelsOrTypes) expression)
+                    .labelsOrTypes()
+                    .stream()
+                    .map(NodeLabel::of)
+                    .toArray(NodeLabel[]::new);
+                return (nodeId, properties) -> {
+                    for (NodeLabel label : labels) {
+                        if (!nodes.hasLabel(nodeId, label)) {
+                            return false;
+                        }
+                    }
+                    return true;
+                };
+            }
+
+            if (expression instanceof Expression.BinaryExpression.BinaryArithmeticExpression) {
+                var comparison = (Expression.BinaryExpression.BinaryArithmeticExpression) expression;
+                // validation made sure that both sides have the same type
+                if (comparison.lhs().valueType() == ValueType.LONG) {
+                    var lhs = longOperand(comparison.lhs());
+                    var rhs = longOperand(comparison.rhs());
+                    return (nodeId, properties) -> comparison.evaluateLong(
+                        lhs.get(nodeId, properties),
+                        rhs.get(nodeId, properties)
+                    ) == TRUE;
+                }
+                var lhs = doubleOperand(comparison.lhs());
+                var rhs = doubleOperand(comparison.rhs());
+                return (nodeId, properties) -> comparison.evaluateDouble(
+                    lhs.get(nodeId, properties),
+                    rhs.get(nodeId, properties)
+                ) == TRUE;
+            }
+
+            var value = doubleOperand(expression);
+            return (nodeId, properties) -> value.get(nodeId, properties) == TRUE;
+        }
+
+        DoubleOperand doubleOperand(Expression expression) {
+            if (isConstant(expression)) {
+                double constant = expression.evaluate(foldingContext);
+                return (nodeId, properties) -> constant;
+            }
+
+            if (expression instanceof Expression.UnaryExpression.Property) {
+                var property = (Expression.UnaryExpression.Property) expression;
+                if (!forNodes()) {
+                    // Validation accepts properties of any relationship type, this type might not have it.
+                    var index = propertyIndices.get(property.propertyKey());
+                    if (index == null) {
+                        return (nodeId, properties) -> Double.NaN;
+                    }
+                    int propertyIndex = index;
+                    return (nodeId, properties) -> properties[propertyIndex];
+                }
+                if (property.valueType() == ValueType.LONG) {
+                    var value = longOperand(property);
+                    return (nodeId, properties) -> Double.longBitsToDouble(value.get(nodeId, properties));
+                }
+                var nodeProperty = nodeProperty(property.propertyKey());
+                return (nodeId, properties) -> {
+                    var values = nodeProperty.valuesOf(nodeId);
+                    return values == null ? DefaultValue.DOUBLE_DEFAULT_FALLBACK : values.doubleValue(nodeId);
+                };
+            }
+
+            var condition = condition(expression);
+            return (nodeId, properties) -> condition.test(nodeId, properties) ? TRUE : Expression.FALSE;
+        }
+
+        LongOperand longOperand(Expression expression) {
+            if (forNodes()
+                && expression instanceof Expression.UnaryExpression.Property
+                && expression.valueType() == ValueType.LONG
+            ) {
+                var nodeProperty = nodeProperty(((Expression.UnaryExpression.Property) expression).propertyKey());
+                long missing = Double.doubleToRawLongBits(DefaultValue.DOUBLE_DEFAULT_FALLBACK);
+                return (nodeId, properties) -> {
+                    var values = nodeProperty.valuesOf(nodeId);
+                    return values == null ? missing : values.longValue(nodeId);
+                };
+            }
+
+            var value = doubleOperand(expression);
+            return (nodeId, properties) -> Double.doubleToRawLongBits(value.get(nodeId, properties));
+        }
+
+        private NodeProperty nodeProperty(String propertyKey) {
+            var nodes = graphStore.nodes();
+            var valuesByLabel = new HashMap<NodeLabel, NodeProperties>();
+            for (NodeLabel label : graphStore.nodeLabels()) {
+                if (graphStore.hasNodeProperty(label, propertyKey)) {
+                    valuesByLabel.put(label, graphStore.nodePropertyValues(label, propertyKey));
+                }
+            }
+
+            var distinctValues = new ArrayList<NodeProperties>();
+            valuesByLabel.values().forEach(values -> {
+                if (distinctValues.stream().noneMatch(distinct -> distinct == values)) {
+                    distinctValues.add(values);
+                }
+            });
+
+            if (distinctValues.isEmpty()) {
+                return nodeId -> null;
+            }
+
+            var labels = valuesByLabel.keySet().toArray(NodeLabel[]::new);
+            if (distinctValues.size() == 1) {
+                var values = distinctValues.get(0);
+                if (labels.length == 1) {
+                    var label = labels[0];
+                    return nodeId -> nodes.hasLabel(nodeId, label) ? values : null;
+                }
+                return nodeId -> {
+                    for (NodeLabel label : labels) {
+                        if (nodes.hasLabel(nodeId, label)) {
+                            return values;
+                        }
+                    }
+                    return null;
+                };
+            }
+
+            // Labels store different values, the first label of the node that has the property wins.
+            return new FirstLabelNodeProperty(nodes, valuesByLabel);
+        }
+    }
+
+    @FunctionalInterface
+    private interface NodeProperty {
+        NodeProperties valuesOf(long nodeId);
+    }
+
+    private static final class FirstLabelNodeProperty implements NodeProperty, IdMap.NodeLabelConsumer {
+        private final IdMap nodes;
+        private final Map<NodeLabel, NodeProperties> valuesByLabel;
+        private NodeProperties values;
+
+        private FirstLabelNodeProperty(IdMap nodes, Map<NodeLabel, NodeProperties> valuesByLabel) {
+            this.nodes = nodes;
+            this.valuesByLabel = valuesByLabel;
+        }
+
+        @Override
+        public NodeProperties valuesOf(long nodeId) {
+            values = null;
+            nodes.forEachNodeLabel(nodeId, this);
+            return values;
+        }
+
+        @Override
+        public boolean accept(NodeLabel nodeLabel) {
+            values = valuesByLabel.get(nodeLabel);
+            return values == null;
+        }
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.filter;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.config.GraphProjectFromGraphConfig;
+import org.neo4j.gds.config.GraphProjectFromStoreConfig;
+import org.neo4j.gds.core.CypherMapWrapper;
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.Inject;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.neo4j.gds.TestSupport.assertGraphEquals;
+
+@GdlExtension
+class GraphStoreFilterTest {
+
+    @GdlGraph
+    private static final String GDL =
+        "  (a:A { p: 1, q: 1.0 })" +
+        ", (b:A { p: 2, q: 2.0 })" +
+        ", (c:B { p: 3, q: 3.0 })" +
+        ", (d:B { p: 4, q: 4.0 })" +
+        ", (e:A:B { p: 5, q: 5.0 })" +
+        ", (a)-[:T1 { w: 1.0 }]->(b)" +
+        ", (a)-[:T1 { w: 2.0 }]->(c)" +
+        ", (a)-[:T1 { w: 3.0 }]->(e)" +
+        ", (b)-[:T1 { w: 4.0 }]->(d)" +
+        ", (e)-[:T1 { w: 5.0 }]->(a)" +
+        ", (c)-[:T2 { w: 6.0 }]->(a)" +
+        ", (d)-[:T2 { w: 7.0 }]->(c)" +
+        ", (e)-[:T2 { w: 8.0 }]->(d)";
+
+    @Inject
+    private GraphStore graphStore;
+
+    @ParameterizedTest
+    @CsvSource(value = {
+        "*;*",
+        "n:A;*",
+        "n.p > 1;*",
+        "*;r.w >= 3.0",
+        "NOT n:B;r.w < 5.0",
+        "n.q < 4.5;r:T2",
+        "n:B;r:T1 AND r.w > 1.0",
+    }, delimiter = ';')
+    void viewShouldEqualMaterializedSubgraph(String nodeFilter, String relationshipFilter) throws Exception {
+        var materialized = filter(nodeFilter, relationshipFilter, false);
+        var view = filter(nodeFilter, relationshipFilter, true);
+
+        assertThat(view.nodeCount()).isEqualTo(materialized.nodeCount());
+        assertThat(view.nodeLabels()).isEqualTo(materialized.nodeLabels());
+        assertThat(view.relationshipTypes()).isEqualTo(materialized.relationshipTypes());
+
+        for (RelationshipType relType : materialized.relationshipTypes()) {
+            assertThat(view.relationshipCount(relType)).isEqualTo(materialized.relationshipCount(relType));
+            assertGraphEquals(
+                materialized.getGraph(relType, Optional.of("w")),
+                view.getGraph(relType, Optional.of("w"))
+            );
+        }
+    }
+
+    @Test
+    void viewShouldSupportLabelFiltering() throws Exception {
+        var materialized = filter("n.p > 1", "*", false);
+        var view = filter("n.p > 1", "*", true);
+
+        var labels = List.of(NodeLabel.of("A"));
+        var types = List.of(RelationshipType.of("T1"));
+
+        assertGraphEquals(
+            materialized.getGraph(labels, types, Optional.of("w")),
+            view.getGraph(labels, types, Optional.of("w"))
+        );
+    }
+
+    @Test
+    void viewShouldSupportRepeatedLabelFiltering() throws Exception {
+        var view = filter("n.p > 1", "*", true);
+        var a = NodeLabel.of("A");
+        var b = NodeLabel.of("B");
+
+        var filteredTwice = view.nodes()
+            .withFilteredLabels(List.of(a), 2)
+            .withFilteredLabels(List.of(b), 2);
+
+        // only e has both labels
+        assertThat(filteredTwice.nodeCount()).isEqualTo(1L);
+        assertThat(filteredTwice.availableNodeLabels()).containsExactly(b);
+        assertThat(filteredTwice.rootIdMap()).isSameAs(view.nodes());
+
+        var inputNode = graphStore.nodes().toMappedNodeId(view.nodes().toOriginalNodeId(filteredTwice.toRootNodeId(0)));
+        assertThat(graphStore.nodes().nodeLabels(inputNode)).containsExactlyInAnyOrder(a, b);
+    }
+
+    @Test
+    void viewShouldNotCopyNodes() throws Exception {
+        var view = filter("n:B", "*", true);
+
+        assertThat(view.nodes()).isInstanceOf(NodeSelectionIdMap.class);
+        assertThat(view.nodes().rootIdMap()).isSameAs(view.nodes());
+
+        var graph = view.getUnion();
+        graph.forEachNode(node -> {
+            var originalId = graph.toOriginalNodeId(node);
+            assertThat(graph.toMappedNodeId(originalId)).isEqualTo(node);
+            assertThat(graph.nodeProperties("p").longValue(node))
+                .isEqualTo(graphStore.nodePropertyValues("p").longValue(graphStore.nodes().toMappedNodeId(originalId)));
+            return true;
+        });
+    }
+
+    private GraphStore filter(String nodeFilter, String relationshipFilter, boolean view) throws Exception {
+        var config = GraphProjectFromGraphConfig.of(
+            "user",
+            "subgraph",
+            "graph",
+            nodeFilter,
+            relationshipFilter,
+            GraphProjectFromStoreConfig.emptyWithName("user", "graph"),
+            CypherMapWrapper.create(Map.of("view", view, "concurrency", 2))
+        );
+        return GraphStoreFilter.filter(graphStore, config, Pools.DEFAULT, ProgressTracker.NULL_TRACKER);
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.filter.expression;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.api.nodeproperties.ValueType;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.Inject;
+import org.opencypher.v9_0.parser.javacc.ParseException;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@GdlExtension
+class CompiledExpressionTest {
+
+    @GdlGraph
+    public static final String GDL =
+        "(a:A:B:C { p1: 42.0, p2: 42 })-[:REL { baz: 84.0 }]->(b:B { p1: 1337.0, p2: 1337 }), (c:D)";
+
+    private static final Map<String, ValueType> RELATIONSHIP_PROPERTIES = Map.of("baz", ValueType.DOUBLE);
+    private static final Map<String, Integer> PROPERTY_INDICES = Map.of("baz", 0);
+
+    @Inject
+    private GraphStore graphStore;
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "true",
+        "false",
+        "n:A",
+        "n:B",
+        "n:A:C",
+        "NOT n:A",
+        "n.p1 > 100.0",
+        "n.p1 = 42.0",
+        "n.p1 <= 42.0",
+        "n.p2 >= 42",
+        "n.p2 <> 42",
+        "n.p2 < 1337",
+        "n:A AND n.p2 > 0",
+        "n:D OR n.p1 > 100.0",
+        "n:B XOR n.p2 = 42",
+        "1 < 2 AND n:B",
+        "1 > 2 OR n:C",
+        "NOT (n.p1 >= 1000.0 OR n:A)"
+    })
+    void shouldTestNodesLikeEvaluation(String filter) throws ParseException {
+        var validationContext = ValidationContext.forNodes(graphStore);
+        var expression = ExpressionParser.parse(filter, validationContext.availableProperties());
+        var compiled = CompiledExpression.forNodes(expression, graphStore);
+        var context = new EvaluationContext.NodeEvaluationContext(graphStore);
+
+        for (long nodeId = 0; nodeId < graphStore.nodeCount(); nodeId++) {
+            context.init(nodeId);
+            assertThat(compiled.testNode(nodeId))
+                .as("node %d", nodeId)
+                .isEqualTo(expression.evaluate(context) == Expression.TRUE);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "r.baz > 42.0",
+        "r.baz = 84.0",
+        "r:REL AND r.baz < 100.0",
+        "r:OTHER OR r.baz < 100.0",
+        "NOT r:OTHER AND r.baz >= 100.0"
+    })
+    void shouldTestRelationshipsLikeEvaluation(String filter) throws ParseException {
+        var expression = ExpressionParser.parse(filter, RELATIONSHIP_PROPERTIES);
+        var compiled = CompiledExpression.forRelationships(expression, "REL", PROPERTY_INDICES);
+        var context = new EvaluationContext.RelationshipEvaluationContext(PROPERTY_INDICES);
+
+        for (double baz : new double[]{0, 42, 84, 1337}) {
+            var properties = new double[]{baz};
+            context.init("REL", properties);
+            assertThat(compiled.testRelationship(properties))
+                .as("baz = %f", baz)
+                .isEqualTo(expression.evaluate(context) == Expression.TRUE);
+        }
+    }
+
+    @Test
+    void shouldFoldRelationshipTypes() throws ParseException {
+        var and = ExpressionParser.parse("r:OTHER AND r.baz > 42.0", RELATIONSHIP_PROPERTIES);
+        var or = ExpressionParser.parse("r:REL OR r.baz > 42.0", RELATIONSHIP_PROPERTIES);
+
+        assertThat(CompiledExpression.forRelationships(and, "REL", PROPERTY_INDICES).isAlwaysFalse()).isTrue();
+        assertThat(CompiledExpression.forRelationships(and, "OTHER", PROPERTY_INDICES).isAlwaysFalse()).isFalse();
+        assertThat(CompiledExpression.forRelationships(or, "REL", PROPERTY_INDICES).isAlwaysTrue()).isTrue();
+    }
+
+    @Test
+    void shouldCompileRelationshipTypesWithoutTheProperty() throws ParseException {
+        var guarded = ExpressionParser.parse("r:REL AND r.baz > 42.0", RELATIONSHIP_PROPERTIES);
+        var unguarded = ExpressionParser.parse("r.baz > 42.0", RELATIONSHIP_PROPERTIES);
+        var alternative = ExpressionParser.parse("r:OTHER OR r.baz > 42.0", RELATIONSHIP_PROPERTIES);
+
+        // `OTHER` relationships have no properties at all
+        assertThat(CompiledExpression.forRelationships(guarded, "OTHER", Map.of()).isAlwaysFalse()).isTrue();
+        assertThat(CompiledExpression.forRelationships(alternative, "OTHER", Map.of()).isAlwaysTrue()).isTrue();
+
+        var compiled = CompiledExpression.forRelationships(unguarded, "OTHER", Map.of());
+        assertThat(compiled.isAlwaysFalse()).isFalse();
+        assertThat(compiled.testRelationship(new double[0])).isFalse();
+    }
+}
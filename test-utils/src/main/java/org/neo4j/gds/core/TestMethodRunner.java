@@ -33,6 +33,9 @@ public interface TestMethodRunner {
         return Stream.of(
             TestMethodRunner::runCompressedUnordered,
             TestMethodRunner::runCompressedOrdered,
+            TestMethodRunner::runPackedUnordered,
+            TestMethodRunner::runPackedOrdered,
+            TestMethodRunner::runMappedUnordered,
             TestMethodRunner::runUncompressedUnordered,
             TestMethodRunner::runUncompressedOrdered
         );
@@ -50,6 +53,28 @@ public interface TestMethodRunner {
             GdsFeatureToggles.USE_REORDERED_ADJACENCY_LIST.enableAndRun(code));
     }
 
+    @TestOnly
+    static <E extends Exception> void runPackedUnordered(CheckedRunnable<E> code) throws E {
+        GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST.disableAndRun(() ->
+            GdsFeatureToggles.USE_PACKED_ADJACENCY_LIST.enableAndRun(() ->
+                GdsFeatureToggles.USE_REORDERED_ADJACENCY_LIST.disableAndRun(code)));
+    }
+
+    @TestOnly
+    static <E extends Exception> void runPackedOrdered(CheckedRunnable<E> code) throws E {
+        GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST.disableAndRun(() ->
+            GdsFeatureToggles.USE_PACKED_ADJACENCY_LIST.enableAndRun(() ->
+                GdsFeatureToggles.USE_REORDERED_ADJACENCY_LIST.enableAndRun(code)));
+    }
+
+    @TestOnly
+    static <E extends Exception> void runMappedUnordered(CheckedRunnable<E> code) throws E {
+        GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST.disableAndRun(() ->
+            GdsFeatureToggles.USE_PACKED_ADJACENCY_LIST.disableAndRun(() ->
+                GdsFeatureToggles.USE_MAPPED_ADJACENCY_LIST.enableAndRun(() ->
+                    GdsFeatureToggles.USE_REORDERED_ADJACENCY_LIST.disableAndRun(code))));
+    }
+
     @TestOnly
     static <E extends Exception> void runUncompressedUnordered(CheckedRunnable<E> code) throws E {
         GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST.enableAndRun(() ->
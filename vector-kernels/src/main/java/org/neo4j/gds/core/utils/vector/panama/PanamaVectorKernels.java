@@ -0,0 +1,262 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.vector.panama;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+import org.neo4j.gds.core.utils.vector.VectorKernels;
+
+/**
+ * Vector kernels using the incubating Vector API.
+ * Each kernel processes as many lanes as the preferred species of the CPU allows and handles the remainder with a scalar loop.
+ *
+ * This class is loaded reflectively by {@link VectorKernels#instance()} and must not be referenced directly.
+ */
+public final class PanamaVectorKernels implements VectorKernels {
+
+    private static final VectorSpecies<Float> FLOATS = FloatVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Double> DOUBLES = DoubleVector.SPECIES_PREFERRED;
+
+    public PanamaVectorKernels() {}
+
+    @Override
+    public float dot(float[] left, int leftOffset, float[] right, int rightOffset, int length) {
+        var sum = FloatVector.zero(FLOATS);
+        int i = 0;
+        for (int bound = FLOATS.loopBound(length); i < bound; i += FLOATS.length()) {
+            var l = FloatVector.fromArray(FLOATS, left, leftOffset + i);
+            var r = FloatVector.fromArray(FLOATS, right, rightOffset + i);
+            sum = l.fma(r, sum);
+        }
+        float result = sum.reduceLanes(VectorOperators.ADD);
+        for (; i < length; i++) {
+            result += left[leftOffset + i] * right[rightOffset + i];
+        }
+        return result;
+    }
+
+    @Override
+    public double dot(double[] left, int leftOffset, double[] right, int rightOffset, int length) {
+        var sum = DoubleVector.zero(DOUBLES);
+        int i = 0;
+        for (int bound = DOUBLES.loopBound(length); i < bound; i += DOUBLES.length()) {
+            var l = DoubleVector.fromArray(DOUBLES, left, leftOffset + i);
+            var r = DoubleVector.fromArray(DOUBLES, right, rightOffset + i);
+            sum = l.fma(r, sum);
+        }
+        double result = sum.reduceLanes(VectorOperators.ADD);
+        for (; i < length; i++) {
+            result += left[leftOffset + i] * right[rightOffset + i];
+        }
+        return result;
+    }
+
+    @Override
+    public float sumOfSquares(float[] values, int offset, int length) {
+        return dot(values, offset, values, offset, length);
+    }
+
+    @Override
+    public double sumOfSquares(double[] values, int offset, int length) {
+        return dot(values, offset, values, offset, length);
+    }
+
+    @Override
+    public float squaredDistance(float[] left, int leftOffset, float[] right, int rightOffset, int length) {
+        var sum = FloatVector.zero(FLOATS);
+        int i = 0;
+        for (int bound = FLOATS.loopBound(length); i < bound; i += FLOATS.length()) {
+            var delta = FloatVector
+                .fromArray(FLOATS, left, leftOffset + i)
+                .sub(FloatVector.fromArray(FLOATS, right, rightOffset + i));
+            sum = delta.fma(delta, sum);
+        }
+        float result = sum.reduceLanes(VectorOperators.ADD);
+        for (; i < length; i++) {
+            float delta = left[leftOffset + i] - right[rightOffset + i];
+            result += delta * delta;
+        }
+        return result;
+    }
+
+    @Override
+    public double squaredDistance(double[] left, int leftOffset, double[] right, int rightOffset, int length) {
+        var sum = DoubleVector.zero(DOUBLES);
+        int i = 0;
+        for (int bound = DOUBLES.loopBound(length); i < bound; i += DOUBLES.length()) {
+            var delta = DoubleVector
+                .fromArray(DOUBLES, left, leftOffset + i)
+                .sub(DoubleVector.fromArray(DOUBLES, right, rightOffset + i));
+            sum = delta.fma(delta, sum);
+        }
+        double result = sum.reduceLanes(VectorOperators.ADD);
+        for (; i < length; i++) {
+            double delta = left[leftOffset + i] - right[rightOffset + i];
+            result += delta * delta;
+        }
+        return result;
+    }
+
+    @Override
+    public void addScaled(float[] target, int targetOffset, float[] source, int sourceOffset, int length, float scale) {
+        var scales = FloatVector.broadcast(FLOATS, scale);
+        int i = 0;
+        for (int bound = FLOATS.loopBound(length); i < bound; i += FLOATS.length()) {
+            FloatVector
+                .fromArray(FLOATS, source, sourceOffset + i)
+                .fma(scales, FloatVector.fromArray(FLOATS, target, targetOffset + i))
+                .intoArray(target, targetOffset + i);
+        }
+        for (; i < length; i++) {
+            target[targetOffset + i] += scale * source[sourceOffset + i];
+        }
+    }
+
+    @Override
+    public void addScaled(float[] target, int targetOffset, float[] source, int sourceOffset, int length, double scale) {
+        addScaled(target, targetOffset, source, sourceOffset, length, (float) scale);
+    }
+
+    @Override
+    public void addScaled(
+        double[] target,
+        int targetOffset,
+        double[] source,
+        int sourceOffset,
+        int length,
+        double scale
+    ) {
+        var scales = DoubleVector.broadcast(DOUBLES, scale);
+        int i = 0;
+        for (int bound = DOUBLES.loopBound(length); i < bound; i += DOUBLES.length()) {
+            DoubleVector
+                .fromArray(DOUBLES, source, sourceOffset + i)
+                .fma(scales, DoubleVector.fromArray(DOUBLES, target, targetOffset + i))
+                .intoArray(target, targetOffset + i);
+        }
+        for (; i < length; i++) {
+            target[targetOffset + i] += scale * source[sourceOffset + i];
+        }
+    }
+
+    @Override
+    public float cosine(float[] left, float[] right, int length) {
+        var dotProducts = FloatVector.zero(FLOATS);
+        var xLengths = FloatVector.zero(FLOATS);
+        var yLengths = FloatVector.zero(FLOATS);
+        int i = 0;
+        for (int bound = FLOATS.loopBound(length); i < bound; i += FLOATS.length()) {
+            var x = FloatVector.fromArray(FLOATS, left, i);
+            var y = FloatVector.fromArray(FLOATS, right, i);
+            dotProducts = x.fma(y, dotProducts);
+            xLengths = x.fma(x, xLengths);
+            yLengths = y.fma(y, yLengths);
+        }
+        float dotProduct = dotProducts.reduceLanes(VectorOperators.ADD);
+        float xLength = xLengths.reduceLanes(VectorOperators.ADD);
+        float yLength = yLengths.reduceLanes(VectorOperators.ADD);
+        for (; i < length; i++) {
+            float weight1 = left[i];
+            float weight2 = right[i];
+
+            dotProduct += weight1 * weight2;
+            xLength += weight1 * weight1;
+            yLength += weight2 * weight2;
+        }
+
+        return (float) (dotProduct / Math.sqrt(xLength * yLength));
+    }
+
+    @Override
+    public double cosine(double[] left, double[] right, int length) {
+        var dotProducts = DoubleVector.zero(DOUBLES);
+        var xLengths = DoubleVector.zero(DOUBLES);
+        var yLengths = DoubleVector.zero(DOUBLES);
+        int i = 0;
+        for (int bound = DOUBLES.loopBound(length); i < bound; i += DOUBLES.length()) {
+            var x = DoubleVector.fromArray(DOUBLES, left, i);
+            var y = DoubleVector.fromArray(DOUBLES, right, i);
+            dotProducts = x.fma(y, dotProducts);
+            xLengths = x.fma(x, xLengths);
+            yLengths = y.fma(y, yLengths);
+        }
+        double dotProduct = dotProducts.reduceLanes(VectorOperators.ADD);
+        double xLength = xLengths.reduceLanes(VectorOperators.ADD);
+        double yLength = yLengths.reduceLanes(VectorOperators.ADD);
+        for (; i < length; i++) {
+            double weight1 = left[i];
+            double weight2 = right[i];
+
+            dotProduct += weight1 * weight2;
+            xLength += weight1 * weight1;
+            yLength += weight2 * weight2;
+        }
+
+        return dotProduct / Math.sqrt(xLength * yLength);
+    }
+
+    @Override
+    public double pearson(double[] left, double[] right, int length) {
+        var leftSums = DoubleVector.zero(DOUBLES);
+        var rightSums = DoubleVector.zero(DOUBLES);
+        int i = 0;
+        int bound = DOUBLES.loopBound(length);
+        for (; i < bound; i += DOUBLES.length()) {
+            leftSums = leftSums.add(DoubleVector.fromArray(DOUBLES, left, i));
+            rightSums = rightSums.add(DoubleVector.fromArray(DOUBLES, right, i));
+        }
+        double leftSum = leftSums.reduceLanes(VectorOperators.ADD);
+        double rightSum = rightSums.reduceLanes(VectorOperators.ADD);
+        for (; i < length; i++) {
+            leftSum += left[i];
+            rightSum += right[i];
+        }
+
+        double leftMean = leftSum / length;
+        double rightMean = rightSum / length;
+
+        var dotProducts = DoubleVector.zero(DOUBLES);
+        var xLengths = DoubleVector.zero(DOUBLES);
+        var yLengths = DoubleVector.zero(DOUBLES);
+        for (i = 0; i < bound; i += DOUBLES.length()) {
+            var leftDelta = DoubleVector.fromArray(DOUBLES, left, i).sub(leftMean);
+            var rightDelta = DoubleVector.fromArray(DOUBLES, right, i).sub(rightMean);
+            dotProducts = leftDelta.fma(rightDelta, dotProducts);
+            xLengths = leftDelta.fma(leftDelta, xLengths);
+            yLengths = rightDelta.fma(rightDelta, yLengths);
+        }
+        double dotProductMinusMean = dotProducts.reduceLanes(VectorOperators.ADD);
+        double xLength = xLengths.reduceLanes(VectorOperators.ADD);
+        double yLength = yLengths.reduceLanes(VectorOperators.ADD);
+        for (; i < length; i++) {
+            double leftDelta = left[i] - leftMean;
+            double rightDelta = right[i] - rightMean;
+
+            dotProductMinusMean += (leftDelta * rightDelta);
+            xLength += leftDelta * leftDelta;
+            yLength += rightDelta * rightDelta;
+        }
+
+        double result = dotProductMinusMean / Math.sqrt(xLength * yLength);
+        return Double.isNaN(result) ? 0 : result;
+    }
+}
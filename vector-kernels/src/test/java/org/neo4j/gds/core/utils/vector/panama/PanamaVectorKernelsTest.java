@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.vector.panama;
+
+import org.assertj.core.data.Offset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.core.utils.vector.VectorKernels;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PanamaVectorKernelsTest {
+
+    private static final int OFFSET = 3;
+
+    private final VectorKernels kernels = new PanamaVectorKernels();
+    private final Random random = new Random(42);
+
+    @Test
+    void shouldBeLoadedWhenTheVectorApiIsAvailable() {
+        assertThat(VectorKernels.instance()).isInstanceOf(PanamaVectorKernels.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 7, 16, 31, 64, 129})
+    void floatKernels(int length) {
+        var left = randomFloats(length + OFFSET);
+        var right = randomFloats(length);
+
+        float dot = 0;
+        float squares = 0;
+        float distance = 0;
+        for (int i = 0; i < length; i++) {
+            dot += left[OFFSET + i] * right[i];
+            squares += left[OFFSET + i] * left[OFFSET + i];
+            distance += (left[OFFSET + i] - right[i]) * (left[OFFSET + i] - right[i]);
+        }
+
+        var tolerance = Offset.offset(1e-4F);
+        assertThat(kernels.dot(left, OFFSET, right, 0, length)).isCloseTo(dot, tolerance);
+        assertThat(kernels.sumOfSquares(left, OFFSET, length)).isCloseTo(squares, tolerance);
+        assertThat(kernels.squaredDistance(left, OFFSET, right, 0, length)).isCloseTo(distance, tolerance);
+
+        var expected = left.clone();
+        for (int i = 0; i < length; i++) {
+            expected[OFFSET + i] += 0.5F * right[i];
+        }
+        kernels.addScaled(left, OFFSET, right, 0, length, 0.5F);
+        assertThat(left).containsExactly(expected, Offset.offset(1e-6F));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 7, 16, 31, 64, 129})
+    void doubleKernels(int length) {
+        var left = randomDoubles(length + OFFSET);
+        var right = randomDoubles(length);
+
+        double dot = 0;
+        double squares = 0;
+        double distance = 0;
+        for (int i = 0; i < length; i++) {
+            dot += left[OFFSET + i] * right[i];
+            squares += left[OFFSET + i] * left[OFFSET + i];
+            distance += (left[OFFSET + i] - right[i]) * (left[OFFSET + i] - right[i]);
+        }
+
+        var tolerance = Offset.offset(1e-9);
+        assertThat(kernels.dot(left, OFFSET, right, 0, length)).isCloseTo(dot, tolerance);
+        assertThat(kernels.sumOfSquares(left, OFFSET, length)).isCloseTo(squares, tolerance);
+        assertThat(kernels.squaredDistance(left, OFFSET, right, 0, length)).isCloseTo(distance, tolerance);
+
+        var expected = left.clone();
+        for (int i = 0; i < length; i++) {
+            expected[OFFSET + i] += -2.0 * right[i];
+        }
+        kernels.addScaled(left, OFFSET, right, 0, length, -2.0);
+        assertThat(left).containsExactly(expected, Offset.offset(1e-12));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 7, 16, 31, 64, 129})
+    void similarities(int length) {
+        var left = randomDoubles(length);
+        var right = randomDoubles(length);
+        var leftFloats = toFloats(left);
+        var rightFloats = toFloats(right);
+
+        double dot = 0;
+        double leftSquares = 0;
+        double rightSquares = 0;
+        double leftMean = 0;
+        double rightMean = 0;
+        for (int i = 0; i < length; i++) {
+            dot += left[i] * right[i];
+            leftSquares += left[i] * left[i];
+            rightSquares += right[i] * right[i];
+            leftMean += left[i] / length;
+            rightMean += right[i] / length;
+        }
+        double cosine = dot / Math.sqrt(leftSquares * rightSquares);
+
+        double covariance = 0;
+        double leftVariance = 0;
+        double rightVariance = 0;
+        for (int i = 0; i < length; i++) {
+            covariance += (left[i] - leftMean) * (right[i] - rightMean);
+            leftVariance += (left[i] - leftMean) * (left[i] - leftMean);
+            rightVariance += (right[i] - rightMean) * (right[i] - rightMean);
+        }
+        double pearson = covariance / Math.sqrt(leftVariance * rightVariance);
+
+        assertThat(kernels.cosine(left, right, length)).isCloseTo(cosine, Offset.offset(1e-9));
+        assertThat(kernels.cosine(leftFloats, rightFloats, length)).isCloseTo((float) cosine, Offset.offset(1e-4F));
+        if (length > 1) {
+            assertThat(kernels.pearson(left, right, length)).isCloseTo(pearson, Offset.offset(1e-9));
+        }
+    }
+
+    @Test
+    void pearsonOfConstantVectorsIsZero() {
+        var constant = new double[]{1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1};
+        assertThat(kernels.pearson(constant, constant, constant.length)).isEqualTo(0);
+    }
+
+    private float[] randomFloats(int length) {
+        var values = new float[length];
+        for (int i = 0; i < length; i++) {
+            values[i] = random.nextFloat() * 2 - 1;
+        }
+        return values;
+    }
+
+    private double[] randomDoubles(int length) {
+        var values = new double[length];
+        for (int i = 0; i < length; i++) {
+            values[i] = random.nextDouble() * 2 - 1;
+        }
+        return values;
+    }
+
+    private static float[] toFloats(double[] values) {
+        var floats = new float[values.length];
+        for (int i = 0; i < values.length; i++) {
+            floats[i] = (float) values[i];
+        }
+        return floats;
+    }
+}